@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdActivityMask;
+import org.prebid.server.hooks.modules.com.confiant.adquality.core.BidScanVerdictCache;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.BidsScanner;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.RedisClient;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.RedisScanStateChecker;
@@ -35,6 +36,8 @@ public class ConfiantAdQualityModuleConfiguration {
             @Value("${hooks.modules.confiant-ad-quality.api-key}") String apiKey,
             @Value("${hooks.modules.confiant-ad-quality.scan-state-check-interval}") int scanStateCheckInterval,
             @Value("${hooks.modules.confiant-ad-quality.bidders-to-exclude-from-scan}") List<String> biddersToExcludeFromScan,
+            @Value("${hooks.modules.confiant-ad-quality.verdict-cache.max-size}") long verdictCacheMaxSize,
+            @Value("${hooks.modules.confiant-ad-quality.verdict-cache.ttl-seconds}") long verdictCacheTtlSeconds,
             RedisConfig redisConfig,
             RedisRetryConfig retryConfig,
             Vertx vertx,
@@ -48,7 +51,12 @@ public class ConfiantAdQualityModuleConfiguration {
         final RedisClient readRedisNode = new RedisClient(
                 vertx, readNodeConfig.getHost(), readNodeConfig.getPort(), readNodeConfig.getPassword(), retryConfig, "read node");
 
-        final BidsScanner bidsScanner = new BidsScanner(writeRedisNode, readRedisNode, apiKey, objectMapper);
+        final BidScanVerdictCache verdictCache = verdictCacheMaxSize > 0
+                ? new BidScanVerdictCache(verdictCacheMaxSize, verdictCacheTtlSeconds)
+                : null;
+
+        final BidsScanner bidsScanner = new BidsScanner(
+                writeRedisNode, readRedisNode, apiKey, objectMapper, vertx, verdictCache);
         final RedisScanStateChecker redisScanStateChecker = new RedisScanStateChecker(bidsScanner, scanStateCheckInterval, vertx);
 
         final Promise<Void> scannerPromise = Promise.promise();
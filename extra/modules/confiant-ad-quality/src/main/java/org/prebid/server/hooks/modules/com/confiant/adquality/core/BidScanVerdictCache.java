@@ -0,0 +1,132 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import lombok.Value;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.Issue;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded local cache of recent Confiant scan verdicts.
+ * <p>
+ * Verdict is keyed by the fingerprint of the scanned creatives (adm hash, adomain and crid of every bid of the
+ * bidder response), so creatives that have already been scanned recently do not go to Redis again.
+ * <p>
+ * Only the found issues are cached: scan result of every auction is built anew, so it carries the impression id
+ * of that auction and is never shared between requests.
+ */
+public class BidScanVerdictCache {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final byte FIELDS_SEPARATOR = 0;
+
+    private final Cache<String, Verdict> verdicts;
+
+    public BidScanVerdictCache(long maxSize, long ttlSeconds) {
+        verdicts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Returns scan result of the given bid response built from the cached verdict or null if there is no such.
+     */
+    public BidScanResult get(String fingerprint, RedisBidResponseData bidResponseData) {
+        final Verdict verdict = fingerprint != null ? verdicts.getIfPresent(fingerprint) : null;
+        if (verdict == null) {
+            return null;
+        }
+
+        final BidScanResult bidScanResult = new BidScanResult();
+        bidScanResult.setImpId(impId(bidResponseData));
+        bidScanResult.setIssues(verdict.getIssues() != null ? copyIssues(verdict.getIssues()) : null);
+        return bidScanResult;
+    }
+
+    public void put(String fingerprint, BidScanResult bidScanResult) {
+        if (fingerprint != null && bidScanResult != null && !bidScanResult.isRoSkipped()) {
+            final List<Issue> issues = bidScanResult.getIssues();
+            verdicts.put(fingerprint, Verdict.of(issues != null ? copyIssues(issues) : null));
+        }
+    }
+
+    /**
+     * Returns fingerprint of the creatives of the given bid response or null if it has nothing to fingerprint.
+     */
+    public static String fingerprint(RedisBidResponseData bidResponseData) {
+        final BidResponse bidResponse = bidResponseData.getBidresponse();
+        final List<SeatBid> seatBids = bidResponse != null ? bidResponse.getSeatbid() : null;
+        if (CollectionUtils.isEmpty(seatBids)) {
+            return null;
+        }
+
+        final MessageDigest digest = messageDigest();
+        update(digest, bidResponseData.getDspId());
+        for (SeatBid seatBid : seatBids) {
+            for (Bid bid : CollectionUtils.emptyIfNull(seatBid.getBid())) {
+                update(digest, bid.getAdm());
+                update(digest, bid.getCrid());
+                CollectionUtils.emptyIfNull(bid.getAdomain()).forEach(adomain -> update(digest, adomain));
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String impId(RedisBidResponseData bidResponseData) {
+        final BidResponse bidResponse = bidResponseData.getBidresponse();
+        return CollectionUtils.emptyIfNull(bidResponse != null ? bidResponse.getSeatbid() : null).stream()
+                .flatMap(seatBid -> CollectionUtils.emptyIfNull(seatBid.getBid()).stream())
+                .map(Bid::getImpid)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static List<Issue> copyIssues(List<Issue> issues) {
+        return issues.stream().map(BidScanVerdictCache::copyIssue).toList();
+    }
+
+    private static Issue copyIssue(Issue issue) {
+        final Issue copy = new Issue();
+        copy.setSpecName(issue.getSpecName());
+        copy.setValue(issue.getValue());
+        copy.setFirstAdinstance(issue.getFirstAdinstance());
+        return copy;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update(FIELDS_SEPARATOR);
+    }
+
+    private static MessageDigest messageDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Verdict {
+
+        List<Issue> issues;
+    }
+}
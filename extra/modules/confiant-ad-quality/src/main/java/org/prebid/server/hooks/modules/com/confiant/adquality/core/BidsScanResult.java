@@ -2,14 +2,16 @@ package org.prebid.server.hooks.modules.com.confiant.adquality.core;
 
 import lombok.Builder;
 import lombok.Value;
+import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.GroupByIssues;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
-@Builder
+@Builder(toBuilder = true)
 @Value(staticConstructor = "of")
 public class BidsScanResult {
 
@@ -38,7 +40,9 @@ public class BidsScanResult {
 
     public List<String> getIssuesMessages() {
         return bidScanResults.stream()
-                .map(r -> r.getTagKey() + ": " + (r.getIssues() == null ? "no issues" : r.getIssues().toString()))
+                .filter(Objects::nonNull)
+                .map(r -> ObjectUtils.firstNonNull(r.getTagKey(), r.getImpId()) + ": "
+                        + (r.getIssues() == null ? "no issues" : r.getIssues().toString()))
                 .toList();
     }
 
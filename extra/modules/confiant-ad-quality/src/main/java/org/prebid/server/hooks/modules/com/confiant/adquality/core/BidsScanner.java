@@ -2,18 +2,29 @@ package org.prebid.server.hooks.modules.com.confiant.adquality.core;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.redis.client.RedisAPI;
 import io.vertx.redis.client.Response;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
 
 public class BidsScanner {
 
+    private static final String SUBMIT_HASH_KEY = "function_submit_bids";
+
+    private static final String NO_SCRIPT_ERROR = "NOSCRIPT";
+
     private final RedisParser redisParser;
 
     private final String apiKey;
@@ -24,18 +35,28 @@ public class BidsScanner {
 
     private volatile Boolean isScanDisabled = true;
 
+    private volatile String submitHash;
+
     private final ObjectMapper objectMapper;
 
+    private final Vertx vertx;
+
+    private final BidScanVerdictCache verdictCache;
+
     public BidsScanner(
             RedisClient writeRedisNode,
             RedisClient readRedisNode,
             String apiKey,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            Vertx vertx,
+            BidScanVerdictCache verdictCache) {
 
         this.writeRedisNode = writeRedisNode;
         this.readRedisNode = readRedisNode;
         this.apiKey = apiKey;
         this.objectMapper = objectMapper;
+        this.vertx = vertx;
+        this.verdictCache = verdictCache;
         this.redisParser = new RedisParser(objectMapper);
     }
 
@@ -54,65 +75,173 @@ public class BidsScanner {
         isScanDisabled = true;
     }
 
-    public Future<BidsScanResult> submitBids(RedisBidsData bids) {
-        final Promise<BidsScanResult> scanResult = Promise.promise();
+    /**
+     * Forgets the cached hash of the submit script, so it will be fetched from Redis on the next submission.
+     */
+    public void resetSubmitHash() {
+        submitHash = null;
+    }
 
+    /**
+     * Submits bids to the Confiant scan. Creatives with the verdict in the local cache are not sent to Redis,
+     * the scan is completed with empty result if Redis does not answer within the given timeout.
+     */
+    public Future<BidsScanResult> submitBids(RedisBidsData bids, long timeout) {
         final RedisAPI readRedisNodeAPI = this.readRedisNode.getRedisAPI();
         final boolean shouldSubmit = !isScanDisabled
                 && readRedisNodeAPI != null && bids.getBresps().size() > 0;
 
-        if (shouldSubmit) {
-            readRedisNodeAPI.get("function_submit_bids", submitHash -> {
-                final Object submitHashResult = submitHash.result();
-                if (submitHashResult != null) {
-                    final List<String> readArgs = List.of(submitHashResult.toString(), "0", toBidsAsJson(bids), apiKey, "true");
-
-                    readRedisNodeAPI.evalsha(readArgs, response -> {
-                        if (response.result() != null) {
-                            final BidsScanResult parserResult = redisParser
-                                    .parseBidsScanResult(response.result().toString());
-                            final boolean isAnyRoSkipped = parserResult.getBidScanResults()
-                                    .stream().anyMatch(BidScanResult::isRoSkipped);
-
-                            if (isAnyRoSkipped) {
-                                reSubmitBidsToWriteNode(readArgs, scanResult);
-                            } else {
-                                scanResult.complete(parserResult);
-                            }
-                        } else {
-                            scanResult.complete(getEmptyScanResult());
-                        }
-                    });
+        if (!shouldSubmit) {
+            return Future.succeededFuture(getEmptyScanResult());
+        }
+
+        if (verdictCache == null) {
+            return submitBidsWithTimeout(readRedisNodeAPI, bids, timeout);
+        }
+
+        final List<RedisBidResponseData> bidResponses = bids.getBresps();
+        final List<String> fingerprints = bidResponses.stream().map(BidScanVerdictCache::fingerprint).toList();
+        final List<BidScanResult> cachedVerdicts = IntStream.range(0, bidResponses.size())
+                .mapToObj(i -> verdictCache.get(fingerprints.get(i), bidResponses.get(i)))
+                .toList();
+        final List<RedisBidResponseData> notCachedBidResponses = IntStream.range(0, bidResponses.size())
+                .filter(i -> cachedVerdicts.get(i) == null)
+                .mapToObj(bidResponses::get)
+                .toList();
+
+        if (notCachedBidResponses.isEmpty()) {
+            return Future.succeededFuture(BidsScanResult.builder()
+                    .bidScanResults(cachedVerdicts)
+                    .debugMessages(Collections.emptyList())
+                    .build());
+        }
+
+        return submitBidsWithTimeout(readRedisNodeAPI, bids.toBuilder().bresps(notCachedBidResponses).build(), timeout)
+                .map(scanResult -> mergeWithCachedVerdicts(scanResult, fingerprints, cachedVerdicts));
+    }
+
+    private Future<BidsScanResult> submitBidsWithTimeout(RedisAPI readRedisNodeAPI, RedisBidsData bids, long timeout) {
+        if (timeout <= 0) {
+            return Future.succeededFuture(getTimedOutScanResult(timeout));
+        }
+
+        final Promise<BidsScanResult> scanResult = Promise.promise();
+        final long timerId = vertx.setTimer(timeout, ignored -> scanResult.tryComplete(getTimedOutScanResult(timeout)));
+
+        submitBidsToReadNode(readRedisNodeAPI, toBidsAsJson(bids), true, scanResult);
+
+        return scanResult.future().onComplete(ignored -> vertx.cancelTimer(timerId));
+    }
+
+    private void submitBidsToReadNode(RedisAPI readRedisNodeAPI,
+                                      String bidsAsJson,
+                                      boolean retryOnNoScript,
+                                      Promise<BidsScanResult> scanResult) {
+
+        resolveSubmitHash(readRedisNodeAPI).onComplete(submitHashResult -> {
+            final String submitHashValue = submitHashResult.result();
+            if (submitHashValue == null || scanResult.future().isComplete()) {
+                scanResult.tryComplete(getEmptyScanResult());
+                return;
+            }
+
+            final List<String> readArgs = List.of(submitHashValue, "0", bidsAsJson, apiKey, "true");
+            readRedisNodeAPI.evalsha(readArgs).onComplete(response -> {
+                if (isNoScriptError(response)) {
+                    resetSubmitHash();
+                    if (retryOnNoScript) {
+                        submitBidsToReadNode(readRedisNodeAPI, bidsAsJson, false, scanResult);
+                    } else {
+                        scanResult.tryComplete(getEmptyScanResult());
+                    }
+                } else if (response.result() != null) {
+                    final BidsScanResult parserResult = redisParser
+                            .parseBidsScanResult(response.result().toString());
+                    final boolean isAnyRoSkipped = parserResult.getBidScanResults()
+                            .stream().anyMatch(BidScanResult::isRoSkipped);
+
+                    if (isAnyRoSkipped && !scanResult.future().isComplete()) {
+                        reSubmitBidsToWriteNode(readArgs, scanResult);
+                    } else {
+                        scanResult.tryComplete(parserResult);
+                    }
                 } else {
-                    scanResult.complete(getEmptyScanResult());
+                    scanResult.tryComplete(getEmptyScanResult());
                 }
             });
+        });
+    }
 
-            return scanResult.future();
+    private Future<String> resolveSubmitHash(RedisAPI readRedisNodeAPI) {
+        final String cachedSubmitHash = submitHash;
+        if (cachedSubmitHash != null) {
+            return Future.succeededFuture(cachedSubmitHash);
         }
 
-        return Future.succeededFuture(getEmptyScanResult());
+        return readRedisNodeAPI.get(SUBMIT_HASH_KEY).map(response -> {
+            final String resolvedSubmitHash = response != null ? response.toString() : null;
+            submitHash = resolvedSubmitHash;
+            return resolvedSubmitHash;
+        });
     }
 
     private void reSubmitBidsToWriteNode(List<String> readArgs, Promise<BidsScanResult> scanResult) {
         final RedisAPI writeRedisAPI = this.writeRedisNode.getRedisAPI();
         if (writeRedisAPI != null) {
             final List<String> writeArgs = readArgs.stream().limit(4).toList();
-            writeRedisAPI.evalsha(writeArgs, response -> {
+            writeRedisAPI.evalsha(writeArgs).onComplete(response -> {
+                if (isNoScriptError(response)) {
+                    resetSubmitHash();
+                }
+
                 if (response.result() != null) {
                     final BidsScanResult parserResult = redisParser
                             .parseBidsScanResult(response.result().toString());
 
-                    scanResult.complete(parserResult);
+                    scanResult.tryComplete(parserResult);
                 } else {
-                    scanResult.complete(getEmptyScanResult());
+                    scanResult.tryComplete(getEmptyScanResult());
                 }
             });
         } else {
-            scanResult.complete(getEmptyScanResult());
+            scanResult.tryComplete(getEmptyScanResult());
         }
     }
 
+    private static boolean isNoScriptError(AsyncResult<Response> response) {
+        return response.failed() && StringUtils.startsWith(response.cause().getMessage(), NO_SCRIPT_ERROR);
+    }
+
+    private BidsScanResult mergeWithCachedVerdicts(BidsScanResult scanResult,
+                                                   List<String> fingerprints,
+                                                   List<BidScanResult> cachedVerdicts) {
+
+        final List<BidScanResult> scannedVerdicts = scanResult.getBidScanResults();
+        final List<BidScanResult> verdicts = new ArrayList<>(fingerprints.size());
+
+        int scannedIndex = 0;
+        for (int i = 0; i < fingerprints.size(); i++) {
+            final BidScanResult cachedVerdict = cachedVerdicts.get(i);
+            if (cachedVerdict != null) {
+                verdicts.add(cachedVerdict);
+                continue;
+            }
+
+            final BidScanResult scannedVerdict = scannedIndex < scannedVerdicts.size()
+                    ? scannedVerdicts.get(scannedIndex)
+                    : null;
+            scannedIndex++;
+
+            verdictCache.put(fingerprints.get(i), scannedVerdict);
+            verdicts.add(scannedVerdict);
+        }
+
+        final boolean hasCachedVerdicts = cachedVerdicts.stream().anyMatch(Objects::nonNull);
+        return hasCachedVerdicts
+                ? scanResult.toBuilder().bidScanResults(verdicts).build()
+                : scanResult;
+    }
+
     public Future<Boolean> isScanDisabledFlag() {
         final RedisAPI redisAPI = this.readRedisNode.getRedisAPI();
         final Promise<Boolean> isDisabled = Promise.promise();
@@ -143,4 +272,11 @@ public class BidsScanner {
                 .debugMessages(Collections.emptyList())
                 .build();
     }
+
+    private BidsScanResult getTimedOutScanResult(long timeout) {
+        return BidsScanResult.builder()
+                .bidScanResults(Collections.emptyList())
+                .debugMessages(List.of("Confiant scan is not completed within %d ms".formatted(timeout)))
+                .build();
+    }
 }
@@ -26,6 +26,7 @@ public class RedisScanStateChecker {
     }
 
     private void verifyScanFlag() {
+        bidsScanner.resetSubmitHash();
         bidsScanner.isScanDisabledFlag().onComplete(result -> {
             final boolean isScanDisabled = result.result();
             if (isScanDisabled) {
@@ -2,9 +2,12 @@ package org.prebid.server.hooks.modules.com.confiant.adquality.core;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.redis.client.Command;
 import io.vertx.redis.client.RedisAPI;
 import io.vertx.redis.client.Response;
@@ -16,12 +19,16 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.GroupByIssues;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.Issue;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.util.AdQualityModuleTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,11 +49,15 @@ public class BidsScannerTest {
     @Mock
     private RedisAPI redisAPI;
 
+    @Mock
+    private Vertx vertx;
+
     private BidsScanner bidsScannerTest;
 
     @Before
     public void setUp() {
-        bidsScannerTest = new BidsScanner(writeRedisNode, readRedisNode, "api-key", new ObjectMapper());
+        bidsScannerTest = new BidsScanner(
+                writeRedisNode, readRedisNode, "api-key", new ObjectMapper(), vertx, new BidScanVerdictCache(100, 300));
     }
 
     @Test()
@@ -108,7 +119,7 @@ public class BidsScannerTest {
         doReturn(null).when(readRedisNode).getRedisAPI();
 
         // when
-        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(RedisBidsData.builder().build());
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(RedisBidsData.builder().build(), 1000L);
         final GroupByIssues<BidderResponse> groupByIssues = scanResult.result().toGroupByIssues(List.of());
 
         // then
@@ -123,7 +134,7 @@ public class BidsScannerTest {
         doReturn(redisAPI).when(readRedisNode).getRedisAPI();
 
         // when
-        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(RedisBidsData.builder().bresps(List.of()).build());
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(RedisBidsData.builder().bresps(List.of()).build(), 1000L);
         final GroupByIssues<BidderResponse> groupByIssues = scanResult.result().toGroupByIssues(List.of());
 
         // then
@@ -146,7 +157,7 @@ public class BidsScannerTest {
         doReturn(redisAPI).when(readRedisNode).getRedisAPI();
 
         // when
-        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(bidsData);
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(bidsData, 1000L);
         final GroupByIssues<BidderResponse> groupByIssues = scanResult.result()
                 .toGroupByIssues(List.of(AdQualityModuleTestUtils.getBidderResponse("bidder-a", "imp-a", "imp-id-a")));
 
@@ -171,7 +182,7 @@ public class BidsScannerTest {
         doReturn(redisAPI).when(readRedisNode).getRedisAPI();
 
         // when
-        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(bidsData);
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(bidsData, 1000L);
         final GroupByIssues<BidderResponse> groupByIssues = scanResult.result()
                 .toGroupByIssues(List.of(
                         AdQualityModuleTestUtils.getBidderResponse("bidder-a", "imp-a", "imp-id-a"),
@@ -202,7 +213,7 @@ public class BidsScannerTest {
         doReturn(writeRedisAPI).when(writeRedisNode).getRedisAPI();
 
         // when
-        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(bidsData);
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(bidsData, 1000L);
         final GroupByIssues<BidderResponse> groupByIssues = scanResult.result()
                 .toGroupByIssues(List.of(AdQualityModuleTestUtils.getBidderResponse("bidder-a", "imp-a", "imp-id-a")));
 
@@ -212,6 +223,147 @@ public class BidsScannerTest {
         assertThat(groupByIssues.getWithoutIssues().size()).isEqualTo(0);
     }
 
+    @Test
+    public void shouldRequestSubmitHashOnlyOnceForSubsequentScans() {
+        // given
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRecordingRedisEmulation(sentCommands, false);
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        // when
+        bidsScannerTest.submitBids(getBidsData("adm-a"), 1000L);
+        bidsScannerTest.submitBids(getBidsData("adm-b"), 1000L);
+
+        // then
+        assertThat(sentCommands).containsExactly(Command.GET, Command.EVALSHA, Command.EVALSHA);
+    }
+
+    @Test
+    public void shouldRequestSubmitHashAgainAndRetryWhenRedisHasNoScript() {
+        // given
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRecordingRedisEmulation(sentCommands, true);
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(getBidsData("adm-a"), 1000L);
+
+        // then
+        assertThat(sentCommands).containsExactly(Command.GET, Command.EVALSHA, Command.GET, Command.EVALSHA);
+        assertThat(scanResult.result().getBidScanResults()).hasSize(1);
+    }
+
+    @Test
+    public void shouldNotSubmitBidsWithCachedVerdictToRedis() {
+        // given
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRecordingRedisEmulation(sentCommands, false);
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        bidsScannerTest.submitBids(getBidsData("adm-a"), 1000L);
+        sentCommands.clear();
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(getBidsData("adm-a"), 1000L);
+        final GroupByIssues<BidderResponse> groupByIssues = scanResult.result()
+                .toGroupByIssues(List.of(AdQualityModuleTestUtils.getBidderResponse("bidder-a", "imp-a", "imp-id-a")));
+
+        // then
+        assertThat(sentCommands).isEmpty();
+        assertThat(groupByIssues.getWithIssues()).hasSize(1);
+    }
+
+    @Test
+    public void shouldBuildScanResultOfCachedVerdictForEveryAuction() {
+        // given
+        final RedisAPI redisAPI = getRecordingRedisEmulation(new ArrayList<>(), false);
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        final BidScanResult scannedResult = bidsScannerTest.submitBids(getBidsData("adm-a", "imp_a"), 1000L)
+                .result().getBidScanResults().get(0);
+
+        // when
+        final BidScanResult cachedResult = bidsScannerTest.submitBids(getBidsData("adm-a", "imp_b"), 1000L)
+                .result().getBidScanResults().get(0);
+        scannedResult.getIssues().get(0).setValue("changed");
+
+        // then
+        assertThat(cachedResult).isNotSameAs(scannedResult);
+        assertThat(cachedResult.getTagKey()).isNull();
+        assertThat(cachedResult.getImpId()).isEqualTo("imp_b");
+        assertThat(cachedResult.getIssues()).extracting(Issue::getValue).containsExactly("ads.deceivenetworks.net");
+    }
+
+    @Test
+    public void shouldReturnEmptyScanResultWhenThereIsNoTimeLeft() {
+        // given
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRecordingRedisEmulation(sentCommands, false);
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(getBidsData("adm-a"), 0L);
+
+        // then
+        assertThat(sentCommands).isEmpty();
+        assertThat(scanResult.result().getBidScanResults()).isEmpty();
+        assertThat(scanResult.result().getDebugMessages()).hasSize(1);
+    }
+
+    private static RedisBidsData getBidsData(String adm) {
+        return getBidsData(adm, null);
+    }
+
+    private static RedisBidsData getBidsData(String adm, String impId) {
+        return RedisBidsData.builder()
+                .breq(BidRequest.builder().build())
+                .bresps(List.of(RedisBidResponseData.builder()
+                        .dspId("dsp_id")
+                        .bidresponse(BidResponse.builder()
+                                .seatbid(List.of(SeatBid.builder()
+                                        .bid(List.of(Bid.builder().impid(impId).adm(adm).crid("crid").build()))
+                                        .build()))
+                                .build())
+                        .build()))
+                .build();
+    }
+
+    private RedisAPI getRecordingRedisEmulation(List<Command> sentCommands, boolean failFirstEvalsha) {
+        final String scanAnswer = "[[[{\"tag_key\": \"key_a\", \"imp_id\": \"imp_a\", \"issues\": [{ \"value\": \"ads.deceivenetworks.net\", \"spec_name\": \"malicious_domain\", \"first_adinstance\": \"e91e8da982bb8b7f80100426\"}]}]]]";
+        final AtomicBoolean noScript = new AtomicBoolean(failFirstEvalsha);
+        return new RedisAPI() {
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public Future<Response> send(Command command, String... strings) {
+                sentCommands.add(command);
+                if (command == Command.EVALSHA && noScript.getAndSet(false)) {
+                    return Future.failedFuture(new IllegalStateException("NOSCRIPT No matching script."));
+                }
+
+                final String answer = command == Command.GET ? "submit-hash" : scanAnswer;
+                return Future.succeededFuture(new Response() {
+                    @Override
+                    public ResponseType type() {
+                        return null;
+                    }
+
+                    @Override
+                    public String toString() {
+                        return answer;
+                    }
+                });
+            }
+        };
+    }
+
     private RedisAPI getRedisEmulationWithAnswer(String sendAnswer) {
         return new RedisAPI() {
             @Override
@@ -17,6 +17,8 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdActivityMask;
 import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.hooks.execution.v1.bidder.AllProcessedBidResponsesPayloadImpl;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.BidsMapper;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.BidsScanResult;
@@ -33,6 +35,9 @@ import org.prebid.server.hooks.v1.PayloadUpdate;
 import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
 import org.prebid.server.hooks.v1.bidder.AllProcessedBidResponsesPayload;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
 
@@ -40,6 +45,8 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
@@ -69,6 +76,9 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
     @Before
     public void setUp() {
+        final Timeout timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(1000L);
+        doReturn(timeout).when(auctionInvocationContext).timeout();
+
         target = new ConfiantAdQualityBidResponsesScanHook(bidsScanner, List.of(), userFpdActivityMask);
     }
 
@@ -90,7 +100,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
                 .debugMessages(Collections.emptyList())
                 .build();
 
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
         // when
@@ -115,7 +125,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         final BidsScanResult bidsScanResult = redisParser.parseBidsScanResult(
                 "[[[{\"tag_key\": \"tag\", \"issues\":[{\"spec_name\":\"malicious_domain\",\"value\":\"ads.deceivenetworks.net\",\"first_adinstance\":\"e91e8da982bb8b7f80100426\"}]}]]]");
 
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
         doReturn(List.of(AdQualityModuleTestUtils.getBidderResponse("bidder_a", "imp_a", "bid_id_a")))
                 .when(allProcessedBidResponsesPayload).bidResponses();
@@ -150,14 +160,14 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         final BidsScanResult bidsScanResult = redisParser.parseBidsScanResult(
                 "[[[{\"tag_key\": \"tag\", \"issues\":[{\"spec_name\":\"malicious_domain\",\"value\":\"ads.deceivenetworks.net\",\"first_adinstance\":\"e91e8da982bb8b7f80100426\"}]}]]]");
 
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
         // when
         target.call(allProcessedBidResponsesPayload, auctionInvocationContext);
 
         // then
-        verify(bidsScanner).submitBids(any());
+        verify(bidsScanner).submitBids(any(), anyLong());
     }
 
     @Test
@@ -179,7 +189,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         target = new ConfiantAdQualityBidResponsesScanHook(bidsScanner, List.of(secureBidderName), userFpdActivityMask);
 
         doReturn(List.of(secureBidderResponse, notSecureBadBidderResponse, notSecureGoodBidderResponse)).when(allProcessedBidResponsesPayload).bidResponses();
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(auctionContext).when(auctionInvocationContext).auctionContext();
 
         // when
@@ -188,7 +198,8 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         // then
         verify(bidsScanner).submitBids(
-                BidsMapper.toRedisBidsFromBidResponses(auctionContext.getBidRequest(), List.of(notSecureBadBidderResponse, notSecureGoodBidderResponse))
+                eq(BidsMapper.toRedisBidsFromBidResponses(auctionContext.getBidRequest(), List.of(notSecureBadBidderResponse, notSecureGoodBidderResponse))),
+                eq(1000L)
         );
 
         final PayloadUpdate<AllProcessedBidResponsesPayload> payloadUpdate = invocationResult.result().payloadUpdate();
@@ -237,7 +248,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         target = new ConfiantAdQualityBidResponsesScanHook(bidsScanner, List.of(secureBidderName), userFpdActivityMask);
 
         doReturn(List.of(secureBidderResponse, notSecureBadBidderResponse, emptyBidderResponse)).when(allProcessedBidResponsesPayload).bidResponses();
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(auctionContext).when(auctionInvocationContext).auctionContext();
 
         // when
@@ -246,7 +257,8 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         // then
         verify(bidsScanner).submitBids(
-                BidsMapper.toRedisBidsFromBidResponses(auctionContext.getBidRequest(), List.of(notSecureBadBidderResponse))
+                eq(BidsMapper.toRedisBidsFromBidResponses(auctionContext.getBidRequest(), List.of(notSecureBadBidderResponse))),
+                eq(1000L)
         );
 
         final PayloadUpdate<AllProcessedBidResponsesPayload> payloadUpdate = invocationResult.result().payloadUpdate();
@@ -284,7 +296,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         bidsScanner.enableScan();
         doReturn(transmitGeoIsAllowed).when(activityInfrastructure).isAllowed(any(), any());
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
         // when
@@ -292,11 +304,12 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         // then
         verify(bidsScanner).submitBids(
-                BidsMapper.toRedisBidsFromBidResponses(BidRequest.builder()
+                eq(BidsMapper.toRedisBidsFromBidResponses(BidRequest.builder()
                         .user(user)
                         .device(device)
                         .cur(List.of("USD"))
-                        .build(), List.of())
+                        .build(), List.of())),
+                eq(1000L)
         );
     }
 
@@ -313,7 +326,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         bidsScanner.enableScan();
         doReturn(transmitGeoIsAllowed).when(activityInfrastructure).isAllowed(any(), any());
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
         // when
@@ -321,11 +334,12 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
 
         // then
         verify(bidsScanner).submitBids(
-                BidsMapper.toRedisBidsFromBidResponses(BidRequest.builder()
+                eq(BidsMapper.toRedisBidsFromBidResponses(BidRequest.builder()
                         .user(user)
                         .device(device)
                         .cur(List.of("USD"))
-                        .build(), List.of())
+                        .build(), List.of())),
+                eq(1000L)
         );
     }
 
@@ -334,7 +348,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         // given
         final BidsScanResult bidsScanResult = redisParser.parseBidsScanResult("[[[{\"t");
 
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(true).when(auctionInvocationContext).debugEnabled();
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
@@ -359,7 +373,7 @@ public class ConfiantAdQualityBidResponsesScanHookTest {
         // given
         final BidsScanResult bidsScanResult = redisParser.parseBidsScanResult("[[[{\"t");
 
-        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any());
+        doReturn(Future.succeededFuture(bidsScanResult)).when(bidsScanner).submitBids(any(), anyLong());
         doReturn(false).when(auctionInvocationContext).debugEnabled();
         doReturn(getAuctionContext()).when(auctionInvocationContext).auctionContext();
 
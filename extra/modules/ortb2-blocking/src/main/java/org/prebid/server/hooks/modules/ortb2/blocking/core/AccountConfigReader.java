@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.SetUtils;
@@ -28,9 +29,17 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Reads blocking configuration of the bidder from the account config of the module.
+ * <p>
+ * Parts of the configuration that depend only on media types or deal id are resolved once and memoized, so the same
+ * reader instance (see {@link AccountConfigReaderCache}) answers subsequent calls without walking the account config.
+ * Invalid configuration is never memoized and fails every call.
+ */
 public class AccountConfigReader {
 
     private static final String ATTRIBUTES_FIELD = "attributes";
@@ -69,6 +78,11 @@ public class AccountConfigReader {
     private final OrtbVersion ortbVersion;
     private final boolean debugEnabled;
 
+    private final Map<AttributeKey, Result<? extends List<?>>> blockedAttributes = new ConcurrentHashMap<>();
+    private final Map<AttributeKey, Result<BlockingActions>> blockingActions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> dealIdsWithExceptions = new ConcurrentHashMap<>();
+    private final Map<DealExceptionsKey, Set<?>> dealExceptions = new ConcurrentHashMap<>();
+
     private AccountConfigReader(ObjectNode config, String bidder, OrtbVersion ortbVersion, boolean debugEnabled) {
         this.config = config;
         this.bidder = bidder;
@@ -153,11 +167,22 @@ public class AccountConfigReader {
         return Result.of(response, warnings);
     }
 
+    @SuppressWarnings("unchecked")
     private <T> Result<List<T>> blockedAttribute(String attribute,
                                                  Class<T> attributeType,
                                                  String fieldName,
                                                  Set<String> actualMediaTypes) {
 
+        return (Result<List<T>>) blockedAttributes.computeIfAbsent(
+                AttributeKey.of(attribute, actualMediaTypes),
+                key -> resolveBlockedAttribute(attribute, attributeType, fieldName, actualMediaTypes));
+    }
+
+    private <T> Result<List<T>> resolveBlockedAttribute(String attribute,
+                                                        Class<T> attributeType,
+                                                        String fieldName,
+                                                        Set<String> actualMediaTypes) {
+
         final JsonNode attributeConfig = attributeConfig(attribute);
         if (attributeConfig == null) {
             return Result.empty();
@@ -230,6 +255,25 @@ public class AccountConfigReader {
             return Result.empty();
         }
 
+        final Result<BlockingActions> actionsResult = blockingActions.computeIfAbsent(
+                AttributeKey.of(attribute, bidMediaTypes),
+                key -> resolveBlockingActions(attributeConfig, blockUnknownField, bidMediaTypes));
+        final BlockingActions actions = actionsResult.getValue();
+
+        final Set<T> dealExceptions = StringUtils.isNotBlank(dealid)
+                ? dealExceptions(attributeConfig, attribute, attributeType, allowedForDealsField, dealid)
+                : Collections.emptySet();
+
+        final BidAttributeBlockingConfig<T> blockingConfig = BidAttributeBlockingConfig.of(
+                actions.isEnforceBlocks(), actions.isBlockUnknown(), dealExceptions);
+
+        return Result.of(blockingConfig, actionsResult.getMessages());
+    }
+
+    private Result<BlockingActions> resolveBlockingActions(JsonNode attributeConfig,
+                                                           String blockUnknownField,
+                                                           Set<String> bidMediaTypes) {
+
         final Result<JsonNode> enforceBlocksOverrideResult = overrideFor(
                 attributeConfig, bidMediaTypes, ENFORCE_BLOCKS_FIELD);
         final boolean enforceBlocks = mergeBoolean(
@@ -242,19 +286,34 @@ public class AccountConfigReader {
         final boolean blockUnknown = blockUnknownField != null
                 && mergeBoolean(attributeConfig, blockUnknownOverrideResult.getValue(), blockUnknownField);
 
-        final Set<T> dealExceptions = StringUtils.isNotBlank(dealid)
-                ? mergeDealExceptions(
-                attributeConfig,
-                dealExceptionsFor(attributeConfig, dealid, allowedForDealsField),
-                attributeType,
-                allowedForDealsField)
-                : Collections.emptySet();
-
-        final BidAttributeBlockingConfig<T> blockingConfig = BidAttributeBlockingConfig.of(
-                enforceBlocks, blockUnknown, dealExceptions);
         final List<String> warnings = MergeUtils.mergeMessages(enforceBlocksOverrideResult, blockUnknownOverrideResult);
 
-        return Result.of(blockingConfig, warnings);
+        return Result.of(BlockingActions.of(enforceBlocks, blockUnknown), warnings);
+    }
+
+    /**
+     * Deal exceptions are the same for all deals that are not mentioned in the overrides,
+     * so they are memoized per configured deal id plus one entry for all the others.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Set<T> dealExceptions(JsonNode attributeConfig,
+                                      String attribute,
+                                      Class<T> attributeType,
+                                      String allowedForDealsField,
+                                      String dealid) {
+
+        final Set<String> dealIdsWithOverrides = dealIdsWithExceptions.computeIfAbsent(
+                attribute,
+                key -> dealIdsWithOverrides(attributeConfig, allowedForDealsField));
+        final String dealExceptionsDealId = dealIdsWithOverrides.contains(dealid) ? dealid : null;
+
+        return (Set<T>) dealExceptions.computeIfAbsent(
+                DealExceptionsKey.of(attribute, dealExceptionsDealId),
+                key -> mergeDealExceptions(
+                        attributeConfig,
+                        dealExceptionsFor(attributeConfig, dealid, allowedForDealsField),
+                        attributeType,
+                        allowedForDealsField));
     }
 
     private <T> Result<BidAttributeBlockingConfig<T>> blockingConfigForAttribute(String attribute,
@@ -422,6 +481,29 @@ public class AccountConfigReader {
         return results;
     }
 
+    private static Set<String> dealIdsWithOverrides(JsonNode parent, String field) {
+        final JsonNode actionOverrides = objectNodeFrom(parent, ACTION_OVERRIDES_FIELD);
+        final JsonNode overridesForField = actionOverrides != null ? objectArrayFrom(actionOverrides, field) : null;
+        if (overridesForField == null) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> results = new HashSet<>();
+        for (final JsonNode override : overridesForField) {
+            final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
+            final List<String> dealIds = typedArrayFrom(conditions, String.class, DEALIDS_FIELD);
+
+            if (dealIds == null) {
+                throw new InvalidAccountConfigurationException(
+                        "%s field in account configuration must contain %s".formatted(CONDITIONS_FIELD, DEALIDS_FIELD));
+            }
+
+            results.addAll(dealIds);
+        }
+
+        return results;
+    }
+
     private static <T> List<T> overrideArrayAttribute(JsonNode parent, JsonNode override, Class<T> type, String field) {
         return override != null
                 ? asTypedArray(override, type, OVERRIDE_FIELD)
@@ -449,7 +531,7 @@ public class AccountConfigReader {
             results.addAll(asTypedArray(override, type, field));
         }
 
-        return results;
+        return Collections.unmodifiableSet(results);
     }
 
     private static <T> List<T> typedArrayFrom(JsonNode parent, Class<T> type, String field) {
@@ -546,4 +628,28 @@ public class AccountConfigReader {
 
         return object;
     }
+
+    @Value(staticConstructor = "of")
+    private static class AttributeKey {
+
+        String attribute;
+
+        Set<String> mediaTypes;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class DealExceptionsKey {
+
+        String attribute;
+
+        String dealid;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class BlockingActions {
+
+        boolean enforceBlocks;
+
+        boolean blockUnknown;
+    }
 }
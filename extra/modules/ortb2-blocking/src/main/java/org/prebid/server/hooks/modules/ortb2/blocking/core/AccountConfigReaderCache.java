@@ -0,0 +1,54 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@link AccountConfigReader}s (and so everything they have already resolved) per account config.
+ * <p>
+ * Account config is compared by identity: the same instance is handed to the hooks while account stays in the
+ * application settings cache, and a new one appears once account is refreshed there, so stale readers are simply
+ * not reachable anymore and are collected together with the old config.
+ */
+public class AccountConfigReaderCache {
+
+    private final Cache<ObjectNode, Map<ReaderKey, AccountConfigReader>> readers;
+
+    public AccountConfigReaderCache(long maxSize) {
+        readers = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public AccountConfigReader readerFor(ObjectNode accountConfig,
+                                         String bidder,
+                                         OrtbVersion ortbVersion,
+                                         boolean debugEnabled) {
+
+        if (accountConfig == null) {
+            return AccountConfigReader.create(null, bidder, ortbVersion, debugEnabled);
+        }
+
+        return readers.get(accountConfig, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(
+                        ReaderKey.of(bidder, ortbVersion, debugEnabled),
+                        ignored -> AccountConfigReader.create(accountConfig, bidder, ortbVersion, debugEnabled));
+    }
+
+    @Value(staticConstructor = "of")
+    private static class ReaderKey {
+
+        String bidder;
+
+        OrtbVersion ortbVersion;
+
+        boolean debugEnabled;
+    }
+}
@@ -2,6 +2,7 @@ package org.prebid.server.hooks.modules.ortb2.blocking.v1;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.Module;
@@ -14,15 +15,20 @@ public class Ortb2BlockingModule implements Module {
 
     public static final String CODE = "ortb2-blocking";
 
+    private static final long ACCOUNT_CONFIG_READERS_CACHE_SIZE = 10_000L;
+
     private final List<? extends Hook<?, ? extends InvocationContext>> hooks;
 
     public Ortb2BlockingModule(BidderCatalog bidderCatalog, ObjectMapper mapper) {
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(mapper);
 
+        final AccountConfigReaderCache accountConfigReaderCache =
+                new AccountConfigReaderCache(ACCOUNT_CONFIG_READERS_CACHE_SIZE);
+
         hooks = List.of(
-                new Ortb2BlockingBidderRequestHook(bidderCatalog),
-                new Ortb2BlockingRawBidderResponseHook(mapper));
+                new Ortb2BlockingBidderRequestHook(bidderCatalog, accountConfigReaderCache),
+                new Ortb2BlockingRawBidderResponseHook(mapper, accountConfigReaderCache));
     }
 
     @Override
@@ -6,6 +6,7 @@ import io.vertx.core.Future;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BidsBlocker;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.ResponseUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.AnalyticsResult;
@@ -40,9 +41,11 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
     private static final String SUCCESS_STATUS = "success";
 
     private final ObjectMapper mapper;
+    private final AccountConfigReaderCache accountConfigReaderCache;
 
-    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper) {
+    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper, AccountConfigReaderCache accountConfigReaderCache) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.accountConfigReaderCache = Objects.requireNonNull(accountConfigReaderCache);
     }
 
     @Override
@@ -51,13 +54,19 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
 
         final String bidder = invocationContext.bidder();
         final ModuleContext moduleContext = moduleContext(invocationContext);
+        final OrtbVersion ortbVersion = ObjectUtils.defaultIfNull(
+                moduleContext.ortbVersionOf(bidder), OrtbVersion.ORTB_2_5);
 
         final ExecutionResult<BlockedBids> blockedBidsResult = BidsBlocker
                 .create(
                         bidderResponsePayload.bids(),
                         bidder,
-                        ObjectUtils.defaultIfNull(moduleContext.ortbVersionOf(bidder), OrtbVersion.ORTB_2_5),
-                        invocationContext.accountConfig(),
+                        ortbVersion,
+                        accountConfigReaderCache.readerFor(
+                                invocationContext.accountConfig(),
+                                bidder,
+                                ortbVersion,
+                                invocationContext.debugEnabled()),
                         moduleContext.blockedAttributesFor(bidder),
                         invocationContext.debugEnabled())
                 .block();
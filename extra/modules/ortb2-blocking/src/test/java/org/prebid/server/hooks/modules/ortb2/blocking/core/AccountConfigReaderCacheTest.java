@@ -0,0 +1,104 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.response.Bid;
+import org.junit.Test;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AccountConfigReaderCacheTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final AccountConfigReaderCache target = new AccountConfigReaderCache(100);
+
+    @Test
+    public void readerForShouldReturnSameReaderForSameAccountConfigAndBidder() throws JsonProcessingException {
+        // given
+        final ObjectNode accountConfig = accountConfig();
+
+        // when
+        final AccountConfigReader reader = target.readerFor(accountConfig, "bidder1", OrtbVersion.ORTB_2_5, false);
+
+        // then
+        assertThat(target.readerFor(accountConfig, "bidder1", OrtbVersion.ORTB_2_5, false)).isSameAs(reader);
+        assertThat(target.readerFor(accountConfig, "bidder2", OrtbVersion.ORTB_2_5, false)).isNotSameAs(reader);
+        assertThat(target.readerFor(accountConfig, "bidder1", OrtbVersion.ORTB_2_5, true)).isNotSameAs(reader);
+    }
+
+    @Test
+    public void readerForShouldReturnNewReaderForNewAccountConfigVersion() throws JsonProcessingException {
+        // given
+        final AccountConfigReader reader = target.readerFor(accountConfig(), "bidder1", OrtbVersion.ORTB_2_5, false);
+
+        // when and then
+        assertThat(target.readerFor(accountConfig(), "bidder1", OrtbVersion.ORTB_2_5, false)).isNotSameAs(reader);
+    }
+
+    @Test
+    public void readerShouldResolveDealExceptionsForConfiguredAndOtherDeals() throws JsonProcessingException {
+        // given
+        final AccountConfigReader reader = target.readerFor(accountConfig(), "bidder1", OrtbVersion.ORTB_2_5, false);
+
+        // when
+        final Set<String> configuredDealExceptions = reader.responseBlockingConfigFor(bid("deal1"))
+                .getValue().getBadv().getAllowedValues();
+        final Set<String> otherDealExceptions = reader.responseBlockingConfigFor(bid("deal2"))
+                .getValue().getBadv().getAllowedValues();
+        final Set<String> anotherDealExceptions = reader.responseBlockingConfigFor(bid("deal3"))
+                .getValue().getBadv().getAllowedValues();
+        final Set<String> noDealExceptions = reader.responseBlockingConfigFor(bid(null))
+                .getValue().getBadv().getAllowedValues();
+
+        // then
+        assertThat(configuredDealExceptions).containsOnly("domain1.com", "domain2.com");
+        assertThat(otherDealExceptions).containsOnly("domain1.com");
+        assertThat(anotherDealExceptions).containsOnly("domain1.com");
+        assertThat(noDealExceptions).isEmpty();
+    }
+
+    @Test
+    public void readerShouldFailEveryCallWhenAccountConfigIsInvalid() throws JsonProcessingException {
+        // given
+        final ObjectNode accountConfig = (ObjectNode) mapper.readTree("""
+                {"attributes": {"badv": {"enforce-blocks": 1}}}""");
+        final AccountConfigReader reader = target.readerFor(accountConfig, "bidder1", OrtbVersion.ORTB_2_5, false);
+
+        // when and then
+        assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid(null)))
+                .isInstanceOf(InvalidAccountConfigurationException.class);
+        assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid(null)))
+                .isInstanceOf(InvalidAccountConfigurationException.class);
+    }
+
+    private static ObjectNode accountConfig() throws JsonProcessingException {
+        return (ObjectNode) mapper.readTree("""
+                {
+                  "attributes": {
+                    "badv": {
+                      "enforce-blocks": true,
+                      "blocked-adomain": ["domain1.com", "domain2.com"],
+                      "allowed-adomain-for-deals": ["domain1.com"],
+                      "action-overrides": {
+                        "allowed-adomain-for-deals": [
+                          {"conditions": {"deal-ids": ["deal1"]}, "override": ["domain2.com"]}
+                        ]
+                      }
+                    }
+                  }
+                }""");
+    }
+
+    private static BidderBid bid(String dealid) {
+        return BidderBid.of(Bid.builder().dealid(dealid).build(), BidType.banner, "USD");
+    }
+}
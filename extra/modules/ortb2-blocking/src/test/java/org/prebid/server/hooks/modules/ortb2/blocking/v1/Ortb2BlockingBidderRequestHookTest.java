@@ -18,6 +18,7 @@ import org.mockito.junit.MockitoRule;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.ArrayOverride;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Attribute;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.AttributeActionOverrides;
@@ -62,7 +63,7 @@ public class Ortb2BlockingBidderRequestHookTest {
         given(bidderCatalog.bidderInfoByName(anyString()))
                 .willReturn(bidderInfo(OrtbVersion.ORTB_2_5));
 
-        hook = new Ortb2BlockingBidderRequestHook(bidderCatalog);
+        hook = new Ortb2BlockingBidderRequestHook(bidderCatalog, new AccountConfigReaderCache(100));
     }
 
     @Test
@@ -8,6 +8,7 @@ import com.iab.openrtb.response.Bid;
 import io.vertx.core.Future;
 import org.junit.Test;
 import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Attribute;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.AttributeActionOverrides;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Attributes;
@@ -46,7 +47,7 @@ public class Ortb2BlockingRawBidderResponseHookTest {
             .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
     private final Ortb2BlockingRawBidderResponseHook hook = new Ortb2BlockingRawBidderResponseHook(
-            ObjectMapperProvider.mapper());
+            ObjectMapperProvider.mapper(), new AccountConfigReaderCache(100));
 
     @Test
     public void shouldReturnResultWithNoActionWhenNoBidsBlocked() {
@@ -1,6 +1,7 @@
 package org.prebid.server.hooks.modules.pb.richmedia.filter.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.prebid.server.auction.CreativeScanner;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.core.BidResponsesMraidFilter;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.core.ModuleConfigResolver;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.PbRichMediaFilterProperties;
@@ -12,6 +13,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Collections;
 import java.util.List;
 
 @ConditionalOnProperty(prefix = "hooks." + PbRichmediaFilterModule.CODE, name = "enabled", havingValue = "true")
@@ -21,17 +23,19 @@ public class PbRichmediaFilterModuleConfiguration {
     @Bean
     PbRichmediaFilterModule pbRichmediaFilterModule(
             @Value("${hooks.modules.pb-richmedia-filter.filter-mraid}") Boolean filterMraid,
-            @Value("${hooks.modules.pb-richmedia-filter.mraid-script-pattern}") String mraidScriptPattern) {
+            @Value("${hooks.modules.pb-richmedia-filter.mraid-script-pattern}") String mraidScriptPattern,
+            CreativeScanner creativeScanner) {
 
         final ObjectMapper mapper = ObjectMapperProvider.mapper();
         final PbRichMediaFilterProperties globalProperties = PbRichMediaFilterProperties.of(
                 filterMraid,
                 mraidScriptPattern);
+        creativeScanner.registerMarkers(Collections.singletonList(mraidScriptPattern));
 
         return new PbRichmediaFilterModule(List.of(
                 new PbRichmediaFilterAllProcessedBidResponsesHook(
                         mapper,
-                        new BidResponsesMraidFilter(),
+                        new BidResponsesMraidFilter(creativeScanner),
                         new ModuleConfigResolver(mapper, globalProperties))));
     }
 
@@ -1,7 +1,7 @@
 package org.prebid.server.hooks.modules.pb.richmedia.filter.core;
 
 import com.iab.openrtb.response.Bid;
-import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.CreativeScanner;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
@@ -23,6 +23,12 @@ public class BidResponsesMraidFilter {
     private static final String TAG_STATUS = "success-block";
     private static final Map<String, Object> TAG_VALUES = Map.of("richmedia-format", "mraid");
 
+    private final CreativeScanner creativeScanner;
+
+    public BidResponsesMraidFilter(CreativeScanner creativeScanner) {
+        this.creativeScanner = Objects.requireNonNull(creativeScanner);
+    }
+
     public MraidFilterResult filterByPattern(String mraidScriptPattern, List<BidderResponse> responses) {
         List<BidderResponse> filteredResponses = new ArrayList<>();
         List<AnalyticsResult> analyticsResults = new ArrayList<>();
@@ -31,7 +37,7 @@ public class BidResponsesMraidFilter {
             final BidderSeatBid seatBid = bidderResponse.getSeatBid();
             final List<BidderBid> originalBids = seatBid.getBids();
             final Map<Boolean, List<BidderBid>> bidsMap = originalBids.stream().collect(
-                    Collectors.groupingBy(bid -> StringUtils.contains(bid.getBid().getAdm(), mraidScriptPattern)));
+                    Collectors.groupingBy(bid -> creativeScanner.contains(bid.getBid().getAdm(), mraidScriptPattern)));
 
             final List<BidderBid> validBids = bidsMap.getOrDefault(false, Collections.emptyList());
             final List<BidderBid> invalidBids = bidsMap.getOrDefault(true, Collections.emptyList());
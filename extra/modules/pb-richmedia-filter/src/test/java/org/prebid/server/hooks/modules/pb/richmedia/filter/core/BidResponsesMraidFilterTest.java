@@ -3,6 +3,7 @@ package org.prebid.server.hooks.modules.pb.richmedia.filter.core;
 import com.iab.openrtb.response.Bid;
 import org.junit.Before;
 import org.junit.Test;
+import org.prebid.server.auction.CreativeScanner;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
@@ -18,7 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class BidResponsesMraidFilterTest {
 
-    private final BidResponsesMraidFilter target = new BidResponsesMraidFilter();
+    private final BidResponsesMraidFilter target = new BidResponsesMraidFilter(new CreativeScanner());
 
     @Test
     public void filterShouldReturnOriginalBidsWhenNoBidsHaveMraidScriptInAdm() {
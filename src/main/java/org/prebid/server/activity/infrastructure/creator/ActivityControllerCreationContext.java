@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.Value;
+import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier;
 import org.prebid.server.auction.gpp.model.GppContext;
@@ -24,8 +25,26 @@ public class ActivityControllerCreationContext {
     @Setter(AccessLevel.NONE)
     Set<PrivacyModuleQualifier> usedPrivacyModules = EnumSet.noneOf(PrivacyModuleQualifier.class);
 
+    @Getter(AccessLevel.NONE)
     GppContext gppContext;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    MutableBoolean gppContextUsed = new MutableBoolean(false);
+
+    public GppContext getGppContext() {
+        gppContextUsed.setTrue();
+        return gppContext;
+    }
+
+    /**
+     * Tells whether anything created with this context depends on the request {@link GppContext}
+     * and so can not be reused for other requests.
+     */
+    public boolean isGppContextUsed() {
+        return gppContextUsed.booleanValue();
+    }
+
     public boolean isUsed(PrivacyModuleQualifier qualifier) {
         return usedPrivacyModules.contains(qualifier);
     }
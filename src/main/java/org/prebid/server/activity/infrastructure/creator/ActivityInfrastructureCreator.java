@@ -1,6 +1,9 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.ActivityController;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
@@ -41,11 +44,22 @@ public class ActivityInfrastructureCreator {
 
     private static final Logger logger = LoggerFactory.getLogger(ActivityInfrastructureCreator.class);
 
+    private static final Map<Activity, ActivityRules> DEFAULT_ACTIVITIES_RULES = defaultActivitiesRules();
+
     private final ActivityRuleFactory activityRuleFactory;
     private final Purpose defaultPurpose4;
     private final Metrics metrics;
     private final JacksonMapper jacksonMapper;
 
+    /**
+     * Keyed by identity of the account privacy config, which stays the same while account is cached by
+     * application settings, so compiled rules go away together with the stale account.
+     */
+    private final Cache<AccountPrivacyConfig, Map<Activity, ActivityRules>> compiledActivitiesRules =
+            Caffeine.newBuilder()
+                    .weakKeys()
+                    .build();
+
     public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
                                          GdprConfig gdprConfig,
                                          Metrics metrics,
@@ -70,31 +84,52 @@ public class ActivityInfrastructureCreator {
     }
 
     Map<Activity, ActivityController> parse(Account account, GppContext gppContext, ActivityInfrastructureDebug debug) {
-        final Optional<AccountPrivacyConfig> accountPrivacyConfig = Optional.ofNullable(account.getPrivacy());
-
-        final Map<Activity, AccountActivityConfiguration> activitiesConfiguration = accountPrivacyConfig
-                .map(AccountPrivacyConfig::getActivities)
-                .orElseGet(Collections::emptyMap);
-        final Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs = accountPrivacyConfig
-                .map(AccountPrivacyConfig::getModules)
-                .orElseGet(Collections::emptyList)
-                .stream()
-                .collect(Collectors.toMap(
-                        AccountPrivacyModuleConfig::getCode,
-                        UnaryOperator.identity(),
-                        takeFirstAndLogDuplicates(account.getId())));
+        final Map<Activity, ActivityController> controllers = new EnumMap<>(Activity.class);
+        activitiesRules(account, gppContext).forEach((activity, rules) -> controllers.put(
+                activity,
+                ActivityController.of(rules.isAllow(), rules.rulesFor(gppContext), debug)));
+
+        return controllers;
+    }
+
+    private Map<Activity, ActivityRules> activitiesRules(Account account, GppContext gppContext) {
+        final AccountPrivacyConfig accountPrivacyConfig = account.getPrivacy();
+        if (accountPrivacyConfig == null) {
+            return DEFAULT_ACTIVITIES_RULES;
+        }
+
+        return compiledActivitiesRules.get(
+                accountPrivacyConfig,
+                privacyConfig -> compile(account.getId(), privacyConfig, gppContext));
+    }
+
+    /**
+     * Creates rules of every activity once per account privacy config. Rules that depend on the request
+     * {@link GppContext} can not be shared, so only configuration is kept for them to create rules per request.
+     */
+    private Map<Activity, ActivityRules> compile(String accountId,
+                                                 AccountPrivacyConfig accountPrivacyConfig,
+                                                 GppContext gppContext) {
+
+        final Map<Activity, AccountActivityConfiguration> activitiesConfiguration =
+                MapUtils.emptyIfNull(accountPrivacyConfig.getActivities());
+        final Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs =
+                ListUtils.emptyIfNull(accountPrivacyConfig.getModules()).stream()
+                        .collect(Collectors.toMap(
+                                AccountPrivacyModuleConfig::getCode,
+                                UnaryOperator.identity(),
+                                takeFirstAndLogDuplicates(accountId)));
 
         return Arrays.stream(Activity.values()).collect(Collectors.toMap(
                 UnaryOperator.identity(),
                 fallbackActivity(
                         activitiesConfiguration,
-                        accountPrivacyConfig,
+                        Optional.of(accountPrivacyConfig),
                         activity -> from(
                                 activity,
                                 activitiesConfiguration.get(activity),
                                 modulesConfigs,
-                                gppContext,
-                                debug)),
+                                gppContext)),
                 (oldValue, newValue) -> oldValue,
                 enumMapFactory()));
     }
@@ -110,10 +145,10 @@ public class ActivityInfrastructureCreator {
     }
 
     // TODO: remove this wrapper after transition period
-    private Function<Activity, ActivityController> fallbackActivity(
+    private Function<Activity, ActivityRules> fallbackActivity(
             Map<Activity, AccountActivityConfiguration> activitiesConfiguration,
             Optional<AccountPrivacyConfig> accountPrivacyConfig,
-            Function<Activity, ActivityController> activityControllerCreator) {
+            Function<Activity, ActivityRules> activityRulesCreator) {
 
         final boolean imitateTransmitEids = !activitiesConfiguration.containsKey(Activity.TRANSMIT_EIDS)
                 && activitiesConfiguration.containsKey(Activity.TRANSMIT_UFPD)
@@ -127,42 +162,82 @@ public class ActivityInfrastructureCreator {
                 .orElse(false);
 
         return originalActivity -> originalActivity == Activity.TRANSMIT_EIDS && imitateTransmitEids
-                ? activityControllerCreator.apply(Activity.TRANSMIT_UFPD)
-                : activityControllerCreator.apply(originalActivity);
+                ? activityRulesCreator.apply(Activity.TRANSMIT_UFPD)
+                : activityRulesCreator.apply(originalActivity);
     }
 
-    private ActivityController from(Activity activity,
-                                    AccountActivityConfiguration activityConfiguration,
-                                    Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs,
-                                    GppContext gppContext,
-                                    ActivityInfrastructureDebug debug) {
+    private ActivityRules from(Activity activity,
+                               AccountActivityConfiguration activityConfiguration,
+                               Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs,
+                               GppContext gppContext) {
 
         if (activityConfiguration == null) {
-            return ActivityController.of(
-                    ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT,
-                    Collections.emptyList(),
-                    debug);
+            return ActivityRules.DEFAULT;
         }
 
-        final ActivityControllerCreationContext creationContext = ActivityControllerCreationContext.of(
-                activity,
-                modulesConfigs,
-                gppContext);
+        final Function<GppContext, List<Rule>> rulesCreator = requestGppContext -> createRules(
+                ActivityControllerCreationContext.of(activity, modulesConfigs, requestGppContext),
+                activityConfiguration);
+
+        final ActivityControllerCreationContext creationContext =
+                ActivityControllerCreationContext.of(activity, modulesConfigs, gppContext);
+        final List<Rule> rules = createRules(creationContext, activityConfiguration);
+
+        return new ActivityRules(
+                allowFromConfig(activityConfiguration.getAllow()),
+                creationContext.isGppContextUsed() ? null : rules,
+                rulesCreator);
+    }
+
+    private List<Rule> createRules(ActivityControllerCreationContext creationContext,
+                                   AccountActivityConfiguration activityConfiguration) {
 
-        final boolean allow = allowFromConfig(activityConfiguration.getAllow());
-        final List<Rule> rules = ListUtils.emptyIfNull(activityConfiguration.getRules()).stream()
+        return ListUtils.emptyIfNull(activityConfiguration.getRules()).stream()
                 .filter(Objects::nonNull)
                 .map(ruleConfiguration -> activityRuleFactory.from(ruleConfiguration, creationContext))
                 .toList();
-
-        return ActivityController.of(allow, rules, debug);
     }
 
     private static boolean allowFromConfig(Boolean configValue) {
         return configValue != null ? configValue : ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT;
     }
 
-    private static Supplier<Map<Activity, ActivityController>> enumMapFactory() {
+    private static Supplier<Map<Activity, ActivityRules>> enumMapFactory() {
         return () -> new EnumMap<>(Activity.class);
     }
+
+    private static Map<Activity, ActivityRules> defaultActivitiesRules() {
+        final Map<Activity, ActivityRules> activitiesRules = new EnumMap<>(Activity.class);
+        for (Activity activity : Activity.values()) {
+            activitiesRules.put(activity, ActivityRules.DEFAULT);
+        }
+        return Collections.unmodifiableMap(activitiesRules);
+    }
+
+    /**
+     * Rules of the activity: either shared between requests, or created for each request by the given function.
+     */
+    private static class ActivityRules {
+
+        static final ActivityRules DEFAULT =
+                new ActivityRules(ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT, Collections.emptyList(), null);
+
+        private final boolean allow;
+        private final List<Rule> sharedRules;
+        private final Function<GppContext, List<Rule>> rulesCreator;
+
+        ActivityRules(boolean allow, List<Rule> sharedRules, Function<GppContext, List<Rule>> rulesCreator) {
+            this.allow = allow;
+            this.sharedRules = sharedRules;
+            this.rulesCreator = rulesCreator;
+        }
+
+        boolean isAllow() {
+            return allow;
+        }
+
+        List<Rule> rulesFor(GppContext gppContext) {
+            return sharedRules != null ? sharedRules : rulesCreator.apply(gppContext);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package org.prebid.server.activity.infrastructure.creator.privacy.uscustomlogic;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.gpp.encoder.GppModel;
 import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
 import org.apache.commons.collections4.SetUtils;
@@ -11,12 +13,14 @@ import org.prebid.server.activity.infrastructure.privacy.AndPrivacyModules;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModule;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier;
 import org.prebid.server.activity.infrastructure.privacy.PrivacySection;
-import org.prebid.server.activity.infrastructure.privacy.uscustomlogic.USCustomLogicDataSupplier;
+import org.prebid.server.activity.infrastructure.privacy.uscustomlogic.USCustomLogicGppReader;
 import org.prebid.server.activity.infrastructure.privacy.uscustomlogic.USCustomLogicModule;
+import org.prebid.server.activity.infrastructure.privacy.uscustomlogic.USCustomLogicVariableResolver;
 import org.prebid.server.auction.gpp.model.GppContext;
 import org.prebid.server.exception.InvalidAccountConfigException;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JsonLogic;
+import org.prebid.server.json.JsonLogicPredicate;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.SettingsCache;
@@ -41,7 +45,8 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
 
     private final USCustomLogicGppReaderFactory gppReaderFactory;
     private final JsonLogic jsonLogic;
-    private final Map<String, JsonLogicNode> jsonLogicNodesCache;
+    private final Cache<ObjectNode, JsonLogicPredicate<USCustomLogicGppReader>> compiledJsonLogicCache;
+    private final Map<String, JsonLogicPredicate<USCustomLogicGppReader>> jsonLogicCache;
     private final Metrics metrics;
 
     public USCustomLogicModuleCreator(USCustomLogicGppReaderFactory gppReaderFactory,
@@ -54,7 +59,8 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
         this.jsonLogic = Objects.requireNonNull(jsonLogic);
         this.metrics = Objects.requireNonNull(metrics);
 
-        jsonLogicNodesCache = cacheTtl != null && cacheSize != null
+        compiledJsonLogicCache = Caffeine.newBuilder().weakKeys().build();
+        jsonLogicCache = cacheTtl != null && cacheSize != null
                 ? SettingsCache.createCache(cacheTtl, cacheSize, 0)
                 : null;
     }
@@ -124,16 +130,28 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
                                     ObjectNode jsonLogicConfig) {
 
         return new USCustomLogicModule(
-                jsonLogic,
-                jsonLogicNode(jsonLogicConfig),
-                USCustomLogicDataSupplier.of(gppReaderFactory.forSection(sectionId, normalizeSection, gppModel)));
+                compiledJsonLogic(jsonLogicConfig),
+                gppReaderFactory.forSection(sectionId, normalizeSection, gppModel));
     }
 
-    private JsonLogicNode jsonLogicNode(ObjectNode jsonLogicConfig) {
+    /**
+     * Config instance stays the same while account is cached, so expression is looked up by identity first and is
+     * not serialized back to string on every request. Content-keyed cache shares compiled expression between
+     * accounts and config refreshes that do not change it.
+     */
+    private JsonLogicPredicate<USCustomLogicGppReader> compiledJsonLogic(ObjectNode jsonLogicConfig) {
+        return compiledJsonLogicCache.get(jsonLogicConfig, this::compileJsonLogic);
+    }
+
+    private JsonLogicPredicate<USCustomLogicGppReader> compileJsonLogic(ObjectNode jsonLogicConfig) {
         final String jsonAsString = jsonLogicConfig.toString();
-        return jsonLogicNodesCache != null
-                ? jsonLogicNodesCache.computeIfAbsent(jsonAsString, this::parseJsonLogicNode)
-                : parseJsonLogicNode(jsonAsString);
+        return jsonLogicCache != null
+                ? jsonLogicCache.computeIfAbsent(jsonAsString, this::parseAndCompileJsonLogic)
+                : parseAndCompileJsonLogic(jsonAsString);
+    }
+
+    private JsonLogicPredicate<USCustomLogicGppReader> parseAndCompileJsonLogic(String jsonLogicConfig) {
+        return jsonLogic.compile(parseJsonLogicNode(jsonLogicConfig), USCustomLogicVariableResolver.instance());
     }
 
     private JsonLogicNode parseJsonLogicNode(String jsonLogicConfig) {
@@ -32,7 +32,7 @@ public class GeoRuleCreator extends AbstractRuleCreator<AccountActivityGeoRuleCo
         return new GeoRule(
                 condition != null ? setOf(condition.getComponentTypes()) : null,
                 condition != null ? caseInsensitiveSetOf(condition.getComponentNames()) : null,
-                sidsMatched(condition, creationContext.getGppContext().scope().getSectionsIds()),
+                sidsMatched(condition, creationContext),
                 condition != null ? geoCodes(condition.getGeoCodes()) : null,
                 condition != null ? condition.getGpc() : null,
                 allow);
@@ -56,9 +56,11 @@ public class GeoRuleCreator extends AbstractRuleCreator<AccountActivityGeoRuleCo
         return caseInsensitiveSet;
     }
 
-    private static boolean sidsMatched(AccountActivityGeoRuleConfig.Condition condition, Set<Integer> gppSids) {
+    private static boolean sidsMatched(AccountActivityGeoRuleConfig.Condition condition,
+                                       ActivityControllerCreationContext creationContext) {
+
         final List<Integer> sids = condition != null ? condition.getSids() : null;
-        return sids == null || intersects(sids, gppSids);
+        return sids == null || intersects(sids, creationContext.getGppContext().scope().getSectionsIds());
     }
 
     private static boolean intersects(Collection<Integer> configurationSids, Collection<Integer> gppSids) {
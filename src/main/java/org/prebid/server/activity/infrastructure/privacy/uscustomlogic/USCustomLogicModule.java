@@ -3,27 +3,22 @@ package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.TextNode;
-import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
 import org.prebid.server.activity.infrastructure.debug.Loggable;
 import org.prebid.server.activity.infrastructure.payload.ActivityInvocationPayload;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModule;
 import org.prebid.server.exception.PreBidException;
-import org.prebid.server.json.JsonLogic;
-
-import java.util.Map;
-import java.util.function.Supplier;
+import org.prebid.server.json.JsonLogicPredicate;
 
 public class USCustomLogicModule implements PrivacyModule, Loggable {
 
     private final Result result;
 
-    public USCustomLogicModule(JsonLogic jsonLogic,
-                               JsonLogicNode jsonLogicNode,
-                               Supplier<Map<String, Object>> dataSupplier) {
+    public USCustomLogicModule(JsonLogicPredicate<USCustomLogicGppReader> jsonLogicPredicate,
+                               USCustomLogicGppReader gppReader) {
 
         try {
-            result = jsonLogic.evaluate(jsonLogicNode, dataSupplier.get())
+            result = jsonLogicPredicate.test(gppReader)
                     ? Result.DISALLOW
                     : Result.ALLOW;
         } catch (JsonLogicEvaluationException e) {
@@ -0,0 +1,84 @@
+package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
+
+import org.prebid.server.json.JsonLogicVariableResolver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads JsonLogic variables straight from the {@link USCustomLogicGppReader}, naming them the same way
+ * {@link USCustomLogicDataSupplier} does: list fields are exposed element by element with 1-based suffix
+ * (e.g. {@code SensitiveDataProcessing1}), other fields by their name.
+ */
+public class USCustomLogicVariableResolver implements JsonLogicVariableResolver<USCustomLogicGppReader> {
+
+    private static final USCustomLogicVariableResolver INSTANCE = new USCustomLogicVariableResolver();
+
+    private static final Function<USCustomLogicGppReader, Object> ABSENT = gppReader -> null;
+
+    private static final Map<String, Function<USCustomLogicGppReader, Object>> FIELDS = Map.ofEntries(
+            Map.entry("Version", USCustomLogicGppReader::getVersion),
+            Map.entry("Gpc", USCustomLogicGppReader::getGpc),
+            Map.entry("GpcSegmentType", USCustomLogicGppReader::getGpcSegmentType),
+            Map.entry("GpcSegmentIncluded", USCustomLogicGppReader::getGpcSegmentIncluded),
+            Map.entry("SaleOptOut", USCustomLogicGppReader::getSaleOptOut),
+            Map.entry("SaleOptOutNotice", USCustomLogicGppReader::getSaleOptOutNotice),
+            Map.entry("SharingNotice", USCustomLogicGppReader::getSharingNotice),
+            Map.entry("SharingOptOut", USCustomLogicGppReader::getSharingOptOut),
+            Map.entry("SharingOptOutNotice", USCustomLogicGppReader::getSharingOptOutNotice),
+            Map.entry("TargetedAdvertisingOptOut", USCustomLogicGppReader::getTargetedAdvertisingOptOut),
+            Map.entry("TargetedAdvertisingOptOutNotice", USCustomLogicGppReader::getTargetedAdvertisingOptOutNotice),
+            Map.entry("SensitiveDataLimitUseNotice", USCustomLogicGppReader::getSensitiveDataLimitUseNotice),
+            Map.entry("SensitiveDataProcessing", USCustomLogicGppReader::getSensitiveDataProcessing),
+            Map.entry("SensitiveDataProcessingOptOutNotice",
+                    USCustomLogicGppReader::getSensitiveDataProcessingOptOutNotice),
+            Map.entry("KnownChildSensitiveDataConsents", USCustomLogicGppReader::getKnownChildSensitiveDataConsents),
+            Map.entry("PersonalDataConsents", USCustomLogicGppReader::getPersonalDataConsents),
+            Map.entry("MspaCoveredTransaction", USCustomLogicGppReader::getMspaCoveredTransaction),
+            Map.entry("MspaServiceProviderMode", USCustomLogicGppReader::getMspaServiceProviderMode),
+            Map.entry("MspaOptOutOptionMode", USCustomLogicGppReader::getMspaOptOutOptionMode));
+
+    private USCustomLogicVariableResolver() {
+    }
+
+    public static USCustomLogicVariableResolver instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Function<USCustomLogicGppReader, Object> accessor(String name) {
+        final Function<USCustomLogicGppReader, Object> field = FIELDS.get(name);
+        if (field != null) {
+            return gppReader -> {
+                final Object value = field.apply(gppReader);
+                return value instanceof List<?> ? null : value;
+            };
+        }
+
+        int suffixStart = name.length();
+        while (suffixStart > 0 && isDigit(name.charAt(suffixStart - 1))) {
+            suffixStart--;
+        }
+        final Function<USCustomLogicGppReader, Object> listField = FIELDS.get(name.substring(0, suffixStart));
+        if (listField == null || suffixStart == name.length() || name.charAt(suffixStart) == '0'
+                || name.length() - suffixStart > 9) {
+
+            return ABSENT;
+        }
+
+        final int index = Integer.parseInt(name.substring(suffixStart)) - 1;
+        return gppReader -> listField.apply(gppReader) instanceof List<?> list && index < list.size()
+                ? list.get(index)
+                : null;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    @Override
+    public Map<String, Object> data(USCustomLogicGppReader gppReader) {
+        return USCustomLogicDataSupplier.of(gppReader).get();
+    }
+}
@@ -10,6 +10,7 @@ import io.netty.channel.ConnectTimeoutException;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
@@ -40,6 +41,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.util.StreamUtil;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -108,13 +110,14 @@ public class AnalyticsReporterDelegator {
             final Map<Integer, PrivacyEnforcementAction> privacyEnforcementActionMap =
                     privacyEnforcementMapResult.result();
             checkUnknownAdaptersForAuctionEvent(event);
+            final Map<EventView, Object> eventViews = new HashMap<>();
             for (AnalyticsReporter analyticsReporter : delegates) {
                 final String name = analyticsReporter.name();
                 if (!isAllowedAdapter(event, name)) {
                     continue;
                 }
 
-                final T updatedEvent = updateEvent(event, name);
+                final T updatedEvent = updateEvent(event, name, eventViews);
                 final int reporterVendorId = analyticsReporter.vendorId();
                 // resultForVendorIds is guaranteed returning for each provided value except null,
                 // but to be sure lets use getOrDefault
@@ -197,62 +200,80 @@ public class AnalyticsReporterDelegator {
         return ActivityInvocationPayloadImpl.of(ComponentType.ANALYTICS, adapterName);
     }
 
-    private <T> T updateEvent(T event, String adapter) {
-        if (!ADAPTERS_PERMITTED_FOR_FULL_DATA.contains(adapter) && event instanceof AuctionEvent auctionEvent) {
-            final AuctionContext updatedAuctionContext =
-                    updateAuctionContextAdapter(auctionEvent.getAuctionContext(), adapter);
-            return updatedAuctionContext != null
-                    ? (T) auctionEvent.toBuilder().auctionContext(updatedAuctionContext).build()
-                    : event;
+    /**
+     * Returns event as the given adapter should see it.
+     * <p>
+     * What adapter sees depends only on the activities restrictions applied to it and on whether ext.prebid.analytics
+     * has to be narrowed down to its own entry, so updated event is built once per such outcome and shared between
+     * adapters with the same one. Adapters with nothing to restrict get the original event.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T updateEvent(T event, String adapter, Map<EventView, Object> eventViews) {
+        if (ADAPTERS_PERMITTED_FOR_FULL_DATA.contains(adapter) || !(event instanceof AuctionEvent auctionEvent)) {
+            return event;
         }
 
-        return event;
-    }
-
-    private AuctionContext updateAuctionContextAdapter(AuctionContext context, String adapter) {
-        if (context == null) {
-            return null;
+        final AuctionContext auctionContext = auctionEvent.getAuctionContext();
+        final BidRequest bidRequest = auctionContext != null ? auctionContext.getBidRequest() : null;
+        if (bidRequest == null) {
+            return event;
         }
 
-        final BidRequest bidRequest = context.getBidRequest();
-        final ActivityInfrastructure activityInfrastructure = context.getActivityInfrastructure();
-        final BidRequest updatedBidRequest = updateBidRequest(bidRequest, adapter, activityInfrastructure);
-
-        return updatedBidRequest != null
-                ? context.toBuilder()
-                .bidRequest(updatedBidRequest)
-                .build()
-                : null;
+        final EventView eventView = eventView(bidRequest, adapter, auctionContext.getActivityInfrastructure());
+        return eventView.isOriginal()
+                ? event
+                : (T) eventViews.computeIfAbsent(eventView, view -> toEventView(auctionEvent, view));
     }
 
-    private BidRequest updateBidRequest(BidRequest bidRequest,
-                                        String adapter,
-                                        ActivityInfrastructure infrastructure) {
-
+    private static EventView eventView(BidRequest bidRequest, String adapter, ActivityInfrastructure infrastructure) {
         final ActivityInvocationPayload payload = BidRequestActivityInvocationPayload.of(
                 activityInvocationPayload(adapter),
                 bidRequest);
 
-        final boolean disallowTransmitUfpd = !isAllowedActivity(infrastructure, Activity.TRANSMIT_UFPD, payload);
-        final boolean disallowTransmitEids = !isAllowedActivity(infrastructure, Activity.TRANSMIT_EIDS, payload);
-        final boolean disallowTransmitGeo = !isAllowedActivity(infrastructure, Activity.TRANSMIT_GEO, payload);
+        final ExtRequest requestExt = bidRequest.getExt();
+        final ExtRequestPrebid extPrebid = requestExt != null ? requestExt.getPrebid() : null;
+        final JsonNode analytics = extPrebid != null ? extPrebid.getAnalytics() : null;
+        // analytics is left as is if it has no entry for the adapter or has nothing but it
+        final boolean shouldFilterAnalytics = isNotEmptyObjectNode(analytics)
+                && analytics.has(adapter)
+                && analytics.size() > 1;
+
+        return EventView.of(
+                !isAllowedActivity(infrastructure, Activity.TRANSMIT_UFPD, payload),
+                !isAllowedActivity(infrastructure, Activity.TRANSMIT_EIDS, payload),
+                !isAllowedActivity(infrastructure, Activity.TRANSMIT_GEO, payload),
+                shouldFilterAnalytics ? adapter : null);
+    }
+
+    private AuctionEvent toEventView(AuctionEvent auctionEvent, EventView eventView) {
+        final AuctionContext auctionContext = auctionEvent.getAuctionContext();
+        final BidRequest bidRequest = auctionContext.getBidRequest();
 
-        final User user = bidRequest != null ? bidRequest.getUser() : null;
-        final User resolvedUser = mask.maskUser(user, disallowTransmitUfpd, disallowTransmitEids, disallowTransmitGeo);
+        final User user = bidRequest.getUser();
+        final User resolvedUser = mask.maskUser(
+                user,
+                eventView.isDisallowTransmitUfpd(),
+                eventView.isDisallowTransmitEids(),
+                eventView.isDisallowTransmitGeo());
 
-        final Device device = bidRequest != null ? bidRequest.getDevice() : null;
-        final Device resolvedDevice = mask.maskDevice(device, disallowTransmitUfpd, disallowTransmitGeo);
+        final Device device = bidRequest.getDevice();
+        final Device resolvedDevice = mask.maskDevice(
+                device,
+                eventView.isDisallowTransmitUfpd(),
+                eventView.isDisallowTransmitGeo());
 
-        final ExtRequest requestExt = bidRequest != null ? bidRequest.getExt() : null;
-        final ExtRequest updatedExtRequest = updateExtRequest(requestExt, adapter);
+        final ExtRequest requestExt = bidRequest.getExt();
+        final String analyticsAdapter = eventView.getAnalyticsAdapter();
 
-        return resolvedUser != null || resolvedDevice != null || updatedExtRequest != null
-                ? bidRequest.toBuilder()
+        final BidRequest updatedBidRequest = bidRequest.toBuilder()
                 .user(resolvedUser != null ? resolvedUser : user)
                 .device(resolvedDevice != null ? resolvedDevice : device)
-                .ext(updatedExtRequest != null ? updatedExtRequest : requestExt)
-                .build()
-                : null;
+                .ext(analyticsAdapter != null ? updateExtRequest(requestExt, analyticsAdapter) : requestExt)
+                .build();
+
+        return auctionEvent.toBuilder()
+                .auctionContext(auctionContext.toBuilder().bidRequest(updatedBidRequest).build())
+                .build();
     }
 
     private static boolean isAllowedActivity(ActivityInfrastructure activityInfrastructure,
@@ -264,34 +285,20 @@ public class AnalyticsReporterDelegator {
                 : ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT;
     }
 
+    /**
+     * Leaves only given adapter entry in ext.prebid.analytics. Entry itself is shared with the original request.
+     */
     private static ExtRequest updateExtRequest(ExtRequest requestExt, String adapterName) {
-        final ExtRequestPrebid extPrebid = requestExt != null ? requestExt.getPrebid() : null;
-        final JsonNode analytics = extPrebid != null ? extPrebid.getAnalytics() : null;
-        final ObjectNode preparedAnalytics = isNotEmptyObjectNode(analytics)
-                ? prepareAnalytics((ObjectNode) analytics, adapterName)
-                : null;
-        final ExtRequest updatedExtRequest = preparedAnalytics != null
-                ? ExtRequest.of(extPrebid.toBuilder().analytics(preparedAnalytics).build())
-                : null;
-
-        if (updatedExtRequest != null) {
-            updatedExtRequest.addProperties(requestExt.getProperties());
-        }
+        final ExtRequestPrebid extPrebid = requestExt.getPrebid();
+        final JsonNode analytics = extPrebid.getAnalytics();
+        final ObjectNode preparedAnalytics = ((ObjectNode) analytics).objectNode();
+        preparedAnalytics.set(adapterName, analytics.get(adapterName));
 
+        final ExtRequest updatedExtRequest = ExtRequest.of(extPrebid.toBuilder().analytics(preparedAnalytics).build());
+        updatedExtRequest.addProperties(requestExt.getProperties());
         return updatedExtRequest;
     }
 
-    private static ObjectNode prepareAnalytics(ObjectNode analytics, String adapterName) {
-        final ObjectNode analyticsNodeCopy = analytics.deepCopy();
-        final JsonNode adapterNode = analyticsNodeCopy.get(adapterName);
-        analyticsNodeCopy.removeAll();
-        if (adapterNode != null) {
-            analyticsNodeCopy.set(adapterName, adapterNode);
-        }
-
-        return !analyticsNodeCopy.isEmpty() ? analyticsNodeCopy : null;
-    }
-
     private <T> void processEventByReporter(AnalyticsReporter analyticsReporter, T event) {
         final String reporterName = analyticsReporter.name();
         analyticsReporter.processEvent(event)
@@ -338,4 +345,20 @@ public class AnalyticsReporterDelegator {
 
         metrics.updateAnalyticEventMetric(analyticsCode, eventType, result);
     }
+
+    @Value(staticConstructor = "of")
+    private static class EventView {
+
+        boolean disallowTransmitUfpd;
+
+        boolean disallowTransmitEids;
+
+        boolean disallowTransmitGeo;
+
+        String analyticsAdapter;
+
+        boolean isOriginal() {
+            return !disallowTransmitUfpd && !disallowTransmitEids && !disallowTransmitGeo && analyticsAdapter == null;
+        }
+    }
 }
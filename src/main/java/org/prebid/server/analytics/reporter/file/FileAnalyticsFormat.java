@@ -0,0 +1,25 @@
+package org.prebid.server.analytics.reporter.file;
+
+/**
+ * Layout of the analytics files.
+ * <p>
+ * File starts with {@link #MAGIC} followed by the format {@link #VERSION} byte, then records follow back to back.
+ * Each record is: payload length (4 bytes), event type code (1 byte), event timestamp in epoch millis (8 bytes)
+ * and UTF-8 JSON payload itself. All numbers are big-endian.
+ * <p>
+ * Files are written with {@link #IN_PROGRESS_SUFFIX} and renamed once rotated, so log shippers should pick up
+ * only files with {@link #EXTENSION}.
+ */
+public final class FileAnalyticsFormat {
+
+    public static final byte[] MAGIC = {'P', 'B', 'A', 'L'};
+    public static final byte VERSION = 1;
+    public static final int FILE_HEADER_SIZE = MAGIC.length + 1;
+    public static final int RECORD_HEADER_SIZE = Integer.BYTES + 1 + Long.BYTES;
+
+    public static final String EXTENSION = ".pbal";
+    public static final String IN_PROGRESS_SUFFIX = ".inprogress";
+
+    private FileAnalyticsFormat() {
+    }
+}
@@ -0,0 +1,95 @@
+package org.prebid.server.analytics.reporter.file;
+
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsEventType;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsRecord;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Reads files written by {@link FileAnalyticsWriter} for offline processing.
+ * <p>
+ * Can be run as a tool converting the given files to NDJSON on standard output, one
+ * <code>{"type": ..., "timestamp": ..., "event": ...}</code> object per record.
+ * Truncated record at the end of the file (left by failed write) is ignored.
+ */
+public class FileAnalyticsReader {
+
+    private FileAnalyticsReader() {
+    }
+
+    public static void read(Path file, Consumer<FileAnalyticsRecord> consumer) throws IOException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            final byte[] header = input.readNBytes(FileAnalyticsFormat.FILE_HEADER_SIZE);
+            if (header.length < FileAnalyticsFormat.FILE_HEADER_SIZE
+                    || !Arrays.equals(header, 0, FileAnalyticsFormat.MAGIC.length,
+                    FileAnalyticsFormat.MAGIC, 0, FileAnalyticsFormat.MAGIC.length)) {
+                throw new IOException("Not an analytics file: " + file);
+            }
+            if (header[FileAnalyticsFormat.MAGIC.length] != FileAnalyticsFormat.VERSION) {
+                throw new IOException(
+                        "Unsupported analytics file version: " + header[FileAnalyticsFormat.MAGIC.length]);
+            }
+
+            FileAnalyticsRecord record = readRecord(input);
+            while (record != null) {
+                consumer.accept(record);
+                record = readRecord(input);
+            }
+        }
+    }
+
+    private static FileAnalyticsRecord readRecord(InputStream input) throws IOException {
+        final byte[] header = input.readNBytes(FileAnalyticsFormat.RECORD_HEADER_SIZE);
+        if (header.length < FileAnalyticsFormat.RECORD_HEADER_SIZE) {
+            return null;
+        }
+
+        final ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+        final int length = headerBuffer.getInt();
+        final byte code = headerBuffer.get();
+        final long timestamp = headerBuffer.getLong();
+        if (length < 0) {
+            throw new IOException("Invalid record length: " + length);
+        }
+        final FileAnalyticsEventType type = FileAnalyticsEventType.fromCode(code);
+        if (type == null) {
+            throw new IOException("Unknown event type code: " + code);
+        }
+
+        final byte[] payload = input.readNBytes(length);
+        return payload.length == length ? FileAnalyticsRecord.of(type, timestamp, payload) : null;
+    }
+
+    public static void main(String[] args) throws IOException {
+        final OutputStream output = new BufferedOutputStream(System.out);
+        for (String file : args) {
+            read(Paths.get(file), record -> writeNdjson(record, output));
+        }
+        output.flush();
+    }
+
+    private static void writeNdjson(FileAnalyticsRecord record, OutputStream output) {
+        final String prefix = "{\"type\":\"%s\",\"timestamp\":%d,\"event\":"
+                .formatted(record.getType(), record.getTimestamp());
+        try {
+            output.write(prefix.getBytes(StandardCharsets.UTF_8));
+            output.write(record.getPayload());
+            output.write('}');
+            output.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.prebid.server.analytics.reporter.file;
+
+import io.vertx.core.Future;
+import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.model.AmpEvent;
+import org.prebid.server.analytics.model.AuctionEvent;
+import org.prebid.server.analytics.model.NotificationEvent;
+import org.prebid.server.analytics.model.VideoEvent;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsEventType;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsRecord;
+import org.prebid.server.analytics.reporter.file.model.FileNotificationEvent;
+import org.prebid.server.json.EncodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * {@link AnalyticsReporter} implementation that writes auction, amp, video and notification events to the local
+ * rolling files, to be shipped further by the log shippers. See {@link FileAnalyticsFormat} for the files layout
+ * and {@link FileAnalyticsReader} for reading them.
+ * <p>
+ * Events are dropped (and counted in metrics) when writer can not keep up with them.
+ */
+public class FileAnalyticsReporter implements AnalyticsReporter {
+
+    private static final String NAME = "fileAnalytics";
+
+    private final FileAnalyticsWriter writer;
+    private final JacksonMapper mapper;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    public FileAnalyticsReporter(FileAnalyticsWriter writer, JacksonMapper mapper, Metrics metrics, Clock clock) {
+        this.writer = Objects.requireNonNull(writer);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public <T> Future<Void> processEvent(T event) {
+        if (event instanceof AuctionEvent auctionEvent) {
+            return write(FileAnalyticsEventType.auction, auctionEvent.getBidResponse());
+        } else if (event instanceof AmpEvent ampEvent) {
+            return write(FileAnalyticsEventType.amp, ampEvent.getBidResponse());
+        } else if (event instanceof VideoEvent videoEvent) {
+            return write(FileAnalyticsEventType.video, videoEvent.getBidResponse());
+        } else if (event instanceof NotificationEvent notificationEvent) {
+            return write(FileAnalyticsEventType.notification, toFileNotificationEvent(notificationEvent));
+        }
+
+        return Future.succeededFuture();
+    }
+
+    private static FileNotificationEvent toFileNotificationEvent(NotificationEvent event) {
+        final Account account = event.getAccount();
+        return FileNotificationEvent.of(
+                event.getType(),
+                event.getBidId(),
+                account != null ? account.getId() : null,
+                event.getBidder(),
+                event.getTimestamp(),
+                event.getIntegration());
+    }
+
+    private Future<Void> write(FileAnalyticsEventType type, Object payload) {
+        final byte[] encodedPayload;
+        try {
+            encodedPayload = mapper.encodeToBytes(payload);
+        } catch (EncodeException e) {
+            return Future.failedFuture(e);
+        }
+
+        if (!writer.offer(FileAnalyticsRecord.of(type, clock.millis(), encodedPayload))) {
+            metrics.updateAnalyticEventMetric(NAME, type.metricName(), MetricName.dropped);
+        }
+
+        return Future.succeededFuture();
+    }
+
+    /**
+     * Writes out accepted events and completes the current file.
+     */
+    public void close() {
+        writer.close();
+    }
+
+    @Override
+    public int vendorId() {
+        return 0;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
@@ -0,0 +1,319 @@
+package org.prebid.server.analytics.reporter.file;
+
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsProperties;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsRecord;
+import org.prebid.server.analytics.reporter.file.model.FsyncPolicy;
+import org.prebid.server.log.ConditionalLogger;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.util.algorithms.MpscRingBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Appends analytics records to the rolling files in the {@link FileAnalyticsFormat}.
+ * <p>
+ * Records are handed over through the bounded lock-free queue and written by the single dedicated thread in
+ * batches, so producers never block on disk: when the queue is full {@link #offer(FileAnalyticsRecord)} just
+ * returns false. File is rotated once it would exceed the max size or once it is open for longer than the rotation
+ * interval, whatever comes first.
+ * <p>
+ * Idle writer thread parks until a producer unparks it, which happens only if the thread has announced it is
+ * going to park, so busy producers don't pay for it. Parking is bounded by {@value #IDLE_PARK_TIMEOUT_MS} ms
+ * to take care of the time-based rotation and sync.
+ */
+public class FileAnalyticsWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileAnalyticsWriter.class);
+    private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_BATCH_SIZE = 1024;
+    private static final long IDLE_PARK_TIMEOUT_MS = 100;
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    private final Path directory;
+    private final long maxFileSizeBytes;
+    private final long rotationIntervalMs;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMs;
+    private final Clock clock;
+
+    private final MpscRingBuffer<FileAnalyticsRecord> queue;
+    private final AtomicBoolean parked = new AtomicBoolean();
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    // accessed only by the writer thread
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private FileChannel channel;
+    private Path inProgressFile;
+    private long fileSize;
+    private long fileOpenedAt;
+    private long lastSyncAt;
+    private boolean unsynced;
+    private long sequence;
+
+    public FileAnalyticsWriter(FileAnalyticsProperties properties, Clock clock) {
+        this.directory = Paths.get(Objects.requireNonNull(properties.getDirectory()));
+        this.maxFileSizeBytes = properties.getMaxFileSizeBytes();
+        this.rotationIntervalMs = properties.getRotationIntervalMs();
+        this.fsyncPolicy = Objects.requireNonNull(properties.getFsyncPolicy());
+        this.fsyncIntervalMs = properties.getFsyncIntervalMs();
+        this.clock = Objects.requireNonNull(clock);
+
+        queue = new MpscRingBuffer<>(properties.getQueueCapacity());
+    }
+
+    /**
+     * Starts the writer thread. Records accepted before are written once it is started.
+     */
+    public void start() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create analytics directory: " + directory, e);
+        }
+
+        running = true;
+        thread = new Thread(this::run, "file-analytics-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns false if record was not accepted because the queue is full.
+     */
+    public boolean offer(FileAnalyticsRecord record) {
+        if (!queue.offer(record)) {
+            return false;
+        }
+
+        if (parked.get() && parked.compareAndSet(true, false)) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    /**
+     * Stops the writer thread, writing out all accepted records and completing the current file.
+     */
+    public void close() {
+        if (!running) {
+            finish();
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (!processQueue()) {
+                park();
+            }
+        }
+        finish();
+    }
+
+    /**
+     * Flag is raised before the queue is checked the last time, so the producer either sees it and unparks the
+     * thread or has its record seen by the check.
+     */
+    private void park() {
+        parked.set(true);
+        if (running && queue.isEmpty()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(IDLE_PARK_TIMEOUT_MS));
+        }
+        parked.set(false);
+    }
+
+    private void finish() {
+        while (!queue.isEmpty()) {
+            processQueue();
+        }
+        try {
+            closeFile();
+        } catch (IOException e) {
+            abandonFile(e);
+        }
+    }
+
+    /**
+     * Writes the next batch of queued records, or takes care of the time-based rotation and sync when there is
+     * nothing to write. Returns false if queue was empty.
+     */
+    boolean processQueue() {
+        FileAnalyticsRecord record = queue.poll();
+        try {
+            if (record == null) {
+                onIdle();
+                return false;
+            }
+
+            for (int i = 0; record != null && i < MAX_BATCH_SIZE; i++) {
+                write(record);
+                record = i + 1 < MAX_BATCH_SIZE ? queue.poll() : null;
+            }
+            flush();
+        } catch (IOException e) {
+            abandonFile(e);
+        }
+        return true;
+    }
+
+    private void write(FileAnalyticsRecord record) throws IOException {
+        final byte[] payload = record.getPayload();
+        final int recordSize = FileAnalyticsFormat.RECORD_HEADER_SIZE + payload.length;
+        final long now = clock.millis();
+
+        if (channel != null && (isExpired(now) || isOverflowedBy(recordSize))) {
+            closeFile();
+        }
+        if (channel == null) {
+            openFile(now);
+        }
+
+        if (buffer.remaining() < recordSize) {
+            flushBuffer();
+        }
+
+        buffer.putInt(payload.length)
+                .put(record.getType().code())
+                .putLong(record.getTimestamp());
+        if (buffer.remaining() < payload.length) {
+            flushBuffer();
+            writeFully(ByteBuffer.wrap(payload));
+        } else {
+            buffer.put(payload);
+        }
+        fileSize += recordSize;
+    }
+
+    private boolean isExpired(long now) {
+        return now - fileOpenedAt >= rotationIntervalMs;
+    }
+
+    private boolean isOverflowedBy(int recordSize) {
+        return fileSize > FileAnalyticsFormat.FILE_HEADER_SIZE && fileSize + recordSize > maxFileSizeBytes;
+    }
+
+    private void onIdle() throws IOException {
+        if (channel == null) {
+            return;
+        }
+
+        final long now = clock.millis();
+        if (isExpired(now)) {
+            closeFile();
+        } else if (fsyncPolicy == FsyncPolicy.interval && unsynced && now - lastSyncAt >= fsyncIntervalMs) {
+            sync(now);
+        }
+    }
+
+    private void flush() throws IOException {
+        flushBuffer();
+
+        final long now = clock.millis();
+        if (fsyncPolicy == FsyncPolicy.always
+                || fsyncPolicy == FsyncPolicy.interval && now - lastSyncAt >= fsyncIntervalMs) {
+            sync(now);
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+        unsynced = true;
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    private void sync(long now) throws IOException {
+        channel.force(false);
+        lastSyncAt = now;
+        unsynced = false;
+    }
+
+    private void openFile(long now) throws IOException {
+        final String name = "analytics-%d-%d%s".formatted(now, sequence++, FileAnalyticsFormat.EXTENSION);
+        inProgressFile = directory.resolve(name + FileAnalyticsFormat.IN_PROGRESS_SUFFIX);
+        channel = FileChannel.open(inProgressFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+
+        buffer.put(FileAnalyticsFormat.MAGIC).put(FileAnalyticsFormat.VERSION);
+        fileSize = FileAnalyticsFormat.FILE_HEADER_SIZE;
+        fileOpenedAt = now;
+        lastSyncAt = now;
+    }
+
+    private void closeFile() throws IOException {
+        if (channel == null) {
+            return;
+        }
+
+        flushBuffer();
+        if (fsyncPolicy != FsyncPolicy.none && unsynced) {
+            sync(clock.millis());
+        }
+        channel.close();
+        channel = null;
+        complete(inProgressFile);
+    }
+
+    /**
+     * Gives up the current file after failure: records being written are lost, but file is still completed,
+     * so everything written before stays available. Next record opens a new file.
+     */
+    private void abandonFile(IOException cause) {
+        conditionalLogger.error("Failed to write analytics file %s: %s".formatted(inProgressFile, cause.getMessage()),
+                100);
+
+        buffer.clear();
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close analytics file " + inProgressFile, e);
+        }
+        channel = null;
+
+        try {
+            complete(inProgressFile);
+        } catch (IOException e) {
+            logger.warn("Failed to complete analytics file " + inProgressFile, e);
+        }
+    }
+
+    private static void complete(Path file) throws IOException {
+        final String name = file.getFileName().toString();
+        final Path completed = file.resolveSibling(
+                name.substring(0, name.length() - FileAnalyticsFormat.IN_PROGRESS_SUFFIX.length()));
+        Files.move(file, completed, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
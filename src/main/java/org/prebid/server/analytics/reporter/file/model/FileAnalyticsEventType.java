@@ -0,0 +1,42 @@
+package org.prebid.server.analytics.reporter.file.model;
+
+import org.prebid.server.metric.MetricName;
+
+public enum FileAnalyticsEventType {
+
+    auction(1, MetricName.event_auction),
+    amp(2, MetricName.event_amp),
+    video(3, MetricName.event_video),
+    notification(4, MetricName.event_notification);
+
+    private static final FileAnalyticsEventType[] BY_CODE = new FileAnalyticsEventType[5];
+
+    static {
+        for (FileAnalyticsEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+    private final MetricName metricName;
+
+    FileAnalyticsEventType(int code, MetricName metricName) {
+        this.code = (byte) code;
+        this.metricName = metricName;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public MetricName metricName() {
+        return metricName;
+    }
+
+    /**
+     * Returns null for unknown code.
+     */
+    public static FileAnalyticsEventType fromCode(byte code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
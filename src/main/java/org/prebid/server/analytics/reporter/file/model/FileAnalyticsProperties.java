@@ -0,0 +1,21 @@
+package org.prebid.server.analytics.reporter.file.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Builder
+@Value
+public class FileAnalyticsProperties {
+
+    String directory;
+
+    Integer queueCapacity;
+
+    Long maxFileSizeBytes;
+
+    Long rotationIntervalMs;
+
+    FsyncPolicy fsyncPolicy;
+
+    Long fsyncIntervalMs;
+}
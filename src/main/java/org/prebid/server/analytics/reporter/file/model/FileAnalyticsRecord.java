@@ -0,0 +1,16 @@
+package org.prebid.server.analytics.reporter.file.model;
+
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class FileAnalyticsRecord {
+
+    FileAnalyticsEventType type;
+
+    long timestamp;
+
+    /**
+     * JSON encoded event.
+     */
+    byte[] payload;
+}
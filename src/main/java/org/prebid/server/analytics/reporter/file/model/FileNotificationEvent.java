@@ -0,0 +1,20 @@
+package org.prebid.server.analytics.reporter.file.model;
+
+import lombok.Value;
+import org.prebid.server.analytics.model.NotificationEvent;
+
+@Value(staticConstructor = "of")
+public class FileNotificationEvent {
+
+    NotificationEvent.Type type;
+
+    String bidId;
+
+    String account;
+
+    String bidder;
+
+    Long timestamp;
+
+    String integration;
+}
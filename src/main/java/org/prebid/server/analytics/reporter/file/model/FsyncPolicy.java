@@ -0,0 +1,22 @@
+package org.prebid.server.analytics.reporter.file.model;
+
+/**
+ * Defines when written analytics records are forced to the storage device.
+ */
+public enum FsyncPolicy {
+
+    /**
+     * Never, flushing is left to the operating system.
+     */
+    none,
+
+    /**
+     * At most once per configured interval.
+     */
+    interval,
+
+    /**
+     * After each written batch of records.
+     */
+    always
+}
@@ -1,79 +1,111 @@
 package org.prebid.server.analytics.reporter.pubstack;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
-import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.algorithms.MpscRingBuffer;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Predicate;
-import java.util.zip.GZIPOutputStream;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
+/**
+ * Buffers events of one type and reports them to Pubstack in gzipped batches.
+ * <p>
+ * Event is serialized right away into its final UTF-8 form and put into the lock-free ring buffer, so reporting
+ * thread does not block on anything. Batch is sent once size, count or TTL threshold is reached: the thread which
+ * noticed it (or the TTL timer) drains the buffer, compressing events one by one with the handler's own
+ * {@link Deflater}. While too many reports are still in flight events keep being buffered, and ones that do not fit
+ * into the buffer anymore are dropped and counted in metrics.
+ */
 public class PubstackEventHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(PubstackEventHandler.class);
+    private static final String ANALYTICS_CODE = "pubstack";
     private static final String SCOPE_FIELD_NAME = "scope";
     private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
     private static final String GZIP = "gzip";
-    private static final String NEW_LINE = "\n";
+    private static final byte[] NEW_LINE = {'\n'};
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+    private static final int BUFFER_CAPACITY_FACTOR = 4;
+    private static final int DEFLATE_CHUNK_SIZE = 8192;
 
     private volatile boolean enabled;
     private volatile String endpoint;
     private volatile String scopeId;
+    private volatile byte[] scopeField;
     private final long maxByteSize;
     private final long maxEventCount;
     private final long reportTtlMillis;
     private final long timeoutMs;
+    private final int maxPendingRequests;
+    private final MetricName eventType;
     private final Vertx vertx;
     private final JacksonMapper jacksonMapper;
     private final HttpClient httpClient;
+    private final Metrics metrics;
 
-    private final ReentrantLock lockOnSend;
-    private final AtomicReference<Queue<String>> events;
-    private final MultiMap headers;
+    private final MpscRingBuffer<byte[]> events;
     private final AtomicLong byteSize;
+    private final AtomicBoolean draining;
+    private final AtomicInteger pendingRequests;
+    private final Deflater deflater;
+    private final CRC32 crc;
+    private final byte[] deflateChunk;
+    private final MultiMap headers;
     private volatile long reportTimerId;
 
     public PubstackEventHandler(PubstackAnalyticsProperties pubstackAnalyticsProperties,
                                 boolean enabled,
                                 String endpoint,
+                                MetricName eventType,
                                 JacksonMapper jacksonMapper,
                                 HttpClient httpClient,
-                                Vertx vertx) {
+                                Vertx vertx,
+                                Metrics metrics) {
         this.enabled = enabled;
         this.endpoint = HttpUtil.validateUrl(endpoint);
+        this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.scopeId = pubstackAnalyticsProperties.getScopeId();
+        this.scopeField = scopeField(scopeId);
         this.maxByteSize = pubstackAnalyticsProperties.getSizeBytes();
         this.maxEventCount = pubstackAnalyticsProperties.getCount();
         this.reportTtlMillis = pubstackAnalyticsProperties.getReportTtlMs();
         this.timeoutMs = pubstackAnalyticsProperties.getTimeoutMs();
-        this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
+        this.maxPendingRequests = pubstackAnalyticsProperties.getMaxPendingRequests();
+        this.eventType = Objects.requireNonNull(eventType);
         this.httpClient = Objects.requireNonNull(httpClient);
         this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
 
-        this.lockOnSend = new ReentrantLock();
-        this.events = new AtomicReference<>(new ConcurrentLinkedQueue<>());
-        this.headers = makeHeaders();
+        this.events = new MpscRingBuffer<>(Math.toIntExact((maxEventCount + 1) * BUFFER_CAPACITY_FACTOR));
         this.byteSize = new AtomicLong();
+        this.draining = new AtomicBoolean();
+        this.pendingRequests = new AtomicInteger();
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        this.crc = new CRC32();
+        this.deflateChunk = new byte[DEFLATE_CHUNK_SIZE];
+        this.headers = makeHeaders();
         if (enabled) {
             this.reportTimerId = setReportTtlTimer();
         }
@@ -82,14 +114,13 @@ public class PubstackEventHandler {
     public <T> void handle(T event) {
         if (enabled) {
             buffer(event);
-            reportEventsOnCondition(byteSize -> byteSize.get() > maxByteSize, byteSize);
-            reportEventsOnCondition(eventsReference -> eventsReference.get().size() > maxEventCount, events);
+            reportEventsOnCondition(() -> byteSize.get() > maxByteSize || events.size() > maxEventCount);
         }
     }
 
     public void reportEvents() {
         if (enabled) {
-            reportEventsOnCondition(events -> events.get().size() > 0, events);
+            reportEventsOnCondition(() -> !events.isEmpty());
         }
     }
 
@@ -98,67 +129,157 @@ public class PubstackEventHandler {
         this.enabled = enabled;
         this.endpoint = endpoint;
         this.scopeId = scopeId;
+        this.scopeField = scopeField(scopeId);
     }
 
     private <T> void buffer(T event) {
-        final ObjectNode eventNode = jacksonMapper.mapper().valueToTree(event);
-        eventNode.put(SCOPE_FIELD_NAME, scopeId);
-        final String jsonEvent = jacksonMapper.encodeToString(eventNode);
-        events.get().add(jsonEvent);
-        byteSize.getAndAdd(jsonEvent.getBytes().length);
+        final byte[] jsonEvent = withScope(jacksonMapper.encodeToBytes(event));
+        if (events.offer(jsonEvent)) {
+            byteSize.getAndAdd(jsonEvent.length);
+        } else {
+            metrics.updateAnalyticEventMetric(ANALYTICS_CODE, eventType, MetricName.dropped);
+        }
+    }
+
+    /**
+     * Appends scope field to the serialized event object. Events are not expected to have their own scope field.
+     */
+    private byte[] withScope(byte[] jsonEvent) {
+        final int objectEnd = lastIndexOf(jsonEvent, (byte) '}');
+        if (objectEnd == -1) {
+            throw new EncodeException("[pubstack] Event is not a JSON object");
+        }
+
+        final byte[] scope = scopeField;
+        final int separatorLength = isEmptyObject(jsonEvent, objectEnd) ? 0 : 1;
+        final byte[] result = new byte[jsonEvent.length + separatorLength + scope.length];
+
+        System.arraycopy(jsonEvent, 0, result, 0, objectEnd);
+        if (separatorLength > 0) {
+            result[objectEnd] = ',';
+        }
+        System.arraycopy(scope, 0, result, objectEnd + separatorLength, scope.length);
+        System.arraycopy(jsonEvent, objectEnd, result, objectEnd + separatorLength + scope.length,
+                jsonEvent.length - objectEnd);
+
+        return result;
+    }
+
+    private static int lastIndexOf(byte[] bytes, byte value) {
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
     }
 
-    private <T> boolean reportEventsOnCondition(Predicate<T> conditionToSend, T conditionValue) {
+    private static boolean isEmptyObject(byte[] jsonEvent, int objectEnd) {
+        for (int i = objectEnd - 1; i >= 0; i--) {
+            if (!Character.isWhitespace(jsonEvent[i])) {
+                return jsonEvent[i] == '{';
+            }
+        }
+        return false;
+    }
+
+    private byte[] scopeField(String scopeId) {
+        return (jacksonMapper.encodeToString(SCOPE_FIELD_NAME) + ":" + jacksonMapper.encodeToString(scopeId))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private boolean reportEventsOnCondition(BooleanSupplier conditionToSend) {
+        if (!conditionToSend.getAsBoolean()
+                || pendingRequests.get() >= maxPendingRequests
+                || !draining.compareAndSet(false, true)) {
+
+            return false;
+        }
+
         boolean requestWasSent = false;
-        if (conditionToSend.test(conditionValue)) {
-            lockOnSend.lock();
-            try {
-                if (conditionToSend.test(conditionValue)) {
-                    requestWasSent = true;
-                    sendEvents(events);
-                }
-            } catch (Exception exception) {
-                logger.error("[pubstack] Failed to send analytics report to endpoint {} with a reason {}",
-                        endpoint, exception.getMessage());
-            } finally {
-                lockOnSend.unlock();
+        try {
+            if (conditionToSend.getAsBoolean()) {
+                requestWasSent = true;
+                sendEvents();
             }
+        } catch (Exception exception) {
+            logger.error("[pubstack] Failed to send analytics report to endpoint {} with a reason {}",
+                    endpoint, exception.getMessage());
+        } finally {
+            draining.set(false);
         }
         return requestWasSent;
     }
 
-    private void sendEvents(AtomicReference<Queue<String>> events) {
+    private void sendEvents() {
         final String url = HttpUtil.validateUrl(endpoint);
-        final Queue<String> copyToSend = events.getAndSet(new ConcurrentLinkedQueue<>());
+        final byte[] body = drainToGzippedBytes();
 
         resetReportEventsConditions();
 
-        httpClient.request(HttpMethod.POST, url, headers, toGzippedBytes(copyToSend), timeoutMs)
-                .onComplete(this::handleReportResponse);
+        final Future<HttpClientResponse> response = httpClient.request(HttpMethod.POST, url, headers, body, timeoutMs);
+        pendingRequests.incrementAndGet();
+        response.onComplete(result -> {
+            pendingRequests.decrementAndGet();
+            handleReportResponse(result);
+        });
     }
 
     private void resetReportEventsConditions() {
-        byteSize.set(0);
         vertx.cancelTimer(reportTimerId);
         reportTimerId = setReportTtlTimer();
     }
 
-    private static byte[] toGzippedBytes(Queue<String> events) {
-        return gzip(String.join(NEW_LINE, events));
-    }
+    /**
+     * Compresses buffered events separated by new line into gzip format. Events arriving during the drain are
+     * left for the next report.
+     */
+    private byte[] drainToGzippedBytes() {
+        final int eventsToDrain = events.size();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(DEFLATE_CHUNK_SIZE);
+        output.writeBytes(GZIP_HEADER);
+        deflater.reset();
+        crc.reset();
 
-    private static byte[] gzip(String value) {
-        try (
-                ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
+        long inputSize = 0;
+        for (int i = 0; i < eventsToDrain; i++) {
+            final byte[] event = events.poll();
+            if (event == null) {
+                break;
+            }
 
-            gzip.write(value.getBytes(StandardCharsets.UTF_8));
-            gzip.finish();
+            if (i > 0) {
+                deflate(NEW_LINE, output);
+                inputSize += NEW_LINE.length;
+            }
+            deflate(event, output);
+            inputSize += event.length;
+            byteSize.getAndAdd(-event.length);
+        }
 
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException("[pubstack] failed to compress, skip the events : " + e.getMessage());
+        deflater.finish();
+        while (!deflater.finished()) {
+            output.write(deflateChunk, 0, deflater.deflate(deflateChunk));
         }
+        writeIntLittleEndian(output, (int) crc.getValue());
+        writeIntLittleEndian(output, (int) inputSize);
+
+        return output.toByteArray();
+    }
+
+    private void deflate(byte[] input, ByteArrayOutputStream output) {
+        crc.update(input);
+        deflater.setInput(input);
+        while (!deflater.needsInput()) {
+            output.write(deflateChunk, 0, deflater.deflate(deflateChunk));
+        }
+    }
+
+    private static void writeIntLittleEndian(ByteArrayOutputStream output, int value) {
+        output.write(value);
+        output.write(value >>> 8);
+        output.write(value >>> 16);
+        output.write(value >>> 24);
     }
 
     private void handleReportResponse(AsyncResult<HttpClientResponse> result) {
@@ -179,7 +300,7 @@ public class PubstackEventHandler {
     }
 
     private void sendOnTimer() {
-        final boolean requestWasSent = reportEventsOnCondition(events -> events.get().size() > 0, events);
+        final boolean requestWasSent = reportEventsOnCondition(() -> !events.isEmpty());
         if (!requestWasSent) {
             setReportTtlTimer();
         }
@@ -21,5 +21,7 @@ public class PubstackAnalyticsProperties {
 
     Long reportTtlMs;
 
+    Integer maxPendingRequests;
+
     Long timeoutMs;
 }
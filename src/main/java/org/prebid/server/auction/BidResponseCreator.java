@@ -24,6 +24,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.categorymapping.CategoryMappingService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionPhase;
 import org.prebid.server.auction.model.AuctionParticipation;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.BidRejectionTracker;
@@ -781,7 +782,7 @@ public class BidResponseCreator {
         final ExtDebugTrace extDebugTrace = toExtDebugTrace(auctionContext);
 
         return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace)
-                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace)
+                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace, null)
                 : null;
     }
 
@@ -809,7 +810,9 @@ public class BidResponseCreator {
                 .shouldCacheVideoBids(cacheInfo.isShouldCacheVideoBids())
                 .build();
 
-        return cacheService.cacheBidsOpenrtb(bidsValidToBeCached, auctionContext, cacheContext, eventsContext)
+        return auctionContext.getPhaseTimer()
+                .measure(AuctionPhase.cache, () -> cacheService.cacheBidsOpenrtb(
+                        bidsValidToBeCached, auctionContext, cacheContext, eventsContext))
                 .map(cacheResult -> addNotCachedBids(cacheResult, bidsToCache));
     }
 
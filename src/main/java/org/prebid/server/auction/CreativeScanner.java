@@ -0,0 +1,95 @@
+package org.prebid.server.auction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.auction.model.CreativeScanResult;
+import org.prebid.server.util.algorithms.MultiPatternMatcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Scans bid creatives for all registered markers in a single pass and remembers the result for the creative.
+ * <p>
+ * Components looking for substrings in the adm (response validation, richmedia filtering etc.) register their
+ * markers at startup and then share one scan per creative instead of searching the whole markup each.
+ * Result is remembered per adm instance, so it survives copying of the bid and is not reused once the markup is
+ * replaced by anybody; entries are dropped together with the creative.
+ */
+public class CreativeScanner {
+
+    private volatile Scanner scanner = new Scanner(Collections.emptyList());
+
+    /**
+     * Adds markers to be looked for by the following scans. Expected to be called on startup.
+     */
+    public synchronized void registerMarkers(Collection<String> markers) {
+        final Set<String> allMarkers = new LinkedHashSet<>(scanner.markers);
+        for (String marker : markers) {
+            if (marker != null && !marker.isEmpty()) {
+                allMarkers.add(marker);
+            }
+        }
+
+        if (allMarkers.size() != scanner.markers.size()) {
+            scanner = new Scanner(new ArrayList<>(allMarkers));
+        }
+    }
+
+    public CreativeScanResult scan(String adm) {
+        return adm != null ? scanner.scan(adm) : CreativeScanResult.empty();
+    }
+
+    /**
+     * Checks if adm contains given marker using the shared scan result if marker is registered.
+     */
+    public boolean contains(String adm, String marker) {
+        if (adm == null || marker == null) {
+            return false;
+        }
+
+        final Scanner current = scanner;
+        return current.isRegistered(marker) ? current.scan(adm).hasMarker(marker) : adm.contains(marker);
+    }
+
+    private static class Scanner {
+
+        private final List<String> markers;
+        private final Set<String> registeredMarkers;
+        private final MultiPatternMatcher matcher;
+        private final Cache<String, CreativeScanResult> results;
+
+        Scanner(List<String> markers) {
+            this.markers = markers;
+            this.registeredMarkers = new HashSet<>(markers);
+            this.matcher = new MultiPatternMatcher(markers);
+            this.results = Caffeine.newBuilder().weakKeys().build();
+        }
+
+        boolean isRegistered(String marker) {
+            return registeredMarkers.contains(marker);
+        }
+
+        CreativeScanResult scan(String adm) {
+            return results.get(adm, this::doScan);
+        }
+
+        private CreativeScanResult doScan(String adm) {
+            final Set<String> found = new HashSet<>();
+            int state = matcher.initialState();
+            for (int i = 0; i < adm.length(); i++) {
+                state = matcher.nextState(state, adm.charAt(i));
+                for (int marker : matcher.matchesAt(state)) {
+                    found.add(markers.get(marker));
+                }
+            }
+
+            return CreativeScanResult.of(found);
+        }
+    }
+}
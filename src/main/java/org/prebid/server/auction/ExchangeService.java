@@ -36,6 +36,7 @@ import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.AuctionPhase;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
@@ -43,6 +44,7 @@ import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.MultiBidConfig;
+import org.prebid.server.auction.model.PhaseTimer;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.auction.privacy.enforcement.PrivacyEnforcementService;
@@ -119,6 +121,7 @@ import org.prebid.server.proto.openrtb.ext.response.ExtModulesTraceGroup;
 import org.prebid.server.proto.openrtb.ext.response.ExtModulesTraceInvocationResult;
 import org.prebid.server.proto.openrtb.ext.response.ExtModulesTraceStage;
 import org.prebid.server.proto.openrtb.ext.response.ExtModulesTraceStageOutcome;
+import org.prebid.server.proto.openrtb.ext.response.ExtResponseDebug;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ObjectUtil;
@@ -135,11 +138,13 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -259,7 +264,9 @@ public class ExchangeService {
         return processAuctionRequest(context)
                 .compose(this::invokeResponseHooks)
                 .map(this::enrichWithHooksDebugInfo)
-                .map(this::updateHooksMetrics);
+                .map(this::updateHooksMetrics)
+                .map(this::enrichWithPhasesDebugInfo)
+                .map(this::updatePhasesMetrics);
     }
 
     private Future<AuctionContext> processAuctionRequest(AuctionContext context) {
@@ -286,7 +293,10 @@ public class ExchangeService {
         final Map<String, MultiBidConfig> bidderToMultiBid = bidderToMultiBids(bidRequest, debugWarnings);
         receivedContext.getBidRejectionTrackers().putAll(makeBidRejectionTrackers(bidRequest, aliases));
 
-        return storedResponseProcessor.getStoredResponseResult(bidRequest.getImp(), timeout)
+        final PhaseTimer phaseTimer = receivedContext.getPhaseTimer();
+
+        return phaseTimer.measure(AuctionPhase.stored_responses,
+                        () -> storedResponseProcessor.getStoredResponseResult(bidRequest.getImp(), timeout))
                 .map(storedResponseResult -> populateStoredResponse(storedResponseResult, storedAuctionResponses))
                 .compose(storedResponseResult -> extractAuctionParticipations(
                         receivedContext, storedResponseResult, aliases, bidderToMultiBid)
@@ -294,7 +304,7 @@ public class ExchangeService {
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
 
-                .compose(context -> CompositeFuture.join(
+                .compose(context -> phaseTimer.measure(AuctionPhase.bidder_requests, () -> CompositeFuture.join(
                                 context.getAuctionParticipations().stream()
                                         .map(auctionParticipation -> processAndRequestBids(
                                                 context,
@@ -302,28 +312,45 @@ public class ExchangeService {
                                                 timeout,
                                                 aliases)
                                                 .map(auctionParticipation::with))
-                                        .collect(Collectors.toCollection(ArrayList::new)))
+                                        .collect(Collectors.toCollection(ArrayList::new))))
                         // send all the requests to the bidders and gathers results
                         .map(CompositeFuture::<AuctionParticipation>list)
-                        .map(storedResponseProcessor::updateStoredBidResponse)
-                        .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
-                                auctionParticipations, storedAuctionResponses, bidRequest.getImp()))
-                        .map(auctionParticipations -> dropZeroNonDealBids(auctionParticipations, debugWarnings))
-                        .map(auctionParticipations -> validateAndAdjustBids(auctionParticipations, context, aliases))
-                        .map(auctionParticipations -> updateResponsesMetrics(auctionParticipations, account, aliases))
+                        .map(auctionParticipations -> processAuctionParticipations(
+                                auctionParticipations, storedAuctionResponses, context, aliases))
                         .map(context::with))
                 // produce response from bidder results
-                .compose(context -> bidResponseCreator.create(context, cacheInfo, bidderToMultiBid)
-                        .map(bidResponse -> criteriaLogManager.traceResponse(
-                                logger,
-                                bidResponse,
-                                context.getBidRequest(),
-                                context.getDebugContext().isDebugEnabled()))
-                        .compose(bidResponse -> bidResponsePostProcessor.postProcess(
-                                context.getHttpRequest(), uidsCookie, bidRequest, bidResponse, account))
+                .compose(context -> phaseTimer.measure(AuctionPhase.response_creation, () -> bidResponseCreator
+                                .create(context, cacheInfo, bidderToMultiBid)
+                                .map(bidResponse -> criteriaLogManager.traceResponse(
+                                        logger,
+                                        bidResponse,
+                                        context.getBidRequest(),
+                                        context.getDebugContext().isDebugEnabled()))
+                                .compose(bidResponse -> bidResponsePostProcessor.postProcess(
+                                        context.getHttpRequest(), uidsCookie, bidRequest, bidResponse, account)))
                         .map(context::with));
     }
 
+    private List<AuctionParticipation> processAuctionParticipations(List<AuctionParticipation> auctionParticipations,
+                                                                    List<SeatBid> storedAuctionResponses,
+                                                                    AuctionContext context,
+                                                                    BidderAliases aliases) {
+
+        final long startNanos = System.nanoTime();
+
+        final List<AuctionParticipation> updatedParticipations = storedResponseProcessor.mergeWithBidderResponses(
+                storedResponseProcessor.updateStoredBidResponse(auctionParticipations),
+                storedAuctionResponses,
+                context.getBidRequest().getImp());
+        final List<AuctionParticipation> validParticipations = validateAndAdjustBids(
+                dropZeroNonDealBids(updatedParticipations, context.getDebugWarnings()), context, aliases);
+        final List<AuctionParticipation> result =
+                updateResponsesMetrics(validParticipations, context.getAccount(), aliases);
+
+        context.getPhaseTimer().record(AuctionPhase.bids_processing, startNanos);
+        return result;
+    }
+
     private BidderAliases aliases(BidRequest bidRequest) {
         final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
         final Map<String, String> aliases = prebid != null ? prebid.getAliases() : null;
@@ -593,7 +620,9 @@ public class ExchangeService {
         final Map<String, User> bidderToUser =
                 prepareUsers(bidders, context, aliases, biddersToConfigs, eidPermissions);
 
-        return privacyEnforcementService.mask(context, bidderToUser, aliases)
+        return context.getPhaseTimer()
+                .measure(AuctionPhase.privacy_enforcement,
+                        () -> privacyEnforcementService.mask(context, bidderToUser, aliases))
                 .map(bidderToPrivacyResult -> getAuctionParticipation(
                         bidderToPrivacyResult,
                         bidRequest,
@@ -1305,7 +1334,6 @@ public class ExchangeService {
             Timeout timeout,
             BidderAliases aliases) {
 
-        httpInteractionLogger.maybeLogBidderRequest(auctionContext, bidderRequest);
         if (hookStageResult.isShouldReject()) {
             auctionContext.getBidRejectionTrackers()
                     .get(bidderRequest.getBidder())
@@ -1317,7 +1345,10 @@ public class ExchangeService {
         final BidderRequest enrichedBidderRequest = bidderRequest.toBuilder()
                 .bidRequest(hookStageResult.getPayload().bidRequest())
                 .build();
-        return requestBids(enrichedBidderRequest, auctionContext, timeout, aliases);
+        httpInteractionLogger.maybeLogBidderRequest(auctionContext, enrichedBidderRequest);
+        return requestBids(enrichedBidderRequest, auctionContext, timeout, aliases)
+                .onSuccess(bidderResponse ->
+                        httpInteractionLogger.maybeLogBidderResponse(enrichedBidderRequest, bidderResponse));
     }
 
     /**
@@ -1900,6 +1931,38 @@ public class ExchangeService {
         return context;
     }
 
+    private AuctionContext enrichWithPhasesDebugInfo(AuctionContext context) {
+        final BidResponse bidResponse = context.getBidResponse();
+        final ExtBidResponse ext = bidResponse != null ? bidResponse.getExt() : null;
+        final ExtResponseDebug extDebug = ext != null ? ext.getDebug() : null;
+        if (extDebug == null || !context.getDebugContext().isDebugEnabled()) {
+            return context;
+        }
+
+        final Map<String, Long> phases = context.getPhaseTimer().durations().entrySet().stream()
+                .collect(Collectors.toMap(
+                        entry -> entry.getKey().name(),
+                        entry -> TimeUnit.NANOSECONDS.toMicros(entry.getValue()),
+                        (first, second) -> second,
+                        LinkedHashMap::new));
+
+        final ExtResponseDebug updatedExtDebug = ExtResponseDebug.of(
+                extDebug.getHttpcalls(), extDebug.getResolvedrequest(), extDebug.getTrace(), phases);
+        final BidResponse updatedBidResponse = bidResponse.toBuilder()
+                .ext(ext.toBuilder().debug(updatedExtDebug).build())
+                .build();
+
+        return context.with(updatedBidResponse);
+    }
+
+    private AuctionContext updatePhasesMetrics(AuctionContext context) {
+        final Account account = context.getAccount();
+        context.getPhaseTimer().durations()
+                .forEach((phase, duration) -> metrics.updateAuctionPhaseMetric(account, phase, duration));
+
+        return context;
+    }
+
     private void updateHooksStageMetrics(Account account, Stage stage, List<StageExecutionOutcome> stageOutcomes) {
         stageOutcomes.stream()
                 .flatMap(stageOutcome -> stageOutcome.getGroups().stream())
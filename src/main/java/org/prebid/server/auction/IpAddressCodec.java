@@ -0,0 +1,231 @@
+package org.prebid.server.auction;
+
+/**
+ * Parses and formats IP addresses in their plain textual forms as primitive values.
+ * <p>
+ * IPv4 address is a dotted quad of decimal octets, returned as a non-negative long. IPv6 address is eight colon
+ * separated groups of hex digits with optional {@code ::} compression, returned as the higher and lower 64 bits.
+ * Any other notation (embedded IPv4, zone, prefix length, brackets, whitespace, etc.) is reported as not parsed,
+ * so that the caller could fall back to the complete parser.
+ */
+final class IpAddressCodec {
+
+    static final long NOT_PARSED = -1L;
+
+    private static final int IPV6_GROUPS = 8;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private IpAddressCodec() {
+    }
+
+    /**
+     * Returns {@link #NOT_PARSED} if given string is not a dotted quad. Octets with leading zeros are accepted only
+     * if asked for, since some parsers treat them as octal numbers.
+     */
+    static long parseIpv4(String ip, boolean allowLeadingZeros) {
+        final int length = ip.length();
+        long result = 0;
+        int octets = 0;
+        int position = 0;
+
+        while (position < length && octets < 4) {
+            int octet = 0;
+            int digits = 0;
+            final int start = position;
+            while (position < length && digits <= 3) {
+                final int digit = ip.charAt(position) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                octet = octet * 10 + digit;
+                digits++;
+                position++;
+            }
+
+            if (digits == 0 || digits > 3 || octet > 255
+                    || (!allowLeadingZeros && digits > 1 && ip.charAt(start) == '0')) {
+
+                return NOT_PARSED;
+            }
+
+            result = (result << 8) | octet;
+            octets++;
+
+            if (octets < 4) {
+                if (position >= length || ip.charAt(position) != '.') {
+                    return NOT_PARSED;
+                }
+                position++;
+            }
+        }
+
+        return octets == 4 && position == length ? result : NOT_PARSED;
+    }
+
+    /**
+     * Writes higher and lower 64 bits of the address into the given array and returns true if given string is
+     * a plain IPv6 address.
+     */
+    static boolean parseIpv6(String ip, long[] result) {
+        final int length = ip.length();
+        if (length < 2) {
+            return false;
+        }
+
+        // groups are shifted in from the right as they come, zero groups of compression are inserted at the end
+        long high = 0;
+        long low = 0;
+        int groupsCount = 0;
+        int compressionIndex = -1;
+        int position = 0;
+
+        if (ip.charAt(0) == ':') {
+            if (ip.charAt(1) != ':') {
+                return false;
+            }
+            compressionIndex = 0;
+            position = 2;
+        }
+
+        while (position < length) {
+            if (groupsCount == IPV6_GROUPS) {
+                return false;
+            }
+
+            int group = 0;
+            int digits = 0;
+            int digit;
+            while (position < length && digits <= 4 && (digit = hexDigit(ip.charAt(position))) >= 0) {
+                group = (group << 4) | digit;
+                digits++;
+                position++;
+            }
+            if (digits == 0 || digits > 4) {
+                return false;
+            }
+
+            high = (high << 16) | (low >>> 48);
+            low = (low << 16) | group;
+            groupsCount++;
+
+            if (position == length) {
+                break;
+            }
+            if (ip.charAt(position) != ':' || position + 1 == length) {
+                return false;
+            }
+            position++;
+
+            if (ip.charAt(position) == ':') {
+                if (compressionIndex >= 0) {
+                    return false;
+                }
+                compressionIndex = groupsCount;
+                position++;
+            }
+        }
+
+        if (compressionIndex < 0) {
+            if (groupsCount != IPV6_GROUPS) {
+                return false;
+            }
+        } else {
+            if (groupsCount == IPV6_GROUPS) {
+                return false;
+            }
+
+            final int tailBits = (groupsCount - compressionIndex) * 16;
+            final long tailHigh = tailBits > 64 ? high & ((1L << (tailBits - 64)) - 1) : 0;
+            final long tailLow = tailBits >= 64 ? low : low & ((1L << tailBits) - 1);
+
+            final int shift = (IPV6_GROUPS - groupsCount) * 16;
+            final long headHigh = high & ~tailHigh;
+            final long headLow = low & ~tailLow;
+            if (shift >= 64) {
+                high = shift < 128 ? headLow << (shift - 64) : 0;
+                low = 0;
+            } else {
+                high = (headHigh << shift) | (headLow >>> (64 - shift));
+                low = headLow << shift;
+            }
+            high |= tailHigh;
+            low |= tailLow;
+        }
+
+        result[0] = high;
+        result[1] = low;
+        return true;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Formats IPv6 address in canonical form: lowercase groups without leading zeros, with the first longest run of
+     * at least two zero groups compressed.
+     */
+    static String formatIpv6(long high, long low) {
+        int compressionStart = -1;
+        int compressionLength = 1;
+        int runStart = -1;
+        for (int i = 0; i < IPV6_GROUPS; i++) {
+            if (group(high, low, i) == 0) {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+                if (i - runStart + 1 > compressionLength) {
+                    compressionStart = runStart;
+                    compressionLength = i - runStart + 1;
+                }
+            } else {
+                runStart = -1;
+            }
+        }
+
+        final char[] chars = new char[39];
+        int length = 0;
+        for (int i = 0; i < IPV6_GROUPS; i++) {
+            if (i == compressionStart) {
+                chars[length++] = ':';
+                if (i == 0) {
+                    chars[length++] = ':';
+                }
+                i += compressionLength - 1;
+                continue;
+            }
+
+            length = appendHex(chars, length, group(high, low, i));
+            if (i < IPV6_GROUPS - 1) {
+                chars[length++] = ':';
+            }
+        }
+
+        return new String(chars, 0, length);
+    }
+
+    private static int group(long high, long low, int index) {
+        final long half = index < IPV6_GROUPS / 2 ? high : low;
+        return (int) (half >>> ((IPV6_GROUPS / 2 - 1 - index % (IPV6_GROUPS / 2)) * 16)) & 0xffff;
+    }
+
+    private static int appendHex(char[] chars, int position, int value) {
+        int shift = 12;
+        while (shift > 0 && (value >>> shift) == 0) {
+            shift -= 4;
+        }
+        for (; shift >= 0; shift -= 4) {
+            chars[position++] = HEX_DIGITS[(value >>> shift) & 0xf];
+        }
+        return position;
+    }
+}
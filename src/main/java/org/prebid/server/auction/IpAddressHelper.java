@@ -4,12 +4,12 @@ import inet.ipaddr.AddressStringException;
 import inet.ipaddr.IPAddress;
 import inet.ipaddr.IPAddressString;
 import inet.ipaddr.IPAddressStringParameters;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.util.InetAddressUtils;
 import org.prebid.server.auction.model.IpAddress;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
 
 public class IpAddressHelper {
@@ -22,10 +22,25 @@ public class IpAddressHelper {
                     .allowEmpty(false)
                     .toParams();
 
+    // addresses the library treats as local, loopback, multicast or max one
+    private static final long[] IPV4_NON_PUBLIC_RANGES = ranges(
+            "0.0.0.0/32", "10.0.0.0/8", "127.0.0.0/8", "169.254.0.0/16", "172.16.0.0/12", "192.168.0.0/16",
+            "224.0.0.0/4", "255.255.255.255/32");
+    private static final long[] IPV6_NON_PUBLIC_RANGES = ranges(
+            "::/127", "fc00::/7", "fe80::/9", "ff00::/8");
+
     private final IPAddress ipv6AlwaysMaskAddress;
     private final IPAddress ipv6AnonLeftMaskAddress;
     private final List<IPAddress> ipv6LocalNetworkMaskAddresses;
 
+    private final long ipv6AlwaysMaskHigh;
+    private final long ipv6AlwaysMaskLow;
+    private final long ipv6AnonLeftMaskHigh;
+    private final long ipv6AnonLeftMaskLow;
+    private final long[] ipv4LocalNetworkRanges;
+    private final long[] ipv6LocalNetworkRanges;
+    private final boolean localNetworksCompiled;
+
     public IpAddressHelper(int ipv6AlwaysMaskBits, int ipv6AnonLeftMaskBits, List<String> ipv6LocalNetworks) {
         ipv6AlwaysMaskAddress =
                 toAddress("::/" + validateIpv6AlwaysMaskBits(ipv6AlwaysMaskBits)).getNetworkMask();
@@ -34,9 +49,36 @@ public class IpAddressHelper {
         ipv6LocalNetworkMaskAddresses = ipv6LocalNetworks.stream()
                 .map(this::toAddress)
                 .toList();
+
+        ipv6AlwaysMaskHigh = networkMaskHigh(ipv6AlwaysMaskBits);
+        ipv6AlwaysMaskLow = networkMaskLow(ipv6AlwaysMaskBits);
+        ipv6AnonLeftMaskHigh = networkMaskHigh(ipv6AnonLeftMaskBits);
+        ipv6AnonLeftMaskLow = networkMaskLow(ipv6AnonLeftMaskBits);
+
+        // networks which are not contiguous ranges are left to the library
+        localNetworksCompiled = ipv6LocalNetworkMaskAddresses.stream().allMatch(IPAddress::isSequential);
+        ipv4LocalNetworkRanges = ranges(ipv6LocalNetworkMaskAddresses.stream().filter(IPAddress::isIPv4).toList());
+        ipv6LocalNetworkRanges = ranges(ipv6LocalNetworkMaskAddresses.stream().filter(IPAddress::isIPv6).toList());
     }
 
+    /**
+     * Returns anonymized address if given string is IPv6 address, null otherwise.
+     * <p>
+     * Plain IPv4 and IPv6 notations are handled with primitive arithmetic, other ones are left to the library.
+     */
     public String anonymizeIpv6(String ip) {
+        if (ip == null) {
+            return null;
+        }
+
+        final long[] ipv6 = new long[2];
+        if (IpAddressCodec.parseIpv6(ip, ipv6)) {
+            return IpAddressCodec.formatIpv6(ipv6[0] & ipv6AnonLeftMaskHigh, ipv6[1] & ipv6AnonLeftMaskLow);
+        }
+        if (IpAddressCodec.parseIpv4(ip, true) != IpAddressCodec.NOT_PARSED) {
+            return null;
+        }
+
         try {
             final IPAddressString ipAddressString = new IPAddressString(ip);
             return ipAddressString.isIPv6()
@@ -48,7 +90,35 @@ public class IpAddressHelper {
         }
     }
 
+    /**
+     * Returns public address (masked if it is IPv6) or null if given string is not public IP address.
+     * <p>
+     * Plain IPv4 and IPv6 notations are handled with primitive arithmetic, other ones are left to the library.
+     */
     public IpAddress toIpAddress(String ip) {
+        if (ip != null && localNetworksCompiled) {
+            final long ipv4 = IpAddressCodec.parseIpv4(ip, false);
+            if (ipv4 != IpAddressCodec.NOT_PARSED) {
+                return isIpv4Public(ipv4) ? IpAddress.of(ip, IpAddress.IP.v4) : null;
+            }
+
+            final long[] ipv6 = new long[2];
+            if (IpAddressCodec.parseIpv6(ip, ipv6)) {
+                if (!isIpv6Public(ipv6[0], ipv6[1])) {
+                    return null;
+                }
+
+                final String maskedIp = IpAddressCodec.formatIpv6(
+                        ipv6[0] & ipv6AlwaysMaskHigh,
+                        ipv6[1] & ipv6AlwaysMaskLow);
+                return IpAddress.of(maskedIp, IpAddress.IP.v6);
+            }
+        }
+
+        return toIpAddressByLibrary(ip);
+    }
+
+    private IpAddress toIpAddressByLibrary(String ip) {
         final IPAddress ipAddress = toIpAddressInternal(ip);
 
         if (ipAddress == null) {
@@ -73,20 +143,15 @@ public class IpAddressHelper {
     }
 
     public String maskIpv4(String ip) {
-        if (StringUtils.isBlank(ip) || !InetAddressUtils.isIPv4Address(ip)) {
-            return ip;
-        }
-
-        String maskedIp = ip;
-        final int lastDotIndex = maskedIp.lastIndexOf(".");
-        if (lastDotIndex != -1) {
-            maskedIp = maskedIp.substring(0, lastDotIndex);
-        } else {
-            // ip is malformed
+        if (ip == null || IpAddressCodec.parseIpv4(ip, false) == IpAddressCodec.NOT_PARSED) {
             return ip;
         }
 
-        return maskedIp + ".0";
+        final int lastDotIndex = ip.lastIndexOf('.');
+        return new StringBuilder(lastDotIndex + 2)
+                .append(ip, 0, lastDotIndex)
+                .append(".0")
+                .toString();
     }
 
     private String maskIpv6(IPAddress ipAddress) {
@@ -129,6 +194,59 @@ public class IpAddressHelper {
         }
     }
 
+    private boolean isIpv4Public(long ip) {
+        return !inRanges(IPV4_NON_PUBLIC_RANGES, 0, ip) && !inRanges(ipv4LocalNetworkRanges, 0, ip);
+    }
+
+    private boolean isIpv6Public(long high, long low) {
+        return !inRanges(IPV6_NON_PUBLIC_RANGES, high, low) && !inRanges(ipv6LocalNetworkRanges, high, low);
+    }
+
+    /**
+     * Ranges are stored as (lower high, lower low, upper high, upper low) quadruples of unsigned values.
+     */
+    private static boolean inRanges(long[] ranges, long high, long low) {
+        for (int i = 0; i < ranges.length; i += 4) {
+            if (compare(high, low, ranges[i], ranges[i + 1]) >= 0
+                    && compare(high, low, ranges[i + 2], ranges[i + 3]) <= 0) {
+
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int compare(long high, long low, long otherHigh, long otherLow) {
+        final int result = Long.compareUnsigned(high, otherHigh);
+        return result != 0 ? result : Long.compareUnsigned(low, otherLow);
+    }
+
+    private static long networkMaskHigh(int bits) {
+        return bits >= 64 ? -1L : -1L << (64 - bits);
+    }
+
+    private static long networkMaskLow(int bits) {
+        return bits <= 64 ? 0L : -1L << (128 - bits);
+    }
+
+    private static long[] ranges(String... networks) {
+        return ranges(Arrays.stream(networks).map(IpAddressHelper::toIpAddressInternal).toList());
+    }
+
+    private static long[] ranges(List<IPAddress> networks) {
+        final long[] ranges = new long[networks.size() * 4];
+        for (int i = 0; i < networks.size(); i++) {
+            final IPAddress network = networks.get(i);
+            final BigInteger lower = network.getLower().getValue();
+            final BigInteger upper = network.getUpper().getValue();
+            ranges[i * 4] = lower.shiftRight(64).longValue();
+            ranges[i * 4 + 1] = lower.longValue();
+            ranges[i * 4 + 2] = upper.shiftRight(64).longValue();
+            ranges[i * 4 + 3] = upper.longValue();
+        }
+        return ranges;
+    }
+
     private boolean isIpPublic(IPAddress ipAddress) {
         return ipAddress != null
                 && !ipAddress.isLocal()
@@ -0,0 +1,21 @@
+package org.prebid.server.auction.model;
+
+/**
+ * Pipeline phases of a single auction tracked by {@link PhaseTimer}.
+ * <p>
+ * Phases may nest (e.g. hooks run inside the request factory, cache runs inside the response creation),
+ * so durations are not expected to add up to the total request time.
+ */
+public enum AuctionPhase {
+
+    request_factory,
+    stored_requests,
+    privacy_context,
+    hooks,
+    stored_responses,
+    privacy_enforcement,
+    bidder_requests,
+    bids_processing,
+    cache,
+    response_creation
+}
@@ -0,0 +1,34 @@
+package org.prebid.server.auction.model;
+
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.Set;
+
+@Value(staticConstructor = "of")
+public class CreativeScanResult {
+
+    private static final CreativeScanResult EMPTY = CreativeScanResult.of(Collections.emptySet());
+
+    /**
+     * Registered markers found in the creative.
+     */
+    Set<String> markers;
+
+    public static CreativeScanResult empty() {
+        return EMPTY;
+    }
+
+    public boolean hasMarker(String marker) {
+        return markers.contains(marker);
+    }
+
+    public boolean hasAnyMarker(String... markers) {
+        for (String marker : markers) {
+            if (hasMarker(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package org.prebid.server.auction.model;
+
+import io.vertx.core.Future;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates time spent in each {@link AuctionPhase} of a single auction.
+ * <p>
+ * Auction is processed on a single event loop, so no synchronization is used here. Durations of the phases that
+ * were entered several times (e.g. hooks of different stages or bidders) are summed up.
+ */
+public class PhaseTimer {
+
+    private static final AuctionPhase[] PHASES = AuctionPhase.values();
+
+    private final long[] durations = new long[PHASES.length];
+    private int recordedPhases;
+
+    /**
+     * Adds time elapsed since given start (obtained from {@link System#nanoTime()}) to the given phase.
+     */
+    public void record(AuctionPhase phase, long phaseStartNanos) {
+        final int index = phase.ordinal();
+        durations[index] += Math.max(System.nanoTime() - phaseStartNanos, 0L);
+        recordedPhases |= 1 << index;
+    }
+
+    /**
+     * Runs given action and adds time elapsed until its {@link Future} completes to the given phase.
+     */
+    public <T> Future<T> measure(AuctionPhase phase, Supplier<Future<T>> action) {
+        final long phaseStartNanos = System.nanoTime();
+        return action.get().onComplete(ignored -> record(phase, phaseStartNanos));
+    }
+
+    /**
+     * Returns durations in nanoseconds of the recorded phases only.
+     */
+    public Map<AuctionPhase, Long> durations() {
+        if (recordedPhases == 0) {
+            return Collections.emptyMap();
+        }
+
+        final Map<AuctionPhase, Long> result = new EnumMap<>(AuctionPhase.class);
+        for (AuctionPhase phase : PHASES) {
+            if ((recordedPhases & (1 << phase.ordinal())) != 0) {
+                result.put(phase, durations[phase.ordinal()]);
+            }
+        }
+        return result;
+    }
+}
@@ -6,6 +6,7 @@ import com.iab.openrtb.request.Geo;
 import com.iab.openrtb.request.Regs;
 import com.iab.openrtb.request.User;
 import io.vertx.core.Future;
+import lombok.Value;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
@@ -14,6 +15,7 @@ import org.prebid.server.activity.infrastructure.payload.impl.ActivityInvocation
 import org.prebid.server.activity.infrastructure.payload.impl.PrivacyEnforcementServiceActivityInvocationPayload;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.privacy.enforcement.mask.MaskingMemo;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdActivityMask;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 
@@ -32,11 +34,16 @@ public class ActivityEnforcement {
     public Future<List<BidderPrivacyResult>> enforce(List<BidderPrivacyResult> bidderPrivacyResults,
                                                      AuctionContext auctionContext) {
 
+        final MaskingMemo<User> maskedUsers = new MaskingMemo<>();
+        final MaskingMemo<Device> maskedDevices = new MaskingMemo<>();
+
         final List<BidderPrivacyResult> results = bidderPrivacyResults.stream()
                 .map(bidderPrivacyResult -> applyActivityRestrictions(
                         bidderPrivacyResult,
                         auctionContext.getActivityInfrastructure(),
-                        auctionContext.getBidRequest()))
+                        auctionContext.getBidRequest(),
+                        maskedUsers,
+                        maskedDevices))
                 .toList();
 
         return Future.succeededFuture(results);
@@ -44,7 +51,9 @@ public class ActivityEnforcement {
 
     private BidderPrivacyResult applyActivityRestrictions(BidderPrivacyResult bidderPrivacyResult,
                                                           ActivityInfrastructure infrastructure,
-                                                          BidRequest bidRequest) {
+                                                          BidRequest bidRequest,
+                                                          MaskingMemo<User> maskedUsers,
+                                                          MaskingMemo<Device> maskedDevices) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
         final User user = bidderPrivacyResult.getUser();
@@ -57,15 +66,21 @@ public class ActivityEnforcement {
         final boolean disallowTransmitEids = !infrastructure.isAllowed(Activity.TRANSMIT_EIDS, payload);
         final boolean disallowTransmitGeo = !infrastructure.isAllowed(Activity.TRANSMIT_GEO, payload);
 
-        final User resolvedUser = userFpdActivityMask.maskUser(
+        final User resolvedUser = maskedUsers.mask(
                 user,
-                disallowTransmitUfpd,
-                disallowTransmitEids,
-                disallowTransmitGeo);
-        final Device resolvedDevice = userFpdActivityMask.maskDevice(
+                UserMaskActions.of(disallowTransmitUfpd, disallowTransmitEids, disallowTransmitGeo),
+                () -> userFpdActivityMask.maskUser(
+                        user,
+                        disallowTransmitUfpd,
+                        disallowTransmitEids,
+                        disallowTransmitGeo));
+        final Device resolvedDevice = maskedDevices.mask(
                 device,
-                disallowTransmitUfpd,
-                disallowTransmitGeo);
+                DeviceMaskActions.of(disallowTransmitUfpd, disallowTransmitGeo),
+                () -> userFpdActivityMask.maskDevice(
+                        device,
+                        disallowTransmitUfpd,
+                        disallowTransmitGeo));
 
         return bidderPrivacyResult.toBuilder()
                 .user(resolvedUser)
@@ -86,4 +101,22 @@ public class ActivityEnforcement {
                         .map(ExtRegs::getGpc)
                         .orElse(null));
     }
+
+    @Value(staticConstructor = "of")
+    private static class UserMaskActions {
+
+        boolean disallowTransmitUfpd;
+
+        boolean disallowTransmitEids;
+
+        boolean disallowTransmitGeo;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class DeviceMaskActions {
+
+        boolean disallowTransmitUfpd;
+
+        boolean disallowTransmitGeo;
+    }
 }
@@ -8,6 +8,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.privacy.enforcement.mask.MaskingMemo;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdCcpaMask;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.metric.MetricName;
@@ -114,12 +115,17 @@ public class CcpaEnforcement {
 
     private List<BidderPrivacyResult> maskCcpa(Map<String, User> bidderToUser, Set<String> bidders, Device device) {
         final Device maskedDevice = userFpdCcpaMask.maskDevice(device);
+        final MaskingMemo<User> maskedUsers = new MaskingMemo<>();
         return bidders.stream()
                 .map(bidder -> BidderPrivacyResult.builder()
                         .requestBidder(bidder)
-                        .user(userFpdCcpaMask.maskUser(bidderToUser.get(bidder)))
+                        .user(maskUser(bidderToUser.get(bidder), maskedUsers))
                         .device(maskedDevice)
                         .build())
                 .toList();
     }
+
+    private User maskUser(User user, MaskingMemo<User> maskedUsers) {
+        return maskedUsers.mask(user, () -> userFpdCcpaMask.maskUser(user));
+    }
 }
@@ -5,6 +5,7 @@ import com.iab.openrtb.request.User;
 import io.vertx.core.Future;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.privacy.enforcement.mask.MaskingMemo;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdCoppaMask;
 import org.prebid.server.metric.Metrics;
 
@@ -33,12 +34,17 @@ public class CoppaEnforcement {
 
     private List<BidderPrivacyResult> results(Map<String, User> bidderToUser, Device device) {
         final Device maskedDevice = userFpdCoppaMask.maskDevice(device);
+        final MaskingMemo<User> maskedUsers = new MaskingMemo<>();
         return bidderToUser.entrySet().stream()
                 .map(bidderAndUser -> BidderPrivacyResult.builder()
                         .requestBidder(bidderAndUser.getKey())
-                        .user(userFpdCoppaMask.maskUser(bidderAndUser.getValue()))
+                        .user(maskUser(bidderAndUser.getValue(), maskedUsers))
                         .device(maskedDevice)
                         .build())
                 .toList();
     }
+
+    private User maskUser(User user, MaskingMemo<User> maskedUsers) {
+        return maskedUsers.mask(user, () -> userFpdCoppaMask.maskUser(user));
+    }
 }
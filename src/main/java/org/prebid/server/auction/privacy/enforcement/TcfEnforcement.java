@@ -3,11 +3,13 @@ package org.prebid.server.auction.privacy.enforcement;
 import com.iab.openrtb.request.Device;
 import com.iab.openrtb.request.User;
 import io.vertx.core.Future;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.privacy.enforcement.mask.MaskingMemo;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdTcfMask;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.log.Logger;
@@ -162,6 +164,8 @@ public class TcfEnforcement {
                                                             Device device) {
 
         final boolean isLmtEnabled = isLmtEnforcedAndEnabled(device);
+        final MaskingMemo<User> maskedUsers = new MaskingMemo<>();
+        final MaskingMemo<Device> maskedDevices = new MaskingMemo<>();
 
         return bidders.stream()
                 .map(bidder -> createBidderPrivacyResult(
@@ -169,7 +173,9 @@ public class TcfEnforcement {
                         bidderToUser.get(bidder),
                         device,
                         bidderToEnforcement,
-                        isLmtEnabled))
+                        isLmtEnabled,
+                        maskedUsers,
+                        maskedDevices))
                 .toList();
     }
 
@@ -177,7 +183,9 @@ public class TcfEnforcement {
                                                           User user,
                                                           Device device,
                                                           Map<String, PrivacyEnforcementAction> bidderToEnforcement,
-                                                          boolean isLmtEnabled) {
+                                                          boolean isLmtEnabled,
+                                                          MaskingMemo<User> maskedUsers,
+                                                          MaskingMemo<Device> maskedDevices) {
 
         final PrivacyEnforcementAction privacyEnforcementAction = bidderToEnforcement.get(bidder);
         final boolean blockBidderRequest = privacyEnforcementAction.isBlockBidderRequest();
@@ -194,11 +202,17 @@ public class TcfEnforcement {
         final boolean maskUserIds = privacyEnforcementAction.isRemoveUserIds() || isLmtEnabled;
         final boolean maskGeo = privacyEnforcementAction.isMaskGeo() || isLmtEnabled;
         final Set<String> eidExceptions = privacyEnforcementAction.getEidExceptions();
-        final User maskedUser = userFpdTcfMask.maskUser(user, maskUserFpd, maskUserIds, maskGeo, eidExceptions);
+        final User maskedUser = maskedUsers.mask(
+                user,
+                UserMaskActions.of(maskUserFpd, maskUserIds, maskGeo, eidExceptions),
+                () -> userFpdTcfMask.maskUser(user, maskUserFpd, maskUserIds, maskGeo, eidExceptions));
 
         final boolean maskIp = privacyEnforcementAction.isMaskDeviceIp() || isLmtEnabled;
         final boolean maskDeviceInfo = privacyEnforcementAction.isMaskDeviceInfo() || isLmtEnabled;
-        final Device maskedDevice = userFpdTcfMask.maskDevice(device, maskIp, maskGeo, maskDeviceInfo);
+        final Device maskedDevice = maskedDevices.mask(
+                device,
+                DeviceMaskActions.of(maskIp, maskGeo, maskDeviceInfo),
+                () -> userFpdTcfMask.maskDevice(device, maskIp, maskGeo, maskDeviceInfo));
 
         return BidderPrivacyResult.builder()
                 .requestBidder(bidder)
@@ -207,4 +221,26 @@ public class TcfEnforcement {
                 .blockedAnalyticsByTcf(blockAnalyticsReport)
                 .build();
     }
+
+    @Value(staticConstructor = "of")
+    private static class UserMaskActions {
+
+        boolean maskUserFpd;
+
+        boolean maskUserIds;
+
+        boolean maskGeo;
+
+        Set<String> eidExceptions;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class DeviceMaskActions {
+
+        boolean maskIp;
+
+        boolean maskGeo;
+
+        boolean maskDeviceInfo;
+    }
 }
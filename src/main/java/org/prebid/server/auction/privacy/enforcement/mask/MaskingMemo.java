@@ -0,0 +1,38 @@
+package org.prebid.server.auction.privacy.enforcement.mask;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Remembers objects masked within one privacy enforcement call, so that bidders ending up with the same
+ * masking actions for the same object share one masked copy instead of masking it once per bidder.
+ * <p>
+ * Original objects are compared by identity (they are either taken from the request as is or prepared per bidder),
+ * masking actions - by equality. Not thread-safe, is supposed to be created per call.
+ */
+public class MaskingMemo<T> {
+
+    private final Map<T, Map<Object, T>> originalToMasked = new IdentityHashMap<>();
+
+    public T mask(T original, Supplier<T> masker) {
+        return mask(original, Boolean.TRUE, masker);
+    }
+
+    public T mask(T original, Object actions, Supplier<T> masker) {
+        if (original == null) {
+            return masker.get();
+        }
+
+        final Map<Object, T> actionsToMasked = originalToMasked.computeIfAbsent(original, key -> new HashMap<>());
+        final T masked = actionsToMasked.get(actions);
+        if (masked != null) {
+            return masked;
+        }
+
+        final T newMasked = masker.get();
+        actionsToMasked.put(actions, newMasked);
+        return newMasked;
+    }
+}
@@ -26,6 +26,7 @@ import org.prebid.server.auction.PriceGranularity;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.gpp.AmpGppService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionPhase;
 import org.prebid.server.auction.model.ConsentType;
 import org.prebid.server.auction.privacy.contextfactory.AmpPrivacyContextFactory;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
@@ -130,6 +131,7 @@ public class AmpRequestFactory {
      * Creates {@link AuctionContext} based on {@link RoutingContext}.
      */
     public Future<AuctionContext> fromRequest(RoutingContext routingContext, long startTime) {
+        final long startNanos = System.nanoTime();
         final String body = routingContext.getBodyAsString();
 
         final AuctionContext initialAuctionContext = ortb2RequestFactory.createAuctionContext(
@@ -161,7 +163,9 @@ public class AmpRequestFactory {
                 .compose(auctionContext -> updateBidRequest(auctionContext)
                         .map(auctionContext::with))
 
-                .compose(auctionContext -> ampPrivacyContextFactory.contextFrom(auctionContext)
+                .compose(auctionContext -> auctionContext.getPhaseTimer()
+                        .measure(AuctionPhase.privacy_context,
+                                () -> ampPrivacyContextFactory.contextFrom(auctionContext))
                         .map(auctionContext::with))
 
                 .compose(auctionContext -> ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)
@@ -174,6 +178,8 @@ public class AmpRequestFactory {
 
                 .map(ortb2RequestFactory::updateTimeout)
 
+                .map(auctionContext -> recordRequestFactoryPhase(auctionContext, startNanos))
+
                 .recover(ortb2RequestFactory::restoreResultFromRejection);
     }
 
@@ -396,7 +402,9 @@ public class AmpRequestFactory {
 
         final HttpRequestContext httpRequest = auctionContext.getHttpRequest();
 
-        return storedRequestProcessor.processAmpRequest(accountId, storedRequestId, receivedBidRequest)
+        return auctionContext.getPhaseTimer()
+                .measure(AuctionPhase.stored_requests, () -> storedRequestProcessor.processAmpRequest(
+                        accountId, storedRequestId, receivedBidRequest))
                 .map(ortbVersionConversionManager::convertToAuctionSupportedVersion)
                 .map(bidRequest -> gppService.updateBidRequest(bidRequest, auctionContext))
                 .map(bidRequest -> validateStoredBidRequest(storedRequestId, bidRequest))
@@ -803,4 +811,9 @@ public class AmpRequestFactory {
             return StringUtils.isNotBlank(consentString);
         }
     }
+
+    private static AuctionContext recordRequestFactoryPhase(AuctionContext auctionContext, long startNanos) {
+        auctionContext.getPhaseTimer().record(AuctionPhase.request_factory, startNanos);
+        return auctionContext;
+    }
 }
@@ -14,6 +14,7 @@ import org.prebid.server.auction.OrtbTypesResolver;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionPhase;
 import org.prebid.server.auction.model.AuctionStoredResult;
 import org.prebid.server.auction.privacy.contextfactory.AuctionPrivacyContextFactory;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
@@ -88,6 +89,7 @@ public class AuctionRequestFactory {
      * Creates {@link AuctionContext} based on {@link RoutingContext}.
      */
     public Future<AuctionContext> fromRequest(RoutingContext routingContext, long startTime) {
+        final long startNanos = System.nanoTime();
         final String body;
         try {
             body = extractAndValidateBody(routingContext);
@@ -127,7 +129,9 @@ public class AuctionRequestFactory {
                 .compose(auctionContext -> updateAndValidateBidRequest(auctionContext)
                         .map(auctionContext::with))
 
-                .compose(auctionContext -> auctionPrivacyContextFactory.contextFrom(auctionContext)
+                .compose(auctionContext -> auctionContext.getPhaseTimer()
+                        .measure(AuctionPhase.privacy_context,
+                                () -> auctionPrivacyContextFactory.contextFrom(auctionContext))
                         .map(auctionContext::with))
 
                 .compose(auctionContext -> ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)
@@ -140,6 +144,8 @@ public class AuctionRequestFactory {
 
                 .map(ortb2RequestFactory::updateTimeout)
 
+                .map(auctionContext -> recordRequestFactoryPhase(auctionContext, startNanos))
+
                 .recover(ortb2RequestFactory::restoreResultFromRejection);
     }
 
@@ -226,7 +232,9 @@ public class AuctionRequestFactory {
         final HttpRequestContext httpRequest = auctionContext.getHttpRequest();
         final List<String> debugWarnings = auctionContext.getDebugWarnings();
 
-        return storedRequestProcessor.processAuctionRequest(account.getId(), auctionContext.getBidRequest())
+        return auctionContext.getPhaseTimer()
+                .measure(AuctionPhase.stored_requests, () -> storedRequestProcessor.processAuctionRequest(
+                        account.getId(), auctionContext.getBidRequest()))
                 .compose(auctionStoredResult -> updateBidRequest(auctionStoredResult, auctionContext))
                 .compose(bidRequest -> ortb2RequestFactory.validateRequest(bidRequest, httpRequest, debugWarnings))
                 .map(interstitialProcessor::process);
@@ -253,4 +261,9 @@ public class AuctionRequestFactory {
             return MetricName.openrtb2web;
         }
     }
+
+    private static AuctionContext recordRequestFactoryPhase(AuctionContext auctionContext, long startNanos) {
+        auctionContext.getPhaseTimer().record(AuctionPhase.request_factory, startNanos);
+        return auctionContext;
+    }
 }
@@ -22,6 +22,7 @@ import org.prebid.server.auction.IpAddressHelper;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionPhase;
 import org.prebid.server.auction.model.IpAddress;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.auction.model.debug.DebugContext;
@@ -313,11 +314,12 @@ public class Ortb2RequestFactory {
                                                              String body,
                                                              AuctionContext auctionContext) {
 
-        return hookStageExecutor.executeEntrypointStage(
-                        toCaseInsensitiveMultiMap(routingContext.queryParams()),
-                        toCaseInsensitiveMultiMap(routingContext.request().headers()),
-                        body,
-                        auctionContext.getHookExecutionContext())
+        return auctionContext.getPhaseTimer().measure(AuctionPhase.hooks, () -> hookStageExecutor
+                        .executeEntrypointStage(
+                                toCaseInsensitiveMultiMap(routingContext.queryParams()),
+                                toCaseInsensitiveMultiMap(routingContext.request().headers()),
+                                body,
+                                auctionContext.getHookExecutionContext()))
                 .map(stageResult -> toHttpRequest(stageResult, routingContext, auctionContext));
     }
 
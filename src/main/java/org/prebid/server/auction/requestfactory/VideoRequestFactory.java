@@ -19,6 +19,7 @@ import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
 import org.prebid.server.auction.VideoStoredRequestProcessor;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionPhase;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.WithPodErrors;
 import org.prebid.server.auction.model.debug.DebugContext;
@@ -95,6 +96,7 @@ public class VideoRequestFactory {
      * Creates {@link AuctionContext} and {@link List} of {@link PodError} based on {@link RoutingContext}.
      */
     public Future<WithPodErrors<AuctionContext>> fromRequest(RoutingContext routingContext, long startTime) {
+        final long startNanos = System.nanoTime();
         final String body;
         try {
             body = extractAndValidateBody(routingContext);
@@ -136,7 +138,9 @@ public class VideoRequestFactory {
                 .compose(auctionContext -> ortb2RequestFactory.activityInfrastructureFrom(auctionContext)
                         .map(auctionContext::with))
 
-                .compose(auctionContext -> auctionPrivacyContextFactory.contextFrom(auctionContext)
+                .compose(auctionContext -> auctionContext.getPhaseTimer()
+                        .measure(AuctionPhase.privacy_context,
+                                () -> auctionPrivacyContextFactory.contextFrom(auctionContext))
                         .map(auctionContext::with))
 
                 .compose(auctionContext -> ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)
@@ -149,6 +153,8 @@ public class VideoRequestFactory {
 
                 .map(ortb2RequestFactory::updateTimeout)
 
+                .map(auctionContext -> recordRequestFactoryPhase(auctionContext, startNanos))
+
                 .recover(ortb2RequestFactory::restoreResultFromRejection)
 
                 .map(this::updateContextWithDebugLog)
@@ -326,4 +332,9 @@ public class VideoRequestFactory {
         return ortb2RequestFactory.validateRequest(requestWithPodErrors.getData(), httpRequestContext, warnings)
                 .map(bidRequest -> requestWithPodErrors);
     }
+
+    private static AuctionContext recordRequestFactoryPhase(AuctionContext auctionContext, long startNanos) {
+        auctionContext.getPhaseTimer().record(AuctionPhase.request_factory, startNanos);
+        return auctionContext;
+    }
 }
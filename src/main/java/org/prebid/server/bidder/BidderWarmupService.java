@@ -0,0 +1,280 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
+import com.iab.openrtb.request.Video;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.file.FileSystem;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderCall;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.bidder.model.Result;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.health.HealthChecker;
+import org.prebid.server.health.model.Status;
+import org.prebid.server.health.model.StatusResponse;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.Initializable;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Warms up enabled bidder adapters before the application reports it is ready, so that adapter classes are loaded,
+ * JSON serializers of request and response models are created and adapter code is compiled by JIT before the
+ * first real auctions come.
+ * <p>
+ * Bid requests of the corpus (or a built-in synthetic one) are prepared for each bidder the way auction does it,
+ * with bidder params taken from imp.ext.prebid.bidder, and run through the adapter, which gets a canned bid
+ * response for each of its http requests instead of calling the bidder server. Bidder is covered once it made
+ * http requests and parsed the canned response. Not covered bidders are expected here (synthetic requests lack
+ * required bidder params) and only counted, bidders failed with exception are not run again.
+ */
+public class BidderWarmupService implements Initializable, HealthChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidderWarmupService.class);
+
+    private static final String NAME = "warmup";
+    private static final TypeReference<List<BidRequest>> BID_REQUESTS_REFERENCE = new TypeReference<>() {
+    };
+
+    private final List<BidRequest> bidRequests;
+    private final int iterations;
+    private final BidderCatalog bidderCatalog;
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+
+    private volatile StatusResponse status;
+
+    public BidderWarmupService(String bidRequestsPath,
+                               int iterations,
+                               BidderCatalog bidderCatalog,
+                               Vertx vertx,
+                               FileSystem fileSystem,
+                               Metrics metrics,
+                               Clock clock,
+                               JacksonMapper mapper) {
+
+        this.iterations = iterations;
+        this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        bidRequests = StringUtils.isNotBlank(bidRequestsPath)
+                ? readBidRequests(Objects.requireNonNull(fileSystem), bidRequestsPath, mapper)
+                : Collections.singletonList(syntheticBidRequest());
+        status = StatusResponse.of(Status.DOWN.name(), ZonedDateTime.now(clock));
+    }
+
+    private static List<BidRequest> readBidRequests(FileSystem fileSystem, String path, JacksonMapper mapper) {
+        try {
+            return mapper.decodeValue(fileSystem.readFileBlocking(path), BID_REQUESTS_REFERENCE);
+        } catch (DecodeException e) {
+            throw new PreBidException("Failed to decode warm-up bid requests from " + path);
+        }
+    }
+
+    private static BidRequest syntheticBidRequest() {
+        return BidRequest.builder()
+                .id("warmup")
+                .imp(List.of(
+                        Imp.builder()
+                                .id("banner")
+                                .banner(Banner.builder().format(List.of(Format.builder().w(300).h(250).build()))
+                                        .build())
+                                .build(),
+                        Imp.builder()
+                                .id("video")
+                                .video(Video.builder().mimes(List.of("video/mp4")).w(640).h(480).build())
+                                .build()))
+                .site(Site.builder().domain("example.com").page("https://example.com/").build())
+                .device(Device.builder().ua("Mozilla/5.0").ip("192.0.2.1").build())
+                .user(User.builder().buyeruid("warmup").build())
+                .cur(List.of("USD"))
+                .tmax(1000L)
+                .build();
+    }
+
+    /**
+     * Starts warm-up in the background and completes right away: startup is bounded by {@code vertx.init-timeout-ms},
+     * which warm-up of all the bidders may exceed. Until warm-up is finished the status is {@link Status#DOWN}, so
+     * {@code /status} endpoint keeps the instance out of the load balancer meanwhile.
+     */
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        vertx.executeBlocking(this::warmUp, false).onComplete(result -> {
+            if (result.failed()) {
+                logger.error("Bidders warm-up failed", result.cause());
+            }
+
+            // warm-up is an optimization, the application is able to serve requests anyway
+            status = StatusResponse.of(Status.UP.name(), ZonedDateTime.now(clock));
+        });
+        initializePromise.complete();
+    }
+
+    private Void warmUp() {
+        final long startTime = clock.millis();
+        final List<String> bidders = bidderCatalog.names().stream()
+                .filter(bidderCatalog::isActive)
+                .sorted()
+                .toList();
+        final Set<String> coveredBidders = new HashSet<>();
+        final Set<String> failedBidders = new HashSet<>();
+
+        for (int i = 0; i < iterations; i++) {
+            for (BidRequest bidRequest : bidRequests) {
+                final String bidResponse = mapper.encodeToString(cannedBidResponse(bidRequest));
+
+                for (String bidder : bidders) {
+                    if (failedBidders.contains(bidder)) {
+                        continue;
+                    }
+
+                    try {
+                        if (warmUp(bidder, bidRequest, bidResponse)) {
+                            coveredBidders.add(bidder);
+                        }
+                    } catch (Exception e) {
+                        logger.debug("Warm-up of bidder {} failed: {}", bidder, e.getMessage());
+                        failedBidders.add(bidder);
+                    }
+                }
+            }
+        }
+
+        final List<String> notCoveredBidders = bidders.stream()
+                .filter(bidder -> !coveredBidders.contains(bidder))
+                .toList();
+        final long duration = clock.millis() - startTime;
+        metrics.updateWarmupMetrics(duration, coveredBidders.size(), notCoveredBidders.size());
+        logger.info("Bidders warm-up finished in {} ms, {} of {} bidders not covered: {}",
+                duration, notCoveredBidders.size(), bidders.size(), notCoveredBidders);
+
+        return null;
+    }
+
+    /**
+     * Returns true if bidder is covered by the warm-up, that is it made at least one http request out of the given
+     * bid request and parsed the canned response for it.
+     */
+    private boolean warmUp(String bidderName, BidRequest bidRequest, String bidResponse) {
+        final BidRequest bidderRequest = bidderRequest(bidderName, bidRequest);
+        final List<BidderBid> bids = makeBids(bidderCatalog.bidderByName(bidderName), bidderRequest, bidResponse);
+        if (bids == null) {
+            return false;
+        }
+
+        mapper.encodeToString(BidResponse.builder()
+                .seatbid(Collections.singletonList(SeatBid.builder()
+                        .seat(bidderName)
+                        .bid(bids.stream().map(BidderBid::getBid).toList())
+                        .build()))
+                .build());
+        return true;
+    }
+
+    private BidRequest bidderRequest(String bidder, BidRequest bidRequest) {
+        final List<Imp> imps = ListUtils.emptyIfNull(bidRequest.getImp()).stream()
+                .map(imp -> imp.toBuilder().ext(bidderImpExt(bidder, imp.getExt())).build())
+                .toList();
+
+        return bidRequest.toBuilder().imp(imps).build();
+    }
+
+    private ObjectNode bidderImpExt(String bidder, ObjectNode impExt) {
+        final JsonNode bidderParams = impExt != null ? impExt.path("prebid").path("bidder").path(bidder) : null;
+
+        final ObjectNode bidderImpExt = mapper.mapper().createObjectNode();
+        bidderImpExt.set("bidder", bidderParams != null && bidderParams.isObject()
+                ? bidderParams
+                : bidderImpExt.objectNode());
+        return bidderImpExt;
+    }
+
+    /**
+     * Returns bids made out of the canned response or null if bidder made no http requests.
+     */
+    private static <T> List<BidderBid> makeBids(Bidder<T> bidder, BidRequest bidRequest, String bidResponse) {
+        final List<HttpRequest<T>> httpRequests = bidder.makeHttpRequests(bidRequest).getValue();
+        if (CollectionUtils.isEmpty(httpRequests)) {
+            return null;
+        }
+
+        final List<BidderBid> bids = new ArrayList<>();
+        for (HttpRequest<T> httpRequest : httpRequests) {
+            final HttpResponse httpResponse = HttpResponse.of(200, MultiMap.caseInsensitiveMultiMap(), bidResponse);
+            final Result<List<BidderBid>> result = bidder.makeBids(
+                    BidderCall.succeededHttp(httpRequest, httpResponse, null), bidRequest);
+
+            bids.addAll(ListUtils.emptyIfNull(result.getValue()));
+        }
+
+        return bids;
+    }
+
+    private static BidResponse cannedBidResponse(BidRequest bidRequest) {
+        final List<Bid> bids = ListUtils.emptyIfNull(bidRequest.getImp()).stream()
+                .map(imp -> Bid.builder()
+                        .id("bid-" + imp.getId())
+                        .impid(imp.getId())
+                        .price(BigDecimal.ONE)
+                        .adm(imp.getVideo() != null ? "<VAST version=\"3.0\"></VAST>" : "<div></div>")
+                        .crid("creative")
+                        .w(300)
+                        .h(250)
+                        .mtype(imp.getVideo() != null ? 2 : 1)
+                        .build())
+                .toList();
+
+        return BidResponse.builder()
+                .id(bidRequest.getId())
+                .cur("USD")
+                .seatbid(CollectionUtils.isNotEmpty(bids)
+                        ? Collections.singletonList(SeatBid.builder().bid(bids).build())
+                        : null)
+                .build();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public StatusResponse status() {
+        return status;
+    }
+}
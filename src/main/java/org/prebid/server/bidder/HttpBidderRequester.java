@@ -32,6 +32,7 @@ import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.EventLoopMonitor;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -67,18 +68,21 @@ public class HttpBidderRequester {
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
+    private final EventLoopMonitor eventLoopMonitor;
     private final JacksonMapper mapper;
 
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
+                               EventLoopMonitor eventLoopMonitor,
                                JacksonMapper mapper) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
+        this.eventLoopMonitor = Objects.requireNonNull(eventLoopMonitor);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -94,9 +98,11 @@ public class HttpBidderRequester {
                                                  boolean debugEnabled) {
 
         final String bidderName = bidderRequest.getBidder();
+        final String resolvedBidderName = aliases.resolveBidder(bidderName);
         final BidRequest bidRequest = bidderRequest.getBidRequest();
 
-        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = bidder.makeHttpRequests(bidRequest);
+        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = eventLoopMonitor.track(
+                EventLoopMonitor.TaskType.bidder, resolvedBidderName, () -> bidder.makeHttpRequests(bidRequest));
         final List<BidderError> errors = httpRequestsWithErrors.getErrors();
         final List<HttpRequest<T>> httpRequests = enrichRequests(
                 bidderName, httpRequestsWithErrors.getValue(), requestHeaders, aliases, bidRequest);
@@ -121,7 +127,8 @@ public class HttpBidderRequester {
         final List<Future<Void>> httpRequestFutures = httpCalls
                 .map(httpCallFuture -> httpCallFuture
                         .map(httpCall -> bidderErrorNotifier.processTimeout(httpCall, bidder))
-                        .map(httpCall -> processHttpCall(bidder, bidRequest, resultBuilder, httpCall)))
+                        .map(httpCall -> processHttpCall(
+                                bidder, resolvedBidderName, bidRequest, resultBuilder, httpCall)))
                 .toList();
 
         return CompositeFuture.any(
@@ -280,11 +287,14 @@ public class HttpBidderRequester {
     }
 
     private <T> Void processHttpCall(Bidder<T> bidder,
+                                     String bidderName,
                                      BidRequest bidRequest,
                                      ResultBuilder<T> seatBidBuilder,
                                      BidderCall<T> httpCall) {
 
-        seatBidBuilder.addHttpCall(httpCall, makeBids(bidder, httpCall, bidRequest));
+        final CompositeBidderResponse bidderResponse = eventLoopMonitor.track(
+                EventLoopMonitor.TaskType.bidder, bidderName, () -> makeBids(bidder, httpCall, bidRequest));
+        seatBidBuilder.addHttpCall(httpCall, bidderResponse);
         return null;
     }
 
@@ -0,0 +1,220 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Basic implementation of {@link CachePutBatcher}.
+ * <p>
+ * Put objects are collected until either the configured number of them is reached or the batch window elapses,
+ * then they are sent with a single request and response cache objects are distributed back to the callers.
+ * <p>
+ * Instance is not thread-safe and expected to be used within a single Vert.x context.
+ */
+public class BasicCachePutBatcher implements CachePutBatcher {
+
+    private static final MultiMap CACHE_HEADERS = HttpUtil.headers();
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final String endpointUrl;
+    private final JacksonMapper mapper;
+    private final Clock clock;
+    private final long maxWaitMs;
+    private final int maxBatchSize;
+
+    private List<PendingPut> pendingPuts = new ArrayList<>();
+    private int pendingPutObjectsCount;
+    private long flushTimerId = -1;
+
+    public BasicCachePutBatcher(Vertx vertx,
+                                HttpClient httpClient,
+                                String endpointUrl,
+                                JacksonMapper mapper,
+                                Clock clock,
+                                long maxWaitMs,
+                                int maxBatchSize) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.endpointUrl = Objects.requireNonNull(endpointUrl);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.clock = Objects.requireNonNull(clock);
+        this.maxWaitMs = maxWaitMs;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Future<List<CacheObject>> put(List<PutObject> putObjects, long timeout) {
+        final PendingPut pendingPut = new PendingPut(putObjects, clock.millis() + timeout);
+        pendingPuts.add(pendingPut);
+        pendingPutObjectsCount += putObjects.size();
+
+        if (pendingPutObjectsCount >= maxBatchSize) {
+            flush();
+        } else if (flushTimerId == -1) {
+            flushTimerId = vertx.setTimer(maxWaitMs, ignored -> {
+                flushTimerId = -1;
+                flush();
+            });
+        }
+
+        return pendingPut.promise.future();
+    }
+
+    private void flush() {
+        if (flushTimerId != -1) {
+            vertx.cancelTimer(flushTimerId);
+            flushTimerId = -1;
+        }
+
+        final List<PendingPut> batch = pendingPuts;
+        pendingPuts = new ArrayList<>();
+        pendingPutObjectsCount = 0;
+
+        final long now = clock.millis();
+        final List<PendingPut> sentPuts = new ArrayList<>(batch.size());
+        for (PendingPut pendingPut : batch) {
+            if (pendingPut.deadline <= now) {
+                pendingPut.promise.tryFail(new TimeoutException("Timeout has been exceeded"));
+            } else {
+                sentPuts.add(pendingPut);
+            }
+        }
+
+        if (!sentPuts.isEmpty()) {
+            send(sentPuts, now);
+        }
+    }
+
+    private void send(List<PendingPut> batch, long now) {
+        final List<PutObject> putObjects = new ArrayList<>();
+        long batchDeadline = 0;
+        for (PendingPut pendingPut : batch) {
+            putObjects.addAll(pendingPut.putObjects);
+            batchDeadline = Math.max(batchDeadline, pendingPut.deadline);
+        }
+
+        // shared request lives as long as the most patient auction, others are released on their own deadlines
+        for (PendingPut pendingPut : batch) {
+            if (pendingPut.deadline < batchDeadline) {
+                pendingPut.timeoutTimerId = vertx.setTimer(pendingPut.deadline - now, ignored ->
+                        pendingPut.promise.tryFail(new TimeoutException("Timeout has been exceeded")));
+            }
+        }
+
+        final String body = mapper.encodeToString(BidCacheRequest.of(putObjects));
+        httpClient.post(endpointUrl, CACHE_HEADERS, body, batchDeadline - now)
+                .onComplete(result -> handleResponse(result, batch, putObjects.size()));
+    }
+
+    private void handleResponse(AsyncResult<HttpClientResponse> result, List<PendingPut> batch, int putObjectsCount) {
+        batch.forEach(this::cancelTimeoutTimer);
+
+        if (result.failed()) {
+            handleFailure(batch, result.cause());
+            return;
+        }
+
+        final List<CacheObject> cacheObjects;
+        try {
+            cacheObjects = toCacheObjects(result.result(), putObjectsCount);
+        } catch (PreBidException e) {
+            handleFailure(batch, e);
+            return;
+        }
+
+        int offset = 0;
+        for (PendingPut pendingPut : batch) {
+            final int size = pendingPut.putObjects.size();
+            pendingPut.promise.tryComplete(cacheObjects.subList(offset, offset + size));
+            offset += size;
+        }
+    }
+
+    private void cancelTimeoutTimer(PendingPut pendingPut) {
+        if (pendingPut.timeoutTimerId != -1) {
+            vertx.cancelTimer(pendingPut.timeoutTimerId);
+            pendingPut.timeoutTimerId = -1;
+        }
+    }
+
+    /**
+     * Since the failure can't be attributed to particular put objects (one of them may be rejected by the cache or
+     * the request may be too large), auctions of the failed batch are retried with their own requests, so that
+     * only the affected ones fail.
+     */
+    private void handleFailure(List<PendingPut> batch, Throwable exception) {
+        if (batch.size() == 1) {
+            batch.get(0).promise.tryFail(exception);
+            return;
+        }
+
+        final long now = clock.millis();
+        for (PendingPut pendingPut : batch) {
+            if (pendingPut.promise.future().isComplete()) {
+                continue;
+            }
+
+            if (pendingPut.deadline <= now) {
+                pendingPut.promise.tryFail(exception);
+            } else {
+                send(Collections.singletonList(pendingPut), now);
+            }
+        }
+    }
+
+    private List<CacheObject> toCacheObjects(HttpClientResponse response, int putObjectsCount) {
+        final int statusCode = response.getStatusCode();
+        if (statusCode != 200) {
+            throw new PreBidException("HTTP status code " + statusCode);
+        }
+
+        final BidCacheResponse bidCacheResponse;
+        try {
+            bidCacheResponse = mapper.decodeValue(response.getBody(), BidCacheResponse.class);
+        } catch (DecodeException e) {
+            throw new PreBidException("Cannot parse response: " + response.getBody(), e);
+        }
+
+        final List<CacheObject> responses = bidCacheResponse.getResponses();
+        if (responses == null || responses.size() != putObjectsCount) {
+            throw new PreBidException("The number of response cache objects doesn't match with bids");
+        }
+
+        return responses;
+    }
+
+    private static class PendingPut {
+
+        private final List<PutObject> putObjects;
+        private final long deadline;
+        private final Promise<List<CacheObject>> promise = Promise.promise();
+        private long timeoutTimerId = -1;
+
+        PendingPut(List<PutObject> putObjects, long deadline) {
+            this.putObjects = putObjects;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.Future;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.CacheObject;
+
+import java.util.List;
+
+/**
+ * Combines put objects of concurrent auctions into shared requests to Prebid Cache.
+ */
+public interface CachePutBatcher {
+
+    /**
+     * Enqueues given put objects to be sent with the next batch and returns cache objects
+     * for them in the same order, or fails if they are not stored within the given timeout.
+     */
+    Future<List<CacheObject>> put(List<PutObject> putObjects, long timeout);
+}
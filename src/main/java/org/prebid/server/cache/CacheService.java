@@ -7,6 +7,7 @@ import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -21,6 +22,7 @@ import org.prebid.server.cache.model.CacheHttpResponse;
 import org.prebid.server.cache.model.CacheInfo;
 import org.prebid.server.cache.model.CacheServiceResult;
 import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.cache.model.CacheWriteMode;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cache.proto.request.BidCacheRequest;
 import org.prebid.server.cache.proto.request.PutObject;
@@ -43,6 +45,7 @@ import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ObjectUtil;
 import org.prebid.server.vast.VastModifier;
+import org.prebid.server.vast.VastXmlNode;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -81,8 +84,12 @@ public class CacheService {
     private final URL endpointUrl;
     private final String cachedAssetUrlTemplate;
     private final long expectedCacheTimeMs;
+    private final CacheWriteMode writeMode;
+    private final CachePutBatcher putBatcher;
+    private final EmbeddedCacheStore embeddedCacheStore;
     private final VastModifier vastModifier;
     private final EventsService eventsService;
+    private final Vertx vertx;
     private final Metrics metrics;
     private final Clock clock;
     private final UUIDIdGenerator idGenerator;
@@ -93,8 +100,12 @@ public class CacheService {
                         URL endpointUrl,
                         String cachedAssetUrlTemplate,
                         long expectedCacheTimeMs,
+                        CacheWriteMode writeMode,
+                        CachePutBatcher putBatcher,
+                        EmbeddedCacheStore embeddedCacheStore,
                         VastModifier vastModifier,
                         EventsService eventsService,
+                        Vertx vertx,
                         Metrics metrics,
                         Clock clock,
                         UUIDIdGenerator idGenerator,
@@ -105,8 +116,12 @@ public class CacheService {
         this.endpointUrl = Objects.requireNonNull(endpointUrl);
         this.cachedAssetUrlTemplate = Objects.requireNonNull(cachedAssetUrlTemplate);
         this.expectedCacheTimeMs = expectedCacheTimeMs;
+        this.writeMode = Objects.requireNonNull(writeMode);
+        this.putBatcher = putBatcher;
+        this.embeddedCacheStore = embeddedCacheStore;
         this.vastModifier = Objects.requireNonNull(vastModifier);
         this.eventsService = Objects.requireNonNull(eventsService);
+        this.vertx = Objects.requireNonNull(vertx);
         this.metrics = Objects.requireNonNull(metrics);
         this.clock = Objects.requireNonNull(clock);
         this.idGenerator = Objects.requireNonNull(idGenerator);
@@ -136,6 +151,16 @@ public class CacheService {
                 : cachedDebugLog.getCacheKey();
         final List<CachedCreative> cachedCreatives = Collections.singletonList(
                 makeDebugCacheCreative(cachedDebugLog, cacheKey, videoCacheTtl));
+
+        if (embeddedCacheStore != null) {
+            try {
+                storeEmbedded(cachedCreatives);
+            } catch (PreBidException e) {
+                logger.warn("Error occurred while storing debug log in embedded cache: {}", e.getMessage());
+            }
+            return cacheKey;
+        }
+
         final BidCacheRequest bidCacheRequest = toBidCacheRequest(cachedCreatives);
         httpClient.post(endpointUrl.toString(), HttpUtil.headers(), mapper.encodeToString(bidCacheRequest),
                 expectedCacheTimeMs);
@@ -179,6 +204,27 @@ public class CacheService {
                 .recover(exception -> failResponse(exception, accountId, startTime));
     }
 
+    /**
+     * Creates {@link CacheServiceResult} from the cache objects obtained within the batched request.
+     */
+    private CacheServiceResult processBatchedResponseOpenrtb(List<CacheObject> cacheObjects,
+                                                             CacheHttpRequest httpRequest,
+                                                             List<CacheBid> bids,
+                                                             List<CacheBid> videoBids,
+                                                             String hbCacheId,
+                                                             String accountId,
+                                                             long startTime) {
+
+        metrics.updateCacheRequestSuccessTime(accountId, clock.millis() - startTime);
+
+        final BidCacheResponse bidCacheResponse = BidCacheResponse.of(cacheObjects);
+        final CacheHttpResponse httpResponse = CacheHttpResponse.of(200, mapper.encodeToString(bidCacheResponse));
+        final DebugHttpCall httpCall = makeDebugHttpCall(endpointUrl.toString(), httpRequest, httpResponse, startTime);
+
+        final List<String> uuids = toResponse(bidCacheResponse, CacheObject::getUuid);
+        return CacheServiceResult.of(httpCall, null, toResultMap(bids, videoBids, uuids, hbCacheId));
+    }
+
     /**
      * Handles errors occurred while HTTP request or response processing.
      */
@@ -210,6 +256,16 @@ public class CacheService {
 
         updateCreativeMetrics(accountId, cachedCreatives);
 
+        if (embeddedCacheStore != null) {
+            try {
+                return Future.succeededFuture(BidCacheResponse.of(storeEmbedded(cachedCreatives).stream()
+                        .map(CacheObject::of)
+                        .toList()));
+            } catch (PreBidException e) {
+                return Future.failedFuture(e);
+            }
+        }
+
         return makeRequest(toBidCacheRequest(cachedCreatives), cachedCreatives.size(), timeout, accountId);
     }
 
@@ -361,6 +417,14 @@ public class CacheService {
             cachedCreatives.add(makeDebugCacheCreative(cachedDebugLog, hbCacheId, videoCacheTtl));
         }
 
+        if (embeddedCacheStore != null) {
+            return Future.succeededFuture(cacheOpenrtbEmbedded(cachedCreatives, bids, videoBids, hbCacheId, accountId));
+        }
+
+        if (writeMode.isAsync()) {
+            return Future.succeededFuture(cacheOpenrtbAsync(cachedCreatives, bids, videoBids, hbCacheId, accountId));
+        }
+
         final long remainingTimeout = auctionContext.getTimeoutContext().getTimeout().remaining();
         if (remainingTimeout <= 0) {
             return Future.succeededFuture(CacheServiceResult.of(null, new TimeoutException("Timeout has been exceeded"),
@@ -376,6 +440,18 @@ public class CacheService {
         final CacheHttpRequest httpRequest = CacheHttpRequest.of(url, body);
 
         final long startTime = clock.millis();
+        if (putBatcher != null) {
+            return putBatcher.put(bidCacheRequest.getPuts(), remainingTimeout)
+                    .map(cacheObjects -> processBatchedResponseOpenrtb(cacheObjects,
+                            httpRequest,
+                            bids,
+                            videoBids,
+                            hbCacheId,
+                            accountId,
+                            startTime))
+                    .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
+        }
+
         return httpClient.post(url, CACHE_HEADERS, body, remainingTimeout)
                 .map(response -> processResponseOpenrtb(response,
                         httpRequest,
@@ -388,6 +464,140 @@ public class CacheService {
                 .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
     }
 
+    /**
+     * Stores the given creatives in the {@link EmbeddedCacheStore} and returns {@link CacheServiceResult}
+     * built from the keys they are stored by.
+     */
+    private CacheServiceResult cacheOpenrtbEmbedded(List<CachedCreative> cachedCreatives,
+                                                    List<CacheBid> bids,
+                                                    List<CacheBid> videoBids,
+                                                    String hbCacheId,
+                                                    String accountId) {
+
+        updateCreativeMetrics(accountId, cachedCreatives);
+
+        final List<String> uuids;
+        try {
+            uuids = storeEmbedded(cachedCreatives);
+        } catch (PreBidException e) {
+            logger.warn("Error occurred while storing creatives in embedded cache: {}", e.getMessage());
+            return CacheServiceResult.of(null, e, Collections.emptyMap());
+        }
+
+        return CacheServiceResult.of(null, null, toResultMap(bids, videoBids, uuids, hbCacheId));
+    }
+
+    private List<String> storeEmbedded(List<CachedCreative> cachedCreatives) {
+        return embeddedCacheStore.putAll(cachedCreatives.stream()
+                .map(CachedCreative::getPayload)
+                .toList());
+    }
+
+    /**
+     * Assigns locally generated keys to the given creatives, sends them to the cache without waiting for result
+     * and returns {@link CacheServiceResult} built from the generated keys.
+     */
+    private CacheServiceResult cacheOpenrtbAsync(List<CachedCreative> cachedCreatives,
+                                                 List<CacheBid> bids,
+                                                 List<CacheBid> videoBids,
+                                                 String hbCacheId,
+                                                 String accountId) {
+
+        final List<CachedCreative> keyedCreatives = cachedCreatives.stream()
+                .map(this::withCacheKey)
+                .toList();
+
+        updateCreativeMetrics(accountId, keyedCreatives);
+
+        final String url = endpointUrl.toString();
+        final String body = mapper.encodeToString(toBidCacheRequest(keyedCreatives));
+        final long startTime = clock.millis();
+
+        final List<String> uuids = keyedCreatives.stream()
+                .map(CachedCreative::getPayload)
+                .map(PutObject::getKey)
+                .toList();
+        postAsync(url, body, uuids, accountId, writeMode.getAsyncRetries());
+
+        final DebugHttpCall httpCall = makeDebugHttpCall(url, CacheHttpRequest.of(url, body), null, startTime);
+        return CacheServiceResult.of(httpCall, null, toResultMap(bids, videoBids, uuids, hbCacheId));
+    }
+
+    private CachedCreative withCacheKey(CachedCreative cachedCreative) {
+        final PutObject payload = cachedCreative.getPayload();
+        return payload.getKey() == null
+                ? CachedCreative.of(payload.toBuilder().key(idGenerator.generateId()).build(), cachedCreative.getSize())
+                : cachedCreative;
+    }
+
+    /**
+     * Sends creatives to the cache and checks they are stored by the requested keys. Transport errors and 5xx
+     * responses are retried after a delay, other failures are not expected to go away and drop the write at once.
+     */
+    private void postAsync(String url, String body, List<String> keys, String accountId, int retriesLeft) {
+        final long startTime = clock.millis();
+        httpClient.post(url, CACHE_HEADERS, body, writeMode.getAsyncTimeoutMs())
+                .onSuccess(response -> {
+                    final int statusCode = response.getStatusCode();
+                    if (statusCode >= 500) {
+                        retryOrDropAsync(url, body, keys, accountId, retriesLeft, startTime,
+                                "HTTP status code " + statusCode);
+                    } else {
+                        processAsyncResponse(response, keys, accountId, startTime);
+                    }
+                })
+                .onFailure(exception -> retryOrDropAsync(
+                        url, body, keys, accountId, retriesLeft, startTime, exception.getMessage()));
+    }
+
+    private void retryOrDropAsync(String url,
+                                  String body,
+                                  List<String> keys,
+                                  String accountId,
+                                  int retriesLeft,
+                                  long startTime,
+                                  String error) {
+
+        metrics.updateCacheRequestFailedTime(accountId, clock.millis() - startTime);
+
+        if (retriesLeft > 0) {
+            metrics.updateCacheAsyncRequestRetried(accountId);
+            vertx.setTimer(writeMode.getAsyncRetryDelayMs(),
+                    ignored -> postAsync(url, body, keys, accountId, retriesLeft - 1));
+        } else {
+            dropAsync(accountId, error);
+        }
+    }
+
+    /**
+     * Creatives stored by keys other than requested (Prebid Cache ignores client-provided keys unless it is allowed
+     * to accept them) are unreachable by the cache ids already returned in targeting, so such write is dropped.
+     */
+    private void processAsyncResponse(HttpClientResponse response,
+                                      List<String> keys,
+                                      String accountId,
+                                      long startTime) {
+
+        final BidCacheResponse bidCacheResponse;
+        try {
+            bidCacheResponse = toBidCacheResponse(
+                    response.getStatusCode(), response.getBody(), keys.size(), accountId, startTime);
+        } catch (PreBidException e) {
+            metrics.updateCacheRequestFailedTime(accountId, clock.millis() - startTime);
+            dropAsync(accountId, e.getMessage());
+            return;
+        }
+
+        if (!keys.equals(toResponse(bidCacheResponse, CacheObject::getUuid))) {
+            dropAsync(accountId, "cache service stored creatives by keys other than requested");
+        }
+    }
+
+    private void dropAsync(String accountId, String error) {
+        logger.warn("Error occurred while writing to cache service asynchronously: {}", error);
+        metrics.updateCacheAsyncRequestDropped(accountId);
+    }
+
     /**
      * Creates {@link CacheServiceResult} from the given {@link HttpClientResponse}.
      */
@@ -688,6 +898,9 @@ public class CacheService {
     }
 
     private static int creativeSizeFromTextNode(JsonNode node) {
+        if (node instanceof VastXmlNode vastXmlNode) {
+            return vastXmlNode.length();
+        }
         return node != null ? node.asText().length() : 0;
     }
 
@@ -0,0 +1,315 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.Value;
+import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.identity.IdGenerator;
+import org.prebid.server.vertx.Initializable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process replacement of the Prebid Cache.
+ * <p>
+ * Creatives are kept off-heap, so large VAST documents do not add up to the heap, and evicted once their TTL is
+ * expired. Off-heap memory is bounded by the max size: it is allocated lazily in slabs of {@value #SLAB_SIZE}
+ * bytes, which are split into pages of {@value #PAGE_SIZE} bytes. Each creative takes as many pages as it needs,
+ * and pages of the evicted creatives are reused by the following ones, so memory is never released to the GC.
+ * <p>
+ * Every key, generated or provided by the caller (custom keys derived from {@code hb_cache_id} included), is stored
+ * with the host id prefix, which allows load balancer to route reads of the cached creative to the instance
+ * that stored it.
+ */
+public class EmbeddedCacheStore implements Initializable {
+
+    static final int PAGE_SIZE = 1024;
+    private static final int SLAB_SIZE = 1024 * 1024;
+
+    private final Vertx vertx;
+    private final Clock clock;
+    private final IdGenerator idGenerator;
+    private final String keyPrefix;
+    private final int defaultTtlSeconds;
+    private final int maxTtlSeconds;
+    private final long cleanupIntervalMs;
+
+    private final PagePool pagePool;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public EmbeddedCacheStore(Vertx vertx,
+                              Clock clock,
+                              IdGenerator idGenerator,
+                              String hostId,
+                              long maxSizeBytes,
+                              int defaultTtlSeconds,
+                              int maxTtlSeconds,
+                              long cleanupIntervalMs) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.clock = Objects.requireNonNull(clock);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        this.keyPrefix = Objects.requireNonNull(hostId) + "-";
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.maxTtlSeconds = maxTtlSeconds;
+        this.cleanupIntervalMs = cleanupIntervalMs;
+
+        pagePool = new PagePool(Math.toIntExact(maxSizeBytes / PAGE_SIZE));
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        vertx.setPeriodic(cleanupIntervalMs, ignored -> evictExpired());
+        initializePromise.tryComplete();
+    }
+
+    /**
+     * Stores the given {@link PutObject} and returns the key it is available by, that is the host id prefixed
+     * key of the {@link PutObject} or generated one.
+     * <p>
+     * Throws {@link PreBidException} if store has no capacity left or value is already stored by the given key.
+     */
+    public String put(PutObject putObject) {
+        return putAll(Collections.singletonList(putObject)).get(0);
+    }
+
+    /**
+     * Stores all the given {@link PutObject}s or none of them and returns the keys they are available by.
+     * <p>
+     * Throws {@link PreBidException} if store has no capacity left for all of them or any of the given keys is
+     * already in use, since, like in Prebid Cache, stored values can't be overwritten by a caller.
+     */
+    public List<String> putAll(List<PutObject> putObjects) {
+        final List<String> keys = new ArrayList<>(putObjects.size());
+        final List<byte[]> values = new ArrayList<>(putObjects.size());
+        int pagesCount = 0;
+        for (PutObject putObject : putObjects) {
+            final String key = keyPrefix + (putObject.getKey() != null ? putObject.getKey() : idGenerator.generateId());
+            if (keys.contains(key)) {
+                throw new PreBidException("Key %s is duplicated".formatted(key));
+            }
+
+            final byte[] value = toValue(putObject.getValue()).getBytes(StandardCharsets.UTF_8);
+            keys.add(key);
+            values.add(value);
+            pagesCount += pagesCount(value.length);
+        }
+
+        final Deque<ByteBuffer> pages = pagePool.acquire(pagesCount);
+        if (pages == null) {
+            throw new PreBidException("Embedded cache capacity of %d bytes is exceeded"
+                    .formatted((long) pagePool.maxPages * PAGE_SIZE));
+        }
+
+        final List<Entry> newEntries = new ArrayList<>(putObjects.size());
+        for (int i = 0; i < putObjects.size(); i++) {
+            final PutObject putObject = putObjects.get(i);
+            newEntries.add(Entry.of(putObject.getType(), values.get(i), pages, expiresAt(putObject)));
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (entries.putIfAbsent(keys.get(i), newEntries.get(i)) != null) {
+                for (int j = 0; j < i; j++) {
+                    entries.remove(keys.get(j), newEntries.get(j));
+                }
+                newEntries.forEach(this::release);
+                throw new PreBidException("Key %s is already in use".formatted(keys.get(i)));
+            }
+        }
+
+        return keys;
+    }
+
+    /**
+     * Returns not expired value stored by the given key or null if there is no such.
+     */
+    public StoredValue get(String key) {
+        final Entry entry = entries.get(key);
+        if (entry == null || entry.expiresAt <= clock.millis() || !entry.retain()) {
+            return null;
+        }
+
+        try {
+            return StoredValue.of(entry.type, new String(entry.read(), StandardCharsets.UTF_8));
+        } finally {
+            release(entry);
+        }
+    }
+
+    /**
+     * Returns size of the off-heap memory taken by the stored creatives.
+     */
+    public long usedBytes() {
+        return pagePool.usedPages() * (long) PAGE_SIZE;
+    }
+
+    private long expiresAt(PutObject putObject) {
+        final int ttlSeconds = ObjectUtils.firstNonNull(putObject.getTtlseconds(), putObject.getExpiry(),
+                defaultTtlSeconds);
+        return clock.millis() + TimeUnit.SECONDS.toMillis(Math.min(ttlSeconds, maxTtlSeconds));
+    }
+
+    private void evictExpired() {
+        final long now = clock.millis();
+        entries.entrySet().removeIf(keyToEntry -> {
+            final Entry entry = keyToEntry.getValue();
+            if (entry.expiresAt > now) {
+                return false;
+            }
+
+            release(entry);
+            return true;
+        });
+    }
+
+    private void release(Entry entry) {
+        if (entry.references.decrementAndGet() == 0) {
+            pagePool.release(entry.pages);
+        }
+    }
+
+    private static int pagesCount(int length) {
+        return (length + PAGE_SIZE - 1) / PAGE_SIZE;
+    }
+
+    private static String toValue(JsonNode value) {
+        if (value == null) {
+            return "";
+        }
+
+        return value.isTextual() ? value.asText() : value.toString();
+    }
+
+    @Value(staticConstructor = "of")
+    public static class StoredValue {
+
+        String type;
+
+        String value;
+    }
+
+    /**
+     * Stored creative. Its pages are given back to the pool once the entry is evicted and not being read anymore,
+     * so they are never overwritten under a reader.
+     */
+    private static class Entry {
+
+        private final String type;
+        private final ByteBuffer[] pages;
+        private final int length;
+        private final long expiresAt;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Entry(String type, ByteBuffer[] pages, int length, long expiresAt) {
+            this.type = type;
+            this.pages = pages;
+            this.length = length;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Writes the value to the pages taken from the given ones.
+         */
+        static Entry of(String type, byte[] value, Deque<ByteBuffer> freePages, long expiresAt) {
+            final ByteBuffer[] pages = new ByteBuffer[pagesCount(value.length)];
+            for (int i = 0; i < pages.length; i++) {
+                final int offset = i * PAGE_SIZE;
+                pages[i] = freePages.pop();
+                pages[i].clear().put(value, offset, Math.min(PAGE_SIZE, value.length - offset));
+            }
+            return new Entry(type, pages, value.length, expiresAt);
+        }
+
+        boolean retain() {
+            int current = references.get();
+            while (current > 0) {
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+                current = references.get();
+            }
+            return false;
+        }
+
+        byte[] read() {
+            final byte[] value = new byte[length];
+            for (int i = 0; i < pages.length; i++) {
+                final int offset = i * PAGE_SIZE;
+                pages[i].duplicate().flip().get(value, offset, Math.min(PAGE_SIZE, length - offset));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Pages of the fixed size cut from the direct slabs, which are allocated on demand until the max number
+     * of pages is reached and never released.
+     */
+    private static class PagePool {
+
+        private final int maxPages;
+        private final Deque<ByteBuffer> freePages = new ArrayDeque<>();
+
+        private int allocatedPages;
+        private int usedPages;
+
+        PagePool(int maxPages) {
+            this.maxPages = maxPages;
+        }
+
+        /**
+         * Returns the requested number of pages or null if the pool has not enough of them left.
+         */
+        synchronized Deque<ByteBuffer> acquire(int count) {
+            if (count > maxPages - usedPages) {
+                return null;
+            }
+
+            while (freePages.size() < count) {
+                allocateSlab();
+            }
+
+            final Deque<ByteBuffer> pages = new ArrayDeque<>(count);
+            for (int i = 0; i < count; i++) {
+                pages.push(freePages.pop());
+            }
+            usedPages += count;
+            return pages;
+        }
+
+        synchronized void release(ByteBuffer[] pages) {
+            for (ByteBuffer page : pages) {
+                freePages.push(page);
+            }
+            usedPages -= pages.length;
+        }
+
+        synchronized int usedPages() {
+            return usedPages;
+        }
+
+        private void allocateSlab() {
+            final int pagesCount = Math.min(SLAB_SIZE / PAGE_SIZE, maxPages - allocatedPages);
+            final ByteBuffer slab = ByteBuffer.allocateDirect(pagesCount * PAGE_SIZE);
+            for (int i = 0; i < pagesCount; i++) {
+                freePages.push(slab.slice(i * PAGE_SIZE, PAGE_SIZE));
+            }
+            allocatedPages += pagesCount;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.prebid.server.cache.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Holds the information about the way bids are written to the Prebid Cache.
+ * <p>
+ * In asynchronous mode cache keys are generated locally and auction doesn't wait for the cache response.
+ * Used for representing configuration.
+ */
+@AllArgsConstructor(staticName = "of")
+@Value
+public class CacheWriteMode {
+
+    private static final CacheWriteMode SYNC = CacheWriteMode.of(false, 0L, 0, 0L);
+
+    boolean async;
+
+    long asyncTimeoutMs;
+
+    int asyncRetries;
+
+    long asyncRetryDelayMs;
+
+    public static CacheWriteMode sync() {
+        return SYNC;
+    }
+}
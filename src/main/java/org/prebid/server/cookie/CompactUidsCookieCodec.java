@@ -0,0 +1,287 @@
+package org.prebid.server.cookie;
+
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base64 encoded (without padding) binary representation of {@link Uids}:
+ * <pre>
+ * version (1 byte) | flags (1 byte) | UIDs count (varint) | UIDs
+ * UID: family code (varint) [| family name length (varint) | family name] | uid length (varint) | uid
+ *      | expiration epoch seconds (varint)
+ * </pre>
+ * Family code is 1-based index of the family name in the dictionary, or 0 if the name follows as is. Dictionary is
+ * append-only: new names may be added to its end, but existing ones must never be removed or reordered, since
+ * their codes are stored in cookies. UIDs with codes unknown to this server are skipped on decoding.
+ * <p>
+ * Expiration is stored with a second precision, missing expiration is stored as 0 and read as already expired.
+ */
+class CompactUidsCookieCodec implements UidsCookieCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int OPTOUT_PRESENT_FLAG = 1;
+    private static final int OPTOUT_FLAG = 2;
+    private static final long MAX_EXPIRES_EPOCH_SECONDS = Instant.parse("9999-12-31T23:59:59Z").getEpochSecond();
+
+    private static final List<String> FAMILIES = List.of(
+            "33across", "aax", "acuityads", "adf", "adkernel", "adkernelAdn", "adman", "admixer", "adnxs", "adot",
+            "adpone", "adquery", "adsinteractive", "advangelists", "adyoulike", "aidem", "aja", "alkimi", "amx",
+            "apacdex", "avocet", "axis", "beachfront", "beintoo", "between", "bidmyadz", "bidstack", "bliink",
+            "boldwin", "ccx", "colossus", "compass", "connectad", "consumable", "conversant", "cpmstar", "criteo",
+            "datablocks", "deepintent", "dianomi", "dxkulture", "e_volution", "emtv", "emx_digital", "eplanning",
+            "epsilon", "evtech", "freewheelssp", "frvradn", "gamoshi", "globalsun", "grid", "gumgum", "imds",
+            "impactify", "improvedigital", "inmobi", "intertech", "ix", "jixie", "kargo", "kiviads", "krushmedia",
+            "lm_kiviads", "lockerdome", "logan", "logicad", "lunamedia", "marsmedia", "medianet", "mgid", "mgidX",
+            "minutemedia", "nativo", "nextmillennium", "nobid", "onetag", "openx", "operaads", "orbidder", "outbrain",
+            "pgamssp", "preciso", "pubmatic", "pulsepoint", "resetdigital", "richaudience", "rise", "rtbhouse",
+            "rubicon", "sa_lunamedia", "seedingAlliance", "sharethrough", "smaato", "smartadserver", "smartrtb",
+            "smartyads", "smilewanted", "sonobi", "sovrn", "sspbc", "stroeerCore", "suntContent", "taboola", "tappx",
+            "telaria", "tpmn", "triplelift", "triplelift_native", "ucfunnel", "undertone", "unruly", "videobyte",
+            "vidoomy", "visiblemeasures", "visx", "vox", "vrtcal", "xeworks", "yahooAds", "yandex", "yieldlab",
+            "yieldmo", "yieldone", "zeroclickfraud", "zeta-global-ssp");
+
+    private static final Map<String, Integer> FAMILY_CODES = familyCodes();
+
+    private static Map<String, Integer> familyCodes() {
+        final Map<String, Integer> familyCodes = new HashMap<>();
+        for (int i = 0; i < FAMILIES.size(); i++) {
+            familyCodes.put(FAMILIES.get(i), i + 1);
+        }
+        return familyCodes;
+    }
+
+    @Override
+    public String encode(Uids uids) {
+        final Map<String, UidWithExpiry> uidsMap = uids.getUids();
+
+        int entriesSize = 0;
+        for (Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+            entriesSize += entrySize(entry.getKey(), entry.getValue());
+        }
+
+        final Writer writer = new Writer(payloadSize(uidsMap.size(), entriesSize));
+        writer.writeByte(VERSION);
+        writer.writeByte(flags(uids.getOptout()));
+        writer.writeVarint(uidsMap.size());
+        for (Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+            final String familyName = entry.getKey();
+            final Integer familyCode = FAMILY_CODES.get(familyName);
+            if (familyCode != null) {
+                writer.writeVarint(familyCode);
+            } else {
+                writer.writeVarint(0);
+                writer.writeString(familyName);
+            }
+
+            final UidWithExpiry uid = entry.getValue();
+            writer.writeString(uid.getUid());
+            writer.writeVarint(epochSeconds(uid.getExpires()));
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(writer.bytes);
+    }
+
+    private static int flags(Boolean optout) {
+        return optout == null ? 0 : OPTOUT_PRESENT_FLAG | (optout ? OPTOUT_FLAG : 0);
+    }
+
+    private static long epochSeconds(ZonedDateTime expires) {
+        return expires != null ? Math.max(expires.toEpochSecond(), 0) : 0;
+    }
+
+    /**
+     * Returns true if the payload is in the format of this codec.
+     */
+    static boolean isCompact(byte[] payload) {
+        return payload.length > 0 && payload[0] == VERSION;
+    }
+
+    @Override
+    public Uids decode(byte[] payload) {
+        final Reader reader = new Reader(payload);
+        if (reader.readByte() != VERSION) {
+            throw new IllegalArgumentException("Unsupported uids cookie version");
+        }
+
+        final int flags = reader.readByte();
+        final Boolean optout = (flags & OPTOUT_PRESENT_FLAG) != 0 ? (flags & OPTOUT_FLAG) != 0 : null;
+
+        // each UID takes at least 3 bytes, so count can't exceed the number of remaining bytes
+        final int count = (int) reader.readVarint(reader.remaining());
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            final long familyCode = reader.readVarint(Long.MAX_VALUE);
+            final String familyName = familyCode == 0 ? reader.readString() : familyName(familyCode);
+            final String uid = reader.readString();
+            final long expires = reader.readVarint(MAX_EXPIRES_EPOCH_SECONDS);
+
+            if (familyName != null) {
+                uids.put(familyName, new UidWithExpiry(
+                        uid, ZonedDateTime.ofInstant(Instant.ofEpochSecond(expires), ZoneOffset.UTC)));
+            }
+        }
+
+        if (!reader.isFinished()) {
+            throw new IllegalArgumentException("Unexpected trailing bytes in uids cookie");
+        }
+
+        return Uids.builder().uids(uids).optout(optout).build();
+    }
+
+    private static String familyName(long familyCode) {
+        return familyCode <= FAMILIES.size() ? FAMILIES.get((int) familyCode - 1) : null;
+    }
+
+    @Override
+    public int entrySize(String familyName, UidWithExpiry uid) {
+        final Integer familyCode = FAMILY_CODES.get(familyName);
+        final int familySize = familyCode != null ? varintSize(familyCode) : varintSize(0) + stringSize(familyName);
+
+        return familySize + stringSize(uid.getUid()) + varintSize(epochSeconds(uid.getExpires()));
+    }
+
+    @Override
+    public int valueLength(Boolean optout, int entriesCount, int entriesSize) {
+        return (payloadSize(entriesCount, entriesSize) * 4 + 2) / 3;
+    }
+
+    private static int payloadSize(int entriesCount, int entriesSize) {
+        return 2 + varintSize(entriesCount) + entriesSize;
+    }
+
+    private static int stringSize(String value) {
+        final int length = utf8Length(StringUtils.defaultString(value));
+        return varintSize(length) + length;
+    }
+
+    /**
+     * Returns length of {@link String#getBytes} result for UTF-8 without encoding the string.
+     */
+    private static int utf8Length(String value) {
+        final int length = value.length();
+        int utf8Length = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                utf8Length += 1;
+            } else if (c < 0x800) {
+                utf8Length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+
+                utf8Length += 4;
+                i++;
+            } else {
+                // malformed surrogate is replaced with single byte
+                utf8Length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return utf8Length;
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    private static class Writer {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        Writer(int size) {
+            bytes = new byte[size];
+        }
+
+        void writeByte(int value) {
+            bytes[position++] = (byte) value;
+        }
+
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeString(String value) {
+            final byte[] utf8 = StringUtils.defaultString(value).getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length);
+            System.arraycopy(utf8, 0, bytes, position, utf8.length);
+            position += utf8.length;
+        }
+    }
+
+    private static class Reader {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Unexpected end of uids cookie");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        /**
+         * Reads varint and checks it is within [0, maxValue] range. Varint of 10 bytes may overflow to a negative
+         * value, which is rejected as well.
+         */
+        long readVarint(long maxValue) {
+            final long value = readVarint();
+            if (value < 0 || value > maxValue) {
+                throw new IllegalArgumentException("Malformed varint in uids cookie");
+            }
+            return value;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int current = readByte();
+                value |= (long) (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in uids cookie");
+        }
+
+        String readString() {
+            final int length = (int) readVarint(remaining());
+            final String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        int remaining() {
+            return bytes.length - position;
+        }
+
+        boolean isFinished() {
+            return position == bytes.length;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.prebid.server.cookie;
+
+import lombok.Value;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.UsersyncFormat;
+import org.prebid.server.bidder.UsersyncMethod;
+import org.prebid.server.bidder.UsersyncUtil;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.cookie.model.RejectionReason;
+import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cookie-sync properties of the registered bidders that follow from the configuration only, resolved once
+ * from {@link BidderCatalog}.
+ * <p>
+ * Each bidder gets the reason it can never be synced for (if any), its usersyncer, cookie family and
+ * {@code /setuid} callback url prefixes rendered for every {@link UsersyncFormat}, so that per-request filtering
+ * is a single lookup per bidder. Names the index doesn't know are resolved through the catalog on every call
+ * (and are not remembered, since they come from the request).
+ */
+class CookieSyncBidders {
+
+    private static final UsersyncFormat[] FORMATS = UsersyncFormat.values();
+
+    private final BidderCatalog bidderCatalog;
+    private final String externalUrl;
+
+    private final Map<String, SyncBidder> nameToBidder;
+
+    CookieSyncBidders(BidderCatalog bidderCatalog, String externalUrl) {
+        this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.externalUrl = Objects.requireNonNull(externalUrl);
+
+        final Map<String, SyncBidder> index = new CaseInsensitiveMap<>();
+        for (String bidder : bidderCatalog.names()) {
+            index.put(bidder, resolve(bidder));
+        }
+        nameToBidder = index;
+    }
+
+    SyncBidder get(String bidder) {
+        final SyncBidder syncBidder = bidder != null ? nameToBidder.get(bidder) : null;
+        return syncBidder != null ? syncBidder : resolve(bidder);
+    }
+
+    private SyncBidder resolve(String bidder) {
+        final Usersyncer usersyncer = bidderCatalog.usersyncerByName(bidder).orElse(null);
+        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElse(null);
+        final BidderInfo bidderInfo = bidderCatalog.bidderInfoByName(bidder);
+
+        return SyncBidder.of(
+                rejectionReason(bidder, usersyncer),
+                usersyncer,
+                cookieFamilyName,
+                bidderInfo != null && bidderInfo.isCcpaEnforced(),
+                bidderCatalog.isAlias(bidder)
+                        && usersyncer != null
+                        && usersyncer.getCookieFamilySource() == CookieFamilySource.ROOT,
+                cookieFamilyName != null ? callbackUrlPrefixes(cookieFamilyName) : null);
+    }
+
+    private RejectionReason rejectionReason(String bidder, Usersyncer usersyncer) {
+        if (!bidderCatalog.isValidName(bidder)) {
+            return RejectionReason.INVALID_BIDDER;
+        }
+        if (!bidderCatalog.isActive(bidder)) {
+            return RejectionReason.DISABLED_BIDDER;
+        }
+        if (usersyncer == null) {
+            return RejectionReason.UNCONFIGURED_USERSYNC;
+        }
+        if (!usersyncer.isEnabled()) {
+            return RejectionReason.DISABLED_USERSYNC;
+        }
+
+        return null;
+    }
+
+    /**
+     * Renders callback url up to the uid value, with format parameter in place, as
+     * {@link UsersyncUtil#enrichUrlWithFormat(String, UsersyncFormat)} puts it before the last (uid) parameter.
+     */
+    private String[] callbackUrlPrefixes(String cookieFamilyName) {
+        final String urlPrefix = UsersyncUtil.CALLBACK_URL_TEMPLATE.formatted(
+                externalUrl, HttpUtil.encodeUrl(cookieFamilyName), "");
+
+        final String[] prefixes = new String[FORMATS.length];
+        for (UsersyncFormat format : FORMATS) {
+            prefixes[format.ordinal()] = UsersyncUtil.enrichUrlWithFormat(urlPrefix, format);
+        }
+        return prefixes;
+    }
+
+    @Value(staticConstructor = "of")
+    static class SyncBidder {
+
+        /**
+         * Null if bidder configuration allows to sync it.
+         */
+        RejectionReason rejectionReason;
+
+        Usersyncer usersyncer;
+
+        String cookieFamilyName;
+
+        boolean ccpaEnforced;
+
+        boolean aliasSyncedAsRootFamily;
+
+        String[] callbackUrlPrefixes;
+
+        boolean isValid() {
+            return rejectionReason != RejectionReason.INVALID_BIDDER;
+        }
+
+        String callbackUrl(UsersyncMethod usersyncMethod, String hostCookieUid) {
+            final UsersyncFormat format = UsersyncUtil.resolveFormat(usersyncMethod);
+            return callbackUrlPrefixes[format.ordinal()] + HttpUtil.encodeUrl(hostCookieUid);
+        }
+    }
+}
@@ -13,10 +13,9 @@ import org.prebid.server.activity.infrastructure.payload.impl.ActivityInvocation
 import org.prebid.server.activity.infrastructure.payload.impl.TcfContextActivityInvocationPayload;
 import org.prebid.server.auction.privacy.enforcement.CcpaEnforcement;
 import org.prebid.server.bidder.BidderCatalog;
-import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.bidder.UsersyncInfoBuilder;
 import org.prebid.server.bidder.UsersyncMethod;
-import org.prebid.server.bidder.UsersyncUtil;
+import org.prebid.server.bidder.UsersyncMethodChooser;
 import org.prebid.server.bidder.Usersyncer;
 import org.prebid.server.cookie.exception.CookieSyncException;
 import org.prebid.server.cookie.exception.InvalidCookieSyncRequestException;
@@ -40,13 +39,13 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountCookieSyncConfig;
 import org.prebid.server.settings.model.AccountGdprConfig;
 import org.prebid.server.settings.model.AccountPrivacyConfig;
-import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ObjectUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -60,17 +59,17 @@ import java.util.stream.Collectors;
 
 public class CookieSyncService {
 
-    private final String externalUrl;
     private final int defaultLimit;
     private final int maxLimit;
 
-    private final BidderCatalog bidderCatalog;
     private final HostVendorTcfDefinerService tcfDefinerService;
     private final CcpaEnforcement ccpaEnforcement;
     private final UidsCookieService uidsCookieService;
     private final CoopSyncProvider coopSyncProvider;
     private final Metrics metrics;
 
+    private final CookieSyncBidders cookieSyncBidders;
+
     public CookieSyncService(String externalUrl,
                              int defaultLimit,
                              int maxLimit,
@@ -81,17 +80,19 @@ public class CookieSyncService {
                              CoopSyncProvider coopSyncProvider,
                              Metrics metrics) {
 
-        this.externalUrl = HttpUtil.validateUrl(Objects.requireNonNull(externalUrl));
         validateLimits(defaultLimit, maxLimit);
         this.defaultLimit = defaultLimit;
         this.maxLimit = maxLimit;
 
-        this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.tcfDefinerService = Objects.requireNonNull(tcfDefinerService);
         this.ccpaEnforcement = Objects.requireNonNull(ccpaEnforcement);
         this.uidsCookieService = Objects.requireNonNull(uidsCookieService);
         this.coopSyncProvider = Objects.requireNonNull(coopSyncProvider);
         this.metrics = Objects.requireNonNull(metrics);
+
+        cookieSyncBidders = new CookieSyncBidders(
+                Objects.requireNonNull(bidderCatalog),
+                HttpUtil.validateUrl(Objects.requireNonNull(externalUrl)));
     }
 
     private static void validateLimits(int limit, int maxLimit) {
@@ -107,10 +108,7 @@ public class CookieSyncService {
                 .map(this::validateCookieSyncContext)
                 .map(this::resolveLimit)
                 .map(this::resolveBiddersToSync)
-                .map(this::filterInvalidBidders)
-                .map(this::filterDisabledBidders)
-                .map(this::filterBiddersWithoutUsersync)
-                .map(this::filterBiddersWithDisabledUsersync)
+                .map(this::filterUnsyncableBidders)
                 .map(this::applyRequestFilterSettings)
                 .compose(this::applyPrivacyFilteringRules)
                 .map(this::filterInSyncBidders);
@@ -174,32 +172,22 @@ public class CookieSyncService {
         return cookieSyncContext.with(updatedContext);
     }
 
-    private CookieSyncContext filterInvalidBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isValidName(bidder),
-                RejectionReason.INVALID_BIDDER);
-    }
-
-    private CookieSyncContext filterDisabledBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isActive(bidder),
-                RejectionReason.DISABLED_BIDDER);
-    }
+    /**
+     * Rejects bidders that are invalid, disabled, without usersync config or with disabled usersync,
+     * each with the first of these reasons that applies.
+     */
+    private CookieSyncContext filterUnsyncableBidders(CookieSyncContext cookieSyncContext) {
+        final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
 
-    private CookieSyncContext filterBiddersWithoutUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> bidderCatalog.usersyncerByName(bidder).isEmpty(),
-                RejectionReason.UNCONFIGURED_USERSYNC);
-    }
+        final Map<String, RejectionReason> rejectedBidders = new HashMap<>();
+        for (String bidder : biddersContext.allowedBidders()) {
+            final RejectionReason reason = cookieSyncBidders.get(bidder).getRejectionReason();
+            if (reason != null) {
+                rejectedBidders.put(bidder, reason);
+            }
+        }
 
-    private CookieSyncContext filterBiddersWithDisabledUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.usersyncerByName(bidder).orElseThrow().isEnabled(),
-                RejectionReason.DISABLED_USERSYNC);
+        return cookieSyncContext.with(biddersContext.withRejectedBidders(rejectedBidders));
     }
 
     /**
@@ -214,7 +202,7 @@ public class CookieSyncService {
 
     private boolean isBidderInSync(CookieSyncContext cookieSyncContext, String bidder) {
         final RoutingContext routingContext = cookieSyncContext.getRoutingContext();
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+        final String cookieFamilyName = cookieSyncBidders.get(bidder).getCookieFamilyName();
         final String uidFromHostCookie = uidsCookieService.hostCookieUidToSync(routingContext, cookieFamilyName);
 
         return StringUtils.isEmpty(uidFromHostCookie)
@@ -235,23 +223,28 @@ public class CookieSyncService {
     }
 
     private CookieSyncContext applyRequestFilterSettings(CookieSyncContext cookieSyncContext) {
-        BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
-        final Set<String> allowedBidders = biddersContext.allowedBidders();
+        final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
+        final UsersyncMethodChooser usersyncMethodChooser = cookieSyncContext.getUsersyncMethodChooser();
 
-        for (String bidder : allowedBidders) {
-            final UsersyncMethod usersyncMethod = bidderCatalog.usersyncerByName(bidder)
-                    .map(syncer -> cookieSyncContext.getUsersyncMethodChooser().choose(syncer, bidder))
-                    .orElse(null);
+        final Map<String, UsersyncMethod> bidderToUsersyncMethod = new HashMap<>();
+        final Map<String, RejectionReason> rejectedBidders = new HashMap<>();
+        for (String bidder : biddersContext.allowedBidders()) {
+            final Usersyncer usersyncer = cookieSyncBidders.get(bidder).getUsersyncer();
+            final UsersyncMethod usersyncMethod = usersyncer != null
+                    ? usersyncMethodChooser.choose(usersyncer, bidder)
+                    : null;
 
             if (usersyncMethod != null) {
-                biddersContext = biddersContext.withBidderUsersyncMethod(bidder, usersyncMethod);
+                bidderToUsersyncMethod.put(bidder, usersyncMethod);
             } else {
-                biddersContext = biddersContext.withRejectedBidder(bidder, RejectionReason.REJECTED_BY_FILTER);
+                rejectedBidders.put(bidder, RejectionReason.REJECTED_BY_FILTER);
                 metrics.updateCookieSyncFilteredMetric(bidder);
             }
         }
 
-        return cookieSyncContext.with(biddersContext);
+        return cookieSyncContext.with(biddersContext
+                .withBidderUsersyncMethods(bidderToUsersyncMethod)
+                .withRejectedBidders(rejectedBidders));
     }
 
     private Future<CookieSyncContext> applyPrivacyFilteringRules(CookieSyncContext cookieSyncContext) {
@@ -321,8 +314,7 @@ public class CookieSyncService {
     }
 
     private boolean isBidderCcpaEnforced(String bidder) {
-        final BidderInfo bidderInfo = bidderCatalog.bidderInfoByName(bidder);
-        return bidderInfo != null && bidderInfo.isCcpaEnforced();
+        return cookieSyncBidders.get(bidder).isCcpaEnforced();
     }
 
     private CookieSyncContext filterDisallowedActivities(CookieSyncContext cookieSyncContext, TcfContext tcfContext) {
@@ -364,7 +356,7 @@ public class CookieSyncService {
 
         while (cookieFamiliesToSync.size() < cookieSyncContext.getLimit() && biddersIterator.hasNext()) {
             final String bidder = biddersIterator.next();
-            final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+            final String cookieFamilyName = cookieSyncBidders.get(bidder).getCookieFamilyName();
 
             cookieFamiliesToSync.add(cookieFamilyName);
             biddersToSync.add(bidder);
@@ -385,7 +377,7 @@ public class CookieSyncService {
 
     private List<BidderUsersyncStatus> validStatuses(Set<String> biddersToSync, CookieSyncContext cookieSyncContext) {
         return biddersToSync.stream()
-                .filter(distinctBy(bidder -> bidderCatalog.cookieFamilyName(bidder).orElseThrow()))
+                .filter(distinctBy(bidder -> cookieSyncBidders.get(bidder).getCookieFamilyName()))
                 .map(bidder -> validStatus(bidder, cookieSyncContext))
                 .toList();
     }
@@ -398,13 +390,14 @@ public class CookieSyncService {
     private BidderUsersyncStatus validStatus(String bidder, CookieSyncContext cookieSyncContext) {
         final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
         final RoutingContext routingContext = cookieSyncContext.getRoutingContext();
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+        final CookieSyncBidders.SyncBidder syncBidder = cookieSyncBidders.get(bidder);
+        final String cookieFamilyName = syncBidder.getCookieFamilyName();
 
         final UsersyncMethod usersyncMethod = biddersContext.bidderUsersyncMethod().get(bidder);
         final Privacy privacy = cookieSyncContext.getPrivacyContext().getPrivacy();
         final String hostCookieUid = uidsCookieService.hostCookieUidToSync(routingContext, cookieFamilyName);
 
-        final UsersyncInfo usersyncInfo = toUsersyncInfo(usersyncMethod, cookieFamilyName, hostCookieUid, privacy);
+        final UsersyncInfo usersyncInfo = toUsersyncInfo(usersyncMethod, syncBidder, hostCookieUid, privacy);
 
         return BidderUsersyncStatus.builder()
                 .bidder(cookieFamilyName) // we are syncing cookie-family-names instead of bidder codes
@@ -413,19 +406,16 @@ public class CookieSyncService {
                 .build();
     }
 
-    private UsersyncInfo toUsersyncInfo(UsersyncMethod usersyncMethod,
-                                        String cookieFamilyName,
-                                        String hostCookieUid,
-                                        Privacy privacy) {
+    private static UsersyncInfo toUsersyncInfo(UsersyncMethod usersyncMethod,
+                                               CookieSyncBidders.SyncBidder syncBidder,
+                                               String hostCookieUid,
+                                               Privacy privacy) {
 
         final UsersyncInfoBuilder usersyncInfoBuilder = UsersyncInfoBuilder.from(usersyncMethod);
 
         if (hostCookieUid != null) {
-            final String url = UsersyncUtil.CALLBACK_URL_TEMPLATE.formatted(
-                    externalUrl, HttpUtil.encodeUrl(cookieFamilyName), HttpUtil.encodeUrl(hostCookieUid));
-
             usersyncInfoBuilder
-                    .usersyncUrl(UsersyncUtil.enrichUrlWithFormat(url, UsersyncUtil.resolveFormat(usersyncMethod)))
+                    .usersyncUrl(syncBidder.callbackUrl(usersyncMethod, hostCookieUid))
                     .redirectUrl(null);
         }
 
@@ -457,7 +447,8 @@ public class CookieSyncService {
     }
 
     private BidderUsersyncStatus rejectionStatus(String bidder, RejectionReason reason, BiddersContext biddersContext) {
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElse(bidder);
+        final String cookieFamilyName = ObjectUtils.defaultIfNull(
+                cookieSyncBidders.get(bidder).getCookieFamilyName(), bidder);
         BidderUsersyncStatus.BidderUsersyncStatusBuilder builder = BidderUsersyncStatus.builder()
                 .bidder(cookieFamilyName);
 
@@ -485,7 +476,7 @@ public class CookieSyncService {
 
         return droppedDueToLimitBidders.stream()
                 .map(bidder -> BidderUsersyncStatus.builder()
-                        .bidder(bidderCatalog.cookieFamilyName(bidder).orElseThrow())
+                        .bidder(cookieSyncBidders.get(bidder).getCookieFamilyName())
                         .error("limit reached")
                         .build())
                 .toList();
@@ -504,15 +495,11 @@ public class CookieSyncService {
     }
 
     private boolean isAliasSyncedAsRootFamily(String bidder) {
-        return bidderCatalog.isAlias(bidder)
-                && bidderCatalog.usersyncerByName(bidder)
-                .map(Usersyncer::getCookieFamilySource)
-                .filter(source -> source == CookieFamilySource.ROOT)
-                .isPresent();
+        return cookieSyncBidders.get(bidder).isAliasSyncedAsRootFamily();
     }
 
     private BidderUsersyncStatus warningForAliasSyncedAsRootFamily(String bidder) {
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+        final String cookieFamilyName = cookieSyncBidders.get(bidder).getCookieFamilyName();
         return BidderUsersyncStatus.builder()
                 .bidder(bidder)
                 .error("synced as " + cookieFamilyName)
@@ -524,7 +511,7 @@ public class CookieSyncService {
                 .filter(entry -> entry.getValue() == RejectionReason.REJECTED_BY_TCF)
                 .map(Map.Entry::getKey)
                 .forEach(bidder -> metrics.updateCookieSyncTcfBlockedMetric(
-                        bidderCatalog.isValidName(bidder) ? bidder : "unknown"));
+                        cookieSyncBidders.get(bidder).isValid() ? bidder : "unknown"));
     }
 
     private static <T> T rethrowAsCookieSyncException(Throwable error, TcfContext tcfContext) {
@@ -0,0 +1,68 @@
+package org.prebid.server.cookie;
+
+import io.vertx.core.buffer.Buffer;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.JacksonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * Base64 encoded JSON representation of {@link Uids}.
+ */
+class LegacyUidsCookieCodec implements UidsCookieCodec {
+
+    private final JacksonMapper mapper;
+
+    private final int emptyUidsSize;
+    private final int optedOutEmptyUidsSize;
+    private final int optedInEmptyUidsSize;
+
+    LegacyUidsCookieCodec(JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+
+        emptyUidsSize = emptyUidsSize(null);
+        optedOutEmptyUidsSize = emptyUidsSize(true);
+        optedInEmptyUidsSize = emptyUidsSize(false);
+    }
+
+    private int emptyUidsSize(Boolean optout) {
+        return json(Uids.builder().uids(Collections.emptyMap()).optout(optout).build()).length;
+    }
+
+    @Override
+    public String encode(Uids uids) {
+        return Base64.getUrlEncoder().encodeToString(json(uids));
+    }
+
+    @Override
+    public Uids decode(byte[] payload) {
+        return mapper.decodeValue(Buffer.buffer(payload), Uids.class);
+    }
+
+    /**
+     * Returns size of {@code "familyName":{...}} member of UIDs JSON object.
+     */
+    @Override
+    public int entrySize(String familyName, UidWithExpiry uid) {
+        return json(Collections.singletonMap(familyName, uid)).length - 2;
+    }
+
+    @Override
+    public int valueLength(Boolean optout, int entriesCount, int entriesSize) {
+        final int baseSize = optout == null
+                ? emptyUidsSize
+                : optout ? optedOutEmptyUidsSize : optedInEmptyUidsSize;
+        final int separatorsSize = Math.max(entriesCount - 1, 0);
+        final int payloadSize = baseSize + entriesSize + separatorsSize;
+
+        return (payloadSize + 2) / 3 * 4;
+    }
+
+    private byte[] json(Object value) {
+        return mapper.encodeToString(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,30 @@
+package org.prebid.server.cookie;
+
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+/**
+ * Converts {@link Uids} to the uids cookie value and back.
+ * <p>
+ * Encoded size is the sum of independently computed sizes of UIDs plus format overhead, so that cookie length can be
+ * tracked while UIDs are added or removed without encoding the whole cookie again.
+ */
+interface UidsCookieCodec {
+
+    String encode(Uids uids);
+
+    /**
+     * Decodes payload (cookie value after Base64 decoding).
+     */
+    Uids decode(byte[] payload);
+
+    /**
+     * Returns number of payload bytes taken by the given UID.
+     */
+    int entrySize(String familyName, UidWithExpiry uid);
+
+    /**
+     * Returns length of cookie value holding given number of UIDs of given total size.
+     */
+    int valueLength(Boolean optout, int entriesCount, int entriesSize);
+}
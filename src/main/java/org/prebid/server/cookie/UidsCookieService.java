@@ -1,11 +1,11 @@
 package org.prebid.server.cookie;
 
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.CookieSameSite;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.model.UidsCookieFormat;
 import org.prebid.server.cookie.model.UidsCookieUpdateResult;
 import org.prebid.server.cookie.proto.Uids;
 import org.prebid.server.json.DecodeException;
@@ -19,6 +19,8 @@ import org.prebid.server.util.HttpUtil;
 import java.time.Duration;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
@@ -48,6 +50,10 @@ public class UidsCookieService {
     private final Metrics metrics;
     private final JacksonMapper mapper;
 
+    private final UidsCookieCodec legacyCodec;
+    private final UidsCookieCodec compactCodec;
+    private final UidsCookieCodec codec;
+
     public UidsCookieService(String optOutCookieName,
                              String optOutCookieValue,
                              String hostCookieFamily,
@@ -55,6 +61,7 @@ public class UidsCookieService {
                              String hostCookieDomain,
                              int ttlDays,
                              int maxCookieSizeBytes,
+                             UidsCookieFormat cookieFormat,
                              PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
                              Metrics metrics,
                              JacksonMapper mapper) {
@@ -74,6 +81,10 @@ public class UidsCookieService {
         this.prioritizedCoopSyncProvider = Objects.requireNonNull(prioritizedCoopSyncProvider);
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
+
+        legacyCodec = new LegacyUidsCookieCodec(mapper);
+        compactCodec = new CompactUidsCookieCodec();
+        codec = Objects.requireNonNull(cookieFormat) == UidsCookieFormat.compact ? compactCodec : legacyCodec;
     }
 
     /**
@@ -123,13 +134,17 @@ public class UidsCookieService {
     }
 
     /**
-     * Parses cookies {@link Map} and composes {@link Uids} model.
+     * Parses cookies {@link Map} and composes {@link Uids} model. Cookie value may be in any of
+     * {@link UidsCookieFormat}s regardless of the configured one.
      */
     public Uids parseUids(Map<String, String> cookies) {
         if (cookies.containsKey(COOKIE_NAME)) {
             final String cookieValue = cookies.get(COOKIE_NAME);
             try {
-                return mapper.decodeValue(Buffer.buffer(Base64.getUrlDecoder().decode(cookieValue)), Uids.class);
+                final byte[] payload = Base64.getUrlDecoder().decode(cookieValue);
+                return CompactUidsCookieCodec.isCompact(payload)
+                        ? compactCodec.decode(payload)
+                        : legacyCodec.decode(payload);
             } catch (IllegalArgumentException | DecodeException e) {
                 logger.debug("Could not decode or parse {} cookie value {}", e, COOKIE_NAME, cookieValue);
             }
@@ -138,20 +153,23 @@ public class UidsCookieService {
     }
 
     /**
-     * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
-     * as a value.
+     * Creates a {@link Cookie} with 'uids' as a name and supplied {@link UidsCookie} encoded in configured
+     * {@link UidsCookieFormat} as a value.
      */
     public Cookie toCookie(UidsCookie uidsCookie) {
-        return makeCookie(uidsCookie);
+        return makeCookie(codec.encode(uidsCookie.getCookieUids()));
     }
 
-    private int cookieBytesLength(UidsCookie uidsCookie) {
-        return makeCookie(uidsCookie).encode().getBytes().length;
+    /**
+     * Returns max length of the cookie value to fit the limit, value is Base64 text, so its chars are bytes.
+     */
+    private int maxCookieValueLength() {
+        return maxCookieSizeBytes - makeCookie(StringUtils.EMPTY).encode().getBytes().length;
     }
 
-    private Cookie makeCookie(UidsCookie uidsCookie) {
+    private Cookie makeCookie(String value) {
         return Cookie
-                .cookie(COOKIE_NAME, Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes()))
+                .cookie(COOKIE_NAME, value)
                 .setPath("/")
                 .setSameSite(CookieSameSite.NONE)
                 .setSecure(true)
@@ -266,24 +284,58 @@ public class UidsCookieService {
     }
 
     private boolean cookieExceededMaxLength(UidsCookie uidsCookie) {
-        return maxCookieSizeBytes > 0 && cookieBytesLength(uidsCookie) > maxCookieSizeBytes;
+        if (maxCookieSizeBytes <= 0) {
+            return false;
+        }
+
+        final Map<String, UidWithExpiry> uids = uidsCookie.getCookieUids().getUids();
+        int entriesSize = 0;
+        for (Map.Entry<String, UidWithExpiry> entry : uids.entrySet()) {
+            entriesSize += codec.entrySize(entry.getKey(), entry.getValue());
+        }
+
+        return codec.valueLength(uidsCookie.getCookieUids().getOptout(), uids.size(), entriesSize)
+                > maxCookieValueLength();
     }
 
+    /**
+     * Removes UIDs in ascending priority order until cookie fits the limit. Size of each UID is computed once and
+     * subtracted from the cookie size as UIDs are removed, so that cookie is not encoded again for every removal.
+     */
     private UidsCookie trimToLimit(UidsCookie uidsCookie) {
-        if (!cookieExceededMaxLength(uidsCookie)) {
+        if (maxCookieSizeBytes <= 0) {
+            return uidsCookie;
+        }
+
+        final Uids uids = uidsCookie.getCookieUids();
+        final Map<String, Integer> familyToEntrySize = new HashMap<>();
+        int entriesSize = 0;
+        for (Map.Entry<String, UidWithExpiry> entry : uids.getUids().entrySet()) {
+            final int entrySize = codec.entrySize(entry.getKey(), entry.getValue());
+            familyToEntrySize.put(entry.getKey(), entrySize);
+            entriesSize += entrySize;
+        }
+
+        final int maxValueLength = maxCookieValueLength();
+        int entriesCount = familyToEntrySize.size();
+        if (codec.valueLength(uids.getOptout(), entriesCount, entriesSize) <= maxValueLength) {
             return uidsCookie;
         }
 
-        UidsCookie trimmedUids = uidsCookie;
+        final Set<String> familiesToRemove = new HashSet<>();
         final Iterator<String> familyToRemoveIterator = cookieFamilyNamesByAscendingPriority(uidsCookie);
 
-        while (familyToRemoveIterator.hasNext() && cookieExceededMaxLength(trimmedUids)) {
+        while (familyToRemoveIterator.hasNext()
+                && codec.valueLength(uids.getOptout(), entriesCount, entriesSize) > maxValueLength) {
+
             final String familyToRemove = familyToRemoveIterator.next();
             metrics.updateUserSyncSizedOutMetric(familyToRemove);
-            trimmedUids = trimmedUids.deleteUid(familyToRemove);
+            familiesToRemove.add(familyToRemove);
+            entriesSize -= familyToEntrySize.get(familyToRemove);
+            entriesCount--;
         }
 
-        return trimmedUids;
+        return uidsCookie.deleteUids(familiesToRemove);
     }
 
     private Iterator<String> cookieFamilyNamesByAscendingPriority(UidsCookie uidsCookie) {
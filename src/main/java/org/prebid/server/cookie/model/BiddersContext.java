@@ -86,6 +86,23 @@ public class BiddersContext {
                 .build();
     }
 
+    public BiddersContext withRejectedBidders(Map<String, RejectionReason> bidderToReason) {
+        if (bidderToReason.isEmpty()) {
+            return this;
+        }
+
+        final Map<String, RejectionReason> updatedRejectedBidders = new HashMap<>(rejectedBidders);
+        final Map<String, UsersyncMethod> updatedMethods = new HashMap<>(bidderUsersyncMethod);
+
+        updatedRejectedBidders.putAll(bidderToReason);
+        updatedMethods.keySet().removeAll(bidderToReason.keySet());
+
+        return toBuilder()
+                .rejectedBidders(updatedRejectedBidders)
+                .bidderUsersyncMethod(updatedMethods)
+                .build();
+    }
+
     public BiddersContext withBidderUsersyncMethod(String bidder, UsersyncMethod method) {
         if (rejectedBidders.containsKey(bidder)) {
             return this;
@@ -96,4 +113,15 @@ public class BiddersContext {
 
         return toBuilder().bidderUsersyncMethod(updatedMethods).build();
     }
+
+    public BiddersContext withBidderUsersyncMethods(Map<String, UsersyncMethod> bidderToMethod) {
+        final Map<String, UsersyncMethod> updatedMethods = new HashMap<>(bidderUsersyncMethod);
+        bidderToMethod.forEach((bidder, method) -> {
+            if (!rejectedBidders.containsKey(bidder)) {
+                updatedMethods.put(bidder, method);
+            }
+        });
+
+        return toBuilder().bidderUsersyncMethod(updatedMethods).build();
+    }
 }
@@ -0,0 +1,17 @@
+package org.prebid.server.cookie.model;
+
+/**
+ * Defines encoding of the uids cookie written by server. Cookies in any of these formats are accepted in requests.
+ */
+public enum UidsCookieFormat {
+
+    /**
+     * Base64 encoded JSON.
+     */
+    legacy,
+
+    /**
+     * Base64 encoded versioned binary format, see {@link org.prebid.server.cookie.CompactUidsCookieCodec}.
+     */
+    compact
+}
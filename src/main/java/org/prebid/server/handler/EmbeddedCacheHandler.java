@@ -0,0 +1,65 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.EmbeddedCacheStore;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.verticles.server.HttpEndpoint;
+import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serves creatives from the {@link EmbeddedCacheStore} the same way Prebid Cache GET endpoint does.
+ */
+public class EmbeddedCacheHandler implements ApplicationResource {
+
+    private static final String UUID_PARAMETER = "uuid";
+    private static final String XML_CREATIVE_TYPE = "xml";
+
+    private final EmbeddedCacheStore embeddedCacheStore;
+
+    public EmbeddedCacheHandler(EmbeddedCacheStore embeddedCacheStore) {
+        this.embeddedCacheStore = Objects.requireNonNull(embeddedCacheStore);
+    }
+
+    @Override
+    public List<HttpEndpoint> endpoints() {
+        return Collections.singletonList(HttpEndpoint.of(HttpMethod.GET, Endpoint.cache.value()));
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final String uuid = routingContext.request().getParam(UUID_PARAMETER);
+        if (StringUtils.isBlank(uuid)) {
+            respondWith(routingContext, HttpResponseStatus.BAD_REQUEST, "Missing required parameter uuid");
+            return;
+        }
+
+        final EmbeddedCacheStore.StoredValue storedValue = embeddedCacheStore.get(uuid);
+        if (storedValue == null) {
+            respondWith(routingContext, HttpResponseStatus.NOT_FOUND, "uuid=%s: Not found".formatted(uuid));
+            return;
+        }
+
+        final CharSequence contentType = XML_CREATIVE_TYPE.equals(storedValue.getType())
+                ? HttpHeaderValues.APPLICATION_XML
+                : HttpHeaderValues.APPLICATION_JSON;
+
+        HttpUtil.executeSafely(routingContext, Endpoint.cache, response -> response
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, contentType)
+                .end(storedValue.getValue()));
+    }
+
+    private static void respondWith(RoutingContext routingContext, HttpResponseStatus status, String body) {
+        HttpUtil.executeSafely(routingContext, Endpoint.cache, response -> response
+                .setStatusCode(status.code())
+                .end(body));
+    }
+}
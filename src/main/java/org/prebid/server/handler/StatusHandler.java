@@ -6,6 +6,7 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.health.HealthChecker;
+import org.prebid.server.health.model.Status;
 import org.prebid.server.health.model.StatusResponse;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.model.Endpoint;
@@ -45,10 +46,20 @@ public class StatusHandler implements ApplicationResource {
             final TreeMap<String, StatusResponse> nameToStatus = new TreeMap<>(healthCheckers.stream()
                     .collect(Collectors.toMap(HealthChecker::name, HealthChecker::status)));
 
+            // lets load balancer keep instance out until all of its components are up
+            final HttpResponseStatus status = nameToStatus.values().stream().anyMatch(StatusHandler::isDown)
+                    ? HttpResponseStatus.SERVICE_UNAVAILABLE
+                    : HttpResponseStatus.OK;
+
             HttpUtil.executeSafely(routingContext, Endpoint.status,
                     response -> response
+                            .setStatusCode(status.code())
                             .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
                             .end(mapper.encodeToString(nameToStatus)));
         }
     }
+
+    private static boolean isDown(StatusResponse statusResponse) {
+        return Status.DOWN.name().equals(statusResponse.getStatus());
+    }
 }
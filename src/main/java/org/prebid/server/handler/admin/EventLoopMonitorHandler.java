@@ -0,0 +1,68 @@
+package org.prebid.server.handler.admin;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.EventLoopMonitor;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Handles HTTP request for event loops health information: current lag, pending tasks and recent slow tasks.
+ */
+public class EventLoopMonitorHandler implements Handler<RoutingContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLoopMonitorHandler.class);
+
+    private final EventLoopMonitor eventLoopMonitor;
+    private final String endpoint;
+    private final JacksonMapper mapper;
+
+    public EventLoopMonitorHandler(EventLoopMonitor eventLoopMonitor, String endpoint, JacksonMapper mapper) {
+        this.eventLoopMonitor = Objects.requireNonNull(eventLoopMonitor);
+        this.endpoint = Objects.requireNonNull(endpoint);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        try {
+            final String body = mapper.mapper().writeValueAsString(Response.of(
+                    eventLoopMonitor.eventLoopsStats(),
+                    eventLoopMonitor.slowTasks()));
+
+            respondWith(routingContext, HttpResponseStatus.OK, body);
+        } catch (JsonProcessingException e) {
+            final String message = "Critical error when marshaling event loops health response";
+            logger.error(message, e);
+
+            respondWith(routingContext, HttpResponseStatus.INTERNAL_SERVER_ERROR, message);
+        }
+    }
+
+    private void respondWith(RoutingContext routingContext, HttpResponseStatus status, String body) {
+        HttpUtil.executeSafely(routingContext, endpoint,
+                response -> response
+                        .setStatusCode(status.code())
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                        .end(body));
+    }
+
+    @AllArgsConstructor(staticName = "of")
+    @Value
+    private static class Response {
+
+        List<EventLoopMonitor.EventLoopStats> eventLoops;
+
+        List<EventLoopMonitor.SlowTask> slowTasks;
+    }
+}
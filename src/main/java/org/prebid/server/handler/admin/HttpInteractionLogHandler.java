@@ -7,10 +7,12 @@ import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.log.model.HttpInteractionCapture;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.util.HttpUtil;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 public class HttpInteractionLogHandler implements Handler<RoutingContext> {
@@ -20,6 +22,11 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
     private static final String ACCOUNT_PARAMETER = "account";
     private static final String BIDDER_PARAMETER = "bidder";
     private static final String LIMIT_PARAMETER = "limit";
+    private static final String SAMPLING_RATE_PARAMETER = "samplingRate";
+    private static final String MODE_PARAMETER = "mode";
+
+    private static final String READ_MODE = "read";
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
 
     private final int maxLimit;
     private final HttpInteractionLogger httpInteractionLogger;
@@ -34,6 +41,10 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
     @Override
     public void handle(RoutingContext routingContext) {
         final MultiMap parameters = routingContext.request().params();
+        if (READ_MODE.equals(parameters.get(MODE_PARAMETER))) {
+            respondWithCapturedInteractions(routingContext);
+            return;
+        }
 
         try {
             httpInteractionLogger.setSpec(HttpLogSpec.of(
@@ -41,7 +52,9 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
                     readStatusCode(parameters),
                     readAccount(parameters),
                     readBidder(parameters),
-                    readLimit(parameters)));
+                    readLimit(parameters),
+                    readSamplingRate(parameters),
+                    readOutput(parameters)));
 
             HttpUtil.executeSafely(routingContext, endpoint,
                     HttpServerResponse::end);
@@ -97,6 +110,49 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
         return limit;
     }
 
+    private double readSamplingRate(MultiMap parameters) {
+        final String value = parameters.get(SAMPLING_RATE_PARAMETER);
+        final double samplingRate;
+        try {
+            samplingRate = value != null ? Double.parseDouble(value) : 1.0;
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid '%s' parameter value".formatted(SAMPLING_RATE_PARAMETER));
+        }
+
+        if (!(samplingRate > 0 && samplingRate <= 1)) {
+            throw new InvalidRequestException(
+                    "Parameter '%s' must be greater than 0 and not greater than 1".formatted(SAMPLING_RATE_PARAMETER));
+        }
+
+        return samplingRate;
+    }
+
+    private HttpLogSpec.Output readOutput(MultiMap parameters) {
+        final String mode = parameters.get(MODE_PARAMETER);
+        try {
+            return mode != null ? HttpLogSpec.Output.valueOf(mode) : HttpLogSpec.Output.log;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid '%s' parameter value, allowed values '[log, capture, %s]'"
+                    .formatted(MODE_PARAMETER, READ_MODE));
+        }
+    }
+
+    /**
+     * Streams captured interactions as NDJSON, serializing them one by one.
+     */
+    private void respondWithCapturedInteractions(RoutingContext routingContext) {
+        final List<HttpInteractionCapture> captures = httpInteractionLogger.capturedInteractions();
+
+        HttpUtil.executeSafely(routingContext, endpoint, response -> {
+            response.setChunked(true);
+            response.putHeader(HttpUtil.CONTENT_TYPE_HEADER, NDJSON_CONTENT_TYPE);
+            for (HttpInteractionCapture capture : captures) {
+                response.write(httpInteractionLogger.encodeCapture(capture) + '\n');
+            }
+            response.end();
+        });
+    }
+
     private Integer getIntParameter(String parameterName, MultiMap parameters) {
         final String value = parameters.get(parameterName);
         try {
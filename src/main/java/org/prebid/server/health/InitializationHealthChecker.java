@@ -0,0 +1,62 @@
+package org.prebid.server.health;
+
+import org.prebid.server.health.model.Status;
+import org.prebid.server.health.model.StatusResponse;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports readiness of initializers the application doesn't wait for on startup: status is {@link Status#DOWN}
+ * until each of them is initialized successfully.
+ */
+public class InitializationHealthChecker implements HealthChecker {
+
+    private static final String NAME = "initialization";
+
+    private final Set<String> deferrableInitializers;
+    private final Clock clock;
+
+    private final Set<String> pendingInitializers;
+    private volatile StatusResponse status;
+
+    public InitializationHealthChecker(Set<String> deferrableInitializers, Clock clock) {
+        this.deferrableInitializers = Collections.unmodifiableSet(Objects.requireNonNull(deferrableInitializers));
+        this.clock = Objects.requireNonNull(clock);
+
+        pendingInitializers = ConcurrentHashMap.newKeySet();
+        pendingInitializers.addAll(deferrableInitializers);
+        status = statusResponse(pendingInitializers.isEmpty() ? Status.UP : Status.DOWN);
+    }
+
+    public boolean isDeferrable(String initializer) {
+        return deferrableInitializers.contains(initializer);
+    }
+
+    /**
+     * Failed initializer stays pending, so the status remains {@link Status#DOWN}.
+     */
+    public void initialized(String initializer, boolean succeeded) {
+        if (succeeded && pendingInitializers.remove(initializer) && pendingInitializers.isEmpty()) {
+            status = statusResponse(Status.UP);
+        }
+    }
+
+    private StatusResponse statusResponse(Status value) {
+        return StatusResponse.of(value.name(), ZonedDateTime.now(clock));
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public StatusResponse status() {
+        return status;
+    }
+}
@@ -12,18 +12,28 @@ import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.InvocationResult;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.vertx.EventLoopMonitor;
 
 import java.time.Clock;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+/**
+ * Executes hooks of the single {@link ExecutionGroup}.
+ * <p>
+ * All hooks of the group are invoked at once against the same input payload, each one with its own timeout,
+ * so the group takes as long as its slowest hook. Their results are applied to the payload afterwards
+ * strictly in the order hooks are listed in the group, which keeps the outcome deterministic.
+ */
 class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
     private static final ConditionalLogger conditionalLogger =
             new ConditionalLogger(LoggerFactory.getLogger(GroupExecutor.class));
 
     private final Vertx vertx;
+    private final EventLoopMonitor eventLoopMonitor;
+    private final ModuleExecutors moduleExecutors;
     private final Clock clock;
 
     private ExecutionGroup group;
@@ -33,16 +43,24 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
 
-    private GroupExecutor(Vertx vertx, Clock clock) {
+    private GroupExecutor(Vertx vertx,
+                          EventLoopMonitor eventLoopMonitor,
+                          ModuleExecutors moduleExecutors,
+                          Clock clock) {
+
         this.vertx = vertx;
+        this.eventLoopMonitor = eventLoopMonitor;
+        this.moduleExecutors = moduleExecutors;
         this.clock = clock;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> GroupExecutor<PAYLOAD, CONTEXT> create(
             Vertx vertx,
+            EventLoopMonitor eventLoopMonitor,
+            ModuleExecutors moduleExecutors,
             Clock clock) {
 
-        return new GroupExecutor<>(vertx, clock);
+        return new GroupExecutor<>(vertx, eventLoopMonitor, moduleExecutors, clock);
     }
 
     public GroupExecutor<PAYLOAD, CONTEXT> withGroup(ExecutionGroup group) {
@@ -84,6 +102,7 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         for (final HookId hookId : group.getHookSequence()) {
             final Hook<PAYLOAD, CONTEXT> hook = hookProvider.apply(hookId);
 
+            // hook is invoked right away, only applying of its result is chained after the preceding hooks
             final long startTime = clock.millis();
             final Future<InvocationResult<PAYLOAD>> invocationResult =
                     executeHook(hook, group.getTimeout(), initialGroupResult, hookId);
@@ -107,13 +126,38 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
             return Future.failedFuture(new FailedException("Hook implementation does not exist or disabled"));
         }
 
+        final String moduleCode = hookId.getModuleCode();
+        if (moduleExecutors.isOffloaded(moduleCode)) {
+            return executeWithTimeout(
+                    () -> offloadHookCall(moduleCode, hook, groupResult.payload(), invocationContext(timeout, hookId)),
+                    timeout);
+        }
+
+        final String hookName = moduleCode + "." + hookId.getHookImplCode();
         return executeWithTimeout(
-                () -> hook.call(
-                        groupResult.payload(),
-                        invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId))),
+                () -> eventLoopMonitor.track(
+                        EventLoopMonitor.TaskType.hook,
+                        hookName,
+                        () -> hook.call(groupResult.payload(), invocationContext(timeout, hookId))),
                 timeout);
     }
 
+    /**
+     * Invocation context is passed to the module thread already built, since module contexts must only be
+     * accessed from the event loop which saves them.
+     */
+    private Future<InvocationResult<PAYLOAD>> offloadHookCall(String moduleCode,
+                                                              Hook<PAYLOAD, CONTEXT> hook,
+                                                              PAYLOAD payload,
+                                                              CONTEXT invocationContext) {
+
+        return moduleExecutors.execute(moduleCode, () -> hook.call(payload, invocationContext));
+    }
+
+    private CONTEXT invocationContext(Long timeout, HookId hookId) {
+        return invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId));
+    }
+
     private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
         final Promise<T> promise = Promise.promise();
 
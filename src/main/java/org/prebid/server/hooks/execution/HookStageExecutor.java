@@ -47,6 +47,7 @@ import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountHooksConfiguration;
+import org.prebid.server.vertx.EventLoopMonitor;
 
 import java.time.Clock;
 import java.util.Collection;
@@ -69,6 +70,8 @@ public class HookStageExecutor {
     private final HookCatalog hookCatalog;
     private final TimeoutFactory timeoutFactory;
     private final Vertx vertx;
+    private final EventLoopMonitor eventLoopMonitor;
+    private final ModuleExecutors moduleExecutors;
     private final Clock clock;
 
     private HookStageExecutor(ExecutionPlan hostExecutionPlan,
@@ -76,6 +79,8 @@ public class HookStageExecutor {
                               HookCatalog hookCatalog,
                               TimeoutFactory timeoutFactory,
                               Vertx vertx,
+                              EventLoopMonitor eventLoopMonitor,
+                              ModuleExecutors moduleExecutors,
                               Clock clock) {
 
         this.hostExecutionPlan = hostExecutionPlan;
@@ -83,6 +88,8 @@ public class HookStageExecutor {
         this.hookCatalog = hookCatalog;
         this.timeoutFactory = timeoutFactory;
         this.vertx = vertx;
+        this.eventLoopMonitor = eventLoopMonitor;
+        this.moduleExecutors = moduleExecutors;
         this.clock = clock;
     }
 
@@ -91,6 +98,8 @@ public class HookStageExecutor {
                                            HookCatalog hookCatalog,
                                            TimeoutFactory timeoutFactory,
                                            Vertx vertx,
+                                           EventLoopMonitor eventLoopMonitor,
+                                           ModuleExecutors moduleExecutors,
                                            Clock clock,
                                            JacksonMapper mapper) {
 
@@ -103,6 +112,8 @@ public class HookStageExecutor {
                 hookCatalog,
                 Objects.requireNonNull(timeoutFactory),
                 Objects.requireNonNull(vertx),
+                Objects.requireNonNull(eventLoopMonitor),
+                Objects.requireNonNull(moduleExecutors),
                 Objects.requireNonNull(clock));
     }
 
@@ -137,6 +148,7 @@ public class HookStageExecutor {
                 .withInitialPayload(AuctionRequestPayloadImpl.of(bidRequest))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(true)
+                .withPhaseTimer(auctionContext.getPhaseTimer())
                 .execute();
     }
 
@@ -155,6 +167,7 @@ public class HookStageExecutor {
                 .withInitialPayload(AuctionRequestPayloadImpl.of(bidRequest))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(true)
+                .withPhaseTimer(auctionContext.getPhaseTimer())
                 .execute();
     }
 
@@ -173,6 +186,7 @@ public class HookStageExecutor {
                 .withInitialPayload(BidderRequestPayloadImpl.of(bidderRequest.getBidRequest()))
                 .withInvocationContextProvider(bidderInvocationContextProvider(endpoint, auctionContext, bidder))
                 .withRejectAllowed(true)
+                .withPhaseTimer(auctionContext.getPhaseTimer())
                 .execute();
     }
 
@@ -193,6 +207,7 @@ public class HookStageExecutor {
                 .withInitialPayload(BidderResponsePayloadImpl.of(bids))
                 .withInvocationContextProvider(bidderInvocationContextProvider(endpoint, auctionContext, bidder))
                 .withRejectAllowed(true)
+                .withPhaseTimer(auctionContext.getPhaseTimer())
                 .execute();
     }
 
@@ -212,6 +227,7 @@ public class HookStageExecutor {
                 .withInitialPayload(BidderResponsePayloadImpl.of(bids))
                 .withInvocationContextProvider(bidderInvocationContextProvider(endpoint, auctionContext, bidder))
                 .withRejectAllowed(true)
+                .withPhaseTimer(auctionContext.getPhaseTimer())
                 .execute();
     }
 
@@ -230,6 +246,7 @@ public class HookStageExecutor {
                 .withInitialPayload(AllProcessedBidResponsesPayloadImpl.of(bidderResponses))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(false)
+                .withPhaseTimer(auctionContext.getPhaseTimer())
                 .execute();
     }
 
@@ -246,6 +263,7 @@ public class HookStageExecutor {
                 .withInitialPayload(AuctionResponsePayloadImpl.of(bidResponse))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(false)
+                .withPhaseTimer(auctionContext.getPhaseTimer())
                 .execute();
     }
 
@@ -254,7 +272,7 @@ public class HookStageExecutor {
             String entity,
             HookExecutionContext context) {
 
-        return StageExecutor.<PAYLOAD, CONTEXT>create(hookCatalog, vertx, clock)
+        return StageExecutor.<PAYLOAD, CONTEXT>create(hookCatalog, vertx, eventLoopMonitor, moduleExecutors, clock)
                 .withStage(stage)
                 .withEntity(entity)
                 .withHookExecutionContext(context);
@@ -0,0 +1,150 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.hooks.execution.model.ModuleExecutionConfig;
+import org.prebid.server.hooks.execution.model.ModuleExecutionMode;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs hooks of the modules configured to do their work off the event loop.
+ * <p>
+ * Hook call of such a module is submitted to the module's own executor (virtual threads or fixed worker pool)
+ * bounded by the number of pending tasks, and its result is delivered back to the Vert.x context the hook was
+ * invoked from. Executors are owned by this class and should be released with {@link #shutdown()}.
+ */
+public class ModuleExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModuleExecutors.class);
+
+    private final Metrics metrics;
+    private final Map<String, ModuleExecutor> executors;
+
+    public ModuleExecutors(Map<String, ModuleExecutionConfig> moduleExecutionConfigs, Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+
+        final Map<String, ModuleExecutor> createdExecutors = new HashMap<>();
+        Objects.requireNonNull(moduleExecutionConfigs).forEach((moduleCode, config) -> {
+            final ModuleExecutionMode mode = config.getMode();
+            if (mode != null && mode != ModuleExecutionMode.event_loop) {
+                createdExecutors.put(moduleCode, new ModuleExecutor(moduleCode, config));
+            }
+        });
+        executors = Collections.unmodifiableMap(createdExecutors);
+    }
+
+    public boolean isOffloaded(String moduleCode) {
+        return executors.containsKey(moduleCode);
+    }
+
+    /**
+     * Runs given action on the executor of the given module or right away if module is executed on event loop.
+     */
+    public <T> Future<T> execute(String moduleCode, Supplier<Future<T>> action) {
+        final ModuleExecutor executor = executors.get(moduleCode);
+        return executor != null ? executor.execute(action) : action.get();
+    }
+
+    /**
+     * Stops accepting new hook calls and shuts down executors of all modules. Hook calls already submitted
+     * are allowed to complete.
+     */
+    public void shutdown() {
+        executors.values().forEach(ModuleExecutor::shutdown);
+    }
+
+    private static ExecutorService createExecutorService(String moduleCode, ModuleExecutionConfig config) {
+        return config.getMode() == ModuleExecutionMode.virtual_threads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(config.getPoolSize(), threadFactory(moduleCode));
+    }
+
+    private static ThreadFactory threadFactory(String moduleCode) {
+        final AtomicInteger threadsCount = new AtomicInteger();
+        return runnable -> {
+            final String name = "hooks-%s-%d".formatted(moduleCode, threadsCount.getAndIncrement());
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static <T> Future<T> executeSafely(Supplier<Future<T>> action) {
+        try {
+            final Future<T> result = action.get();
+            return result != null ? result : Future.failedFuture(new FailedException("Action returned null"));
+        } catch (Throwable e) {
+            return Future.failedFuture(new FailedException(e));
+        }
+    }
+
+    private static <T> void completeOnContext(Context context, Promise<T> promise, AsyncResult<T> result) {
+        if (context != null) {
+            context.runOnContext(ignored -> promise.handle(result));
+        } else {
+            promise.handle(result);
+        }
+    }
+
+    private class ModuleExecutor {
+
+        private final String moduleCode;
+        private final int maxPendingTasks;
+        private final ExecutorService executorService;
+        private final AtomicInteger pendingTasks = new AtomicInteger();
+
+        ModuleExecutor(String moduleCode, ModuleExecutionConfig config) {
+            this.moduleCode = moduleCode;
+            this.maxPendingTasks = config.getMaxPendingTasks();
+            this.executorService = createExecutorService(moduleCode, config);
+
+            metrics.createModulePendingTasksGauge(moduleCode, pendingTasks::get);
+        }
+
+        <T> Future<T> execute(Supplier<Future<T>> action) {
+            if (pendingTasks.incrementAndGet() > maxPendingTasks) {
+                pendingTasks.decrementAndGet();
+                return Future.failedFuture(new RejectedExecutionException(
+                        "Too many pending tasks for module " + moduleCode));
+            }
+
+            final Context context = Vertx.currentContext();
+            final Promise<T> promise = Promise.promise();
+            final long submittedAtNanos = System.nanoTime();
+            try {
+                executorService.execute(() -> {
+                    pendingTasks.decrementAndGet();
+                    metrics.updateModuleWaitTimeMetric(moduleCode, System.nanoTime() - submittedAtNanos);
+
+                    executeSafely(action).onComplete(result -> completeOnContext(context, promise, result));
+                });
+            } catch (RejectedExecutionException e) {
+                pendingTasks.decrementAndGet();
+                return Future.failedFuture(e);
+            }
+
+            return promise.future();
+        }
+
+        void shutdown() {
+            executorService.shutdown();
+            logger.info("Executor of module {} is shut down", moduleCode);
+        }
+    }
+}
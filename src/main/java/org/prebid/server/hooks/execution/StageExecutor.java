@@ -2,6 +2,8 @@ package org.prebid.server.hooks.execution;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.prebid.server.auction.model.AuctionPhase;
+import org.prebid.server.auction.model.PhaseTimer;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
@@ -9,6 +11,7 @@ import org.prebid.server.hooks.execution.model.StageExecutionPlan;
 import org.prebid.server.hooks.execution.model.StageWithHookType;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
+import org.prebid.server.vertx.EventLoopMonitor;
 
 import java.time.Clock;
 import java.util.ArrayList;
@@ -17,6 +20,8 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
     private final HookCatalog hookCatalog;
     private final Vertx vertx;
+    private final EventLoopMonitor eventLoopMonitor;
+    private final ModuleExecutors moduleExecutors;
     private final Clock clock;
 
     private StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage;
@@ -26,19 +31,29 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private InvocationContextProvider<CONTEXT> invocationContextProvider;
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
+    private PhaseTimer phaseTimer;
+
+    private StageExecutor(HookCatalog hookCatalog,
+                          Vertx vertx,
+                          EventLoopMonitor eventLoopMonitor,
+                          ModuleExecutors moduleExecutors,
+                          Clock clock) {
 
-    private StageExecutor(HookCatalog hookCatalog, Vertx vertx, Clock clock) {
         this.hookCatalog = hookCatalog;
         this.vertx = vertx;
+        this.eventLoopMonitor = eventLoopMonitor;
+        this.moduleExecutors = moduleExecutors;
         this.clock = clock;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> create(
             HookCatalog hookCatalog,
             Vertx vertx,
+            EventLoopMonitor eventLoopMonitor,
+            ModuleExecutors moduleExecutors,
             Clock clock) {
 
-        return new StageExecutor<>(hookCatalog, vertx, clock);
+        return new StageExecutor<>(hookCatalog, vertx, eventLoopMonitor, moduleExecutors, clock);
     }
 
     public StageExecutor<PAYLOAD, CONTEXT> withStage(StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage) {
@@ -78,7 +93,18 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
+    public StageExecutor<PAYLOAD, CONTEXT> withPhaseTimer(PhaseTimer phaseTimer) {
+        this.phaseTimer = phaseTimer;
+        return this;
+    }
+
     public Future<HookStageExecutionResult<PAYLOAD>> execute() {
+        return phaseTimer != null
+                ? phaseTimer.measure(AuctionPhase.hooks, this::executeGroups)
+                : executeGroups();
+    }
+
+    private Future<HookStageExecutionResult<PAYLOAD>> executeGroups() {
         Future<StageResult<PAYLOAD>> stageFuture = Future.succeededFuture(StageResult.of(initialPayload, entity));
 
         for (final ExecutionGroup group : executionPlan.getGroups()) {
@@ -94,7 +120,7 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     }
 
     private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group, PAYLOAD initialPayload) {
-        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock)
+        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, eventLoopMonitor, moduleExecutors, clock)
                 .withGroup(group)
                 .withInitialPayload(initialPayload)
                 .withHookProvider(
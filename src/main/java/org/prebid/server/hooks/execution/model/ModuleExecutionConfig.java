@@ -0,0 +1,13 @@
+package org.prebid.server.hooks.execution.model;
+
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class ModuleExecutionConfig {
+
+    ModuleExecutionMode mode;
+
+    int poolSize;
+
+    int maxPendingTasks;
+}
@@ -0,0 +1,6 @@
+package org.prebid.server.hooks.execution.model;
+
+public enum ModuleExecutionMode {
+
+    event_loop, worker_pool, virtual_threads
+}
@@ -33,4 +33,14 @@ public class JsonLogic {
         }
         throw new JsonLogicEvaluationException("Wrong type was returned.");
     }
+
+    /**
+     * Compiles expression into the predicate over the given context, which gives the same result as
+     * {@link #evaluate} over the data map of this context.
+     */
+    public <T> JsonLogicPredicate<T> compile(JsonLogicNode jsonLogicNode,
+                                             JsonLogicVariableResolver<T> variableResolver) {
+
+        return new JsonLogicCompiler<>(evaluator, variableResolver).compile(jsonLogicNode);
+    }
 }
@@ -0,0 +1,230 @@
+package org.prebid.server.json;
+
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicArray;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicOperation;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicPrimitive;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicString;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicVariable;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluator;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.EqualityExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.InExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.InequalityExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.NotExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.NumericComparisonExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.PreEvaluatedArgumentsExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.StrictEqualityExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.StrictInequalityExpression;
+import io.github.jamsesso.jsonlogic.utils.ArrayLike;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Turns parsed JsonLogic expression into the tree of Java nodes, so that evaluation neither walks the AST nor looks
+ * up operators by name, and variables are read by accessors given by {@link JsonLogicVariableResolver}.
+ * <p>
+ * Logic, conditional, comparison and {@code in} operators are compiled, their semantics follows the interpreter.
+ * Any other operation (as well as variables with a path or a computed default) is evaluated by the interpreter over
+ * the data map, which is built at most once per evaluation and only if such operation is reached.
+ */
+class JsonLogicCompiler<T> {
+
+    private static final Map<String, PreEvaluatedArgumentsExpression> PRE_EVALUATED_EXPRESSIONS =
+            Stream.of(
+                            EqualityExpression.INSTANCE,
+                            StrictEqualityExpression.INSTANCE,
+                            NotExpression.SINGLE,
+                            NotExpression.DOUBLE,
+                            NumericComparisonExpression.GT,
+                            NumericComparisonExpression.GTE,
+                            NumericComparisonExpression.LT,
+                            NumericComparisonExpression.LTE,
+                            InExpression.INSTANCE)
+                    .collect(Collectors.toMap(
+                            PreEvaluatedArgumentsExpression::key,
+                            Function.identity()));
+
+    private final JsonLogicEvaluator evaluator;
+    private final JsonLogicVariableResolver<T> variableResolver;
+
+    JsonLogicCompiler(JsonLogicEvaluator evaluator, JsonLogicVariableResolver<T> variableResolver) {
+        this.evaluator = Objects.requireNonNull(evaluator);
+        this.variableResolver = Objects.requireNonNull(variableResolver);
+    }
+
+    JsonLogicPredicate<T> compile(JsonLogicNode jsonLogicNode) {
+        final CompiledNode<T> root = compileNode(jsonLogicNode);
+
+        return context -> {
+            final Object result = root.evaluate(new EvaluationContext<>(context, variableResolver));
+
+            if (result instanceof Boolean booleanResult) {
+                return booleanResult;
+            }
+            throw new JsonLogicEvaluationException("Wrong type was returned.");
+        };
+    }
+
+    private CompiledNode<T> compileNode(JsonLogicNode node) {
+        if (node instanceof JsonLogicPrimitive<?> primitive) {
+            final Object value = evaluator.evaluate(primitive);
+            return context -> value;
+        }
+        if (node instanceof JsonLogicArray array) {
+            return compileArray(array);
+        }
+        if (node instanceof JsonLogicVariable variable) {
+            return compileVariable(variable);
+        }
+        if (node instanceof JsonLogicOperation operation) {
+            return compileOperation(operation);
+        }
+
+        return interpreted(node);
+    }
+
+    private CompiledNode<T> compileArray(JsonLogicArray array) {
+        final List<CompiledNode<T>> elements = compileAll(array);
+
+        return context -> {
+            final List<Object> values = new ArrayList<>(elements.size());
+            for (CompiledNode<T> element : elements) {
+                values.add(element.evaluate(context));
+            }
+            return values;
+        };
+    }
+
+    private CompiledNode<T> compileVariable(JsonLogicVariable variable) {
+        final String name = variable.getKey() instanceof JsonLogicString key ? key.getValue() : null;
+        final Function<T, Object> accessor = name != null && !name.isEmpty() && name.indexOf('.') < 0
+                ? variableResolver.accessor(name)
+                : null;
+        if (accessor == null || !(variable.getDefaultValue() instanceof JsonLogicPrimitive<?> defaultPrimitive)) {
+            return interpreted(variable);
+        }
+
+        final Object defaultValue = evaluator.evaluate(defaultPrimitive);
+        return context -> {
+            final Object value = JsonLogicEvaluator.transform(accessor.apply(context.context));
+            return value != null ? value : defaultValue;
+        };
+    }
+
+    private CompiledNode<T> compileOperation(JsonLogicOperation operation) {
+        final String operator = operation.getOperator();
+        final JsonLogicArray arguments = operation.getArguments();
+
+        if (("and".equals(operator) || "or".equals(operator)) && !arguments.isEmpty()) {
+            return compileLogic("and".equals(operator), compileAll(arguments));
+        }
+        if ("if".equals(operator) || "?:".equals(operator)) {
+            return compileIf(compileAll(arguments));
+        }
+
+        if (InequalityExpression.INSTANCE.key().equals(operator)) {
+            return negated(compilePreEvaluated(EqualityExpression.INSTANCE, compileAll(arguments)));
+        }
+        if (StrictInequalityExpression.INSTANCE.key().equals(operator)) {
+            return negated(compilePreEvaluated(StrictEqualityExpression.INSTANCE, compileAll(arguments)));
+        }
+
+        final PreEvaluatedArgumentsExpression expression = PRE_EVALUATED_EXPRESSIONS.get(operator);
+        return expression != null
+                ? compilePreEvaluated(expression, compileAll(arguments))
+                : interpreted(operation);
+    }
+
+    private static <T> CompiledNode<T> compileLogic(boolean isAnd, List<CompiledNode<T>> arguments) {
+        return context -> {
+            Object result = null;
+            for (CompiledNode<T> argument : arguments) {
+                result = argument.evaluate(context);
+                if (JsonLogic.truthy(result) != isAnd) {
+                    return result;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static <T> CompiledNode<T> compileIf(List<CompiledNode<T>> arguments) {
+        final int size = arguments.size();
+
+        return context -> {
+            int i = 0;
+            for (; i < size - 1; i += 2) {
+                if (JsonLogic.truthy(arguments.get(i).evaluate(context))) {
+                    return arguments.get(i + 1).evaluate(context);
+                }
+            }
+            return i < size ? arguments.get(i).evaluate(context) : null;
+        };
+    }
+
+    private static <T> CompiledNode<T> compilePreEvaluated(PreEvaluatedArgumentsExpression expression,
+                                                           List<CompiledNode<T>> arguments) {
+
+        return context -> {
+            List<Object> values = new ArrayList<>(arguments.size());
+            for (CompiledNode<T> argument : arguments) {
+                values.add(argument.evaluate(context));
+            }
+
+            if (values.size() == 1 && ArrayLike.isEligible(values.get(0))) {
+                values = new ArrayLike(values.get(0));
+            }
+            return expression.evaluate(values, null);
+        };
+    }
+
+    private static <T> CompiledNode<T> negated(CompiledNode<T> node) {
+        return context -> !(Boolean) node.evaluate(context);
+    }
+
+    private List<CompiledNode<T>> compileAll(JsonLogicArray nodes) {
+        final List<CompiledNode<T>> compiled = new ArrayList<>(nodes.size());
+        for (JsonLogicNode node : nodes) {
+            compiled.add(compileNode(node));
+        }
+        return compiled;
+    }
+
+    private CompiledNode<T> interpreted(JsonLogicNode node) {
+        return context -> evaluator.evaluate(node, context.data());
+    }
+
+    @FunctionalInterface
+    private interface CompiledNode<T> {
+
+        Object evaluate(EvaluationContext<T> context) throws JsonLogicEvaluationException;
+    }
+
+    private static class EvaluationContext<T> {
+
+        private final T context;
+        private final JsonLogicVariableResolver<T> variableResolver;
+
+        private Map<String, Object> data;
+
+        EvaluationContext(T context, JsonLogicVariableResolver<T> variableResolver) {
+            this.context = context;
+            this.variableResolver = variableResolver;
+        }
+
+        Map<String, Object> data() {
+            if (data == null) {
+                data = variableResolver.data(context);
+            }
+            return data;
+        }
+    }
+}
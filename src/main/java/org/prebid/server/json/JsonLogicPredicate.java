@@ -0,0 +1,12 @@
+package org.prebid.server.json;
+
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+
+/**
+ * JsonLogic expression compiled against the context of type {@code T}, see {@link JsonLogic#compile}.
+ */
+@FunctionalInterface
+public interface JsonLogicPredicate<T> {
+
+    boolean test(T context) throws JsonLogicEvaluationException;
+}
@@ -0,0 +1,21 @@
+package org.prebid.server.json;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Tells {@link JsonLogic#compile} how variables of the expression are read from the context of type {@code T}.
+ */
+public interface JsonLogicVariableResolver<T> {
+
+    /**
+     * Returns accessor reading the variable with the given name straight from the context or null if the variable
+     * should be read from the {@link #data} map.
+     */
+    Function<T, Object> accessor(String name);
+
+    /**
+     * Returns all variables of the context as the map, used for parts of expression evaluated by the interpreter.
+     */
+    Map<String, Object> data(T context);
+}
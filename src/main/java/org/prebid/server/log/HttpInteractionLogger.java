@@ -3,23 +3,36 @@ package org.prebid.server.log;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.model.HttpInteractionCapture;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.ObjectUtil;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class HttpInteractionLogger {
 
@@ -27,15 +40,80 @@ public class HttpInteractionLogger {
     private final Logger logger = LoggerFactory.getLogger(HTTP_INTERACTION_LOGGER_NAME);
 
     private final JacksonMapper mapper;
+    private final Clock clock;
 
     private final AtomicReference<SpecWithCounter> specWithCounter = new AtomicReference<>();
+    private final AtomicReference<AtomicReferenceArray<HttpInteractionCapture>> captures = new AtomicReference<>();
+    private final Cache<BidderRequest, HttpInteractionCapture> awaitingBidderResponse = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
 
-    public HttpInteractionLogger(JacksonMapper mapper) {
+    public HttpInteractionLogger(JacksonMapper mapper, Clock clock) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.clock = Objects.requireNonNull(clock);
     }
 
+    /**
+     * Sets criteria for the interactions to log. Interactions captured by the previous spec with
+     * {@link HttpLogSpec.Output#capture} output are discarded once the new one with the same output is set.
+     */
     public void setSpec(HttpLogSpec spec) {
-        specWithCounter.set(SpecWithCounter.of(spec));
+        final SpecWithCounter newSpecWithCounter = SpecWithCounter.of(spec);
+        if (newSpecWithCounter.getCaptures() != null) {
+            captures.set(newSpecWithCounter.getCaptures());
+        }
+        specWithCounter.set(newSpecWithCounter);
+    }
+
+    /**
+     * Returns interactions captured so far, in order they were captured.
+     */
+    public List<HttpInteractionCapture> capturedInteractions() {
+        final AtomicReferenceArray<HttpInteractionCapture> captures = this.captures.get();
+        if (captures == null) {
+            return Collections.emptyList();
+        }
+
+        final List<HttpInteractionCapture> result = new ArrayList<>(captures.length());
+        for (int i = 0; i < captures.length(); i++) {
+            final HttpInteractionCapture capture = captures.get(i);
+            if (capture != null) {
+                result.add(capture);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Serializes captured interaction to one-line JSON.
+     */
+    public String encodeCapture(HttpInteractionCapture capture) {
+        final ObjectNode node = mapper.mapper().createObjectNode();
+        node.put("timestamp", capture.getTimestamp());
+        node.put("account", capture.getAccount());
+
+        final String bidder = capture.getBidder();
+        if (bidder != null) {
+            node.put("type", "bidder");
+            node.put("bidder", bidder);
+            node.set("request", mapper.mapper().valueToTree(
+                    bidRequestWithBidderName(bidder, capture.getBidderRequest().getBidRequest())));
+
+            final BidderResponse bidderResponse = capture.getBidderResponse().get();
+            if (bidderResponse != null) {
+                node.set("response", mapper.mapper().valueToTree(bidderResponse.getSeatBid()));
+                node.put("response_time_ms", bidderResponse.getResponseTime());
+            }
+        } else {
+            node.put("type", capture.getEndpoint().name());
+            node.put("uri", capture.getUri());
+            node.set("request", toJsonNode(capture.getRequestBody()));
+            node.put("status_code", capture.getStatusCode());
+            node.set("response", toJsonNode(capture.getResponseBody()));
+            node.put("duration_ms", capture.getDurationMs());
+        }
+
+        return mapper.encodeToString(node);
     }
 
     public void maybeLogOpenrtb2Auction(AuctionContext auctionContext,
@@ -43,16 +121,26 @@ public class HttpInteractionLogger {
                                         int statusCode,
                                         String responseBody) {
 
-        if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)) {
-            logger.info(
-                    "Requested URL: \"{}\", request body: \"{}\", response status: \"{}\", response body: \"{}\"",
-                    routingContext.request().uri(),
-                    toOneLineString(routingContext.getBodyAsString()),
-                    statusCode,
-                    responseBody);
+        final SpecWithCounter specWithCounter =
+                matchingSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext);
+        if (specWithCounter == null) {
+            return;
+        }
 
-            incLoggedInteractions();
+        if (specWithCounter.getCaptures() != null) {
+            capture(specWithCounter, endpointCapture(
+                    HttpLogSpec.Endpoint.auction, auctionContext, routingContext, statusCode, responseBody));
+            return;
         }
+
+        logger.info(
+                "Requested URL: \"{}\", request body: \"{}\", response status: \"{}\", response body: \"{}\"",
+                routingContext.request().uri(),
+                toOneLineString(routingContext.getBodyAsString()),
+                statusCode,
+                responseBody);
+
+        incLoggedInteractions(specWithCounter);
     }
 
     private String toOneLineString(String value) {
@@ -68,71 +156,173 @@ public class HttpInteractionLogger {
                                     int statusCode,
                                     String responseBody) {
 
-        if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext)) {
-            logger.info(
-                    "Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
-                    routingContext.request().uri(),
-                    statusCode,
-                    responseBody);
+        final SpecWithCounter specWithCounter = matchingSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext);
+        if (specWithCounter == null) {
+            return;
+        }
 
-            incLoggedInteractions();
+        if (specWithCounter.getCaptures() != null) {
+            capture(specWithCounter, endpointCapture(
+                    HttpLogSpec.Endpoint.amp, auctionContext, routingContext, statusCode, responseBody));
+            return;
         }
+
+        logger.info(
+                "Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
+                routingContext.request().uri(),
+                statusCode,
+                responseBody);
+
+        incLoggedInteractions(specWithCounter);
     }
 
     public void maybeLogBidderRequest(AuctionContext context, BidderRequest bidderRequest) {
         final String bidder = bidderRequest.getBidder();
-        if (interactionSatisfiesSpec(context, bidder)) {
-            final BidRequest bidRequest = bidderRequest.getBidRequest();
-            final BidRequest updatedBidRequest = bidRequestWithBidderName(bidder, bidRequest);
-            final String jsonBidRequest = mapper.encodeToString(updatedBidRequest);
-            logger.info("Request body to {}: \"{}\"", bidder, jsonBidRequest);
+        final SpecWithCounter specWithCounter = matchingSpec(context, bidder);
+        if (specWithCounter == null) {
+            return;
+        }
 
-            incLoggedInteractions();
+        if (specWithCounter.getCaptures() != null) {
+            final HttpInteractionCapture capture = HttpInteractionCapture.builder()
+                    .timestamp(clock.millis())
+                    .account(accountId(context))
+                    .bidder(bidder)
+                    .bidderRequest(bidderRequest)
+                    .build();
+            awaitingBidderResponse.put(bidderRequest, capture);
+            capture(specWithCounter, capture);
+            return;
         }
+
+        final BidRequest bidRequest = bidderRequest.getBidRequest();
+        final BidRequest updatedBidRequest = bidRequestWithBidderName(bidder, bidRequest);
+        final String jsonBidRequest = mapper.encodeToString(updatedBidRequest);
+        logger.info("Request body to {}: \"{}\"", bidder, jsonBidRequest);
+
+        incLoggedInteractions(specWithCounter);
     }
 
-    private boolean interactionSatisfiesSpec(HttpLogSpec.Endpoint requestEndpoint,
-                                             int requestStatusCode,
-                                             AuctionContext auctionContext) {
+    /**
+     * Attaches bidder response to the captured request, if any.
+     */
+    public void maybeLogBidderResponse(BidderRequest bidderRequest, BidderResponse bidderResponse) {
+        final HttpInteractionCapture capture = awaitingBidderResponse.asMap().remove(bidderRequest);
+        if (capture != null) {
+            capture.getBidderResponse().set(bidderResponse);
+        }
+    }
+
+    private HttpInteractionCapture endpointCapture(HttpLogSpec.Endpoint endpoint,
+                                                   AuctionContext auctionContext,
+                                                   RoutingContext routingContext,
+                                                   int statusCode,
+                                                   String responseBody) {
+
+        final long now = clock.millis();
+        final TimeoutContext timeoutContext =
+                ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getTimeoutContext);
+
+        return HttpInteractionCapture.builder()
+                .timestamp(now)
+                .account(accountId(auctionContext))
+                .endpoint(endpoint)
+                .uri(routingContext.request().uri())
+                .requestBody(endpoint == HttpLogSpec.Endpoint.auction ? routingContext.body().buffer() : null)
+                .statusCode(statusCode)
+                .responseBody(responseBody)
+                .durationMs(timeoutContext != null ? now - timeoutContext.getStartTime() : null)
+                .build();
+    }
+
+    private void capture(SpecWithCounter specWithCounter, HttpInteractionCapture capture) {
+        final AtomicReferenceArray<HttpInteractionCapture> captures = specWithCounter.getCaptures();
+        final long index = specWithCounter.getLoggedInteractions().getAndIncrement();
+        if (index < captures.length()) {
+            captures.set((int) index, capture);
+        }
+        if (index + 1 >= specWithCounter.getSpec().getLimit()) {
+            this.specWithCounter.compareAndSet(specWithCounter, null);
+        }
+    }
+
+    private JsonNode toJsonNode(Buffer value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return mapper.mapper().readTree(value.getBytes());
+        } catch (IOException e) {
+            return TextNode.valueOf(value.toString());
+        }
+    }
+
+    private JsonNode toJsonNode(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return mapper.mapper().readTree(value);
+        } catch (JsonProcessingException e) {
+            return TextNode.valueOf(value);
+        }
+    }
+
+    private SpecWithCounter matchingSpec(HttpLogSpec.Endpoint requestEndpoint,
+                                         int requestStatusCode,
+                                         AuctionContext auctionContext) {
 
         final SpecWithCounter specWithCounter = this.specWithCounter.get();
         if (specWithCounter == null) {
-            return false;
+            return null;
         }
 
-        final Account requestAccount = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getAccount);
-        final String requestAccountId = ObjectUtil.getIfNotNull(requestAccount, Account::getId);
+        final String requestAccountId = accountId(auctionContext);
 
         final HttpLogSpec spec = specWithCounter.getSpec();
         final HttpLogSpec.Endpoint endpoint = spec.getEndpoint();
         final Integer statusCode = spec.getStatusCode();
         final String account = spec.getAccount();
 
-        return (endpoint == null || endpoint == requestEndpoint)
+        final boolean matches = (endpoint == null || endpoint == requestEndpoint)
                 && (statusCode == null || statusCode == requestStatusCode)
                 && (account == null || account.equals(requestAccountId));
+
+        return matches && isSampled(spec) ? specWithCounter : null;
     }
 
-    private boolean interactionSatisfiesSpec(AuctionContext auctionContext,
-                                             String requestBidder) {
+    private SpecWithCounter matchingSpec(AuctionContext auctionContext, String requestBidder) {
         final SpecWithCounter specWithCounter = this.specWithCounter.get();
         if (specWithCounter == null) {
-            return false;
+            return null;
         }
 
         final HttpLogSpec.Endpoint requestEndpoint =
                 parseHttpLogEndpoint(ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getRequestTypeMetric));
-        final Account requestAccount = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getAccount);
-        final String requestAccountId = requestAccount != null ? requestAccount.getId() : null;
+        final String requestAccountId = accountId(auctionContext);
 
         final HttpLogSpec spec = specWithCounter.getSpec();
         final HttpLogSpec.Endpoint endpoint = spec.getEndpoint();
         final String account = spec.getAccount();
         final String bidder = spec.getBidder();
 
-        return (endpoint == null || endpoint == requestEndpoint)
+        final boolean matches = (endpoint == null || endpoint == requestEndpoint)
                 && (account == null || account.equals(requestAccountId))
                 && bidder != null && bidder.equals(requestBidder);
+
+        return matches && isSampled(spec) ? specWithCounter : null;
+    }
+
+    private static String accountId(AuctionContext auctionContext) {
+        final Account account = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getAccount);
+        return ObjectUtil.getIfNotNull(account, Account::getId);
+    }
+
+    private static boolean isSampled(HttpLogSpec spec) {
+        final double samplingRate = spec.getSamplingRate();
+        return samplingRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRate;
     }
 
     private HttpLogSpec.Endpoint parseHttpLogEndpoint(MetricName requestTypeMetric) {
@@ -149,11 +339,9 @@ public class HttpInteractionLogger {
         return null;
     }
 
-    private void incLoggedInteractions() {
-        final SpecWithCounter specWithCounter = this.specWithCounter.get();
-        if (specWithCounter != null
-                && specWithCounter.getLoggedInteractions().incrementAndGet() >= specWithCounter.getSpec().getLimit()) {
-            this.specWithCounter.set(null);
+    private void incLoggedInteractions(SpecWithCounter specWithCounter) {
+        if (specWithCounter.getLoggedInteractions().incrementAndGet() >= specWithCounter.getSpec().getLimit()) {
+            this.specWithCounter.compareAndSet(specWithCounter, null);
         }
     }
 
@@ -186,11 +374,24 @@ public class HttpInteractionLogger {
         return updatedImp;
     }
 
-    @Value(staticConstructor = "of")
+    @Value
     private static class SpecWithCounter {
 
         HttpLogSpec spec;
 
         AtomicLong loggedInteractions = new AtomicLong(0);
+
+        /**
+         * Write-once slots for the captured interactions, bounded by spec limit. Null if interactions are logged.
+         */
+        AtomicReferenceArray<HttpInteractionCapture> captures;
+
+        static SpecWithCounter of(HttpLogSpec spec) {
+            final AtomicReferenceArray<HttpInteractionCapture> captures = spec.getOutput() == HttpLogSpec.Output.capture
+                    ? new AtomicReferenceArray<>(spec.getLimit())
+                    : null;
+
+            return new SpecWithCounter(spec, captures);
+        }
     }
 }
@@ -0,0 +1,42 @@
+package org.prebid.server.log.model;
+
+import io.vertx.core.buffer.Buffer;
+import lombok.Builder;
+import lombok.Value;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Captured HTTP interaction: either an incoming request to the endpoint or a request to the bidder.
+ * <p>
+ * Holds references to the objects used while handling request, so capturing costs nothing but the allocation
+ * of this holder. Bidder response is attached once it arrives.
+ */
+@Builder
+@Value
+public class HttpInteractionCapture {
+
+    long timestamp;
+
+    String account;
+
+    HttpLogSpec.Endpoint endpoint;
+
+    String uri;
+
+    Buffer requestBody;
+
+    Integer statusCode;
+
+    String responseBody;
+
+    Long durationMs;
+
+    String bidder;
+
+    BidderRequest bidderRequest;
+
+    AtomicReference<BidderResponse> bidderResponse = new AtomicReference<>();
+}
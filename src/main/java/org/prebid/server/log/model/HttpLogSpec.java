@@ -15,7 +15,28 @@ public class HttpLogSpec {
 
     int limit;
 
+    double samplingRate;
+
+    Output output;
+
+    public static HttpLogSpec of(Endpoint endpoint, Integer statusCode, String account, String bidder, int limit) {
+        return of(endpoint, statusCode, account, bidder, limit, 1.0, Output.log);
+    }
+
     public enum Endpoint {
         auction, amp
     }
+
+    public enum Output {
+
+        /**
+         * Interactions are written to the log as soon as they happen.
+         */
+        log,
+
+        /**
+         * Interactions are kept in memory as is, to be serialized once they are read.
+         */
+        capture
+    }
 }
@@ -0,0 +1,47 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.prebid.server.auction.model.AuctionPhase;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Auction pipeline phases metrics support.
+ */
+class AuctionPhasesMetrics {
+
+    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
+    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
+    // thread-safe
+    private final Function<AuctionPhase, UpdatableMetrics> phaseMetricsCreator;
+    private final Map<AuctionPhase, UpdatableMetrics> phaseMetrics;
+
+    AuctionPhasesMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        this(metricRegistry, counterType, createPrefix());
+    }
+
+    AuctionPhasesMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+        Objects.requireNonNull(metricRegistry);
+        Objects.requireNonNull(counterType);
+        Objects.requireNonNull(prefix);
+
+        phaseMetricsCreator = phase -> new UpdatableMetrics(
+                metricRegistry, counterType, nameCreator(prefix, phase));
+        phaseMetrics = new EnumMap<>(AuctionPhase.class);
+    }
+
+    private static String createPrefix() {
+        return "auction";
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix, AuctionPhase phase) {
+        return metricName -> "%s.phase.%s.%s".formatted(prefix, phase, metricName);
+    }
+
+    UpdatableMetrics forPhase(AuctionPhase phase) {
+        return phaseMetrics.computeIfAbsent(phase, phaseMetricsCreator);
+    }
+}
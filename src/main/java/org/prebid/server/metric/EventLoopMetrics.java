@@ -0,0 +1,50 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Vert.x event loops health metrics support.
+ */
+class EventLoopMetrics {
+
+    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
+    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
+    // thread-safe
+    private final Function<Integer, UpdatableMetrics> eventLoopMetricsCreator;
+    private final Function<String, UpdatableMetrics> slowTaskMetricsCreator;
+    private final Map<Integer, UpdatableMetrics> eventLoopMetrics;
+    private final Map<String, UpdatableMetrics> slowTaskMetrics;
+
+    EventLoopMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        Objects.requireNonNull(metricRegistry);
+        Objects.requireNonNull(counterType);
+
+        eventLoopMetricsCreator = index -> new UpdatableMetrics(
+                metricRegistry, counterType, nameCreator("%s.%d".formatted(createPrefix(), index)));
+        slowTaskMetricsCreator = source -> new UpdatableMetrics(
+                metricRegistry, counterType, nameCreator("%s.slow_task.%s".formatted(createPrefix(), source)));
+        eventLoopMetrics = new HashMap<>();
+        slowTaskMetrics = new HashMap<>();
+    }
+
+    private static String createPrefix() {
+        return "event_loop";
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+
+    UpdatableMetrics forEventLoop(int index) {
+        return eventLoopMetrics.computeIfAbsent(index, eventLoopMetricsCreator);
+    }
+
+    UpdatableMetrics forSlowTask(String type, String name) {
+        return slowTaskMetrics.computeIfAbsent("%s.%s".formatted(type, name), slowTaskMetricsCreator);
+    }
+}
@@ -149,7 +149,18 @@ public enum MetricName {
 
     // activity
     disallowed_count("disallowed.count"),
-    processed_rules_count("processedrules.count");
+    processed_rules_count("processedrules.count"),
+
+    // prebid cache async write
+    retried,
+    dropped,
+
+    // event loop
+    lag,
+    pending_tasks,
+
+    // hooks execution off event loop
+    wait_time;
 
     private final String name;
 
@@ -3,6 +3,7 @@ package org.prebid.server.metric;
 import com.codahale.metrics.MetricRegistry;
 import com.iab.openrtb.request.Imp;
 import org.prebid.server.activity.Activity;
+import org.prebid.server.auction.model.AuctionPhase;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
@@ -16,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -58,6 +60,9 @@ public class Metrics extends UpdatableMetrics {
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
     private final HooksMetrics hooksMetrics;
+    private final AuctionPhasesMetrics auctionPhasesMetrics;
+    private final EventLoopMetrics eventLoopMetrics;
+    private final StartupMetrics startupMetrics;
 
     public Metrics(MetricRegistry metricRegistry,
                    CounterType counterType,
@@ -96,6 +101,9 @@ public class Metrics extends UpdatableMetrics {
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
+        auctionPhasesMetrics = new AuctionPhasesMetrics(metricRegistry, counterType);
+        eventLoopMetrics = new EventLoopMetrics(metricRegistry, counterType);
+        startupMetrics = new StartupMetrics(metricRegistry, counterType);
     }
 
     RequestsMetrics requests() {
@@ -166,6 +174,18 @@ public class Metrics extends UpdatableMetrics {
         return hooksMetrics;
     }
 
+    AuctionPhasesMetrics auctionPhases() {
+        return auctionPhasesMetrics;
+    }
+
+    EventLoopMetrics eventLoops() {
+        return eventLoopMetrics;
+    }
+
+    StartupMetrics startup() {
+        return startupMetrics;
+    }
+
     public void updateAppAndNoCookieAndImpsRequestedMetrics(boolean isApp, boolean liveUidsPresent, int numImps) {
         if (isApp) {
             incCounter(MetricName.app_requests);
@@ -543,6 +563,16 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().requests().updateTimer(MetricName.err, timeElapsed);
     }
 
+    public void updateCacheAsyncRequestRetried(String accountId) {
+        cache().requests().incCounter(MetricName.retried);
+        forAccount(accountId).cache().requests().incCounter(MetricName.retried);
+    }
+
+    public void updateCacheAsyncRequestDropped(String accountId) {
+        cache().requests().incCounter(MetricName.dropped);
+        forAccount(accountId).cache().requests().incCounter(MetricName.dropped);
+    }
+
     public void updateCacheCreativeSize(String accountId, int creativeSize, MetricName creativeType) {
         cache().creativeSize().updateHistogram(creativeType, creativeSize);
         forAccount(accountId).cache().creativeSize().updateHistogram(creativeType, creativeSize);
@@ -609,6 +639,54 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAuctionPhaseMetric(Account account, AuctionPhase phase, long nanos) {
+        auctionPhases().forPhase(phase).updateTimer(MetricName.duration, nanos, TimeUnit.NANOSECONDS);
+
+        // account might be null if request is rejected by the entrypoint hook
+        if (account != null && accountMetricsVerbosityResolver.forAccount(account)
+                .isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
+
+            forAccount(account.getId()).auctionPhases().forPhase(phase)
+                    .updateTimer(MetricName.duration, nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void createEventLoopPendingTasksGauge(int index, LongSupplier pendingTasksSupplier) {
+        eventLoops().forEventLoop(index).createGauge(MetricName.pending_tasks, pendingTasksSupplier);
+    }
+
+    public void updateEventLoopLagMetric(int index, long nanos) {
+        eventLoops().forEventLoop(index).updateTimer(MetricName.lag, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateEventLoopSlowTaskMetric(String type, String name, long nanos) {
+        eventLoops().forSlowTask(type, name).updateTimer(MetricName.duration, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateWarmupMetrics(long millis, int warmedUpBidders, int failedBidders) {
+        startup().warmup().updateTimer(MetricName.duration, millis);
+        startup().warmupBidders().incCounter(MetricName.ok, warmedUpBidders);
+        startup().warmupBidders().incCounter(MetricName.failed, failedBidders);
+    }
+
+    public void updateInitializerMetrics(String initializer, long millis, boolean succeeded) {
+        final UpdatableMetrics initializerMetrics = startup().forInitializer(initializer);
+        initializerMetrics.updateTimer(MetricName.duration, millis);
+        initializerMetrics.incCounter(succeeded ? MetricName.ok : MetricName.failed);
+    }
+
+    public void updateInitializerTimeoutMetric(String initializer) {
+        startup().forInitializer(initializer).incCounter(MetricName.timeout);
+    }
+
+    public void createModulePendingTasksGauge(String moduleCode, LongSupplier pendingTasksSupplier) {
+        hooks().module(moduleCode).createGauge(MetricName.pending_tasks, pendingTasksSupplier);
+    }
+
+    public void updateModuleWaitTimeMetric(String moduleCode, long nanos) {
+        hooks().module(moduleCode).updateTimer(MetricName.wait_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateAccountModuleDurationMetric(Account account, String moduleCode, Long executionTime) {
         if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
             forAccount(account.getId()).hooks().module(moduleCode).updateTimer(MetricName.duration, executionTime);
@@ -0,0 +1,54 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Application startup metrics support.
+ */
+class StartupMetrics {
+
+    private final UpdatableMetrics warmupMetrics;
+    private final UpdatableMetrics warmupBiddersMetrics;
+
+    private final Function<String, UpdatableMetrics> initializerMetricsCreator;
+    private final Map<String, UpdatableMetrics> initializerMetrics;
+
+    StartupMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        Objects.requireNonNull(metricRegistry);
+        Objects.requireNonNull(counterType);
+
+        warmupMetrics = new UpdatableMetrics(
+                metricRegistry, counterType, nameCreator("%s.warmup".formatted(createPrefix())));
+        warmupBiddersMetrics = new UpdatableMetrics(
+                metricRegistry, counterType, nameCreator("%s.warmup.bidders".formatted(createPrefix())));
+
+        initializerMetricsCreator = initializer -> new UpdatableMetrics(
+                metricRegistry, counterType, nameCreator("%s.initializer.%s".formatted(createPrefix(), initializer)));
+        initializerMetrics = new HashMap<>();
+    }
+
+    private static String createPrefix() {
+        return "startup";
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+
+    UpdatableMetrics warmup() {
+        return warmupMetrics;
+    }
+
+    UpdatableMetrics warmupBidders() {
+        return warmupBiddersMetrics;
+    }
+
+    UpdatableMetrics forInitializer(String initializer) {
+        return initializerMetrics.computeIfAbsent(initializer, initializerMetricsCreator);
+    }
+}
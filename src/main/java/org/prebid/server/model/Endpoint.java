@@ -19,6 +19,7 @@ public enum Endpoint {
     setuid("/setuid"),
 
     bidder_params("/bidders/params"),
+    cache("/cache"),
     event("/event"),
     getuids("/getuids"),
     info_bidders("/info/bidders"),
@@ -1,9 +1,10 @@
 package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iabtcf.decoder.TCString;
 import com.iabtcf.v2.RestrictionType;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.map.DefaultedMap;
 import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
@@ -11,25 +12,29 @@ import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 
 import java.util.Collection;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
 
+    /**
+     * The same TC string is checked for every purpose (twice, for configured and natural enforcement),
+     * so its publisher restrictions are decoded once and dropped together with the string.
+     */
+    private final Cache<TCString, PublisherRestrictions> publisherRestrictionsCache = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
     public Stream<VendorPermission> allowedByTypeStrategy(PurposeCode purpose,
                                                           TCString vendorConsent,
                                                           Collection<VendorPermissionWithGvl> vendorsForPurpose,
                                                           Collection<VendorPermissionWithGvl> excludedVendors,
                                                           boolean isEnforceVendors) {
 
-        final Map<Integer, RestrictionType> vendorToRestriction = vendorToRestriction(
-                purpose, vendorConsent, vendorsForPurpose, excludedVendors);
+        final PublisherRestrictions publisherRestrictions = publisherRestrictionsCache.get(
+                vendorConsent, PublisherRestrictions::of);
 
         final Stream<VendorPermission> allowedExcluded = toVendorPermissions(excludedVendors)
-                .filter(vendorPermission -> isNotRestricted(vendorPermission, vendorToRestriction));
+                .filter(vendorPermission -> isNotRestricted(purpose, vendorPermission, publisherRestrictions));
 
         final Stream<VendorPermission> allowedVendorPermissions = vendorsForPurpose.stream()
                 .filter(vendorPermissionWithGvl -> isAllowedByPublisherRestrictionAndFlexible(
@@ -37,42 +42,21 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
                         isEnforceVendors,
                         vendorPermissionWithGvl,
                         vendorConsent,
-                        vendorToRestriction.get(vendorPermissionWithGvl.getVendorPermission().getVendorId())))
+                        publisherRestrictions.restrictionFor(
+                                purpose.code(),
+                                vendorPermissionWithGvl.getVendorPermission().getVendorId())))
                 .map(VendorPermissionWithGvl::getVendorPermission);
 
         return Stream.concat(allowedExcluded, allowedVendorPermissions);
     }
 
-    private static Map<Integer, RestrictionType> vendorToRestriction(
-            PurposeCode purpose,
-            TCString vendorConsent,
-            Collection<VendorPermissionWithGvl> vendorsForPurpose,
-            Collection<VendorPermissionWithGvl> excludedVendors) {
-
-        final Set<Integer> participatingVendorsIds =
-                Stream.concat(vendorsForPurpose.stream(), excludedVendors.stream())
-                        .map(VendorPermissionWithGvl::getVendorPermission)
-                        .map(VendorPermission::getVendorId)
-                        .collect(Collectors.toSet());
-
-        final Map<Integer, RestrictionType> publisherRestrictions = new HashMap<>();
-        vendorConsent.getPublisherRestrictions().stream()
-                .filter(publisherRestriction -> publisherRestriction.getPurposeId() == purpose.code())
-                .forEach(publisherRestriction -> publisherRestriction.getVendorIds().toStream()
-                        .filter(participatingVendorsIds::contains)
-                        .forEach(vendorId -> publisherRestrictions.merge(
-                                vendorId,
-                                publisherRestriction.getRestrictionType(),
-                                (first, second) -> second == RestrictionType.NOT_ALLOWED ? second : first)));
-
-        return DefaultedMap.defaultedMap(publisherRestrictions, RestrictionType.UNDEFINED);
-    }
-
-    private boolean isNotRestricted(VendorPermission vendorPermission,
-                                    Map<Integer, RestrictionType> vendorToRestriction) {
+    private static boolean isNotRestricted(PurposeCode purpose,
+                                           VendorPermission vendorPermission,
+                                           PublisherRestrictions publisherRestrictions) {
 
         final Integer vendorId = vendorPermission.getVendorId();
-        return vendorId == null || vendorToRestriction.get(vendorId) != RestrictionType.NOT_ALLOWED;
+        return vendorId == null
+                || publisherRestrictions.restrictionFor(purpose.code(), vendorId) != RestrictionType.NOT_ALLOWED;
     }
 
     /**
@@ -0,0 +1,91 @@
+package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.IntIterator;
+import com.iabtcf.v2.PublisherRestriction;
+import com.iabtcf.v2.RestrictionType;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Publisher restrictions of the TC string as bitsets of vendor ids per purpose and restriction type.
+ * <p>
+ * Restrictions are decoded once, so that each purpose check for each vendor is a couple of bit lookups. When vendor
+ * is listed by several restrictions of the same purpose, the first one wins unless any of the others is
+ * {@link RestrictionType#NOT_ALLOWED}.
+ */
+class PublisherRestrictions {
+
+    private static final RestrictionType[] RESTRICTION_TYPES = RestrictionType.values();
+
+    private final Map<Integer, BitSet[]> purposeToVendorsByRestriction;
+
+    private PublisherRestrictions(Map<Integer, BitSet[]> purposeToVendorsByRestriction) {
+        this.purposeToVendorsByRestriction = purposeToVendorsByRestriction;
+    }
+
+    static PublisherRestrictions of(TCString tcString) {
+        final Map<Integer, BitSet[]> purposeToVendorsByRestriction = new HashMap<>();
+
+        for (PublisherRestriction publisherRestriction : tcString.getPublisherRestrictions()) {
+            final BitSet[] vendorsByRestriction = purposeToVendorsByRestriction.computeIfAbsent(
+                    publisherRestriction.getPurposeId(),
+                    ignored -> newVendorsByRestriction());
+            final RestrictionType restrictionType = publisherRestriction.getRestrictionType();
+
+            final IntIterator vendorIds = publisherRestriction.getVendorIds().intIterator();
+            while (vendorIds.hasNext()) {
+                restrict(vendorsByRestriction, vendorIds.nextInt(), restrictionType);
+            }
+        }
+
+        return new PublisherRestrictions(purposeToVendorsByRestriction);
+    }
+
+    private static BitSet[] newVendorsByRestriction() {
+        final BitSet[] vendorsByRestriction = new BitSet[RESTRICTION_TYPES.length];
+        for (int i = 0; i < vendorsByRestriction.length; i++) {
+            vendorsByRestriction[i] = new BitSet();
+        }
+        return vendorsByRestriction;
+    }
+
+    private static void restrict(BitSet[] vendorsByRestriction, int vendorId, RestrictionType restrictionType) {
+        if (vendorId < 0) {
+            return;
+        }
+
+        if (restrictionType == RestrictionType.NOT_ALLOWED) {
+            for (BitSet vendors : vendorsByRestriction) {
+                vendors.clear(vendorId);
+            }
+        } else if (restrictionOf(vendorsByRestriction, vendorId) != null) {
+            return;
+        }
+        vendorsByRestriction[restrictionType.ordinal()].set(vendorId);
+    }
+
+    private static RestrictionType restrictionOf(BitSet[] vendorsByRestriction, int vendorId) {
+        for (int i = 0; i < vendorsByRestriction.length; i++) {
+            if (vendorsByRestriction[i].get(vendorId)) {
+                return RESTRICTION_TYPES[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@link RestrictionType#UNDEFINED} if there is no restriction for the given vendor and purpose.
+     */
+    RestrictionType restrictionFor(int purposeId, Integer vendorId) {
+        final BitSet[] vendorsByRestriction = purposeToVendorsByRestriction.get(purposeId);
+        if (vendorsByRestriction == null || vendorId == null || vendorId < 0) {
+            return RestrictionType.UNDEFINED;
+        }
+
+        final RestrictionType restrictionType = restrictionOf(vendorsByRestriction, vendorId);
+        return restrictionType != null ? restrictionType : RestrictionType.UNDEFINED;
+    }
+}
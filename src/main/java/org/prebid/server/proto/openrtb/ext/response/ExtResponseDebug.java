@@ -28,4 +28,9 @@ public class ExtResponseDebug {
      * Defines the contract for bidresponse.ext.debug.trace
      */
     ExtDebugTrace trace;
+
+    /**
+     * Defines the contract for bidresponse.ext.debug.phases: time in microseconds spent in each auction phase
+     */
+    Map<String, Long> phases;
 }
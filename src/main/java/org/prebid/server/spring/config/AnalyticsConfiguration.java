@@ -6,6 +6,10 @@ import lombok.NoArgsConstructor;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
+import org.prebid.server.analytics.reporter.file.FileAnalyticsReporter;
+import org.prebid.server.analytics.reporter.file.FileAnalyticsWriter;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsProperties;
+import org.prebid.server.analytics.reporter.file.model.FsyncPolicy;
 import org.prebid.server.analytics.reporter.log.LogAnalyticsReporter;
 import org.prebid.server.analytics.reporter.pubstack.PubstackAnalyticsReporter;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
@@ -22,7 +26,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Clock;
 import java.util.List;
 
 @Configuration
@@ -52,6 +59,69 @@ public class AnalyticsConfiguration {
         return new LogAnalyticsReporter(mapper);
     }
 
+    @Configuration
+    @ConditionalOnProperty(prefix = "analytics.file", name = "enabled", havingValue = "true")
+    public static class FileAnalyticsConfiguration {
+
+        @Bean(destroyMethod = "close")
+        FileAnalyticsReporter fileAnalyticsReporter(
+                FileAnalyticsConfigurationProperties fileAnalyticsConfigurationProperties,
+                JacksonMapper jacksonMapper,
+                Metrics metrics,
+                Clock clock) {
+
+            final FileAnalyticsWriter writer = new FileAnalyticsWriter(
+                    fileAnalyticsConfigurationProperties.toComponentProperties(), clock);
+            writer.start();
+
+            return new FileAnalyticsReporter(writer, jacksonMapper, metrics, clock);
+        }
+
+        @Bean
+        @ConfigurationProperties(prefix = "analytics.file")
+        FileAnalyticsConfigurationProperties fileAnalyticsConfigurationProperties() {
+            return new FileAnalyticsConfigurationProperties();
+        }
+
+        @Validated
+        @NoArgsConstructor
+        @Data
+        private static class FileAnalyticsConfigurationProperties {
+
+            @NotBlank
+            String directory;
+
+            @NotNull
+            @Positive
+            Integer queueCapacity;
+
+            @NotNull
+            @Positive
+            Long maxFileSizeBytes;
+
+            @NotNull
+            @Positive
+            Long rotationIntervalMs;
+
+            @NotNull
+            FsyncPolicy fsyncPolicy;
+
+            @NotNull
+            Long fsyncIntervalMs;
+
+            public FileAnalyticsProperties toComponentProperties() {
+                return FileAnalyticsProperties.builder()
+                        .directory(getDirectory())
+                        .queueCapacity(getQueueCapacity())
+                        .maxFileSizeBytes(getMaxFileSizeBytes())
+                        .rotationIntervalMs(getRotationIntervalMs())
+                        .fsyncPolicy(getFsyncPolicy())
+                        .fsyncIntervalMs(getFsyncIntervalMs())
+                        .build();
+            }
+        }
+    }
+
     @Configuration
     @ConditionalOnProperty(prefix = "analytics.pubstack", name = "enabled", havingValue = "true")
     public static class PubstackAnalyticsConfiguration {
@@ -61,13 +131,15 @@ public class AnalyticsConfiguration {
                 PubstackAnalyticsConfiguratinProperties pubstackAnalyticsConfiguratinProperties,
                 HttpClient httpClient,
                 JacksonMapper jacksonMapper,
-                Vertx vertx) {
+                Vertx vertx,
+                Metrics metrics) {
 
             return new PubstackAnalyticsReporter(
                     pubstackAnalyticsConfiguratinProperties.toComponentProperties(),
                     httpClient,
                     jacksonMapper,
-                    vertx);
+                    vertx,
+                    metrics);
         }
 
         @Bean
@@ -108,6 +180,7 @@ public class AnalyticsConfiguration {
                         .count(getBuffers().getCount())
                         .timeoutMs(getTimeoutMs())
                         .reportTtlMs(getBuffers().getReportTtlMs())
+                        .maxPendingRequests(getBuffers().getMaxPendingRequests())
                         .build();
             }
         }
@@ -124,6 +197,9 @@ public class AnalyticsConfiguration {
 
             @NotNull
             Long reportTtlMs;
+
+            @NotNull
+            Integer maxPendingRequests;
         }
     }
 }
@@ -6,8 +6,13 @@ import lombok.NoArgsConstructor;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.hooks.execution.HookCatalog;
 import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.ModuleExecutors;
+import org.prebid.server.hooks.execution.model.ModuleExecutionConfig;
+import org.prebid.server.hooks.execution.model.ModuleExecutionMode;
 import org.prebid.server.hooks.v1.Module;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.EventLoopMonitor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,6 +20,8 @@ import org.springframework.validation.annotation.Validated;
 
 import java.time.Clock;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 public class HooksConfiguration {
@@ -29,6 +36,8 @@ public class HooksConfiguration {
                                         HookCatalog hookCatalog,
                                         TimeoutFactory timeoutFactory,
                                         Vertx vertx,
+                                        EventLoopMonitor eventLoopMonitor,
+                                        ModuleExecutors moduleExecutors,
                                         Clock clock,
                                         JacksonMapper mapper) {
 
@@ -38,10 +47,24 @@ public class HooksConfiguration {
                 hookCatalog,
                 timeoutFactory,
                 vertx,
+                eventLoopMonitor,
+                moduleExecutors,
                 clock,
                 mapper);
     }
 
+    @Bean(destroyMethod = "shutdown")
+    ModuleExecutors moduleExecutors(HooksConfigurationProperties hooksConfiguration, Metrics metrics) {
+        final Map<String, ModuleExecutionConfig> moduleExecutionConfigs = new HashMap<>();
+        hooksConfiguration.getModules().forEach((moduleCode, properties) ->
+                moduleExecutionConfigs.put(moduleCode, ModuleExecutionConfig.of(
+                        properties.getExecutionMode(),
+                        properties.getExecutionPoolSize(),
+                        properties.getExecutionMaxPendingTasks())));
+
+        return new ModuleExecutors(moduleExecutionConfigs, metrics);
+    }
+
     @Bean
     @ConfigurationProperties("hooks")
     HooksConfigurationProperties hooksConfigurationProperties() {
@@ -56,5 +79,18 @@ public class HooksConfiguration {
         String hostExecutionPlan;
 
         String defaultAccountExecutionPlan;
+
+        Map<String, ModuleExecutionProperties> modules = new HashMap<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    private static class ModuleExecutionProperties {
+
+        ModuleExecutionMode executionMode = ModuleExecutionMode.event_loop;
+
+        int executionPoolSize = 4;
+
+        int executionMaxPendingTasks = 1000;
     }
 }
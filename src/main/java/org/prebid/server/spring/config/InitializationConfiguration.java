@@ -1,16 +1,26 @@
 package org.prebid.server.spring.config;
 
 import com.codahale.metrics.ScheduledReporter;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.health.InitializationHealthChecker;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.Initializable;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.prebid.server.vertx.verticles.server.DaemonVerticle;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Some services are initialized after context is fully populated to overcome deadlock that may happen due to lazy
@@ -29,9 +39,41 @@ import java.util.List;
 public class InitializationConfiguration {
 
     @Bean
-    VerticleDefinition daemonVerticleDefinition(@Autowired(required = false) List<Initializable> initializables,
-                                                @Autowired(required = false) List<ScheduledReporter> reporters) {
+    VerticleDefinition daemonVerticleDefinition(
+            @Autowired(required = false) Map<String, Initializable> initializables,
+            @Autowired(required = false) InitializationHealthChecker initializationHealthChecker,
+            @Value("${startup.critical-timeout-ms}") long criticalTimeoutMs,
+            @Value("${startup.deferrable-timeout-ms}") long deferrableTimeoutMs,
+            @Autowired(required = false) List<ScheduledReporter> reporters,
+            Metrics metrics,
+            Clock clock) {
 
-        return VerticleDefinition.ofSingleInstance(() -> new DaemonVerticle(initializables, reporters));
+        return VerticleDefinition.ofSingleInstance(() -> new DaemonVerticle(
+                initializables,
+                initializationHealthChecker,
+                criticalTimeoutMs,
+                deferrableTimeoutMs,
+                reporters,
+                metrics,
+                clock));
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${startup.deferrable-initializers:}' != ''")
+    InitializationHealthChecker initializationHealthChecker(
+            @Autowired(required = false) Map<String, Initializable> initializables,
+            @Value("${startup.deferrable-initializers}") String deferrableInitializersAsString,
+            Clock clock) {
+
+        final Set<String> initializerNames = MapUtils.emptyIfNull(initializables).keySet();
+
+        // names of initializers not enabled in configuration are skipped, otherwise status would never be UP
+        final Set<String> deferrableInitializers = Stream.of(deferrableInitializersAsString.split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .filter(initializerNames::contains)
+                .collect(Collectors.toSet());
+
+        return new InitializationHealthChecker(deferrableInitializers, clock);
     }
 }
@@ -2,6 +2,7 @@ package org.prebid.server.spring.config;
 
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
+import io.netty.util.internal.PlatformDependent;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
@@ -13,6 +14,7 @@ import org.prebid.server.activity.infrastructure.creator.ActivityInfrastructureC
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
+import org.prebid.server.auction.CreativeScanner;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.DsaEnforcer;
 import org.prebid.server.auction.ExchangeService;
@@ -67,15 +69,21 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.BidderErrorNotifier;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
+import org.prebid.server.bidder.BidderWarmupService;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.cache.BasicCachePutBatcher;
+import org.prebid.server.cache.CachePutBatcher;
 import org.prebid.server.cache.CacheService;
+import org.prebid.server.cache.EmbeddedCacheStore;
 import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.cache.model.CacheWriteMode;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.CoopSyncProvider;
 import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
 import org.prebid.server.cookie.UidsCookieService;
+import org.prebid.server.cookie.model.UidsCookieFormat;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.events.EventsService;
 import org.prebid.server.execution.TimeoutFactory;
@@ -114,6 +122,7 @@ import org.prebid.server.validation.ResponseBidValidator;
 import org.prebid.server.validation.VideoRequestValidator;
 import org.prebid.server.vast.VastModifier;
 import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.EventLoopMonitor;
 import org.prebid.server.vertx.httpclient.BasicHttpClient;
 import org.prebid.server.vertx.httpclient.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.httpclient.HttpClient;
@@ -147,6 +156,8 @@ public class ServiceConfiguration {
 
     private static final Logger logger = LoggerFactory.getLogger(ServiceConfiguration.class);
 
+    private static final String DEFAULT_HOST_ID = "localhost";
+
     @Value("${logging.sampling-rate:0.01}")
     private double logSamplingRate;
 
@@ -159,9 +170,16 @@ public class ServiceConfiguration {
             @Value("${cache.banner-ttl-seconds:#{null}}") Integer bannerCacheTtl,
             @Value("${cache.video-ttl-seconds:#{null}}") Integer videoCacheTtl,
             @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
+            @Value("${auction.cache.async-write.enabled:false}") boolean asyncWriteEnabled,
+            @Value("${auction.cache.async-write.timeout-ms:1000}") long asyncWriteTimeoutMs,
+            @Value("${auction.cache.async-write.retries:0}") int asyncWriteRetries,
+            @Value("${auction.cache.async-write.retry-delay-ms:100}") long asyncWriteRetryDelayMs,
+            @Autowired(required = false) CachePutBatcher cachePutBatcher,
+            @Autowired(required = false) EmbeddedCacheStore embeddedCacheStore,
             VastModifier vastModifier,
             EventsService eventsService,
             HttpClient httpClient,
+            Vertx vertx,
             Metrics metrics,
             Clock clock,
             JacksonMapper mapper) {
@@ -172,14 +190,76 @@ public class ServiceConfiguration {
                 CacheService.getCacheEndpointUrl(scheme, host, path),
                 CacheService.getCachedAssetUrlTemplate(scheme, host, path, query),
                 expectedCacheTimeMs,
+                CacheWriteMode.of(
+                        asyncWriteEnabled, asyncWriteTimeoutMs, asyncWriteRetries, asyncWriteRetryDelayMs),
+                cachePutBatcher,
+                embeddedCacheStore,
                 vastModifier,
                 eventsService,
+                vertx,
                 metrics,
                 clock,
                 new UUIDIdGenerator(),
                 mapper);
     }
 
+    @Bean
+    @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
+    @ConditionalOnProperty(prefix = "auction.cache.batching", name = "enabled", havingValue = "true")
+    BasicCachePutBatcher basicCachePutBatcher(
+            @Value("${cache.scheme}") String scheme,
+            @Value("${cache.host}") String host,
+            @Value("${cache.path}") String path,
+            @Value("${auction.cache.batching.max-wait-ms}") long maxWaitMs,
+            @Value("${auction.cache.batching.max-batch-size}") int maxBatchSize,
+            Vertx vertx,
+            HttpClient httpClient,
+            JacksonMapper mapper,
+            Clock clock) {
+
+        return new BasicCachePutBatcher(
+                vertx,
+                httpClient,
+                CacheService.getCacheEndpointUrl(scheme, host, path).toString(),
+                mapper,
+                clock,
+                maxWaitMs,
+                maxBatchSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.cache.embedded", name = "enabled", havingValue = "true")
+    EmbeddedCacheStore embeddedCacheStore(
+            @Value("${host-id}") String hostId,
+            @Value("${auction.cache.embedded.max-size-bytes}") long maxSizeBytes,
+            @Value("${auction.cache.embedded.default-ttl-seconds}") int defaultTtlSeconds,
+            @Value("${auction.cache.embedded.max-ttl-seconds}") int maxTtlSeconds,
+            @Value("${auction.cache.embedded.cleanup-interval-ms}") long cleanupIntervalMs,
+            Vertx vertx,
+            Clock clock) {
+
+        // keys are prefixed with host id to route reads to the instance that stored creative
+        if (StringUtils.isBlank(hostId) || DEFAULT_HOST_ID.equals(hostId)) {
+            throw new IllegalArgumentException("host-id should be set to value unique per instance "
+                    + "when embedded cache is enabled");
+        }
+        // creatives are kept in direct memory, which is shared with network buffers
+        if (maxSizeBytes >= PlatformDependent.maxDirectMemory()) {
+            throw new IllegalArgumentException("auction.cache.embedded.max-size-bytes should be less than "
+                    + "max direct memory of %d bytes".formatted(PlatformDependent.maxDirectMemory()));
+        }
+
+        return new EmbeddedCacheStore(
+                vertx,
+                clock,
+                new UUIDIdGenerator(),
+                hostId,
+                maxSizeBytes,
+                defaultTtlSeconds,
+                maxTtlSeconds,
+                cleanupIntervalMs);
+    }
+
     @Bean
     VastModifier vastModifier(BidderCatalog bidderCatalog, EventsService eventsService, Metrics metrics) {
         return new VastModifier(bidderCatalog, eventsService, metrics);
@@ -620,6 +700,7 @@ public class ServiceConfiguration {
             @Value("${host-cookie.domain:#{null}}") String hostCookieDomain,
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
+            @Value("${host-cookie.format:legacy}") UidsCookieFormat cookieFormat,
             PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
             Metrics metrics,
             JacksonMapper mapper) {
@@ -632,6 +713,7 @@ public class ServiceConfiguration {
                 hostCookieDomain,
                 ttlDays,
                 maxCookieSizeBytes,
+                cookieFormat,
                 prioritizedCoopSyncProvider,
                 metrics,
                 mapper);
@@ -716,12 +798,14 @@ public class ServiceConfiguration {
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
+            EventLoopMonitor eventLoopMonitor,
             JacksonMapper mapper) {
 
         return new HttpBidderRequester(httpClient,
                 bidderRequestCompletionTrackerFactory,
                 bidderErrorNotifier,
                 requestEnricher,
+                eventLoopMonitor,
                 mapper);
     }
 
@@ -993,16 +1077,23 @@ public class ServiceConfiguration {
         return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
     }
 
+    @Bean
+    CreativeScanner creativeScanner() {
+        return new CreativeScanner();
+    }
+
     @Bean
     ResponseBidValidator responseValidator(
             @Value("${auction.validations.banner-creative-max-size}") BidValidationEnforcement bannerMaxSizeEnforcement,
             @Value("${auction.validations.secure-markup}") BidValidationEnforcement secureMarkupEnforcement,
-            Metrics metrics) {
+            Metrics metrics,
+            CreativeScanner creativeScanner) {
 
         return new ResponseBidValidator(
                 bannerMaxSizeEnforcement,
                 secureMarkupEnforcement,
                 metrics,
+                creativeScanner,
                 logSamplingRate);
     }
 
@@ -1093,8 +1184,8 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    HttpInteractionLogger httpInteractionLogger(JacksonMapper mapper) {
-        return new HttpInteractionLogger(mapper);
+    HttpInteractionLogger httpInteractionLogger(JacksonMapper mapper, Clock clock) {
+        return new HttpInteractionLogger(mapper, clock);
     }
 
     @Bean
@@ -1107,6 +1198,21 @@ public class ServiceConfiguration {
         return new DsaEnforcer();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true")
+    BidderWarmupService bidderWarmupService(@Value("${warmup.bid-requests-path:#{null}}") String bidRequestsPath,
+                                            @Value("${warmup.iterations}") int iterations,
+                                            BidderCatalog bidderCatalog,
+                                            Vertx vertx,
+                                            FileSystem fileSystem,
+                                            Metrics metrics,
+                                            Clock clock,
+                                            JacksonMapper mapper) {
+
+        return new BidderWarmupService(
+                bidRequestsPath, iterations, bidderCatalog, vertx, fileSystem, metrics, clock, mapper);
+    }
+
     private static List<String> splitToList(String listAsString) {
         return splitToCollection(listAsString, ArrayList::new);
     }
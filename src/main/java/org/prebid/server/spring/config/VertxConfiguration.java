@@ -9,12 +9,16 @@ import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.metrics.MetricsConfiguration;
 import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.EventLoopMonitor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
+
 @Configuration
 public class VertxConfiguration {
 
@@ -52,6 +56,20 @@ public class VertxConfiguration {
         return BodyHandler.create(uploadsDir);
     }
 
+    @Bean
+    EventLoopMonitor eventLoopMonitor(
+            Vertx vertx,
+            Metrics metrics,
+            Clock clock,
+            @Value("${vertx.event-loop-monitor.enabled}") boolean enabled,
+            @Value("${vertx.event-loop-monitor.probe-interval-ms}") long probeIntervalMs,
+            @Value("${vertx.event-loop-monitor.slow-task-threshold-ms}") long slowTaskThresholdMs,
+            @Value("${vertx.event-loop-monitor.slow-tasks-history-size}") int slowTasksHistorySize) {
+
+        return new EventLoopMonitor(
+                vertx, metrics, clock, enabled, probeIntervalMs, slowTaskThresholdMs, slowTasksHistorySize);
+    }
+
     @Bean
     ContextRunner contextRunner(Vertx vertx, @Value("${vertx.init-timeout-ms}") long initTimeoutMs) {
         return new ContextRunner(vertx, initTimeoutMs);
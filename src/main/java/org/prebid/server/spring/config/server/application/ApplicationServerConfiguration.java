@@ -25,12 +25,14 @@ import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.cache.CacheService;
+import org.prebid.server.cache.EmbeddedCacheStore;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.handler.BidderParamHandler;
 import org.prebid.server.handler.CookieSyncHandler;
+import org.prebid.server.handler.EmbeddedCacheHandler;
 import org.prebid.server.handler.ExceptionHandler;
 import org.prebid.server.handler.GetuidsHandler;
 import org.prebid.server.handler.NoCacheHandler;
@@ -58,6 +60,7 @@ import org.prebid.server.spring.config.server.admin.AdminResourcesBinder;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.EventLoopMonitor;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.prebid.server.vertx.verticles.server.ServerVerticle;
 import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
@@ -165,7 +168,8 @@ public class ApplicationServerConfiguration {
                                    CorsHandler corsHandler,
                                    List<ApplicationResource> resources,
                                    AdminResourcesBinder applicationPortAdminResourcesBinder,
-                                   StaticHandler staticHandler) {
+                                   StaticHandler staticHandler,
+                                   EventLoopMonitor eventLoopMonitor) {
 
         final Router router = Router.router(vertx);
         router.route().handler(bodyHandler);
@@ -174,7 +178,8 @@ public class ApplicationServerConfiguration {
 
         resources.forEach(resource ->
                 resource.endpoints().forEach(endpoint ->
-                        router.route(endpoint.getMethod(), endpoint.getPath()).handler(resource)));
+                        router.route(endpoint.getMethod(), endpoint.getPath())
+                                .handler(eventLoopMonitor.trackEndpoint(endpoint.getPath(), resource))));
 
         applicationPortAdminResourcesBinder.bind(router);
 
@@ -372,6 +377,12 @@ public class ApplicationServerConfiguration {
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.cache.embedded", name = "enabled", havingValue = "true")
+    EmbeddedCacheHandler embeddedCacheHandler(EmbeddedCacheStore embeddedCacheStore) {
+        return new EmbeddedCacheHandler(embeddedCacheStore);
+    }
+
     @Bean
     OptoutHandler optoutHandler(
             @Value("${external-url}") String externalUrl,
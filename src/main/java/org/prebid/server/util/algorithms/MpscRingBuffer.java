@@ -0,0 +1,86 @@
+package org.prebid.server.util.algorithms;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * <p>
+ * Producers claim slots by advancing the producer index and never wait for each other: when buffer is full
+ * {@link #offer(Object)} just returns false. Consumer side ({@link #poll()}) must be called by one thread at a time,
+ * it is up to the caller to guarantee that.
+ */
+public class MpscRingBuffer<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+
+        this.capacity = capacity;
+        final int slotsCount = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = slotsCount - 1;
+        this.slots = new AtomicReferenceArray<>(slotsCount);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns false if buffer is full.
+     */
+    public boolean offer(T value) {
+        Objects.requireNonNull(value);
+
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() >= capacity) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+
+        slots.lazySet(offset(index), value);
+        return true;
+    }
+
+    /**
+     * Returns the oldest value or null if buffer is empty (or the oldest slot is claimed but not written yet).
+     * Must not be called concurrently.
+     */
+    public T poll() {
+        final long index = consumerIndex.get();
+        final int offset = offset(index);
+        final T value = slots.get(offset);
+        if (value == null) {
+            return null;
+        }
+
+        slots.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        return value;
+    }
+
+    /**
+     * Returns number of claimed slots, which may include ones that are not written yet.
+     */
+    public int size() {
+        return (int) Math.max(0, producerIndex.get() - consumerIndex.get());
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private int offset(long index) {
+        return (int) index & mask;
+    }
+}
@@ -0,0 +1,154 @@
+package org.prebid.server.util.algorithms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.stream.IntStream;
+
+/**
+ * Aho-Corasick automaton finding all occurrences of the given set of patterns in a single pass over the text.
+ * <p>
+ * Transitions over ASCII characters are precomputed into a dense table, other characters walk failure links.
+ * Matching is case-sensitive, as {@link String#contains(CharSequence)} is.
+ */
+public class MultiPatternMatcher {
+
+    private static final int ASCII_SIZE = 128;
+    private static final int ROOT = 0;
+    private static final int NO_STATE = -1;
+
+    private final int[][] asciiTransitions;
+    private final List<Map<Character, Integer>> wideTransitions;
+    private final int[] failures;
+    private final int[][] matches;
+
+    public MultiPatternMatcher(List<String> patterns) {
+        Objects.requireNonNull(patterns);
+
+        final List<int[]> ascii = new ArrayList<>();
+        final List<Map<Character, Integer>> wide = new ArrayList<>();
+        final List<BitSet> outputs = new ArrayList<>();
+        addState(ascii, wide, outputs);
+
+        for (int i = 0; i < patterns.size(); i++) {
+            final String pattern = patterns.get(i);
+            if (pattern == null || pattern.isEmpty()) {
+                throw new IllegalArgumentException("Pattern can not be empty");
+            }
+
+            int state = ROOT;
+            for (int j = 0; j < pattern.length(); j++) {
+                final char c = pattern.charAt(j);
+                final int next = c < ASCII_SIZE ? ascii.get(state)[c] : wide.get(state).getOrDefault(c, NO_STATE);
+                if (next != NO_STATE) {
+                    state = next;
+                    continue;
+                }
+
+                final int created = addState(ascii, wide, outputs);
+                if (c < ASCII_SIZE) {
+                    ascii.get(state)[c] = created;
+                } else {
+                    wide.get(state).put(c, created);
+                }
+                state = created;
+            }
+            outputs.get(state).set(i);
+        }
+
+        asciiTransitions = ascii.toArray(new int[0][]);
+        wideTransitions = wide;
+        failures = new int[ascii.size()];
+        buildFailures(outputs);
+        matches = outputs.stream().map(BitSet::stream).map(IntStream::toArray).toArray(int[][]::new);
+    }
+
+    private static int addState(List<int[]> ascii, List<Map<Character, Integer>> wide, List<BitSet> outputs) {
+        final int[] transitions = new int[ASCII_SIZE];
+        Arrays.fill(transitions, NO_STATE);
+        ascii.add(transitions);
+        wide.add(new HashMap<>());
+        outputs.add(new BitSet());
+        return ascii.size() - 1;
+    }
+
+    /**
+     * Computes failure links breadth-first, turning ASCII transitions into the complete DFA on the way.
+     */
+    private void buildFailures(List<BitSet> outputs) {
+        final Queue<Integer> queue = new ArrayDeque<>();
+
+        final int[] rootTransitions = asciiTransitions[ROOT];
+        for (int c = 0; c < ASCII_SIZE; c++) {
+            if (rootTransitions[c] == NO_STATE) {
+                rootTransitions[c] = ROOT;
+            } else {
+                failures[rootTransitions[c]] = ROOT;
+                queue.add(rootTransitions[c]);
+            }
+        }
+        for (int child : wideTransitions.get(ROOT).values()) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            final int failure = failures[state];
+            outputs.get(state).or(outputs.get(failure));
+
+            final int[] transitions = asciiTransitions[state];
+            for (int c = 0; c < ASCII_SIZE; c++) {
+                final int child = transitions[c];
+                if (child == NO_STATE) {
+                    transitions[c] = asciiTransitions[failure][c];
+                } else {
+                    failures[child] = asciiTransitions[failure][c];
+                    queue.add(child);
+                }
+            }
+            for (Map.Entry<Character, Integer> edge : wideTransitions.get(state).entrySet()) {
+                failures[edge.getValue()] = wideTransition(failure, edge.getKey());
+                queue.add(edge.getValue());
+            }
+        }
+    }
+
+    public int initialState() {
+        return ROOT;
+    }
+
+    /**
+     * Returns state of the automaton after consuming the given character in the given state.
+     */
+    public int nextState(int state, char c) {
+        return c < ASCII_SIZE ? asciiTransitions[state][c] : wideTransition(state, c);
+    }
+
+    /**
+     * Returns indices of the patterns ending at the given state. Returned array must not be modified.
+     */
+    public int[] matchesAt(int state) {
+        return matches[state];
+    }
+
+    private int wideTransition(int state, char c) {
+        int current = state;
+        while (true) {
+            final Integer next = wideTransitions.get(current).get(c);
+            if (next != null) {
+                return next;
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = failures[current];
+        }
+    }
+}
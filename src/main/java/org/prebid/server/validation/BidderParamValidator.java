@@ -15,10 +15,16 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -31,10 +37,10 @@ public class BidderParamValidator {
     private static final String JSON_FILE_EXT = ".json";
     private static final String FILE_SEP = "/";
 
-    private final Map<String, JsonSchema> bidderSchemas;
+    private final Map<String, BidderSchema> bidderSchemas;
     private final String schemas;
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
+    private BidderParamValidator(Map<String, BidderSchema> bidderSchemas, String schemas) {
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
     }
@@ -43,7 +49,7 @@ public class BidderParamValidator {
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
-        return bidderSchemas.get(bidder).validate(jsonNode).stream()
+        return bidderSchemas.get(bidder).schema().validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
                 .collect(Collectors.toSet());
     }
@@ -76,6 +82,9 @@ public class BidderParamValidator {
      * exist as CLASSPATH resources, otherwise {@link IllegalArgumentException} will be thrown. This method consumes
      * schema directory parameter that defines the root directory for files containing schemas. By convention the name
      * of each schema file same as corresponding bidder name.
+     * <p>
+     * Schemas are read and schemas of active bidders are compiled in parallel on a short-lived pool, schemas of
+     * inactive bidders are compiled on first use only, since they are seldom validated against (if ever).
      */
     public static BidderParamValidator create(BidderCatalog bidderCatalog,
                                               String schemaDirectory,
@@ -85,21 +94,64 @@ public class BidderParamValidator {
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
 
-        final Map<String, JsonNode> bidderRawSchemas = new LinkedHashMap<>();
+        final List<String> bidders = new ArrayList<>(bidderCatalog.names());
+        final List<String> schemaNames = bidders.stream()
+                .map(bidder -> maybeResolveAlias(bidderCatalog, bidder))
+                .toList();
 
-        bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
-                bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(bidders.size(), Runtime.getRuntime().availableProcessors())));
+        try {
+            final List<CompletableFuture<BidderSchema>> schemaFutures = new ArrayList<>(bidders.size());
+            for (int i = 0; i < bidders.size(); i++) {
+                final String bidder = bidders.get(i);
+                final String schemaName = schemaNames.get(i);
+                final boolean active = bidderCatalog.isActive(bidder);
+
+                schemaFutures.add(CompletableFuture.supplyAsync(
+                        () -> createBidderSchema(bidder, schemaDirectory, schemaName, active, mapper),
+                        executor));
+            }
+
+            final Map<String, JsonNode> bidderRawSchemas = new LinkedHashMap<>();
+            final Map<String, BidderSchema> nameToSchema = new CaseInsensitiveMap<>();
+            for (CompletableFuture<BidderSchema> schemaFuture : schemaFutures) {
+                final BidderSchema bidderSchema = join(schemaFuture);
+                bidderRawSchemas.put(bidderSchema.bidder, bidderSchema.rawSchema);
+                nameToSchema.put(bidderSchema.bidder, bidderSchema);
+            }
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+            return new BidderParamValidator(nameToSchema, toSchemas(bidderRawSchemas, mapper));
+        } finally {
+            executor.shutdown();
+        }
     }
 
-    private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
-        return bidderRawSchemas.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> toBidderSchema(e.getValue(), e.getKey()),
-                        (first, second) -> second,
-                        CaseInsensitiveMap::new));
+    private static BidderSchema createBidderSchema(String bidder,
+                                                   String schemaDirectory,
+                                                   String schemaName,
+                                                   boolean compile,
+                                                   JacksonMapper mapper) {
+
+        final BidderSchema bidderSchema = new BidderSchema(
+                bidder, createSchemaNode(schemaDirectory, schemaName, mapper));
+        if (compile) {
+            // factory defers building of validators until the first validation otherwise
+            try {
+                bidderSchema.schema().initializeValidators();
+            } catch (JsonSchemaException e) {
+                throw new IllegalArgumentException("Couldn't parse %s bidder schema".formatted(bidder), e);
+            }
+        }
+        return bidderSchema;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
     }
 
     private static String toSchemas(Map<String, JsonNode> bidderRawSchemas, JacksonMapper mapper) {
@@ -152,4 +204,27 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    private static class BidderSchema {
+
+        private final String bidder;
+        private final JsonNode rawSchema;
+
+        // compiling twice in case of a race is harmless
+        private volatile JsonSchema schema;
+
+        BidderSchema(String bidder, JsonNode rawSchema) {
+            this.bidder = bidder;
+            this.rawSchema = rawSchema;
+        }
+
+        JsonSchema schema() {
+            JsonSchema result = schema;
+            if (result == null) {
+                result = toBidderSchema(rawSchema, bidder);
+                schema = result;
+            }
+            return result;
+        }
+    }
 }
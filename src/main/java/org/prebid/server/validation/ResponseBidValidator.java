@@ -10,7 +10,9 @@ import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.BidderAliases;
+import org.prebid.server.auction.CreativeScanner;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.CreativeScanResult;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
@@ -49,19 +51,25 @@ public class ResponseBidValidator {
     private final BidValidationEnforcement bannerMaxSizeEnforcement;
     private final BidValidationEnforcement secureMarkupEnforcement;
     private final Metrics metrics;
+    private final CreativeScanner creativeScanner;
 
     private final double logSamplingRate;
 
     public ResponseBidValidator(BidValidationEnforcement bannerMaxSizeEnforcement,
                                 BidValidationEnforcement secureMarkupEnforcement,
                                 Metrics metrics,
+                                CreativeScanner creativeScanner,
                                 double logSamplingRate) {
 
         this.bannerMaxSizeEnforcement = Objects.requireNonNull(bannerMaxSizeEnforcement);
         this.secureMarkupEnforcement = Objects.requireNonNull(secureMarkupEnforcement);
         this.metrics = Objects.requireNonNull(metrics);
+        this.creativeScanner = Objects.requireNonNull(creativeScanner);
 
         this.logSamplingRate = logSamplingRate;
+
+        creativeScanner.registerMarkers(List.of(INSECURE_MARKUP_MARKERS));
+        creativeScanner.registerMarkers(List.of(SECURE_MARKUP_MARKERS));
     }
 
     public ValidationResult validate(BidderBid bidderBid,
@@ -248,9 +256,9 @@ public class ResponseBidValidator {
         return Objects.equals(imp.getSecure(), 1);
     }
 
-    private static boolean markupIsNotSecure(String adm) {
-        return StringUtils.containsAny(adm, INSECURE_MARKUP_MARKERS)
-                || !StringUtils.containsAny(adm, SECURE_MARKUP_MARKERS);
+    private boolean markupIsNotSecure(String adm) {
+        final CreativeScanResult scanResult = creativeScanner.scan(adm);
+        return scanResult.hasAnyMarker(INSECURE_MARKUP_MARKERS) || !scanResult.hasAnyMarker(SECURE_MARKUP_MARKERS);
     }
 
     private List<String> singleWarningOrValidationException(BidValidationEnforcement enforcement,
@@ -14,23 +14,18 @@ import org.prebid.server.metric.Metrics;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class VastModifier {
 
-    private static final Pattern WRAPPER_OPEN_TAG_PATTERN =
-            Pattern.compile("<\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern WRAPPER_CLOSE_TAG_PATTERN =
-            Pattern.compile("<\\s*/\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern INLINE_OPEN_TAG_PATTERN =
-            Pattern.compile("<\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern INLINE_CLOSE_TAG_PATTERN =
-            Pattern.compile("<\\s*/\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern IMPRESSION_CLOSE_TAG_PATTERN =
-            Pattern.compile("<\\s*/\\s*impression(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final String WRAPPER_TAG = "wrapper";
+    private static final String INLINE_TAG = "inline";
+    private static final String IMPRESSION_TAG = "impression";
+
+    private static final String TRACKING_IMPRESSION_PREFIX = "<Impression><![CDATA[";
+    private static final String TRACKING_IMPRESSION_SUFFIX = "]]></Impression>";
+
+    private static final int NOT_FOUND = -1;
 
     private final BidderCatalog bidderCatalog;
     private final EventsService eventsService;
@@ -42,6 +37,10 @@ public class VastModifier {
         this.metrics = Objects.requireNonNull(metrics);
     }
 
+    /**
+     * Returns VAST with tracking impression appended. Modified VAST is not built as a string, but written straight
+     * to the output when returned node is serialized, see {@link VastXmlNode}.
+     */
     public JsonNode modifyVastXml(Boolean isEventsEnabled,
                                   Set<String> allowedBidders,
                                   PutObject putObject,
@@ -62,7 +61,7 @@ public class VastModifier {
                     accountId,
                     eventsContext);
             try {
-                return new TextNode(appendTrackingUrlToVastXml(value.asText(), vastUrlTracking, bidder));
+                return appendTrackingUrlToVastXmlNode(value.asText(), vastUrlTracking, bidder);
             } catch (PreBidException e) {
                 metrics.updateAdapterRequestErrorMetric(bidder, MetricName.badserverresponse);
             }
@@ -110,41 +109,152 @@ public class VastModifier {
     }
 
     private static String appendTrackingUrlToVastXml(String xml, String urlTracking, String bidder) {
-        return appendTrackingUrl(xml, urlTracking, INLINE_OPEN_TAG_PATTERN, INLINE_CLOSE_TAG_PATTERN)
-                .or(() -> appendTrackingUrl(xml, urlTracking, WRAPPER_OPEN_TAG_PATTERN, WRAPPER_CLOSE_TAG_PATTERN))
-                .orElseThrow(() -> new PreBidException(
-                        "VastXml does not contain neither InLine nor Wrapper for %s response".formatted(bidder)));
+        final int insertionIndex = resolveTrackingInsertionIndex(xml, bidder);
+        if (insertionIndex == NOT_FOUND) {
+            return xml;
+        }
+
+        return new StringBuilder(xml.length()
+                + TRACKING_IMPRESSION_PREFIX.length() + urlTracking.length() + TRACKING_IMPRESSION_SUFFIX.length())
+                .append(xml, 0, insertionIndex)
+                .append(TRACKING_IMPRESSION_PREFIX)
+                .append(urlTracking)
+                .append(TRACKING_IMPRESSION_SUFFIX)
+                .append(xml, insertionIndex, xml.length())
+                .toString();
+    }
+
+    private static JsonNode appendTrackingUrlToVastXmlNode(String xml, String urlTracking, String bidder) {
+        final int insertionIndex = resolveTrackingInsertionIndex(xml, bidder);
+        if (insertionIndex == NOT_FOUND) {
+            return new TextNode(xml);
+        }
+
+        final String trackingImpression = TRACKING_IMPRESSION_PREFIX + urlTracking + TRACKING_IMPRESSION_SUFFIX;
+        return VastXmlNode.of(xml, insertionIndex, trackingImpression);
+    }
+
+    /**
+     * Finds position to insert tracking impression at in a single case-insensitive pass over the XML.
+     * <p>
+     * Tracking goes after the last Impression following the first InLine open tag (or Wrapper, if there is no
+     * InLine) or, if there are no impressions, right before the first matching close tag. Returns
+     * {@link #NOT_FOUND} if there is no close tag and the XML should stay as is.
+     */
+    private static int resolveTrackingInsertionIndex(String xml, String bidder) {
+        int inlineOpenEnd = NOT_FOUND;
+        int inlineCloseStart = NOT_FOUND;
+        int wrapperOpenEnd = NOT_FOUND;
+        int wrapperCloseStart = NOT_FOUND;
+        int lastImpressionCloseStart = NOT_FOUND;
+        int lastImpressionCloseEnd = NOT_FOUND;
+
+        for (int tagStart = xml.indexOf('<'); tagStart != NOT_FOUND; tagStart = xml.indexOf('<', tagStart + 1)) {
+            int nameStart = skipWhitespaces(xml, tagStart + 1);
+            if (nameStart < xml.length() && xml.charAt(nameStart) == '/') {
+                nameStart = skipWhitespaces(xml, nameStart + 1);
+
+                final int impressionCloseEnd = tagEnd(xml, nameStart, IMPRESSION_TAG);
+                if (impressionCloseEnd != NOT_FOUND) {
+                    lastImpressionCloseStart = tagStart;
+                    lastImpressionCloseEnd = impressionCloseEnd;
+                } else if (isFirstCloseTag(xml, tagStart, nameStart, INLINE_TAG, inlineOpenEnd, inlineCloseStart)) {
+                    inlineCloseStart = tagStart;
+                } else if (isFirstCloseTag(xml, tagStart, nameStart, WRAPPER_TAG, wrapperOpenEnd, wrapperCloseStart)) {
+                    wrapperCloseStart = tagStart;
+                }
+            } else {
+                if (inlineOpenEnd == NOT_FOUND) {
+                    inlineOpenEnd = tagEnd(xml, nameStart, INLINE_TAG);
+                }
+                if (wrapperOpenEnd == NOT_FOUND) {
+                    wrapperOpenEnd = tagEnd(xml, nameStart, WRAPPER_TAG);
+                }
+            }
+        }
+
+        if (inlineOpenEnd != NOT_FOUND) {
+            return lastImpressionCloseStart >= inlineOpenEnd ? lastImpressionCloseEnd : inlineCloseStart;
+        }
+        if (wrapperOpenEnd != NOT_FOUND) {
+            return lastImpressionCloseStart >= wrapperOpenEnd ? lastImpressionCloseEnd : wrapperCloseStart;
+        }
+
+        throw new PreBidException(
+                "VastXml does not contain neither InLine nor Wrapper for %s response".formatted(bidder));
+    }
+
+    private static boolean isFirstCloseTag(String xml,
+                                           int tagStart,
+                                           int nameStart,
+                                           String tagName,
+                                           int openTagEnd,
+                                           int foundCloseTagStart) {
+
+        return openTagEnd != NOT_FOUND
+                && tagStart >= openTagEnd
+                && foundCloseTagStart == NOT_FOUND
+                && tagEnd(xml, nameStart, tagName) != NOT_FOUND;
     }
 
-    private static Optional<String> appendTrackingUrl(String vastXml,
-                                                      String vastUrlTracking,
-                                                      Pattern openTagPattern,
-                                                      Pattern closeTagPattern) {
+    private static int skipWhitespaces(String xml, int index) {
+        int current = index;
+        while (current < xml.length() && isWhitespace(xml.charAt(current))) {
+            current++;
+        }
+        return current;
+    }
 
-        final Matcher openTagMatcher = openTagPattern.matcher(vastXml);
-        if (!openTagMatcher.find()) {
-            return Optional.empty();
+    /**
+     * Returns position right after the tag with the given name starting at the given position, {@link #NOT_FOUND}
+     * if there is no such tag. Tag name must be followed either by '>' or by a whitespace and anything up
+     * to the nearest '>' on the same line.
+     */
+    private static int tagEnd(String xml, int nameStart, String tagName) {
+        final int nameEnd = nameStart + tagName.length();
+        if (nameEnd >= xml.length() || !regionMatchesIgnoreAsciiCase(xml, nameStart, tagName)) {
+            return NOT_FOUND;
         }
 
-        final Matcher impressionCloseTagMatcher = IMPRESSION_CLOSE_TAG_PATTERN.matcher(vastXml);
-        if (impressionCloseTagMatcher.find(openTagMatcher.end())) {
-            int replacementEnd = impressionCloseTagMatcher.end();
-            while (impressionCloseTagMatcher.find(replacementEnd)) {
-                replacementEnd = impressionCloseTagMatcher.end();
+        final char afterName = xml.charAt(nameEnd);
+        if (afterName == '>') {
+            return nameEnd + 1;
+        }
+        if (!isWhitespace(afterName)) {
+            return NOT_FOUND;
+        }
+
+        for (int i = nameEnd + 1; i < xml.length(); i++) {
+            final char c = xml.charAt(i);
+            if (c == '>') {
+                return i + 1;
+            }
+            if (isLineTerminator(c)) {
+                return NOT_FOUND;
             }
-            return Optional.of(insertUrlTracking(vastXml, replacementEnd, vastUrlTracking));
         }
+        return NOT_FOUND;
+    }
 
-        final Matcher closeTagMatcher = closeTagPattern.matcher(vastXml);
-        if (!closeTagMatcher.find(openTagMatcher.end())) {
-            return Optional.of(vastXml);
+    /**
+     * Expects lower-cased ASCII tag name.
+     */
+    private static boolean regionMatchesIgnoreAsciiCase(String xml, int start, String tagName) {
+        for (int i = 0; i < tagName.length(); i++) {
+            final char c = xml.charAt(start + i);
+            final char lowerCased = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            if (lowerCased != tagName.charAt(i)) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        return Optional.of(insertUrlTracking(vastXml, closeTagMatcher.start(), vastUrlTracking));
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
-    private static String insertUrlTracking(String vastXml, int index, String vastUrlTracking) {
-        final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
-        return vastXml.substring(0, index) + impressionTag + vastXml.substring(index);
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 }
@@ -0,0 +1,139 @@
+package org.prebid.server.vast;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.ValueNode;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Textual {@link JsonNode} holding VAST XML with the fragment inserted at the given position.
+ * <p>
+ * Modified document is not built upfront: node is serialized by streaming original XML and inserted fragment
+ * straight into the JSON output (e.g. the cache request body), and its text is built only when asked for.
+ * Equal only to other {@link VastXmlNode} with the same text, to stay symmetric with {@code TextNode} equality.
+ */
+public class VastXmlNode extends ValueNode {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String vastXml;
+    private final int insertionIndex;
+    private final String insertion;
+
+    private String text;
+
+    private VastXmlNode(String vastXml, int insertionIndex, String insertion) {
+        this.vastXml = vastXml;
+        this.insertionIndex = insertionIndex;
+        this.insertion = insertion;
+    }
+
+    public static VastXmlNode of(String vastXml, int insertionIndex, String insertion) {
+        if (insertionIndex < 0 || insertionIndex > vastXml.length()) {
+            throw new IndexOutOfBoundsException(insertionIndex);
+        }
+        return new VastXmlNode(vastXml, insertionIndex, insertion);
+    }
+
+    /**
+     * Returns length of the text without building it.
+     */
+    public int length() {
+        return vastXml.length() + insertion.length();
+    }
+
+    @Override
+    public JsonToken asToken() {
+        return JsonToken.VALUE_STRING;
+    }
+
+    @Override
+    public JsonNodeType getNodeType() {
+        return JsonNodeType.STRING;
+    }
+
+    @Override
+    public String textValue() {
+        return asText();
+    }
+
+    @Override
+    public String asText() {
+        if (text == null) {
+            text = new StringBuilder(length())
+                    .append(vastXml, 0, insertionIndex)
+                    .append(insertion)
+                    .append(vastXml, insertionIndex, vastXml.length())
+                    .toString();
+        }
+        return text;
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (text != null) {
+            generator.writeString(text);
+        } else {
+            generator.writeString(new InsertingReader(), length());
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        return o instanceof VastXmlNode node && asText().equals(node.asText());
+    }
+
+    @Override
+    public int hashCode() {
+        return asText().hashCode();
+    }
+
+    /**
+     * Reads original XML with the fragment inserted, without copying them into an intermediate string.
+     */
+    private class InsertingReader extends Reader {
+
+        private int position;
+
+        @Override
+        public int read(char[] buffer, int offset, int maxLength) {
+            final int totalLength = length();
+            if (position >= totalLength) {
+                return -1;
+            }
+
+            final int end = Math.min(position + maxLength, totalLength);
+            int written = 0;
+            while (position < end) {
+                final int chunkEnd;
+                if (position < insertionIndex) {
+                    chunkEnd = Math.min(end, insertionIndex);
+                    vastXml.getChars(position, chunkEnd, buffer, offset + written);
+                } else if (position < insertionIndex + insertion.length()) {
+                    chunkEnd = Math.min(end, insertionIndex + insertion.length());
+                    insertion.getChars(position - insertionIndex, chunkEnd - insertionIndex,
+                            buffer, offset + written);
+                } else {
+                    chunkEnd = end;
+                    vastXml.getChars(position - insertion.length(), chunkEnd - insertion.length(),
+                            buffer, offset + written);
+                }
+                written += chunkEnd - position;
+                position = chunkEnd;
+            }
+            return written;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
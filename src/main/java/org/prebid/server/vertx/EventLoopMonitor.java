@@ -0,0 +1,233 @@
+package org.prebid.server.vertx;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.ext.web.RoutingContext;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Watches health of Vert.x event loops.
+ * <p>
+ * Each event loop is probed periodically by the task scheduled directly on it: the difference between the moment
+ * probe was expected to run and the moment it actually ran is the event loop lag. Together with the number of
+ * pending tasks it is reported through {@link Metrics} for every event loop. Maximum lag is tracked since the previous
+ * {@link #eventLoopsStats()} call, so that a single spike (like one on startup) doesn't shadow the recent ones.
+ * <p>
+ * Additionally, synchronous pieces of work (endpoint handlers, hooks, bidders) can be run through
+ * {@link #track(TaskType, String, Supplier)} to attribute tasks blocking event loop longer than configured threshold
+ * to the code that ran them. Recent slow tasks are kept in memory to be exposed via admin endpoint.
+ */
+public class EventLoopMonitor implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLoopMonitor.class);
+
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final boolean enabled;
+    private final long probeIntervalMs;
+    private final long slowTaskThresholdNanos;
+    private final int slowTasksHistorySize;
+
+    private final Queue<SlowTask> slowTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger slowTasksCount = new AtomicInteger();
+    private volatile List<EventLoopProbe> probes = Collections.emptyList();
+
+    public EventLoopMonitor(Vertx vertx,
+                            Metrics metrics,
+                            Clock clock,
+                            boolean enabled,
+                            long probeIntervalMs,
+                            long slowTaskThresholdMs,
+                            int slowTasksHistorySize) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.enabled = enabled;
+        this.probeIntervalMs = probeIntervalMs;
+        this.slowTaskThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowTaskThresholdMs);
+        this.slowTasksHistorySize = slowTasksHistorySize;
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        if (enabled) {
+            final List<EventLoopProbe> createdProbes = new ArrayList<>();
+            for (EventExecutor executor : ((VertxInternal) vertx).getEventLoopGroup()) {
+                final EventLoopProbe probe = new EventLoopProbe(createdProbes.size(), executor);
+                createdProbes.add(probe);
+
+                metrics.createEventLoopPendingTasksGauge(probe.index, probe::pendingTasks);
+                probe.schedule();
+            }
+
+            probes = Collections.unmodifiableList(createdProbes);
+            logger.info("Event loop monitoring started for {} event loops", createdProbes.size());
+        }
+
+        initializePromise.tryComplete();
+    }
+
+    /**
+     * Runs given synchronous task and attributes its duration to the given source if it exceeds threshold.
+     */
+    public <T> T track(TaskType type, String name, Supplier<T> task) {
+        if (!enabled) {
+            return task.get();
+        }
+
+        final long startNanos = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            recordTask(type, name, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Wraps given endpoint handler to attribute its synchronous part to the given endpoint.
+     */
+    public Handler<RoutingContext> trackEndpoint(String path, Handler<RoutingContext> handler) {
+        if (!enabled) {
+            return handler;
+        }
+
+        final String name = StringUtils.removeStart(path, "/").replace('/', '_');
+        return routingContext -> track(TaskType.endpoint, name, () -> {
+            handler.handle(routingContext);
+            return null;
+        });
+    }
+
+    /**
+     * Returns current stats of event loops and resets their maximum lag.
+     */
+    public List<EventLoopStats> eventLoopsStats() {
+        return probes.stream().map(EventLoopProbe::stats).toList();
+    }
+
+    public List<SlowTask> slowTasks() {
+        return new ArrayList<>(slowTasks);
+    }
+
+    private void recordTask(TaskType type, String name, long durationNanos) {
+        if (durationNanos < slowTaskThresholdNanos) {
+            return;
+        }
+
+        metrics.updateEventLoopSlowTaskMetric(type.name(), name, durationNanos);
+
+        slowTasks.add(SlowTask.of(
+                type,
+                name,
+                Thread.currentThread().getName(),
+                TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                ZonedDateTime.now(clock)));
+
+        if (slowTasksCount.incrementAndGet() > slowTasksHistorySize && slowTasks.poll() != null) {
+            slowTasksCount.decrementAndGet();
+        }
+    }
+
+    public enum TaskType {
+
+        endpoint, hook, bidder
+    }
+
+    @Value(staticConstructor = "of")
+    public static class EventLoopStats {
+
+        int index;
+
+        long lagMs;
+
+        long maxLagMs;
+
+        int pendingTasks;
+    }
+
+    @Value(staticConstructor = "of")
+    public static class SlowTask {
+
+        TaskType type;
+
+        String name;
+
+        String thread;
+
+        long durationMs;
+
+        ZonedDateTime timestamp;
+    }
+
+    private class EventLoopProbe implements Runnable {
+
+        private final int index;
+        private final EventExecutor executor;
+
+        // updated by the probed event loop thread only, read by the admin endpoint
+        private volatile long expectedAtNanos;
+        private volatile long lastLagNanos;
+        // reset by the admin endpoint on read
+        private final AtomicLong maxLagNanos = new AtomicLong();
+
+        EventLoopProbe(int index, EventExecutor executor) {
+            this.index = index;
+            this.executor = executor;
+        }
+
+        void schedule() {
+            expectedAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(probeIntervalMs);
+            executor.schedule(this, probeIntervalMs, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void run() {
+            final long lagNanos = Math.max(System.nanoTime() - expectedAtNanos, 0L);
+            lastLagNanos = lagNanos;
+            maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+
+            metrics.updateEventLoopLagMetric(index, lagNanos);
+
+            if (!executor.isShuttingDown()) {
+                schedule();
+            }
+        }
+
+        int pendingTasks() {
+            return executor instanceof SingleThreadEventExecutor singleThreadEventExecutor
+                    ? singleThreadEventExecutor.pendingTasks()
+                    : 0;
+        }
+
+        EventLoopStats stats() {
+            return EventLoopStats.of(
+                    index,
+                    TimeUnit.NANOSECONDS.toMillis(lastLagNanos),
+                    TimeUnit.NANOSECONDS.toMillis(maxLagNanos.getAndSet(0L)),
+                    pendingTasks());
+        }
+    }
+}
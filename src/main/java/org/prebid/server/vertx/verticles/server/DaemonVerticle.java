@@ -6,26 +6,59 @@ import io.vertx.core.Closeable;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.prebid.server.health.InitializationHealthChecker;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.CloseableAdapter;
 import org.prebid.server.vertx.Initializable;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+/**
+ * Initializes {@link Initializable} components on startup and closes reporters on shutdown.
+ * <p>
+ * Initializers are critical unless {@link InitializationHealthChecker} marks them as deferrable. Verticle is started
+ * once all critical initializers are done, and fails to start if any of them fails or exceeds its deadline.
+ * Deferrable initializers run in the background, their failures and deadline violations are logged only and their
+ * readiness is reported by {@link InitializationHealthChecker}. Initializers are identified by the names they are
+ * given with (bean names), since there may be several instances of the same class.
+ */
 public class DaemonVerticle extends AbstractVerticle {
 
     private static final Logger logger = LoggerFactory.getLogger(DaemonVerticle.class);
 
-    private final List<Initializable> initializables;
+    private final Map<String, Initializable> initializables;
+    private final InitializationHealthChecker initializationHealthChecker;
+    private final long criticalTimeoutMs;
+    private final long deferrableTimeoutMs;
+    private final Metrics metrics;
+    private final Clock clock;
     private final List<Closeable> closeables;
 
-    public DaemonVerticle(List<Initializable> initializables, List<ScheduledReporter> reporters) {
-        this.initializables = ListUtils.emptyIfNull(initializables);
+    public DaemonVerticle(Map<String, Initializable> initializables,
+                          InitializationHealthChecker initializationHealthChecker,
+                          long criticalTimeoutMs,
+                          long deferrableTimeoutMs,
+                          List<ScheduledReporter> reporters,
+                          Metrics metrics,
+                          Clock clock) {
+
+        this.initializables = MapUtils.emptyIfNull(initializables);
+        this.initializationHealthChecker = initializationHealthChecker;
+        this.criticalTimeoutMs = criticalTimeoutMs;
+        this.deferrableTimeoutMs = deferrableTimeoutMs;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
         this.closeables = ListUtils.emptyIfNull(reporters).stream()
                 .<Closeable>map(CloseableAdapter::new)
                 .toList();
@@ -33,12 +66,82 @@ public class DaemonVerticle extends AbstractVerticle {
 
     @Override
     public void start(Promise<Void> startPromise) {
-        startPromise.handle(all(initializables, initializable -> initializable::initialize));
+        final List<Future<Void>> criticalFutures = new ArrayList<>();
+
+        for (Map.Entry<String, Initializable> entry : initializables.entrySet()) {
+            final String name = entry.getKey();
+            final Initializable initializable = entry.getValue();
+
+            if (isDeferrable(name)) {
+                initialize(initializable, name, deferrableTimeoutMs)
+                        .onFailure(error -> logger.error("Deferrable initializer {} failed", error, name));
+            } else {
+                criticalFutures.add(initialize(initializable, name, criticalTimeoutMs));
+            }
+        }
+
+        Future.all(criticalFutures)
+                .onSuccess(r -> logStarted())
+                .<Void>mapEmpty()
+                .onComplete(startPromise);
+    }
+
+    private boolean isDeferrable(String initializer) {
+        return initializationHealthChecker != null && initializationHealthChecker.isDeferrable(initializer);
+    }
+
+    /**
+     * Returns future completed with initialization result or failed on deadline, whichever comes first. The
+     * initializer is not interrupted on deadline and its result is reported by metrics and health checker anyway.
+     */
+    private Future<Void> initialize(Initializable initializable, String name, long timeoutMs) {
+        final long startTime = clock.millis();
+        final Promise<Void> resultPromise = Promise.promise();
+        final long timerId = timeoutMs > 0 ? vertx.setTimer(timeoutMs, ignored -> onTimeout(name, resultPromise)) : -1;
+
+        final Promise<Void> initializePromise = Promise.promise();
+        initializePromise.future().onComplete(result -> {
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+            }
+
+            metrics.updateInitializerMetrics(name, clock.millis() - startTime, result.succeeded());
+            if (isDeferrable(name)) {
+                initializationHealthChecker.initialized(name, result.succeeded());
+            }
+
+            if (result.succeeded()) {
+                resultPromise.tryComplete();
+            } else {
+                resultPromise.tryFail(result.cause());
+            }
+        });
+
+        try {
+            initializable.initialize(initializePromise);
+        } catch (Exception e) {
+            initializePromise.tryFail(e);
+        }
+
+        return resultPromise.future();
+    }
+
+    private void onTimeout(String name, Promise<Void> resultPromise) {
+        if (resultPromise.tryFail(new TimeoutException("Initializer %s timed out".formatted(name)))) {
+            metrics.updateInitializerTimeoutMetric(name);
+        }
+    }
+
+    private static void logStarted() {
+        logger.info(
+                "Successfully started {} instance on thread: {}",
+                DaemonVerticle.class.getSimpleName(),
+                Thread.currentThread().getName());
     }
 
     @Override
     public void stop(Promise<Void> stopPromise) {
-        stopPromise.handle(all(closeables, closeable -> closeable::close));
+        all(closeables, closeable -> closeable::close).onComplete(stopPromise);
     }
 
     private static <E> Future<Void> all(Collection<E> entries,
@@ -53,11 +156,6 @@ public class DaemonVerticle extends AbstractVerticle {
             entryToPromiseConsumerMapper.apply(entry).accept(entryPromise);
         }
 
-        return Future.all(entriesFutures)
-                .onSuccess(r -> logger.info(
-                        "Successfully started {} instance on thread: {}",
-                        DaemonVerticle.class.getSimpleName(),
-                        Thread.currentThread().getName()))
-                .mapEmpty();
+        return Future.all(entriesFutures).mapEmpty();
     }
 }
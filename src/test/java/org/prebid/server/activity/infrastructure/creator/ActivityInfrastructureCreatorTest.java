@@ -36,6 +36,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class ActivityInfrastructureCreatorTest {
@@ -186,4 +187,55 @@ public class ActivityInfrastructureCreatorTest {
         assertThat(controllers.get(Activity.TRANSMIT_UFPD).isAllowed(null)).isEqualTo(false);
         assertThat(controllers.get(Activity.TRANSMIT_EIDS).isAllowed(null)).isEqualTo(false);
     }
+
+    @Test
+    public void parseShouldReuseRulesCreatedForSameAccountPrivacyConfig() {
+        // given
+        final Account account = givenAccountWithTransmitUfpdRule();
+        given(activityRuleFactory.from(any(), any())).willReturn(TestRule.disallowIfMatches(payload -> true));
+
+        // when
+        final Map<Activity, ActivityController> firstControllers = creator.parse(account, givenGppContext(), debug);
+        final Map<Activity, ActivityController> secondControllers = creator.parse(
+                account.toBuilder().build(), givenGppContext(), debug);
+
+        // then
+        verify(activityRuleFactory).from(any(), any());
+        assertThat(firstControllers.get(Activity.TRANSMIT_UFPD).isAllowed(null)).isEqualTo(false);
+        assertThat(secondControllers.get(Activity.TRANSMIT_UFPD).isAllowed(null)).isEqualTo(false);
+    }
+
+    @Test
+    public void parseShouldCreateRulesForEachRequestWhenTheyDependOnGppContext() {
+        // given
+        final Account account = givenAccountWithTransmitUfpdRule();
+        given(activityRuleFactory.from(any(), any())).willAnswer(invocation -> {
+            final ActivityControllerCreationContext creationContext = invocation.getArgument(1);
+            return creationContext.getGppContext() != null
+                    ? TestRule.disallowIfMatches(payload -> true)
+                    : TestRule.allowIfMatches(payload -> true);
+        });
+        final GppContext gppContext = givenGppContext();
+
+        // when
+        creator.parse(account, null, debug);
+        final Map<Activity, ActivityController> controllers = creator.parse(account, gppContext, debug);
+
+        // then
+        verify(activityRuleFactory, times(3)).from(any(), any());
+        assertThat(controllers.get(Activity.TRANSMIT_UFPD).isAllowed(null)).isEqualTo(false);
+    }
+
+    private static Account givenAccountWithTransmitUfpdRule() {
+        return Account.builder()
+                .privacy(AccountPrivacyConfig.builder()
+                        .activities(Map.of(Activity.TRANSMIT_UFPD, AccountActivityConfiguration.of(true, singletonList(
+                                AccountActivityComponentRuleConfig.of(null, null)))))
+                        .build())
+                .build();
+    }
+
+    private static GppContext givenGppContext() {
+        return GppContextCreator.from(null, null).build().getGppContext();
+    }
 }
@@ -2,7 +2,6 @@ package org.prebid.server.activity.infrastructure.creator.privacy.uscustomlogic;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.jamsesso.jsonlogic.ast.JsonLogicBoolean;
-import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -37,7 +36,6 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -63,6 +61,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         given(gppReaderFactory.forSection(anyInt(), anyBoolean(), any()))
                 .willReturn(new USNationalGppReader(null));
         given(jsonLogic.parse(any())).willReturn(JsonLogicBoolean.TRUE);
+        given(jsonLogic.compile(any(), any())).willReturn(gppReader -> true);
 
         target = new USCustomLogicModuleCreator(gppReaderFactory, jsonLogic, null, null, metrics);
     }
@@ -126,7 +125,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
     }
 
     @Test
-    public void fromShouldShouldSkipNotSupportedSectionsIds() throws JsonLogicEvaluationException {
+    public void fromShouldShouldSkipNotSupportedSectionsIds() {
         // given
         final PrivacyModuleCreationContext creationContext = givenCreationContext(
                 asList(6, 7, 8, 9, 10, 11, 12, 13),
@@ -144,14 +143,14 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verify(gppReaderFactory).forSection(eq(12), eq(true), any());
         verifyNoMoreInteractions(gppReaderFactory);
 
-        verify(jsonLogic, times(6)).parse(eq("{}"));
-        verify(jsonLogic, times(6)).evaluate(any(), any());
+        verify(jsonLogic).parse(eq("{}"));
+        verify(jsonLogic).compile(any(), any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
     }
 
     @Test
-    public void fromShouldShouldSkipNotConfiguredSectionsIds() throws JsonLogicEvaluationException {
+    public void fromShouldShouldSkipNotConfiguredSectionsIds() {
         // given
         final PrivacyModuleCreationContext creationContext = givenCreationContext(
                 asList(7, 8, 9),
@@ -165,7 +164,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(gppReaderFactory);
 
         verify(jsonLogic).parse(eq("{}"));
-        verify(jsonLogic).evaluate(any(), any());
+        verify(jsonLogic).compile(any(), any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
     }
@@ -205,7 +204,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
     }
 
     @Test
-    public void fromShouldUseDefaultValueForNormalizeSectionsIfItWasNull() throws JsonLogicEvaluationException {
+    public void fromShouldUseDefaultValueForNormalizeSectionsIfItWasNull() {
         // given
         final PrivacyModuleCreationContext creationContext = givenCreationContext(
                 singletonList(7),
@@ -219,7 +218,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(gppReaderFactory);
 
         verify(jsonLogic).parse(eq("{}"));
-        verify(jsonLogic).evaluate(any(), any());
+        verify(jsonLogic).compile(any(), any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
     }
@@ -244,6 +243,44 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(metrics);
     }
 
+    @Test
+    public void fromShouldCompileSameJsonLogicConfigOnce() {
+        // given
+        final ObjectNode jsonLogicConfig = mapper.createObjectNode();
+
+        // when
+        target.from(givenCreationContext(
+                singletonList(7),
+                givenConfig(singleton(7), null, Activity.CALL_BIDDER, jsonLogicConfig)));
+        target.from(givenCreationContext(
+                singletonList(7),
+                givenConfig(singleton(7), null, Activity.CALL_BIDDER, jsonLogicConfig)));
+
+        // then
+        verify(jsonLogic).parse(eq("{}"));
+        verify(jsonLogic).compile(any(), any());
+        verifyNoMoreInteractions(jsonLogic);
+    }
+
+    @Test
+    public void fromShouldCompileEqualJsonLogicConfigsOnceWhenCacheIsConfigured() {
+        // given
+        target = new USCustomLogicModuleCreator(gppReaderFactory, jsonLogic, 100, 100, metrics);
+
+        // when
+        target.from(givenCreationContext(
+                singletonList(7),
+                givenConfig(singleton(7), null, Activity.CALL_BIDDER, mapper.createObjectNode())));
+        target.from(givenCreationContext(
+                singletonList(7),
+                givenConfig(singleton(7), null, Activity.CALL_BIDDER, mapper.createObjectNode())));
+
+        // then
+        verify(jsonLogic).parse(eq("{}"));
+        verify(jsonLogic).compile(any(), any());
+        verifyNoMoreInteractions(jsonLogic);
+    }
+
     private static PrivacyModuleCreationContext givenCreationContext(List<Integer> sectionsIds,
                                                                      AccountUSCustomLogicModuleConfig.Config config) {
 
@@ -2,24 +2,18 @@ package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
-import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
-import io.github.jamsesso.jsonlogic.ast.JsonLogicString;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
-import org.apache.commons.lang3.StringUtils;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.activity.infrastructure.rule.Rule;
-import org.prebid.server.json.JsonLogic;
-
-import java.util.HashMap;
-import java.util.Map;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.JsonLogicPredicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.same;
-import static org.mockito.BDDMockito.given;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class USCustomLogicModuleTest extends VertxTest {
 
@@ -27,21 +21,12 @@ public class USCustomLogicModuleTest extends VertxTest {
     public final MockitoRule mockitoRule = MockitoJUnit.rule();
 
     @Mock
-    private USCustomLogicDataSupplier dataSupplier;
-
-    @Mock
-    private JsonLogic jsonLogic;
+    private USCustomLogicGppReader gppReader;
 
     @Test
-    public void proceedShouldReturnDisallow() throws JsonLogicEvaluationException {
+    public void proceedShouldReturnDisallow() {
         // given
-        final JsonLogicNode jsonLogicNode = new JsonLogicString(StringUtils.EMPTY);
-        final Map<String, Object> data = new HashMap<>();
-
-        given(dataSupplier.get()).willReturn(data);
-        given(jsonLogic.evaluate(same(jsonLogicNode), same(data))).willReturn(true);
-
-        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, jsonLogicNode, dataSupplier);
+        final USCustomLogicModule target = new USCustomLogicModule(reader -> reader == gppReader, gppReader);
 
         // when
         final Rule.Result result = target.proceed(null);
@@ -51,15 +36,9 @@ public class USCustomLogicModuleTest extends VertxTest {
     }
 
     @Test
-    public void proceedShouldReturnAllow() throws JsonLogicEvaluationException {
+    public void proceedShouldReturnAllow() {
         // given
-        final JsonLogicNode jsonLogicNode = new JsonLogicString(StringUtils.EMPTY);
-        final Map<String, Object> data = new HashMap<>();
-
-        given(dataSupplier.get()).willReturn(data);
-        given(jsonLogic.evaluate(same(jsonLogicNode), same(data))).willReturn(false);
-
-        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, jsonLogicNode, dataSupplier);
+        final USCustomLogicModule target = new USCustomLogicModule(reader -> reader != gppReader, gppReader);
 
         // when
         final Rule.Result result = target.proceed(null);
@@ -69,15 +48,22 @@ public class USCustomLogicModuleTest extends VertxTest {
     }
 
     @Test
-    public void asLogEntryShouldReturnExpectedResult() throws JsonLogicEvaluationException {
+    public void creationShouldFailOnEvaluationError() {
         // given
-        final JsonLogicNode jsonLogicNode = new JsonLogicString(StringUtils.EMPTY);
-        final Map<String, Object> data = new HashMap<>();
-
-        given(dataSupplier.get()).willReturn(data);
-        given(jsonLogic.evaluate(same(jsonLogicNode), same(data))).willReturn(false);
+        final JsonLogicPredicate<USCustomLogicGppReader> jsonLogicPredicate = reader -> {
+            throw new JsonLogicEvaluationException("Test exception");
+        };
+
+        // when and then
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> new USCustomLogicModule(jsonLogicPredicate, gppReader))
+                .withMessage("An error occurred while evaluating the JsonLogic expression: Test exception");
+    }
 
-        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, jsonLogicNode, dataSupplier);
+    @Test
+    public void asLogEntryShouldReturnExpectedResult() {
+        // given
+        final USCustomLogicModule target = new USCustomLogicModule(reader -> false, gppReader);
 
         // when
         final JsonNode logEntry = target.asLogEntry(mapper);
@@ -0,0 +1,67 @@
+package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
+
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+public class USCustomLogicVariableResolverTest {
+
+    @org.junit.Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private USCustomLogicGppReader gppReader;
+
+    private final USCustomLogicVariableResolver target = USCustomLogicVariableResolver.instance();
+
+    @Test
+    public void accessorShouldReadFieldByName() {
+        // given
+        given(gppReader.getGpc()).willReturn(true);
+
+        // when and then
+        assertThat(target.accessor("Gpc").apply(gppReader)).isEqualTo(true);
+    }
+
+    @Test
+    public void accessorShouldReadListFieldElementsBySuffixedName() {
+        // given
+        given(gppReader.getSensitiveDataProcessing()).willReturn(List.of(1, 2));
+
+        // when and then
+        assertThat(target.accessor("SensitiveDataProcessing").apply(gppReader)).isNull();
+        assertThat(target.accessor("SensitiveDataProcessing1").apply(gppReader)).isEqualTo(1);
+        assertThat(target.accessor("SensitiveDataProcessing2").apply(gppReader)).isEqualTo(2);
+        assertThat(target.accessor("SensitiveDataProcessing3").apply(gppReader)).isNull();
+        assertThat(target.accessor("SensitiveDataProcessing01").apply(gppReader)).isNull();
+        assertThat(target.accessor("SensitiveDataProcessing0").apply(gppReader)).isNull();
+    }
+
+    @Test
+    public void accessorShouldReturnNullForUnknownNames() {
+        // given
+        given(gppReader.getVersion()).willReturn(1);
+
+        // when and then
+        assertThat(target.accessor("Unknown").apply(gppReader)).isNull();
+        assertThat(target.accessor("Version1").apply(gppReader)).isNull();
+    }
+
+    @Test
+    public void accessorsShouldGiveSameValuesAsDataSupplier() {
+        // given
+        given(gppReader.getVersion()).willReturn(1);
+        given(gppReader.getMspaCoveredTransaction()).willReturn(2);
+        given(gppReader.getKnownChildSensitiveDataConsents()).willReturn(List.of(0, 1, 2));
+
+        // when and then
+        target.data(gppReader).forEach((name, value) ->
+                assertThat(target.accessor(name).apply(gppReader)).as(name).isEqualTo(value));
+    }
+}
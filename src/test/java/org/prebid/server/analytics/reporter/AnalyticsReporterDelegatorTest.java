@@ -57,6 +57,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class AnalyticsReporterDelegatorTest {
 
@@ -392,6 +393,59 @@ public class AnalyticsReporterDelegatorTest {
                 });
     }
 
+    @Test
+    public void shouldShareUpdatedAuctionEventBetweenReportersWithSameRestrictions() {
+        // given
+        final AnalyticsReporter thirdReporter = mock(AnalyticsReporter.class);
+        given(thirdReporter.vendorId()).willReturn(SECOND_REPORTER_ID);
+        given(thirdReporter.name()).willReturn("anotherAdapter");
+        given(thirdReporter.processEvent(any())).willReturn(Future.succeededFuture());
+        target = new AnalyticsReporterDelegator(
+                vertx, List.of(firstReporter, secondReporter, thirdReporter),
+                tcfEnforcement, userFpdActivityMask, metrics, 0.01);
+
+        given(activityInfrastructure.isAllowed(eq(Activity.REPORT_ANALYTICS), any())).willReturn(true);
+        given(activityInfrastructure.isAllowed(eq(Activity.TRANSMIT_UFPD), any())).willReturn(false);
+        given(activityInfrastructure.isAllowed(eq(Activity.TRANSMIT_EIDS), any())).willReturn(true);
+        given(activityInfrastructure.isAllowed(eq(Activity.TRANSMIT_GEO), any())).willReturn(true);
+        given(userFpdActivityMask.maskUser(any(), eq(true), eq(false), eq(false)))
+                .willReturn(User.builder().id("masked").build());
+
+        final AuctionEvent auctionEvent = AuctionEvent.builder()
+                .auctionContext(AuctionContext.builder()
+                        .bidRequest(BidRequest.builder().user(User.builder().id("original").build()).build())
+                        .activityInfrastructure(activityInfrastructure)
+                        .build())
+                .build();
+
+        // when
+        target.processEvent(auctionEvent, TcfContext.empty());
+
+        // then
+        assertThat(captureAuctionEvent(firstReporter)).isSameAs(auctionEvent);
+        final AuctionEvent secondReporterEvent = captureAuctionEvent(secondReporter);
+        assertThat(secondReporterEvent.getAuctionContext().getBidRequest().getUser().getId()).isEqualTo("masked");
+        assertThat(captureAuctionEvent(thirdReporter)).isSameAs(secondReporterEvent);
+        verify(userFpdActivityMask).maskUser(any(), eq(true), eq(false), eq(false));
+    }
+
+    @Test
+    public void shouldPassOriginalAuctionEventWhenNothingIsRestrictedForReporter() {
+        // given
+        final ObjectNode analyticsNode = new ObjectMapper().createObjectNode();
+        analyticsNode.set("adapter", new TextNode("someValue"));
+        final AuctionEvent givenAuctionEvent = givenAuctionEvent(bidRequestBuilder -> bidRequestBuilder
+                .user(User.builder().id("original").build())
+                .ext(ExtRequest.of(ExtRequestPrebid.builder().analytics(analyticsNode).build())));
+
+        // when
+        target.processEvent(givenAuctionEvent, TcfContext.empty());
+
+        // then
+        assertThat(captureAuctionEvent(secondReporter)).isSameAs(givenAuctionEvent);
+        verifyNoInteractions(userFpdActivityMask);
+    }
+
     @SuppressWarnings("unchecked")
     private static Answer<Object> withNullAndInvokeHandler() {
         return invocation -> {
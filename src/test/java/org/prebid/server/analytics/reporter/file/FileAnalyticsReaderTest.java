@@ -0,0 +1,81 @@
+package org.prebid.server.analytics.reporter.file;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsEventType;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsRecord;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FileAnalyticsReaderTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void readShouldReturnRecordsAndIgnoreTruncatedLastRecord() throws IOException {
+        // given
+        final byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer content = ByteBuffer.allocate(100)
+                .put(FileAnalyticsFormat.MAGIC)
+                .put(FileAnalyticsFormat.VERSION)
+                .putInt(payload.length).put(FileAnalyticsEventType.video.code()).putLong(123L).put(payload)
+                .putInt(payload.length).put(FileAnalyticsEventType.amp.code()).putLong(456L).put(payload[0]);
+        final Path file = givenFile(content);
+
+        // when
+        final List<FileAnalyticsRecord> records = new ArrayList<>();
+        FileAnalyticsReader.read(file, records::add);
+
+        // then
+        assertThat(records).singleElement().satisfies(record -> {
+            assertThat(record.getType()).isEqualTo(FileAnalyticsEventType.video);
+            assertThat(record.getTimestamp()).isEqualTo(123L);
+            assertThat(record.getPayload()).isEqualTo(payload);
+        });
+    }
+
+    @Test
+    public void readShouldFailOnUnknownFile() throws IOException {
+        // given
+        final Path file = givenFile(ByteBuffer.wrap("unknown".getBytes(StandardCharsets.UTF_8)));
+
+        // when and then
+        assertThatThrownBy(() -> FileAnalyticsReader.read(file, record -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessageStartingWith("Not an analytics file");
+    }
+
+    @Test
+    public void readShouldFailOnUnknownEventType() throws IOException {
+        // given
+        final ByteBuffer content = ByteBuffer.allocate(100)
+                .put(FileAnalyticsFormat.MAGIC)
+                .put(FileAnalyticsFormat.VERSION)
+                .putInt(0).put((byte) 42).putLong(123L);
+        final Path file = givenFile(content);
+
+        // when and then
+        assertThatThrownBy(() -> FileAnalyticsReader.read(file, record -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Unknown event type code: 42");
+    }
+
+    private Path givenFile(ByteBuffer content) throws IOException {
+        final Path file = temporaryFolder.newFile().toPath();
+        content.flip();
+        final byte[] bytes = new byte[content.remaining()];
+        content.get(bytes);
+        return Files.write(file, bytes);
+    }
+}
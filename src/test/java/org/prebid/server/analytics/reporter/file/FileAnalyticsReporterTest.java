@@ -0,0 +1,118 @@
+package org.prebid.server.analytics.reporter.file;
+
+import com.iab.openrtb.response.BidResponse;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.analytics.model.AuctionEvent;
+import org.prebid.server.analytics.model.CookieSyncEvent;
+import org.prebid.server.analytics.model.NotificationEvent;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsEventType;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsRecord;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class FileAnalyticsReporterTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private FileAnalyticsWriter writer;
+
+    @Mock
+    private Metrics metrics;
+
+    private FileAnalyticsReporter target;
+
+    @Before
+    public void setUp() {
+        target = new FileAnalyticsReporter(
+                writer,
+                jacksonMapper,
+                metrics,
+                Clock.fixed(Instant.ofEpochMilli(1000L), ZoneOffset.UTC));
+    }
+
+    @Test
+    public void processEventShouldWriteAuctionEventBidResponse() throws IOException {
+        // given
+        given(writer.offer(any())).willReturn(true);
+        final AuctionEvent event = AuctionEvent.builder().bidResponse(BidResponse.builder().id("id").build()).build();
+
+        // when
+        target.processEvent(event);
+
+        // then
+        final FileAnalyticsRecord record = captureRecord();
+        assertThat(record.getType()).isEqualTo(FileAnalyticsEventType.auction);
+        assertThat(record.getTimestamp()).isEqualTo(1000L);
+        assertThat(mapper.readValue(record.getPayload(), BidResponse.class)).isEqualTo(event.getBidResponse());
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void processEventShouldWriteNotificationEventWithAccountId() throws IOException {
+        // given
+        given(writer.offer(any())).willReturn(true);
+        final NotificationEvent event = NotificationEvent.builder()
+                .type(NotificationEvent.Type.win)
+                .bidId("bidId")
+                .account(Account.empty("accountId"))
+                .bidder("bidder")
+                .build();
+
+        // when
+        target.processEvent(event);
+
+        // then
+        final FileAnalyticsRecord record = captureRecord();
+        assertThat(record.getType()).isEqualTo(FileAnalyticsEventType.notification);
+        assertThat(mapper.readTree(record.getPayload())).isEqualTo(mapper.readTree("""
+                {"type":"win","bid_id":"bidId","account":"accountId","bidder":"bidder"}"""));
+    }
+
+    @Test
+    public void processEventShouldUpdateDroppedMetricWhenWriterIsOverloaded() {
+        // given
+        given(writer.offer(any())).willReturn(false);
+
+        // when
+        target.processEvent(AuctionEvent.builder().build());
+
+        // then
+        verify(metrics).updateAnalyticEventMetric("fileAnalytics", MetricName.event_auction, MetricName.dropped);
+    }
+
+    @Test
+    public void processEventShouldIgnoreOtherEvents() {
+        // when
+        target.processEvent(CookieSyncEvent.builder().build());
+
+        // then
+        verifyNoInteractions(writer, metrics);
+    }
+
+    private FileAnalyticsRecord captureRecord() {
+        final ArgumentCaptor<FileAnalyticsRecord> captor = ArgumentCaptor.forClass(FileAnalyticsRecord.class);
+        verify(writer).offer(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,184 @@
+package org.prebid.server.analytics.reporter.file;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsEventType;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsProperties;
+import org.prebid.server.analytics.reporter.file.model.FileAnalyticsRecord;
+import org.prebid.server.analytics.reporter.file.model.FsyncPolicy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+
+public class FileAnalyticsWriterTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private Clock clock;
+
+    private final AtomicLong now = new AtomicLong(1000L);
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willAnswer(invocation -> now.get());
+    }
+
+    @Test
+    public void closeShouldWriteAllAcceptedRecordsToCompletedFile() throws IOException {
+        // given
+        final FileAnalyticsWriter target = givenWriter(1024 * 1024, 60000L, 2);
+        target.start();
+
+        // when
+        target.offer(record(FileAnalyticsEventType.auction, "{\"id\":\"1\"}"));
+        target.offer(record(FileAnalyticsEventType.notification, "{\"id\":\"2\"}"));
+        target.close();
+
+        // then
+        final List<Path> files = files();
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).getFileName().toString()).endsWith(FileAnalyticsFormat.EXTENSION);
+        assertThat(read(files.get(0)))
+                .extracting(
+                        FileAnalyticsRecord::getType,
+                        FileAnalyticsRecord::getTimestamp,
+                        FileAnalyticsWriterTest::text)
+                .containsExactly(
+                        tuple(FileAnalyticsEventType.auction, 1000L, "{\"id\":\"1\"}"),
+                        tuple(FileAnalyticsEventType.notification, 1000L, "{\"id\":\"2\"}"));
+    }
+
+    @Test
+    public void offerShouldReturnFalseWhenQueueIsFull() {
+        // given
+        final FileAnalyticsWriter target = givenWriter(1024 * 1024, 60000L, 2);
+
+        // when and then
+        assertThat(target.offer(record(FileAnalyticsEventType.auction, "1"))).isTrue();
+        assertThat(target.offer(record(FileAnalyticsEventType.auction, "2"))).isTrue();
+        assertThat(target.offer(record(FileAnalyticsEventType.auction, "3"))).isFalse();
+    }
+
+    @Test
+    public void processQueueShouldKeepFileInProgressUntilRotation() throws IOException {
+        // given
+        final FileAnalyticsWriter target = givenWriter(1024 * 1024, 60000L, 10);
+        target.offer(record(FileAnalyticsEventType.auction, "1"));
+
+        // when
+        target.processQueue();
+
+        // then
+        assertThat(files()).singleElement()
+                .satisfies(file -> assertThat(file.getFileName().toString())
+                        .endsWith(FileAnalyticsFormat.EXTENSION + FileAnalyticsFormat.IN_PROGRESS_SUFFIX));
+    }
+
+    @Test
+    public void processQueueShouldRotateFileWhenItWouldExceedMaxSize() throws IOException {
+        // given
+        final int recordSize = FileAnalyticsFormat.RECORD_HEADER_SIZE + 1;
+        final FileAnalyticsWriter target = givenWriter(
+                FileAnalyticsFormat.FILE_HEADER_SIZE + 2 * recordSize, 60000L, 10);
+        target.offer(record(FileAnalyticsEventType.auction, "1"));
+        target.offer(record(FileAnalyticsEventType.amp, "2"));
+        target.offer(record(FileAnalyticsEventType.video, "3"));
+
+        // when
+        target.processQueue();
+        target.close();
+
+        // then
+        final List<Path> files = files();
+        assertThat(files).hasSize(2);
+        assertThat(read(files.get(0))).extracting(FileAnalyticsWriterTest::text).containsExactly("1", "2");
+        assertThat(read(files.get(1))).extracting(FileAnalyticsWriterTest::text).containsExactly("3");
+    }
+
+    @Test
+    public void processQueueShouldRotateFileWhenRotationIntervalPassed() throws IOException {
+        // given
+        final FileAnalyticsWriter target = givenWriter(1024 * 1024, 60000L, 10);
+        target.offer(record(FileAnalyticsEventType.auction, "1"));
+        target.processQueue();
+
+        // when
+        now.addAndGet(60000L);
+        target.processQueue();
+
+        // then
+        assertThat(files()).singleElement()
+                .satisfies(file -> assertThat(file.getFileName().toString()).endsWith(FileAnalyticsFormat.EXTENSION));
+    }
+
+    @Test
+    public void processQueueShouldWriteRecordLargerThanBuffer() throws IOException {
+        // given
+        final FileAnalyticsWriter target = givenWriter(16 * 1024 * 1024, 60000L, 10);
+        final String payload = "a".repeat(1024 * 1024);
+        target.offer(record(FileAnalyticsEventType.auction, "1"));
+        target.offer(record(FileAnalyticsEventType.auction, payload));
+
+        // when
+        target.processQueue();
+        target.close();
+
+        // then
+        assertThat(files()).singleElement()
+                .satisfies(file -> assertThat(read(file)).extracting(FileAnalyticsWriterTest::text)
+                        .containsExactly("1", payload));
+    }
+
+    private FileAnalyticsWriter givenWriter(long maxFileSizeBytes, long rotationIntervalMs, int queueCapacity) {
+        final FileAnalyticsProperties properties = FileAnalyticsProperties.builder()
+                .directory(temporaryFolder.getRoot().getPath())
+                .queueCapacity(queueCapacity)
+                .maxFileSizeBytes(maxFileSizeBytes)
+                .rotationIntervalMs(rotationIntervalMs)
+                .fsyncPolicy(FsyncPolicy.always)
+                .fsyncIntervalMs(1000L)
+                .build();
+        return new FileAnalyticsWriter(properties, clock);
+    }
+
+    private FileAnalyticsRecord record(FileAnalyticsEventType type, String payload) {
+        return FileAnalyticsRecord.of(type, now.get(), payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.list(temporaryFolder.getRoot().toPath())) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static List<FileAnalyticsRecord> read(Path file) throws IOException {
+        final List<FileAnalyticsRecord> records = new ArrayList<>();
+        FileAnalyticsReader.read(file, records::add);
+        return records;
+    }
+
+    private static String text(FileAnalyticsRecord record) {
+        return new String(record.getPayload(), StandardCharsets.UTF_8);
+    }
+}
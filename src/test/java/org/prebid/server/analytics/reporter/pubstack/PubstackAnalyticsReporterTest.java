@@ -20,6 +20,7 @@ import org.prebid.server.analytics.reporter.pubstack.model.EventType;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackConfig;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -52,6 +53,9 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     @Mock
     private HttpClient httpClient;
 
+    @Mock
+    private Metrics metrics;
+
     @Mock
     private PubstackEventHandler auctionHandler;
 
@@ -73,6 +77,7 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
                 .configurationRefreshDelayMs(200000L)
+                .maxPendingRequests(4)
                 .build();
 
         final Map<EventType, PubstackEventHandler> handlers = new HashMap<>();
@@ -80,7 +85,7 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
         handlers.put(EventType.setuid, setuidHandler);
 
         pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
-                vertx);
+                vertx, metrics);
         // inject mocked handlers to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers", handlers);
     }
@@ -191,7 +196,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     @Test
     public void processEventShouldCallEventHandlerForAuction() {
         // given
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
+                vertx, metrics);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.auction, auctionHandler));
@@ -207,7 +213,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     @Test
     public void processEventShouldCallEventHandlerForSetuid() {
         // given
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
+                vertx, metrics);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.setuid, setuidHandler));
@@ -224,7 +231,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     public void processEventShouldCallEventHandlerForCookieSync() {
         // given
         final PubstackEventHandler cookieSyncHandler = mock(PubstackEventHandler.class);
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
+                vertx, metrics);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.cookiesync, cookieSyncHandler));
@@ -241,7 +249,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     public void processEventShouldCallEventHandlerForAmp() {
         // given
         final PubstackEventHandler ampHandler = mock(PubstackEventHandler.class);
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
+                vertx, metrics);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.amp, ampHandler));
@@ -258,7 +267,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     public void processEventShouldCallEventHandlerForVideo() {
         // given
         final PubstackEventHandler videoHandler = mock(PubstackEventHandler.class);
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
+                vertx, metrics);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.video, videoHandler));
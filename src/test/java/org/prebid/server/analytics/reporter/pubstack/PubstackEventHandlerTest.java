@@ -3,10 +3,12 @@ package org.prebid.server.analytics.reporter.pubstack;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -18,13 +20,20 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.execution.Timeout;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.algorithms.MpscRingBuffer;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Set;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -48,6 +57,9 @@ public class PubstackEventHandlerTest extends VertxTest {
     @Mock
     private HttpClient httpClient;
 
+    @Mock
+    private Metrics metrics;
+
     private PubstackEventHandler pubstackEventHandler;
 
     @Before
@@ -60,9 +72,9 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .count(100)
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
+                .maxPendingRequests(4)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = givenHandler(properties, true);
     }
 
     @Test
@@ -75,18 +87,15 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .count(1)
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
+                .maxPendingRequests(4)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, false, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = givenHandler(properties, false);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
 
         // then
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
-        assertThat(events.get()).isEmpty();
+        assertThat(bufferedEvents()).isEmpty();
         verifyNoInteractions(httpClient);
     }
 
@@ -98,15 +107,11 @@ public class PubstackEventHandlerTest extends VertxTest {
 
         // then
         final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
         final ObjectNode eventJsonNode = mapper.valueToTree(setuidEvent);
         eventJsonNode.put("scope", "scopeId");
         final String eventJsonRow = mapper.writeValueAsString(eventJsonNode);
         assertThat(byteSize.get()).isEqualTo(eventJsonRow.getBytes().length);
-        assertThat(events.get()).hasSize(1)
-                .containsOnly(eventJsonRow);
+        assertThat(bufferedEvents()).containsExactly(eventJsonRow);
     }
 
     @Test
@@ -119,9 +124,9 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .count(100)
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
+                .maxPendingRequests(4)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = givenHandler(properties, true);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
@@ -140,9 +145,9 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .count(1)
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
+                .maxPendingRequests(4)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = givenHandler(properties, true);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
@@ -189,6 +194,80 @@ public class PubstackEventHandlerTest extends VertxTest {
         assertThat(currentTimerId).isEqualTo(2);
     }
 
+    @Test
+    public void reportEventsShouldSendGzippedEventsSeparatedByNewLine() throws IOException {
+        // given
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder2").build());
+
+        // when
+        pubstackEventHandler.reportEvents();
+
+        // then
+        final ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(httpClient).request(any(), anyString(), any(), bodyCaptor.capture(), anyLong());
+        assertThat(gunzip(bodyCaptor.getValue())).isEqualTo(
+                eventJsonRow(SetuidEvent.builder().bidder("bidder1").build()) + "\n"
+                        + eventJsonRow(SetuidEvent.builder().bidder("bidder2").build()));
+        assertThat(bufferedEvents()).isEmpty();
+    }
+
+    @Test
+    public void handleShouldKeepEventsBufferedWhileTooManyReportsArePending() {
+        // given
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Promise.<HttpClientResponse>promise().future());
+
+        final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
+                .endpoint("http://endpoint.com")
+                .scopeId("scopeId")
+                .sizeBytes(20000)
+                .count(1)
+                .reportTtlMs(10000L)
+                .timeoutMs(5000L)
+                .maxPendingRequests(1)
+                .build();
+        pubstackEventHandler = givenHandler(properties, true);
+
+        // when
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder2").build());
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder3").build());
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder4").build());
+
+        // then
+        verify(httpClient).request(any(), anyString(), any(), (byte[]) any(), anyLong());
+        assertThat(bufferedEvents()).hasSize(2);
+    }
+
+    @Test
+    public void handleShouldDropEventAndUpdateMetricWhenBufferIsFull() {
+        // given
+        final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
+                .endpoint("http://endpoint.com")
+                .scopeId("scopeId")
+                .sizeBytes(20000)
+                .count(1)
+                .reportTtlMs(10000L)
+                .timeoutMs(5000L)
+                .maxPendingRequests(0)
+                .build();
+        pubstackEventHandler = givenHandler(properties, true);
+
+        // when
+        for (int i = 0; i < 9; i++) {
+            pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder" + i).build());
+        }
+
+        // then
+        verifyNoInteractions(httpClient);
+        assertThat(bufferedEvents()).hasSize(8);
+        verify(metrics).updateAnalyticEventMetric("pubstack", MetricName.event_setuid, MetricName.dropped);
+    }
+
     @Test
     public void updateConfigShouldSetNewValuesToEndpointScopeIdAndEnabledConfigs() {
         // given and when
@@ -224,4 +303,31 @@ public class PubstackEventHandlerTest extends VertxTest {
         verify(vertx, times(2)).setTimer(anyLong(), any());
         verify(vertx).cancelTimer(anyLong());
     }
+
+    private PubstackEventHandler givenHandler(PubstackAnalyticsProperties properties, boolean enabled) {
+        return new PubstackEventHandler(properties, enabled, "http://example.com", MetricName.event_setuid,
+                jacksonMapper, httpClient, vertx, metrics);
+    }
+
+    private List<String> bufferedEvents() {
+        @SuppressWarnings("unchecked") final MpscRingBuffer<byte[]> events =
+                (MpscRingBuffer<byte[]>) ReflectionTestUtils.getField(pubstackEventHandler, "events");
+        final List<String> result = new ArrayList<>();
+        for (byte[] event = events.poll(); event != null; event = events.poll()) {
+            result.add(new String(event, StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+
+    private static String eventJsonRow(Object event) throws JsonProcessingException {
+        final ObjectNode eventJsonNode = mapper.valueToTree(event);
+        eventJsonNode.put("scope", "scopeId");
+        return mapper.writeValueAsString(eventJsonNode);
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package org.prebid.server.auction;
+
+import org.junit.Test;
+import org.prebid.server.auction.model.CreativeScanResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CreativeScannerTest {
+
+    private final CreativeScanner target = new CreativeScanner();
+
+    @Test
+    public void scanShouldReturnFoundRegisteredMarkers() {
+        // given
+        target.registerMarkers(List.of("http:", "https:", "mraid.js"));
+
+        // when
+        final CreativeScanResult result = target.scan("<script src=\"https://a/mraid.js\"></script>");
+
+        // then
+        assertThat(result.getMarkers()).containsOnly("https:", "mraid.js");
+    }
+
+    @Test
+    public void scanShouldReturnSameResultForSameCreative() {
+        // given
+        target.registerMarkers(List.of("http:"));
+        final String adm = "http://a";
+
+        // when
+        final CreativeScanResult result = target.scan(adm);
+
+        // then
+        assertThat(target.scan(adm)).isSameAs(result);
+    }
+
+    @Test
+    public void scanShouldReturnEmptyResultForNullCreative() {
+        // when and then
+        assertThat(target.scan(null)).isEqualTo(CreativeScanResult.empty());
+    }
+
+    @Test
+    public void scanShouldTakeIntoAccountMarkersRegisteredLater() {
+        // given
+        final String adm = "http://a/mraid.js";
+        target.registerMarkers(List.of("http:"));
+        target.scan(adm);
+
+        // when
+        target.registerMarkers(List.of("mraid.js"));
+
+        // then
+        assertThat(target.scan(adm).getMarkers()).containsOnly("http:", "mraid.js");
+    }
+
+    @Test
+    public void containsShouldCheckNotRegisteredMarkerDirectly() {
+        // given
+        target.registerMarkers(List.of("http:"));
+
+        // when and then
+        assertThat(target.contains("http://a/mraid.js", "http:")).isTrue();
+        assertThat(target.contains("http://a/mraid.js", "mraid.js")).isTrue();
+        assertThat(target.contains("http://a", "mraid.js")).isFalse();
+        assertThat(target.contains(null, "http:")).isFalse();
+    }
+}
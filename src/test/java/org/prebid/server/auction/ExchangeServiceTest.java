@@ -48,6 +48,7 @@ import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.AuctionPhase;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
@@ -622,6 +623,45 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(capturedBidRequest).isEqualTo(BidRequest.builder().id("bidderRequestId").build());
     }
 
+    @Test
+    public void shouldNotLogBidderRequestRejectedByBidderRequestHooks() {
+        // given
+        doAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(true, null)))
+                .when(hookStageExecutor).executeBidderRequestStage(any(), any());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)), identity());
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(httpInteractionLogger, never()).maybeLogBidderRequest(any(), any());
+        verify(httpInteractionLogger, never()).maybeLogBidderResponse(any(), any());
+    }
+
+    @Test
+    public void shouldLogBidderRequestModifiedByBidderRequestHooksAndItsResponse() {
+        // given
+        givenBidder(givenEmptySeatBid());
+
+        doAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
+                false,
+                BidderRequestPayloadImpl.of(BidRequest.builder().id("bidderRequestId").build()))))
+                .when(hookStageExecutor).executeBidderRequestStage(any(), any());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)), identity());
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpInteractionLogger).maybeLogBidderRequest(any(), bidderRequestCaptor.capture());
+        assertThat(bidderRequestCaptor.getValue().getBidRequest())
+                .isEqualTo(BidRequest.builder().id("bidderRequestId").build());
+        verify(httpInteractionLogger).maybeLogBidderResponse(same(bidderRequestCaptor.getValue()), any());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void shouldSkipBidderWhenRejectedByRawBidderResponseHooks() {
@@ -1283,7 +1323,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1313,7 +1353,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1400,6 +1440,35 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(result.getBidResponse().getExt().getDebug()).isNull();
     }
 
+    @Test
+    public void shouldAddAuctionPhasesToDebugInfoIfDebugEnabled() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(BidderSeatBid.empty()));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .debugContext(DebugContext.of(true, false, null))
+                .build();
+
+        given(bidResponseCreator.create(any(), any(), any())).willReturn(
+                Future.succeededFuture(BidResponse.builder()
+                        .ext(ExtBidResponse.builder()
+                                .debug(ExtResponseDebug.of(null, bidRequest, null, null))
+                                .build())
+                        .build()));
+
+        // when
+        final AuctionContext result = target.holdAuction(auctionContext).result();
+
+        // then
+        final ExtResponseDebug extDebug = result.getBidResponse().getExt().getDebug();
+        assertThat(extDebug.getResolvedrequest()).isEqualTo(bidRequest);
+        assertThat(extDebug.getPhases())
+                .containsKeys("bidder_requests", "bids_processing", "response_creation");
+        verify(metrics).updateAuctionPhaseMetric(any(), eq(AuctionPhase.bidder_requests), anyLong());
+    }
+
     @Test
     public void shouldCallBidResponseCreatorWithExpectedParamsAndUpdateDebugErrors() {
         // given
@@ -0,0 +1,107 @@
+package org.prebid.server.auction;
+
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IpAddressCodecTest {
+
+    @Test
+    public void parseIpv4ShouldReturnAddressAsLong() {
+        assertThat(IpAddressCodec.parseIpv4("192.168.1.255", false)).isEqualTo(0xC0A801FFL);
+        assertThat(IpAddressCodec.parseIpv4("0.0.0.0", false)).isEqualTo(0L);
+        assertThat(IpAddressCodec.parseIpv4("255.255.255.255", false)).isEqualTo(0xFFFFFFFFL);
+    }
+
+    @Test
+    public void parseIpv4ShouldRespectLeadingZerosFlag() {
+        assertThat(IpAddressCodec.parseIpv4("010.1.1.1", false)).isEqualTo(IpAddressCodec.NOT_PARSED);
+        assertThat(IpAddressCodec.parseIpv4("010.1.1.1", true)).isEqualTo(0x0A010101L);
+    }
+
+    @Test
+    public void parseIpv4ShouldNotParseOtherNotations() {
+        for (String ip : new String[]{"", "1.2.3", "1.2.3.4.", ".1.2.3.4", "1.2.3.256", "1.2.3.1000", "1..2.3",
+                " 1.2.3.4", "1.2.3.4/24", "1.2.3.a", "::1"}) {
+
+            assertThat(IpAddressCodec.parseIpv4(ip, true)).as(ip).isEqualTo(IpAddressCodec.NOT_PARSED);
+        }
+    }
+
+    @Test
+    public void parseIpv6ShouldReturnHigherAndLowerBits() {
+        // given
+        final long[] result = new long[2];
+
+        // when and then
+        assertThat(IpAddressCodec.parseIpv6("1111:2222:3333:4444:5555:6666:7777:8888", result)).isTrue();
+        assertThat(result).containsExactly(0x1111222233334444L, 0x5555666677778888L);
+
+        assertThat(IpAddressCodec.parseIpv6("::", result)).isTrue();
+        assertThat(result).containsExactly(0L, 0L);
+
+        assertThat(IpAddressCodec.parseIpv6("::1", result)).isTrue();
+        assertThat(result).containsExactly(0L, 1L);
+
+        assertThat(IpAddressCodec.parseIpv6("FE80::", result)).isTrue();
+        assertThat(result).containsExactly(0xFE80000000000000L, 0L);
+
+        assertThat(IpAddressCodec.parseIpv6("1:2::7:8", result)).isTrue();
+        assertThat(result).containsExactly(0x0001000200000000L, 0x0000000000070008L);
+
+        assertThat(IpAddressCodec.parseIpv6("1::3:4:5:6:7:8", result)).isTrue();
+        assertThat(result).containsExactly(0x0001000000030004L, 0x0005000600070008L);
+    }
+
+    @Test
+    public void parseIpv6ShouldNotParseOtherNotations() {
+        final long[] result = new long[2];
+        for (String ip : new String[]{"", ":", ":::", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9", "1::2::3",
+                "1:2:3:4:5:6:7:8::", "1::2:3:4:5:6:7:8", "12345::", "1:2:3:4:5:6:7:", ":1:2:3:4:5:6:7",
+                "::ffff:1.2.3.4", "fe80::1%eth0", "::/64", "[::1]", "g::", "1.2.3.4"}) {
+
+            assertThat(IpAddressCodec.parseIpv6(ip, result)).as(ip).isFalse();
+        }
+    }
+
+    @Test
+    public void formatIpv6ShouldReturnCanonicalString() {
+        assertThat(IpAddressCodec.formatIpv6(0L, 0L)).isEqualTo("::");
+        assertThat(IpAddressCodec.formatIpv6(0L, 1L)).isEqualTo("::1");
+        assertThat(IpAddressCodec.formatIpv6(0x0001000000020003L, 0x0004000500060007L))
+                .isEqualTo("1:0:2:3:4:5:6:7");
+        assertThat(IpAddressCodec.formatIpv6(0x0001000000000002L, 0x0000000000030004L))
+                .isEqualTo("1::2:0:0:3:4");
+        assertThat(IpAddressCodec.formatIpv6(0xABCD000000000000L, 0L)).isEqualTo("abcd::");
+    }
+
+    @Test
+    public void parseAndFormatIpv6ShouldMatchLibrary() {
+        // given
+        final Random random = new Random(42);
+        final long[] result = new long[2];
+
+        for (int i = 0; i < 10_000; i++) {
+            // zero groups are frequent to exercise compression
+            final StringBuilder builder = new StringBuilder();
+            for (int group = 0; group < 8; group++) {
+                builder.append(group > 0 ? ":" : "")
+                        .append(Integer.toHexString(random.nextInt(3) == 0 ? 0 : random.nextInt(0x10000)));
+            }
+            final IPAddress expected = new IPAddressString(builder.toString()).getAddress();
+
+            // when
+            assertThat(IpAddressCodec.parseIpv6(expected.toCanonicalString(), result)).isTrue();
+
+            // then
+            final BigInteger value = expected.getValue();
+            assertThat(result).containsExactly(value.shiftRight(64).longValue(), value.longValue());
+            assertThat(IpAddressCodec.formatIpv6(result[0], result[1])).isEqualTo(expected.toCanonicalString());
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package org.prebid.server.auction;
 
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
 import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.auction.model.IpAddress;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -138,4 +143,98 @@ public class IpAddressHelperTest {
         assertThat(ipAddressHelper.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334"))
                 .isEqualTo(IpAddress.of("2001:1db8:85a3:a5b7::", IpAddress.IP.v6));
     }
+
+    @Test
+    public void toIpAddressShouldTreatIpV4OctetsWithLeadingZerosAsOctal() {
+        // 012 is 10 in octal, so the address is in private network
+        assertThat(ipAddressHelper.toIpAddress("012.34.56.78")).isNull();
+    }
+
+    @Test
+    public void toIpAddressShouldReturnIpV6AddressMaskedForNotationsHandledByLibrary() {
+        assertThat(ipAddressHelper.toIpAddress("::ffff:12.34.56.78"))
+                .isEqualTo(IpAddress.of("::", IpAddress.IP.v6));
+    }
+
+    @Test
+    public void toIpAddressShouldReturnNullIfIpIsInConfiguredIpV4Network() {
+        // given
+        ipAddressHelper = new IpAddressHelper(64, 56, singletonList("12.34.0.0/16"));
+
+        // when and then
+        assertThat(ipAddressHelper.toIpAddress("12.34.56.78")).isNull();
+        assertThat(ipAddressHelper.toIpAddress("12.35.56.78")).isNotNull();
+    }
+
+    @Test
+    public void toIpAddressShouldReturnNullIfIpIsInNonPrefixConfiguredNetwork() {
+        // given
+        ipAddressHelper = new IpAddressHelper(64, 56, singletonList("2001:db8::1/32"));
+
+        // when and then
+        assertThat(ipAddressHelper.toIpAddress("2001:db8::1")).isNull();
+        assertThat(ipAddressHelper.toIpAddress("2001:db8::2")).isNotNull();
+    }
+
+    @Test
+    public void anonymizeIpv6ShouldReturnNullIfIpIsV4() {
+        assertThat(ipAddressHelper.anonymizeIpv6("12.34.56.78")).isNull();
+    }
+
+    @Test
+    public void maskIpv4ShouldReturnInputIfOctetHasLeadingZeros() {
+        final String ip = "010.1.1.1";
+        assertThat(ipAddressHelper.maskIpv4(ip)).isSameAs(ip);
+        assertThat(ipAddressHelper.maskIpv4("192.168.034.056")).isEqualTo("192.168.034.056");
+    }
+
+    @Test
+    public void maskIpv4ShouldReturnInputIfIpHasWrongOctet() {
+        final String ip = "192.168.34.256";
+        assertThat(ipAddressHelper.maskIpv4(ip)).isSameAs(ip);
+    }
+
+    @Test
+    public void toIpAddressAndAnonymizeIpv6ShouldMatchLibraryForPlainNotations() {
+        // given
+        final List<String> ips = List.of("0.0.0.0", "0.0.0.1", "9.255.255.255", "10.0.0.0", "10.255.255.255",
+                "11.0.0.0", "126.255.255.255", "127.0.0.1", "128.0.0.0", "169.253.255.255", "169.254.0.0",
+                "169.254.255.255", "169.255.0.0", "172.15.255.255", "172.16.0.0", "172.31.255.255", "172.32.0.0",
+                "192.167.255.255", "192.168.0.0", "192.168.255.255", "192.169.0.0", "223.255.255.255", "224.0.0.0",
+                "239.255.255.255", "240.0.0.0", "255.255.255.254", "255.255.255.255", "::", "::1", "::2",
+                "fbff:ffff:ffff:ffff:ffff:ffff:ffff:ffff", "fc00::", "fdff:ffff:ffff:ffff:ffff:ffff:ffff:ffff",
+                "fe00::", "fe7f:ffff:ffff:ffff:ffff:ffff:ffff:ffff", "fe80::",
+                "feff:ffff:ffff:ffff:ffff:ffff:ffff:ffff",
+                "ff00::", "ffff:ffff:ffff:ffff:ffff:ffff:ffff:fffe", "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff",
+                "2001:db8::1", "2001:0DB8:0000:0000:0008:0800:200C:417A", "1::", "1:0:0:2::3");
+
+        for (String ip : ips) {
+            // when and then
+            assertThat(ipAddressHelper.toIpAddress(ip)).as(ip).isEqualTo(toIpAddressByLibrary(ip));
+            assertThat(ipAddressHelper.anonymizeIpv6(ip)).as(ip).isEqualTo(anonymizeIpv6ByLibrary(ip));
+        }
+    }
+
+    private static IpAddress toIpAddressByLibrary(String ip) {
+        final IPAddress address = new IPAddressString(ip).getAddress();
+        final boolean isPublic = !address.isLocal() && !address.isLoopback() && !address.isMulticast()
+                && !address.isMax()
+                && Stream.of("::1/128", "fc00::/7", "fe80::/10")
+                .noneMatch(network -> new IPAddressString(network).getAddress().contains(address));
+
+        if (!isPublic) {
+            return null;
+        }
+        return address.isIPv4()
+                ? IpAddress.of(ip, IpAddress.IP.v4)
+                : IpAddress.of(address.mask(new IPAddressString("::/64").getAddress().getNetworkMask())
+                .toCanonicalString(), IpAddress.IP.v6);
+    }
+
+    private static String anonymizeIpv6ByLibrary(String ip) {
+        final IPAddress address = new IPAddressString(ip).getAddress();
+        return address.isIPv6()
+                ? address.mask(new IPAddressString("::/56").getAddress().getNetworkMask()).toCanonicalString()
+                : null;
+    }
 }
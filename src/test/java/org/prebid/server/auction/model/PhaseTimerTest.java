@@ -0,0 +1,75 @@
+package org.prebid.server.auction.model;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PhaseTimerTest {
+
+    private PhaseTimer target;
+
+    @Before
+    public void setUp() {
+        target = new PhaseTimer();
+    }
+
+    @Test
+    public void durationsShouldBeEmptyIfNothingRecorded() {
+        // when and then
+        assertThat(target.durations()).isEmpty();
+    }
+
+    @Test
+    public void recordShouldAccumulateDurationsOfSamePhase() {
+        // given
+        final long startNanos = System.nanoTime() - 1000L;
+
+        // when
+        target.record(AuctionPhase.hooks, startNanos);
+        final long firstDuration = target.durations().get(AuctionPhase.hooks);
+        target.record(AuctionPhase.hooks, startNanos);
+
+        // then
+        assertThat(target.durations()).containsOnlyKeys(AuctionPhase.hooks);
+        assertThat(target.durations().get(AuctionPhase.hooks)).isGreaterThanOrEqualTo(2 * firstDuration);
+    }
+
+    @Test
+    public void recordShouldNotRecordNegativeDuration() {
+        // when
+        target.record(AuctionPhase.cache, System.nanoTime() + 1_000_000_000L);
+
+        // then
+        assertThat(target.durations()).containsEntry(AuctionPhase.cache, 0L);
+    }
+
+    @Test
+    public void measureShouldRecordPhaseOnlyWhenFutureCompletes() {
+        // given
+        final Promise<String> promise = Promise.promise();
+
+        // when
+        final Future<String> result = target.measure(AuctionPhase.stored_requests, promise::future);
+
+        // then
+        assertThat(target.durations()).isEmpty();
+
+        promise.complete("value");
+        assertThat(result.result()).isEqualTo("value");
+        assertThat(target.durations()).containsOnlyKeys(AuctionPhase.stored_requests);
+    }
+
+    @Test
+    public void measureShouldRecordPhaseWhenFutureFails() {
+        // when
+        final Future<String> result = target.measure(
+                AuctionPhase.privacy_context, () -> Future.failedFuture("failed"));
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(target.durations()).containsOnlyKeys(AuctionPhase.privacy_context);
+    }
+}
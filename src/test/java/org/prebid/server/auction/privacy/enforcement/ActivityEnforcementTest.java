@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 public class ActivityEnforcementTest {
 
@@ -70,6 +71,33 @@ public class ActivityEnforcementTest {
         });
     }
 
+    @Test
+    public void enforceShouldMaskOnceForBiddersWithSameUserDeviceAndRestrictions() {
+        // given
+        given(activityInfrastructure.isAllowed(any(), any())).willReturn(false);
+        given(userFpdActivityMask.maskUser(any(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> User.builder().id("maskedUser").build());
+        given(userFpdActivityMask.maskDevice(any(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> Device.builder().ip("maskedDevice").build());
+
+        final User user = User.builder().id("originalUser").build();
+        final Device device = Device.builder().ip("originalDevice").build();
+        final List<BidderPrivacyResult> bidderPrivacyResults = List.of(
+                BidderPrivacyResult.builder().requestBidder("bidder1").user(user).device(device).build(),
+                BidderPrivacyResult.builder().requestBidder("bidder2").user(user).device(device).build());
+
+        // when
+        final List<BidderPrivacyResult> result = target.enforce(bidderPrivacyResults, givenAuctionContext()).result();
+
+        // then
+        assertThat(result).extracting(BidderPrivacyResult::getRequestBidder).containsExactly("bidder1", "bidder2");
+        assertThat(result.get(0).getUser()).isSameAs(result.get(1).getUser());
+        assertThat(result.get(0).getDevice()).isSameAs(result.get(1).getDevice());
+
+        verify(userFpdActivityMask).maskUser(any(), anyBoolean(), anyBoolean(), anyBoolean());
+        verify(userFpdActivityMask).maskDevice(any(), anyBoolean(), anyBoolean());
+    }
+
     private AuctionContext givenAuctionContext() {
         return AuctionContext.builder()
                 .bidRequest(BidRequest.builder().build())
@@ -32,6 +32,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
@@ -358,6 +360,39 @@ public class TcfEnforcementTest {
                         .build());
     }
 
+    @Test
+    public void enforceShouldMaskOnceAndShareMaskedObjectsBetweenBiddersWithSameActions() {
+        // give
+        given(userFpdTcfMask.maskUser(any(), anyBoolean(), anyBoolean(), anyBoolean(), anySet()))
+                .willAnswer(invocation -> User.builder().id("maskedUser").build());
+        given(userFpdTcfMask.maskDevice(any(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> Device.builder().ip("maskedDevice").build());
+
+        givenPrivacyEnforcementActions(Map.of(
+                "bidder1", givenEnforcementAction(PrivacyEnforcementAction::setRemoveUserFpd),
+                "bidder2", givenEnforcementAction(PrivacyEnforcementAction::setRemoveUserFpd),
+                "bidder3", givenEnforcementAction(PrivacyEnforcementAction::setMaskGeo)));
+
+        final AuctionContext context = givenAuctionContext(givenDeviceWithNoPrivacyData());
+        final User user = givenUserWithPrivacyData();
+        final Map<String, User> bidderToUser = Map.of("bidder1", user, "bidder2", user, "bidder3", user);
+        final Set<String> bidders = Set.of("bidder1", "bidder2", "bidder3");
+
+        // when
+        final Map<String, BidderPrivacyResult> result = target.enforce(context, bidderToUser, bidders, aliases)
+                .result().stream()
+                .collect(Collectors.toMap(BidderPrivacyResult::getRequestBidder, Function.identity()));
+
+        // then
+        assertThat(result.get("bidder1").getUser()).isSameAs(result.get("bidder2").getUser());
+        assertThat(result.get("bidder1").getDevice()).isSameAs(result.get("bidder2").getDevice());
+        assertThat(result.get("bidder3").getUser()).isNotSameAs(result.get("bidder1").getUser());
+        assertThat(result.get("bidder3").getDevice()).isNotSameAs(result.get("bidder1").getDevice());
+
+        verify(userFpdTcfMask, times(2)).maskUser(any(), anyBoolean(), anyBoolean(), anyBoolean(), anySet());
+        verify(userFpdTcfMask, times(2)).maskDevice(any(), anyBoolean(), anyBoolean(), anyBoolean());
+    }
+
     private void givenPrivacyEnforcementActions(Map<String, PrivacyEnforcementAction> actions) {
         given(tcfDefinerService.resultForBidderNames(any(), any(), any(), any()))
                 .willReturn(Future.succeededFuture(TcfResponse.of(null, actions, null)));
@@ -0,0 +1,77 @@
+package org.prebid.server.auction.privacy.enforcement.mask;
+
+import com.iab.openrtb.request.User;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaskingMemoTest {
+
+    private final MaskingMemo<User> target = new MaskingMemo<>();
+
+    @Test
+    public void maskShouldReuseMaskedObjectForSameOriginalAndEqualActions() {
+        // given
+        final User original = User.builder().id("id").build();
+        final AtomicInteger maskingCount = new AtomicInteger();
+        final Supplier<User> masker = () -> {
+            maskingCount.incrementAndGet();
+            return User.builder().build();
+        };
+
+        // when
+        final User first = target.mask(original, "actions", masker);
+        final User second = target.mask(original, new String("actions"), masker);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(maskingCount).hasValue(1);
+    }
+
+    @Test
+    public void maskShouldMaskAgainForDifferentActions() {
+        // given
+        final User original = User.builder().id("id").build();
+
+        // when
+        final User first = target.mask(original, "actions1", () -> User.builder().build());
+        final User second = target.mask(original, "actions2", () -> User.builder().build());
+
+        // then
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    public void maskShouldMaskAgainForEqualButNotSameOriginal() {
+        // given
+        final User original = User.builder().id("id").build();
+        final User equalOriginal = User.builder().id("id").build();
+
+        // when
+        final User first = target.mask(original, () -> User.builder().build());
+        final User second = target.mask(equalOriginal, () -> User.builder().build());
+
+        // then
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    public void maskShouldNotRememberResultForNullOriginal() {
+        // given
+        final AtomicInteger maskingCount = new AtomicInteger();
+        final Supplier<User> masker = () -> {
+            maskingCount.incrementAndGet();
+            return null;
+        };
+
+        // when
+        target.mask(null, masker);
+        target.mask(null, masker);
+
+        // then
+        assertThat(maskingCount).hasValue(2);
+    }
+}
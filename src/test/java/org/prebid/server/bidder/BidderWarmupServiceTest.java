@@ -0,0 +1,201 @@
+package org.prebid.server.bidder;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.model.BidderCall;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.Result;
+import org.prebid.server.health.model.Status;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class BidderWarmupServiceTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private BidderCatalog bidderCatalog;
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private FileSystem fileSystem;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Bidder<BidRequest> bidder;
+
+    @Before
+    public void setUp() {
+        given(vertx.executeBlocking(any(Callable.class), anyBoolean())).willAnswer(invocation -> {
+            final Callable<Void> blockingCode = invocation.getArgument(0);
+            return Future.succeededFuture(blockingCode.call());
+        });
+
+        given(bidderCatalog.names()).willReturn(Set.of("bidder", "disabled"));
+        given(bidderCatalog.isActive("bidder")).willReturn(true);
+        given(bidderCatalog.bidderByName("bidder")).willReturn((Bidder) bidder);
+    }
+
+    @Test
+    public void creationShouldFailIfBidRequestsCanNotBeDecoded() {
+        // given
+        given(fileSystem.readFileBlocking("path")).willReturn(Buffer.buffer("invalid"));
+
+        // when and then
+        assertThatThrownBy(() -> target("path", 1))
+                .hasMessage("Failed to decode warm-up bid requests from path");
+    }
+
+    @Test
+    public void initializeShouldRunBidRequestsThroughActiveBiddersWithBidderParamsAndCannedResponse() {
+        // given
+        given(fileSystem.readFileBlocking("path")).willReturn(Buffer.buffer("""
+                [{"id":"request","imp":[{"id":"imp","ext":{"prebid":{"bidder":{"bidder":{"param":1}}}}}]}]"""));
+
+        final HttpRequest<BidRequest> httpRequest = HttpRequest.<BidRequest>builder().uri("uri").build();
+        given(bidder.makeHttpRequests(any())).willReturn(Result.withValue(httpRequest));
+        given(bidder.makeBids(any(), any())).willReturn(Result.empty());
+
+        final BidderWarmupService target = target("path", 2);
+
+        // when
+        final Promise<Void> promise = Promise.promise();
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+
+        final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(bidder, times(2)).makeHttpRequests(bidRequestCaptor.capture());
+        assertThat(bidRequestCaptor.getValue().getImp())
+                .extracting(Imp::getExt)
+                .containsExactly(mapper.createObjectNode().set("bidder", mapper.createObjectNode().put("param", 1)));
+
+        final ArgumentCaptor<BidderCall<BidRequest>> bidderCallCaptor = ArgumentCaptor.forClass(BidderCall.class);
+        verify(bidder, times(2)).makeBids(bidderCallCaptor.capture(), any());
+        assertThat(bidderCallCaptor.getValue().getResponse().getBody())
+                .contains("\"impid\":\"imp\"");
+
+        verify(bidderCatalog, never()).bidderByName("disabled");
+        verify(metrics).updateWarmupMetrics(anyLong(), eq(1), eq(0));
+        assertThat(target.status().getStatus()).isEqualTo(Status.UP.name());
+    }
+
+    @Test
+    public void initializeShouldCountBidderFailedWithExceptionOnceAndNotRunItAgain() {
+        // given
+        given(bidder.makeHttpRequests(any())).willThrow(new IllegalStateException("error"));
+
+        final BidderWarmupService target = target(null, 3);
+
+        // when
+        final Promise<Void> promise = Promise.promise();
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+        verify(bidder).makeHttpRequests(any());
+        verify(metrics).updateWarmupMetrics(anyLong(), eq(0), eq(1));
+    }
+
+    @Test
+    public void initializeShouldNotCountBidderAsCoveredIfItMadeNoHttpRequests() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.withError(BidderError.badInput("error")));
+
+        final BidderWarmupService target = target(null, 2);
+
+        // when
+        final Promise<Void> promise = Promise.promise();
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+        verify(bidder, times(2)).makeHttpRequests(any());
+        verify(bidder, never()).makeBids(any(), any());
+        verify(metrics).updateWarmupMetrics(anyLong(), eq(0), eq(1));
+    }
+
+    @Test
+    public void initializeShouldSucceedIfWarmupFailed() {
+        // given
+        given(vertx.executeBlocking(any(Callable.class), anyBoolean())).willReturn(Future.failedFuture("error"));
+
+        final BidderWarmupService target = target(null, 1);
+
+        // when
+        final Promise<Void> promise = Promise.promise();
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+        assertThat(target.status().getStatus()).isEqualTo(Status.UP.name());
+    }
+
+    @Test
+    public void initializeShouldNotWaitForWarmupToFinish() {
+        // given
+        given(vertx.executeBlocking(any(Callable.class), anyBoolean())).willReturn(Promise.promise().future());
+
+        final BidderWarmupService target = target(null, 1);
+
+        // when
+        final Promise<Void> promise = Promise.promise();
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+        assertThat(target.status().getStatus()).isEqualTo(Status.DOWN.name());
+    }
+
+    @Test
+    public void statusShouldBeDownBeforeWarmupIsFinished() {
+        // when
+        final BidderWarmupService target = target(null, 1);
+
+        // then
+        assertThat(target.name()).isEqualTo("warmup");
+        assertThat(target.status().getStatus()).isEqualTo(Status.DOWN.name());
+    }
+
+    private BidderWarmupService target(String bidRequestsPath, int iterations) {
+        return new BidderWarmupService(
+                bidRequestsPath,
+                iterations,
+                bidderCatalog,
+                vertx,
+                fileSystem,
+                metrics,
+                Clock.systemUTC(),
+                jacksonMapper);
+    }
+}
@@ -40,6 +40,7 @@ import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.EventLoopMonitor;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -50,6 +51,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import static java.util.Arrays.asList;
@@ -93,6 +95,8 @@ public class HttpBidderRequesterTest extends VertxTest {
     @Mock
     private HttpBidderRequestEnricher requestEnricher;
     @Mock
+    private EventLoopMonitor eventLoopMonitor;
+    @Mock
     private RoutingContext routingContext;
     @Mock
     private HttpServerRequest httpServerRequest;
@@ -109,6 +113,9 @@ public class HttpBidderRequesterTest extends VertxTest {
         given(httpServerRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
         given(requestEnricher.enrichHeaders(anyString(), any(), any(), any(), any()))
                 .willReturn(MultiMap.caseInsensitiveMultiMap());
+        given(eventLoopMonitor.track(any(), any(), any()))
+                .willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+        given(bidderAliases.resolveBidder(anyString())).willAnswer(invocation -> invocation.getArgument(0));
 
         final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         final TimeoutFactory timeoutFactory = new TimeoutFactory(clock);
@@ -116,10 +123,60 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper);
+                httpClient, null, bidderErrorNotifier, requestEnricher, eventLoopMonitor, jacksonMapper);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
+    @Test
+    public void shouldTrackBidderRequestsCreationOnEventLoop() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        verify(eventLoopMonitor).track(eq(EventLoopMonitor.TaskType.bidder), eq("bidder"), any());
+        verify(bidder).makeHttpRequests(any());
+    }
+
+    @Test
+    public void shouldTrackBidderRequestsCreationUnderResolvedBidderName() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(emptyList(), emptyList()));
+        given(bidderAliases.resolveBidder("alias")).willReturn("bidder");
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("alias")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        verify(eventLoopMonitor).track(eq(EventLoopMonitor.TaskType.bidder), eq("bidder"), any());
+    }
+
     @Test
     public void shouldReturnFailedToRequestBidsErrorWhenBidderReturnsEmptyHttpRequestAndErrorLists() {
         // given
@@ -477,6 +534,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 },
                 bidderErrorNotifier,
                 requestEnricher,
+                eventLoopMonitor,
                 jacksonMapper);
 
         final BidRequest bidRequest = bidRequestWithDeals("deal1", "deal2");
@@ -0,0 +1,217 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class BasicCachePutBatcherTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient httpClient;
+
+    private BasicCachePutBatcher target;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        target = new BasicCachePutBatcher(vertx, httpClient, "http://cache/endpoint", jacksonMapper, clock, 2L, 3);
+    }
+
+    @Test
+    public void putShouldNotSendRequestUntilBatchWindowElapses() {
+        // when
+        target.put(singletonList(givenPutObject("1")), 100L);
+
+        // then
+        verify(vertx).setTimer(eq(2L), any());
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void putShouldSendSingleRequestForAllPutObjectsWhenBatchWindowElapses() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(
+                BidCacheResponse.of(asList(CacheObject.of("uuid1"), CacheObject.of("uuid2")))));
+
+        // when
+        final Future<List<CacheObject>> future1 = target.put(singletonList(givenPutObject("1")), 100L);
+        final Future<List<CacheObject>> future2 = target.put(singletonList(givenPutObject("2")), 200L);
+        fireBatchTimer();
+
+        // then
+        final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient).post(eq("http://cache/endpoint"), any(), bodyCaptor.capture(), eq(200L));
+        assertThat(mapper.readValue(bodyCaptor.getValue(), BidCacheRequest.class).getPuts())
+                .containsExactly(givenPutObject("1"), givenPutObject("2"));
+
+        assertThat(future1.result()).containsExactly(CacheObject.of("uuid1"));
+        assertThat(future2.result()).containsExactly(CacheObject.of("uuid2"));
+    }
+
+    @Test
+    public void putShouldSendRequestImmediatelyWhenBatchSizeIsReached() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(BidCacheResponse.of(
+                asList(CacheObject.of("uuid1"), CacheObject.of("uuid2"), CacheObject.of("uuid3")))));
+        given(vertx.setTimer(anyLong(), any())).willReturn(1L);
+
+        // when
+        final Future<List<CacheObject>> future1 = target.put(singletonList(givenPutObject("1")), 100L);
+        final Future<List<CacheObject>> future2 = target.put(
+                asList(givenPutObject("2"), givenPutObject("3")), 100L);
+
+        // then
+        verify(vertx).cancelTimer(1L);
+        assertThat(future1.result()).containsExactly(CacheObject.of("uuid1"));
+        assertThat(future2.result()).containsExactly(CacheObject.of("uuid2"), CacheObject.of("uuid3"));
+    }
+
+    @Test
+    public void putShouldResendEachCallerIndividuallyIfBatchResponseDoesNotMatchPutObjects()
+            throws JsonProcessingException {
+
+        // given
+        given(httpClient.post(anyString(), any(), anyString(), anyLong())).willReturn(
+                givenCacheResponse("uuid"),
+                givenCacheResponse("uuid1"),
+                givenCacheResponse("uuid2"));
+
+        // when
+        final Future<List<CacheObject>> future1 = target.put(singletonList(givenPutObject("1")), 100L);
+        final Future<List<CacheObject>> future2 = target.put(singletonList(givenPutObject("2")), 100L);
+        fireBatchTimer();
+
+        // then
+        final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient, times(3)).post(anyString(), any(), bodyCaptor.capture(), anyLong());
+        assertThat(bodyCaptor.getAllValues().subList(1, 3))
+                .extracting(body -> mapper.readValue(body, BidCacheRequest.class).getPuts())
+                .containsExactly(singletonList(givenPutObject("1")), singletonList(givenPutObject("2")));
+
+        assertThat(future1.result()).containsExactly(CacheObject.of("uuid1"));
+        assertThat(future2.result()).containsExactly(CacheObject.of("uuid2"));
+    }
+
+    @Test
+    public void putShouldFailOnlyCallerWhoseIndividualRequestFailed() throws JsonProcessingException {
+        // given
+        given(httpClient.post(anyString(), any(), anyString(), anyLong())).willReturn(
+                Future.failedFuture("error"),
+                givenResponse(503, null),
+                givenCacheResponse("uuid2"));
+
+        // when
+        final Future<List<CacheObject>> future1 = target.put(singletonList(givenPutObject("1")), 100L);
+        final Future<List<CacheObject>> future2 = target.put(singletonList(givenPutObject("2")), 100L);
+        fireBatchTimer();
+
+        // then
+        assertThat(future1.cause()).isInstanceOf(PreBidException.class).hasMessage("HTTP status code 503");
+        assertThat(future2.result()).containsExactly(CacheObject.of("uuid2"));
+    }
+
+    @Test
+    public void putShouldCancelTimeoutTimerOfCallerWithEarlierDeadlineWhenResponseIsReceived()
+            throws JsonProcessingException {
+
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(
+                BidCacheResponse.of(asList(CacheObject.of("uuid1"), CacheObject.of("uuid2")))));
+        given(vertx.setTimer(eq(100L), any())).willReturn(7L);
+
+        // when
+        target.put(singletonList(givenPutObject("1")), 100L);
+        target.put(singletonList(givenPutObject("2")), 200L);
+        fireBatchTimer();
+
+        // then
+        verify(vertx).cancelTimer(7L);
+    }
+
+    @Test
+    public void putShouldFailAllCallersIfResponseStatusIsNot200() {
+        // given
+        givenHttpClientReturnsResponse(503, null);
+
+        // when
+        final Future<List<CacheObject>> future = target.put(singletonList(givenPutObject("1")), 100L);
+        fireBatchTimer();
+
+        // then
+        assertThat(future.cause()).isInstanceOf(PreBidException.class).hasMessage("HTTP status code 503");
+    }
+
+    @Test
+    public void putShouldFailWithoutSendingIfTimeoutExpiredBeforeBatchWasSent() {
+        // when
+        final Future<List<CacheObject>> future = target.put(singletonList(givenPutObject("1")), 0L);
+        fireBatchTimer();
+
+        // then
+        assertThat(future.cause()).isInstanceOf(TimeoutException.class);
+        verifyNoInteractions(httpClient);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fireBatchTimer() {
+        final ArgumentCaptor<Handler<Long>> timerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(2L), timerCaptor.capture());
+        timerCaptor.getValue().handle(0L);
+    }
+
+    private void givenHttpClientReturnsResponse(int statusCode, String body) {
+        given(httpClient.post(anyString(), any(), anyString(), anyLong())).willReturn(givenResponse(statusCode, body));
+    }
+
+    private static Future<HttpClientResponse> givenCacheResponse(String uuid) throws JsonProcessingException {
+        return givenResponse(200, mapper.writeValueAsString(BidCacheResponse.of(singletonList(CacheObject.of(uuid)))));
+    }
+
+    private static Future<HttpClientResponse> givenResponse(int statusCode, String body) {
+        return Future.succeededFuture(HttpClientResponse.of(statusCode, null, body));
+    }
+
+    private static PutObject givenPutObject(String value) {
+        return PutObject.builder().type("xml").value(new TextNode(value)).build();
+    }
+}
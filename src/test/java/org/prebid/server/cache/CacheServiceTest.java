@@ -8,6 +8,9 @@ import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -25,6 +28,7 @@ import org.prebid.server.cache.model.CacheHttpRequest;
 import org.prebid.server.cache.model.CacheInfo;
 import org.prebid.server.cache.model.CacheServiceResult;
 import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.cache.model.CacheWriteMode;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cache.proto.request.BidCacheRequest;
 import org.prebid.server.cache.proto.request.PutObject;
@@ -72,8 +76,12 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -91,6 +99,8 @@ public class CacheServiceTest extends VertxTest {
     @Mock
     private VastModifier vastModifier;
     @Mock
+    private Vertx vertx;
+    @Mock
     private Metrics metrics;
     @Mock
     private UUIDIdGenerator idGenerator;
@@ -115,8 +125,12 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
+                CacheWriteMode.sync(),
+                null,
+                null,
                 vastModifier,
                 eventsService,
+                vertx,
                 metrics,
                 clock,
                 idGenerator,
@@ -569,8 +583,12 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
+                CacheWriteMode.sync(),
+                null,
+                null,
                 vastModifier,
                 eventsService,
+                vertx,
                 metrics,
                 clock,
                 idGenerator,
@@ -610,8 +628,12 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
+                CacheWriteMode.sync(),
+                null,
+                null,
                 vastModifier,
                 eventsService,
+                vertx,
                 metrics,
                 clock,
                 idGenerator,
@@ -647,8 +669,12 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
+                CacheWriteMode.sync(),
+                null,
+                null,
                 vastModifier,
                 eventsService,
+                vertx,
                 metrics,
                 clock,
                 idGenerator,
@@ -881,6 +907,245 @@ public class CacheServiceTest extends VertxTest {
                         CacheInfo.of("uuid", "randomId", null, null));
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldReturnLocallyGeneratedKeysWithoutWaitingForCacheIfAsyncWriteEnabled()
+            throws IOException {
+
+        // given
+        cacheService = givenAsyncCacheService(0);
+        given(idGenerator.generateId()).willReturn("generatedId1", "generatedId2");
+        given(httpClient.post(anyString(), any(), any(), anyLong())).willReturn(Promise.<HttpClientResponse>promise()
+                .future());
+
+        final BidInfo bidInfo1 = givenBidInfo(builder -> builder.id("bidId1"), BidType.video, "bidder1");
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(bidInfo1),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .shouldCacheVideoBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo1.getBid(), CacheInfo.of("generatedId1", "generatedId2", null, null)));
+        assertThat(captureBidCacheRequest().getPuts())
+                .extracting(PutObject::getKey)
+                .containsExactly("generatedId1", "generatedId2");
+        verify(httpClient).post(anyString(), any(), any(), eq(300L));
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldKeepCustomCacheKeyIfAsyncWriteEnabled() throws MalformedURLException {
+        // given
+        cacheService = givenAsyncCacheService(0);
+        given(idGenerator.generateId()).willReturn("randomId", "generatedId");
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bid1").adm("adm"), BidType.video, "bidder")
+                .toBuilder().category("bid1Category").build();
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheVideoBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of(null, "randomId", null, null)));
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldRetryFailedAsyncWriteAfterDelayAndUpdateMetrics() throws MalformedURLException {
+        // given
+        cacheService = givenAsyncCacheService(1);
+        givenVertxRunsTimersImmediately();
+        given(idGenerator.generateId()).willReturn("generatedId");
+        givenHttpClientProducesException(new RuntimeException("error"));
+
+        // when
+        final Future<CacheServiceResult> future = cacheAsync();
+
+        // then
+        assertThat(future.result().getError()).isNull();
+        verify(vertx).setTimer(eq(50L), any());
+        verify(httpClient, times(2)).post(anyString(), any(), any(), anyLong());
+        verify(metrics, times(2)).updateCacheRequestFailedTime(eq("accountId"), anyLong());
+        verify(metrics).updateCacheAsyncRequestRetried("accountId");
+        verify(metrics).updateCacheAsyncRequestDropped("accountId");
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldRetryAsyncWriteOnServerError() throws MalformedURLException {
+        // given
+        cacheService = givenAsyncCacheService(1);
+        givenVertxRunsTimersImmediately();
+        given(idGenerator.generateId()).willReturn("generatedId");
+        givenHttpClientReturnsResponse(503, null);
+
+        // when
+        cacheAsync();
+
+        // then
+        verify(httpClient, times(2)).post(anyString(), any(), any(), anyLong());
+        verify(metrics).updateCacheAsyncRequestRetried("accountId");
+        verify(metrics).updateCacheAsyncRequestDropped("accountId");
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldNotRetryAsyncWriteOnClientError() throws MalformedURLException {
+        // given
+        cacheService = givenAsyncCacheService(1);
+        given(idGenerator.generateId()).willReturn("generatedId");
+        givenHttpClientReturnsResponse(400, null);
+
+        // when
+        cacheAsync();
+
+        // then
+        verify(httpClient).post(anyString(), any(), any(), anyLong());
+        verifyNoInteractions(vertx);
+        verify(metrics).updateCacheRequestFailedTime(eq("accountId"), anyLong());
+        verify(metrics, never()).updateCacheAsyncRequestRetried(any());
+        verify(metrics).updateCacheAsyncRequestDropped("accountId");
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldDropAsyncWriteIfCacheStoredCreativesByOtherKeys() throws IOException {
+        // given
+        cacheService = givenAsyncCacheService(1);
+        given(idGenerator.generateId()).willReturn("generatedId");
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(
+                BidCacheResponse.of(singletonList(CacheObject.of("otherId")))));
+
+        // when
+        cacheAsync();
+
+        // then
+        verify(httpClient).post(anyString(), any(), any(), anyLong());
+        verify(metrics, never()).updateCacheAsyncRequestRetried(any());
+        verify(metrics).updateCacheAsyncRequestDropped("accountId");
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldUpdateSuccessMetricIfAsyncWriteSucceeded() throws IOException {
+        // given
+        cacheService = givenAsyncCacheService(1);
+        given(idGenerator.generateId()).willReturn("generatedId");
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(
+                BidCacheResponse.of(singletonList(CacheObject.of("generatedId")))));
+
+        // when
+        cacheService.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(builder -> builder.id("bidId1"))),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        verify(httpClient).post(anyString(), any(), any(), anyLong());
+        verify(metrics).updateCacheRequestSuccessTime(eq("accountId"), anyLong());
+        verify(metrics, never()).updateCacheAsyncRequestRetried(any());
+        verify(metrics, never()).updateCacheAsyncRequestDropped(any());
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldUseBatcherIfConfigured() throws MalformedURLException {
+        // given
+        final CachePutBatcher putBatcher = mock(CachePutBatcher.class);
+        given(putBatcher.put(any(), anyLong()))
+                .willReturn(Future.succeededFuture(singletonList(CacheObject.of("batchedUuid"))));
+
+        cacheService = new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                CacheWriteMode.sync(),
+                putBatcher,
+                null,
+                vastModifier,
+                eventsService,
+                vertx,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper);
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("batchedUuid", null, null, null)));
+        verify(putBatcher).put(argThat(puts -> puts.size() == 1), eq(500L));
+        verify(metrics).updateCacheRequestSuccessTime(eq("accountId"), anyLong());
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void cacheVideoDebugLogShouldStoreLogInEmbeddedCacheIfConfigured() throws MalformedURLException {
+        // given
+        final EmbeddedCacheStore embeddedCacheStore = mock(EmbeddedCacheStore.class);
+        cacheService = givenEmbeddedCacheService(embeddedCacheStore);
+        given(idGenerator.generateId()).willReturn("cacheKey");
+
+        final CachedDebugLog cachedDebugLog = new CachedDebugLog(true, 100, null, jacksonMapper);
+
+        // when
+        final String result = cacheService.cacheVideoDebugLog(cachedDebugLog, 500);
+
+        // then
+        assertThat(result).isEqualTo("cacheKey");
+        verify(embeddedCacheStore).putAll(argThat(putObjects -> "log_cacheKey".equals(putObjects.get(0).getKey())
+                && Integer.valueOf(500).equals(putObjects.get(0).getExpiry())));
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldStoreCreativesInEmbeddedCacheIfConfigured() throws MalformedURLException {
+        // given
+        final EmbeddedCacheStore embeddedCacheStore = mock(EmbeddedCacheStore.class);
+        given(embeddedCacheStore.putAll(any())).willReturn(singletonList("host-uuid1"));
+
+        cacheService = givenEmbeddedCacheService(embeddedCacheStore);
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("host-uuid1", null, null, null)));
+        verify(embeddedCacheStore).putAll(argThat(putObjects -> "json".equals(putObjects.get(0).getType())));
+        verifyNoInteractions(httpClient);
+    }
+
     @Test
     public void cachePutObjectsShouldTolerateGlobalTimeoutAlreadyExpired() {
         // when
@@ -973,6 +1238,64 @@ public class CacheServiceTest extends VertxTest {
                 .containsExactly(modifiedFirstPutObject, modifiedSecondPutObject, modifiedThirdPutObject);
     }
 
+    private Future<CacheServiceResult> cacheAsync() {
+        return cacheService.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(builder -> builder.id("bidId1"))),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenVertxRunsTimersImmediately() {
+        given(vertx.setTimer(anyLong(), any())).willAnswer(invocation -> {
+            ((Handler<Long>) invocation.getArgument(1)).handle(1L);
+            return 1L;
+        });
+    }
+
+    private CacheService givenEmbeddedCacheService(EmbeddedCacheStore embeddedCacheStore)
+            throws MalformedURLException {
+
+        return new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                CacheWriteMode.sync(),
+                null,
+                embeddedCacheStore,
+                vastModifier,
+                eventsService,
+                vertx,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper);
+    }
+
+    private CacheService givenAsyncCacheService(int retries) throws MalformedURLException {
+        return new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                CacheWriteMode.of(true, 300L, retries, 50L),
+                null,
+                null,
+                vastModifier,
+                eventsService,
+                vertx,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper);
+    }
+
     private AuctionContext givenAuctionContext(UnaryOperator<Account.AccountBuilder> accountCustomizer,
                                                UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
 
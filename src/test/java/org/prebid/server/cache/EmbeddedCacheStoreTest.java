@@ -0,0 +1,206 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.EmbeddedCacheStore.StoredValue;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.identity.IdGenerator;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class EmbeddedCacheStoreTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Clock clock;
+    @Mock
+    private IdGenerator idGenerator;
+
+    private EmbeddedCacheStore target;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(1000L);
+        given(idGenerator.generateId()).willReturn("uuid");
+
+        target = new EmbeddedCacheStore(vertx, clock, idGenerator, "host", 2048L, 300, 600, 1000L);
+    }
+
+    @Test
+    public void putShouldReturnGeneratedKeyPrefixedWithHostId() {
+        // when
+        final String key = target.put(PutObject.builder().type("xml").value(new TextNode("<vast>")).build());
+
+        // then
+        assertThat(key).isEqualTo("host-uuid");
+        assertThat(target.get(key)).isEqualTo(StoredValue.of("xml", "<vast>"));
+    }
+
+    @Test
+    public void putShouldPrefixProvidedKeyWithHostIdAndStoreJsonValue() {
+        // given
+        final PutObject putObject = PutObject.builder()
+                .type("json")
+                .key("custom")
+                .value(mapper.createObjectNode().put("a", 1))
+                .build();
+
+        // when
+        final String key = target.put(putObject);
+
+        // then
+        assertThat(key).isEqualTo("host-custom");
+        assertThat(target.get("host-custom")).isEqualTo(StoredValue.of("json", "{\"a\":1}"));
+        assertThat(target.get("custom")).isNull();
+    }
+
+    @Test
+    public void putShouldStoreValueAcrossPages() {
+        // given
+        final String value = "a".repeat(1024) + "b";
+
+        // when
+        final String key = target.put(PutObject.builder().type("xml").value(new TextNode(value)).build());
+
+        // then
+        assertThat(target.get(key)).isEqualTo(StoredValue.of("xml", value));
+        assertThat(target.usedBytes()).isEqualTo(2048L);
+    }
+
+    @Test
+    public void putShouldFailIfCapacityIsExceeded() {
+        // given
+        final PutObject putObject = PutObject.builder().type("xml").value(new TextNode("a".repeat(2049))).build();
+
+        // when and then
+        assertThatExceptionOfType(PreBidException.class).isThrownBy(() -> target.put(putObject));
+        assertThat(target.usedBytes()).isZero();
+    }
+
+    @Test
+    public void putShouldNotOverwriteValueStoredByTheSameKey() {
+        // given
+        target.put(PutObject.builder().type("xml").key("key").value(new TextNode("v1")).build());
+
+        // when and then
+        final PutObject putObject = PutObject.builder().type("xml").key("key").value(new TextNode("v2")).build();
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> target.put(putObject))
+                .withMessage("Key host-key is already in use");
+        assertThat(target.get("host-key")).isEqualTo(StoredValue.of("xml", "v1"));
+        assertThat(target.usedBytes()).isEqualTo(1024L);
+    }
+
+    @Test
+    public void putAllShouldStoreNothingIfAnyKeyIsAlreadyInUse() {
+        // given
+        target.put(PutObject.builder().type("xml").key("key2").value(new TextNode("v")).build());
+
+        // when and then
+        assertThatExceptionOfType(PreBidException.class).isThrownBy(() -> target.putAll(List.of(
+                PutObject.builder().type("xml").key("key1").value(new TextNode("v1")).build(),
+                PutObject.builder().type("xml").key("key2").value(new TextNode("v2")).build())));
+        assertThat(target.get("host-key1")).isNull();
+        assertThat(target.get("host-key2")).isEqualTo(StoredValue.of("xml", "v"));
+        assertThat(target.usedBytes()).isEqualTo(1024L);
+    }
+
+    @Test
+    public void putAllShouldStoreNothingIfCapacityIsExceededByBatch() {
+        // when and then
+        assertThatExceptionOfType(PreBidException.class).isThrownBy(() -> target.putAll(List.of(
+                PutObject.builder().type("xml").key("key1").value(new TextNode("a".repeat(1025))).build(),
+                PutObject.builder().type("xml").key("key2").value(new TextNode("b")).build())));
+        assertThat(target.get("host-key1")).isNull();
+        assertThat(target.usedBytes()).isZero();
+    }
+
+    @Test
+    public void putAllShouldFailOnDuplicatedKeys() {
+        // when and then
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> target.putAll(List.of(
+                        PutObject.builder().type("xml").key("key").value(new TextNode("v1")).build(),
+                        PutObject.builder().type("xml").key("key").value(new TextNode("v2")).build())))
+                .withMessage("Key host-key is duplicated");
+        assertThat(target.get("host-key")).isNull();
+    }
+
+    @Test
+    public void getShouldReturnNullForExpiredValue() {
+        // given
+        target.put(PutObject.builder().type("xml").key("key").ttlseconds(1).value(new TextNode("v")).build());
+
+        // when
+        given(clock.millis()).willReturn(2000L);
+
+        // then
+        assertThat(target.get("host-key")).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void initializeShouldScheduleEvictionOfExpiredValues() {
+        // given
+        target.put(PutObject.builder().type("xml").key("key1").ttlseconds(1).value(new TextNode("v1")).build());
+        target.put(PutObject.builder().type("xml").key("key2").value(new TextNode("v2")).build());
+
+        // when
+        target.initialize(Promise.promise());
+
+        // then
+        final ArgumentCaptor<Handler<Long>> periodicCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(eq(1000L), periodicCaptor.capture());
+
+        given(clock.millis()).willReturn(2000L);
+        periodicCaptor.getValue().handle(0L);
+
+        assertThat(target.usedBytes()).isEqualTo(1024L);
+        assertThat(target.get("host-key2")).isEqualTo(StoredValue.of("xml", "v2"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void putShouldReusePagesOfEvictedValues() {
+        // given
+        target.put(PutObject.builder().type("xml").key("key1").ttlseconds(1).value(new TextNode("a".repeat(2048)))
+                .build());
+        target.initialize(Promise.promise());
+
+        final ArgumentCaptor<Handler<Long>> periodicCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(eq(1000L), periodicCaptor.capture());
+
+        given(clock.millis()).willReturn(2000L);
+        periodicCaptor.getValue().handle(0L);
+
+        // when
+        target.put(PutObject.builder().type("xml").key("key2").value(new TextNode("b".repeat(1500))).build());
+
+        // then
+        assertThat(target.get("host-key1")).isNull();
+        assertThat(target.get("host-key2")).isEqualTo(StoredValue.of("xml", "b".repeat(1500)));
+        assertThat(target.usedBytes()).isEqualTo(2048L);
+    }
+}
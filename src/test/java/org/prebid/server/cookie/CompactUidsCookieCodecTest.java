@@ -0,0 +1,130 @@
+package org.prebid.server.cookie;
+
+import org.junit.Test;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class CompactUidsCookieCodecTest {
+
+    private static final ZonedDateTime EXPIRES = ZonedDateTime.of(2030, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+
+    private final CompactUidsCookieCodec target = new CompactUidsCookieCodec();
+
+    @Test
+    public void decodeShouldReturnEncodedUids() {
+        // given
+        final Uids uids = Uids.builder()
+                .uids(Map.of(
+                        "rubicon", new UidWithExpiry("J5VLCWQP-26-CWFT", EXPIRES),
+                        "unknown-family", new UidWithExpiry("uid", EXPIRES.plusDays(1))))
+                .optout(false)
+                .build();
+
+        // when
+        final Uids result = target.decode(payload(target.encode(uids)));
+
+        // then
+        assertThat(result).isEqualTo(uids);
+    }
+
+    @Test
+    public void decodeShouldReturnOptoutAsEncoded() {
+        assertThat(target.decode(payload(target.encode(Uids.builder().uids(Map.of()).build()))).getOptout())
+                .isNull();
+        assertThat(target.decode(payload(target.encode(Uids.builder().uids(Map.of()).optout(true).build())))
+                .getOptout())
+                .isTrue();
+    }
+
+    @Test
+    public void decodeShouldReadMissingExpirationAsExpired() {
+        // given
+        final Uids uids = Uids.builder().uids(Map.of("rubicon", new UidWithExpiry("uid", null))).build();
+
+        // when
+        final Uids result = target.decode(payload(target.encode(uids)));
+
+        // then
+        assertThat(result.getUids().get("rubicon").getExpires().toInstant()).isEqualTo(Instant.EPOCH);
+    }
+
+    @Test
+    public void decodeShouldSkipUidsWithUnknownFamilyCode() {
+        // given
+        final byte[] payload = {CompactUidsCookieCodec.VERSION, 0, 1, (byte) 0xFF, 0x7F, 3, 'u', 'i', 'd', 1};
+
+        // when
+        final Uids result = target.decode(payload);
+
+        // then
+        assertThat(result.getUids()).isEmpty();
+    }
+
+    @Test
+    public void decodeShouldFailOnMalformedPayload() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decode(new byte[]{CompactUidsCookieCodec.VERSION, 0, 1, 0, 10, 'a'}));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decode(new byte[]{CompactUidsCookieCodec.VERSION, 0, 0, 0}));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decode(new byte[]{2, 0, 0}));
+    }
+
+    @Test
+    public void decodeShouldFailOnVarintsOutOfRange() {
+        // negative family code
+        assertThatIllegalArgumentException().isThrownBy(() -> target.decode(new byte[]{
+                CompactUidsCookieCodec.VERSION, 0, 1,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01}));
+        // negative uid length
+        assertThatIllegalArgumentException().isThrownBy(() -> target.decode(new byte[]{
+                CompactUidsCookieCodec.VERSION, 0, 1, 1,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01}));
+        // count exceeding payload
+        assertThatIllegalArgumentException().isThrownBy(() -> target.decode(new byte[]{
+                CompactUidsCookieCodec.VERSION, 0, (byte) 0xFF, 0x01, 1, 0, 0}));
+        // negative expiration
+        assertThatIllegalArgumentException().isThrownBy(() -> target.decode(new byte[]{
+                CompactUidsCookieCodec.VERSION, 0, 1, 1, 0,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01}));
+    }
+
+    @Test
+    public void valueLengthShouldMatchEncodedValueLength() {
+        // given
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            uidsMap.put(i % 2 == 0 ? "adnxs" + i : "rubicon", new UidWithExpiry("uid-é中😀" + i,
+                    EXPIRES.plusSeconds(i * 1000L)));
+
+            int entriesSize = 0;
+            for (Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+                entriesSize += target.entrySize(entry.getKey(), entry.getValue());
+            }
+
+            // when
+            final int valueLength = target.valueLength(true, uidsMap.size(), entriesSize);
+
+            // then
+            assertThat(valueLength)
+                    .isEqualTo(target.encode(Uids.builder().uids(uidsMap).optout(true).build()).length());
+        }
+    }
+
+    private static byte[] payload(String value) {
+        return Base64.getUrlDecoder().decode(value);
+    }
+}
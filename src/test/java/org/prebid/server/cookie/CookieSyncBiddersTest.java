@@ -0,0 +1,151 @@
+package org.prebid.server.cookie;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.UsersyncFormat;
+import org.prebid.server.bidder.UsersyncMethod;
+import org.prebid.server.bidder.UsersyncMethodType;
+import org.prebid.server.bidder.UsersyncUtil;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.cookie.model.RejectionReason;
+import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CookieSyncBiddersTest {
+
+    private static final String EXTERNAL_URL = "https://external-url.com";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private BidderCatalog bidderCatalog;
+
+    @Test
+    public void getShouldResolveRegisteredBiddersOnlyOnCreation() {
+        // given
+        givenBidder("bidder", true, Usersyncer.of(true, "family", CookieFamilySource.ROOT, usersyncMethod(), null));
+        given(bidderCatalog.names()).willReturn(Set.of("bidder"));
+
+        final CookieSyncBidders target = new CookieSyncBidders(bidderCatalog, EXTERNAL_URL);
+
+        // when
+        final CookieSyncBidders.SyncBidder first = target.get("bidder");
+        final CookieSyncBidders.SyncBidder second = target.get("BIDDER");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getRejectionReason()).isNull();
+        assertThat(first.getCookieFamilyName()).isEqualTo("family");
+        verify(bidderCatalog, times(1)).usersyncerByName(anyString());
+    }
+
+    @Test
+    public void getShouldResolveUnknownBidderThroughCatalog() {
+        // given
+        final CookieSyncBidders target = new CookieSyncBidders(bidderCatalog, EXTERNAL_URL);
+
+        // when
+        final CookieSyncBidders.SyncBidder result = target.get("unknown");
+
+        // then
+        assertThat(result.getRejectionReason()).isEqualTo(RejectionReason.INVALID_BIDDER);
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getCookieFamilyName()).isNull();
+        verify(bidderCatalog).isValidName("unknown");
+    }
+
+    @Test
+    public void getShouldReturnFirstRejectionReasonFollowingFromConfiguration() {
+        // given
+        final Usersyncer disabledUsersyncer = Usersyncer.of(
+                false, "family", CookieFamilySource.ROOT, usersyncMethod(), null);
+        givenBidder("disabled", false, disabledUsersyncer);
+        givenBidder("unconfigured", true, null);
+        givenBidder("usersync-disabled", true, disabledUsersyncer);
+        given(bidderCatalog.names()).willReturn(Set.of("disabled", "unconfigured", "usersync-disabled"));
+
+        // when
+        final CookieSyncBidders target = new CookieSyncBidders(bidderCatalog, EXTERNAL_URL);
+
+        // then
+        assertThat(target.get("disabled").getRejectionReason()).isEqualTo(RejectionReason.DISABLED_BIDDER);
+        assertThat(target.get("unconfigured").getRejectionReason())
+                .isEqualTo(RejectionReason.UNCONFIGURED_USERSYNC);
+        assertThat(target.get("usersync-disabled").getRejectionReason())
+                .isEqualTo(RejectionReason.DISABLED_USERSYNC);
+    }
+
+    @Test
+    public void getShouldResolveCcpaEnforcementAndAliasSyncedAsRootFamily() {
+        // given
+        givenBidder("alias", true, Usersyncer.of(true, "family", CookieFamilySource.ROOT, usersyncMethod(), null));
+        given(bidderCatalog.isAlias("alias")).willReturn(true);
+        given(bidderCatalog.bidderInfoByName("alias")).willReturn(
+                BidderInfo.of(true, null, false, false, "bidder", null, null, null, null, true, false, null, null));
+        given(bidderCatalog.names()).willReturn(Set.of("alias"));
+
+        // when
+        final CookieSyncBidders.SyncBidder result = new CookieSyncBidders(bidderCatalog, EXTERNAL_URL).get("alias");
+
+        // then
+        assertThat(result.isCcpaEnforced()).isTrue();
+        assertThat(result.isAliasSyncedAsRootFamily()).isTrue();
+    }
+
+    @Test
+    public void callbackUrlShouldBeSameAsEnrichedCallbackUrlTemplate() {
+        // given
+        givenBidder("bidder", true, Usersyncer.of(true, "fa mily", CookieFamilySource.ROOT, usersyncMethod(), null));
+        given(bidderCatalog.names()).willReturn(Set.of("bidder"));
+
+        final CookieSyncBidders.SyncBidder syncBidder =
+                new CookieSyncBidders(bidderCatalog, EXTERNAL_URL).get("bidder");
+
+        for (UsersyncFormat format : UsersyncFormat.values()) {
+            final UsersyncMethod usersyncMethod = UsersyncMethod.builder()
+                    .type(UsersyncMethodType.REDIRECT)
+                    .formatOverride(format)
+                    .build();
+
+            // when
+            final String result = syncBidder.callbackUrl(usersyncMethod, "host&uid=1");
+
+            // then
+            final String expected = UsersyncUtil.enrichUrlWithFormat(
+                    UsersyncUtil.CALLBACK_URL_TEMPLATE.formatted(
+                            EXTERNAL_URL, HttpUtil.encodeUrl("fa mily"), HttpUtil.encodeUrl("host&uid=1")),
+                    format);
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    private void givenBidder(String bidder, boolean active, Usersyncer usersyncer) {
+        given(bidderCatalog.isValidName(bidder)).willReturn(true);
+        given(bidderCatalog.isActive(bidder)).willReturn(active);
+        given(bidderCatalog.usersyncerByName(bidder)).willReturn(Optional.ofNullable(usersyncer));
+        given(bidderCatalog.cookieFamilyName(bidder))
+                .willReturn(Optional.ofNullable(usersyncer).map(Usersyncer::getCookieFamilyName));
+    }
+
+    private static UsersyncMethod usersyncMethod() {
+        return UsersyncMethod.builder()
+                .type(UsersyncMethodType.REDIRECT)
+                .usersyncUrl("https://usersync-url.com")
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package org.prebid.server.cookie;
+
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LegacyUidsCookieCodecTest extends VertxTest {
+
+    private final LegacyUidsCookieCodec target = new LegacyUidsCookieCodec(jacksonMapper);
+
+    @Test
+    public void decodeShouldReturnEncodedUids() {
+        // given
+        final Uids uids = Uids.builder()
+                .uids(Map.of("rubicon", new UidWithExpiry("uid", ZonedDateTime.now(ZoneOffset.UTC))))
+                .optout(false)
+                .build();
+
+        // when
+        final Uids result = target.decode(Base64.getUrlDecoder().decode(target.encode(uids)));
+
+        // then
+        assertThat(result.getOptout()).isFalse();
+        assertThat(result.getUids().get("rubicon").getUid()).isEqualTo("uid");
+        assertThat(result.getUids().get("rubicon").getExpires())
+                .isEqualTo(uids.getUids().get("rubicon").getExpires());
+    }
+
+    @Test
+    public void valueLengthShouldMatchEncodedValueLength() {
+        for (Boolean optout : new Boolean[]{null, true, false}) {
+            final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+            assertValueLengthMatchesEncodedValue(uidsMap, optout);
+
+            for (int i = 0; i < 50; i++) {
+                uidsMap.put("family\"" + i, UidWithExpiry.live("uid-é中😀" + i));
+                assertValueLengthMatchesEncodedValue(uidsMap, optout);
+            }
+        }
+    }
+
+    private void assertValueLengthMatchesEncodedValue(Map<String, UidWithExpiry> uidsMap, Boolean optout) {
+        // given
+        int entriesSize = 0;
+        for (Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+            entriesSize += target.entrySize(entry.getKey(), entry.getValue());
+        }
+
+        // when
+        final int valueLength = target.valueLength(optout, uidsMap.size(), entriesSize);
+
+        // then
+        assertThat(valueLength)
+                .isEqualTo(target.encode(Uids.builder().uids(uidsMap).optout(optout).build()).length());
+    }
+}
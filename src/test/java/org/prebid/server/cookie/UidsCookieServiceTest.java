@@ -12,6 +12,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.model.UidsCookieFormat;
 import org.prebid.server.cookie.model.UidsCookieUpdateResult;
 import org.prebid.server.cookie.proto.Uids;
 import org.prebid.server.metric.Metrics;
@@ -31,6 +32,7 @@ import static java.util.function.Function.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -67,6 +69,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -273,6 +276,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -297,6 +301,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -321,6 +326,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -344,6 +350,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -445,6 +452,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -486,6 +494,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -508,6 +517,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -541,6 +551,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -565,6 +576,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -676,6 +688,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 500,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -707,6 +720,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 500,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -747,6 +761,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 "cookie-domain",
                 90,
                 500,
+                UidsCookieFormat.legacy,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -774,6 +789,80 @@ public class UidsCookieServiceTest extends VertxTest {
                 .containsExactlyInAnyOrder("family", "another-very-very-very-long-family");
     }
 
+    @Test
+    public void toCookieShouldReturnCompactCookieReadableInAnyFormat() {
+        // given
+        final UidsCookieService compactUidsCookieService = givenUidsCookieService(UidsCookieFormat.compact, 0);
+        final UidsCookie uidsCookie = givenUidsCookie(Map.of(RUBICON, UidWithExpiry.live("rubiconUid")));
+
+        // when
+        final Cookie cookie = compactUidsCookieService.toCookie(uidsCookie);
+
+        // then
+        final Map<String, String> cookies = singletonMap("uids", cookie.getValue());
+        assertThat(compactUidsCookieService.parseFromCookies(cookies).uidFrom(RUBICON)).isEqualTo("rubiconUid");
+        assertThat(uidsCookieService.parseFromCookies(cookies).uidFrom(RUBICON)).isEqualTo("rubiconUid");
+        assertThat(cookie.getValue().length()).isLessThan(uidsCookieService.toCookie(uidsCookie).getValue().length());
+    }
+
+    @Test
+    public void toCookieShouldReturnLegacyCookieReadableByCompactFormatService() throws IOException {
+        // given
+        final UidsCookie uidsCookie = givenUidsCookie(Map.of(RUBICON, UidWithExpiry.live("rubiconUid")));
+
+        // when
+        final Cookie cookie = uidsCookieService.toCookie(uidsCookie);
+
+        // then
+        assertThat(decodeUids(cookie.getValue()).getUids().get(RUBICON).getUid()).isEqualTo("rubiconUid");
+        assertThat(givenUidsCookieService(UidsCookieFormat.compact, 0)
+                .parseFromCookies(singletonMap("uids", cookie.getValue()))
+                .uidFrom(RUBICON))
+                .isEqualTo("rubiconUid");
+    }
+
+    @Test
+    public void updateUidsCookieShouldTrimCookieToExactlyConfiguredLimit() {
+        for (UidsCookieFormat format : UidsCookieFormat.values()) {
+            // given
+            final ZonedDateTime now = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            final Map<String, UidWithExpiry> uids = new HashMap<>();
+            for (int i = 0; i < 30; i++) {
+                uids.put("family" + i, new UidWithExpiry("uid" + i, now.plusDays(i + 1)));
+            }
+            final UidsCookie uidsCookie = givenUidsCookie(uids);
+            final int cookieSize = givenUidsCookieService(format, 0).toCookie(uidsCookie).encode().length();
+
+            // when
+            final UidsCookieUpdateResult notTrimmed = givenUidsCookieService(format, cookieSize)
+                    .updateUidsCookie(uidsCookie, "family", null);
+            final UidsCookieUpdateResult trimmed = givenUidsCookieService(format, cookieSize - 1)
+                    .updateUidsCookie(uidsCookie, "family", null);
+
+            // then
+            assertThat(notTrimmed.getUidsCookie().getCookieUids().getUids()).hasSize(30);
+            assertThat(trimmed.getUidsCookie().getCookieUids().getUids())
+                    .hasSize(29)
+                    .doesNotContainKey("family0");
+        }
+        verify(metrics, times(UidsCookieFormat.values().length)).updateUserSyncSizedOutMetric("family0");
+    }
+
+    private UidsCookieService givenUidsCookieService(UidsCookieFormat format, int maxCookieSizeBytes) {
+        return new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                maxCookieSizeBytes,
+                format,
+                prioritizedCoopSyncProvider,
+                metrics,
+                jacksonMapper);
+    }
+
     private UidsCookie givenUidsCookie(Map<String, UidWithExpiry> uids) {
         return new UidsCookie(Uids.builder().uids(uids).build(), jacksonMapper);
     }
@@ -0,0 +1,84 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.EmbeddedCacheStore;
+import org.prebid.server.util.HttpUtil;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class EmbeddedCacheHandlerTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private EmbeddedCacheStore embeddedCacheStore;
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerRequest httpRequest;
+    @Mock
+    private HttpServerResponse httpResponse;
+
+    private EmbeddedCacheHandler target;
+
+    @Before
+    public void setUp() {
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+        given(httpResponse.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(httpResponse);
+
+        target = new EmbeddedCacheHandler(embeddedCacheStore);
+    }
+
+    @Test
+    public void shouldRespondWithBadRequestIfUuidIsMissing() {
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(400);
+        verify(httpResponse).end("Missing required parameter uuid");
+    }
+
+    @Test
+    public void shouldRespondWithNotFoundIfNothingIsStored() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("key");
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(404);
+        verify(httpResponse).end("uuid=key: Not found");
+    }
+
+    @Test
+    public void shouldRespondWithStoredXmlValue() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("key");
+        given(embeddedCacheStore.get("key")).willReturn(EmbeddedCacheStore.StoredValue.of("xml", "<vast>"));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_XML);
+        verify(httpResponse).end("<vast>");
+    }
+}
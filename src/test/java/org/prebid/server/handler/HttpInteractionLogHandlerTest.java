@@ -12,11 +12,16 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.handler.admin.HttpInteractionLogHandler;
 import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.log.model.HttpInteractionCapture;
 import org.prebid.server.log.model.HttpLogSpec;
 
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -76,6 +81,78 @@ public class HttpInteractionLogHandlerTest {
         verify(httpInteractionLogger).setSpec(eq(HttpLogSpec.of(null, null, null, null, 2)));
     }
 
+    @Test
+    public void shouldSetSpecWithSamplingRateAndCaptureOutput() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("limit", "2")
+                .add("samplingRate", "0.5")
+                .add("mode", "capture"));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpInteractionLogger).setSpec(
+                eq(HttpLogSpec.of(null, null, null, null, 2, 0.5, HttpLogSpec.Output.capture)));
+    }
+
+    @Test
+    public void shouldRespondWithErrorWhenSamplingRateNotValid() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("limit", "2")
+                .add("samplingRate", "0"));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(400));
+        verify(httpResponse).end(eq("Parameter 'samplingRate' must be greater than 0 and not greater than 1"));
+
+        verifyNoInteractions(httpInteractionLogger);
+    }
+
+    @Test
+    public void shouldRespondWithErrorWhenModeNotValid() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("limit", "2")
+                .add("mode", "invalid"));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(400));
+        verify(httpResponse).end(eq("Invalid 'mode' parameter value, allowed values '[log, capture, read]'"));
+
+        verifyNoInteractions(httpInteractionLogger);
+    }
+
+    @Test
+    public void shouldRespondWithCapturedInteractionsWhenModeIsRead() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("mode", "read"));
+        final HttpInteractionCapture firstCapture = HttpInteractionCapture.builder().timestamp(1L).build();
+        final HttpInteractionCapture secondCapture = HttpInteractionCapture.builder().timestamp(2L).build();
+        given(httpInteractionLogger.capturedInteractions()).willReturn(List.of(firstCapture, secondCapture));
+        given(httpInteractionLogger.encodeCapture(firstCapture)).willReturn("{\"first\":1}");
+        given(httpInteractionLogger.encodeCapture(secondCapture)).willReturn("{\"second\":2}");
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpInteractionLogger, never()).setSpec(any());
+        verify(httpResponse).setChunked(true);
+        verify(httpResponse).write("{\"first\":1}\n");
+        verify(httpResponse).write("{\"second\":2}\n");
+        verify(httpResponse).end();
+    }
+
     @Test
     public void shouldRespondWithErrorWhenEndpointNotValid() {
         // given
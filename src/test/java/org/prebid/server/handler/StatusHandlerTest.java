@@ -25,6 +25,7 @@ import java.util.TreeMap;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -50,11 +51,38 @@ public class StatusHandlerTest extends VertxTest {
 
     @Test
     public void shouldRespondHttp200OkWithExpectedBody() throws JsonProcessingException {
+        // given
+        final ZonedDateTime testTime = ZonedDateTime.now(Clock.systemUTC());
+        statusHandler = new StatusHandler(Arrays.asList(healthCheck, healthCheck), jacksonMapper);
+
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+        given(httpResponse.putHeader(any(CharSequence.class), any(AsciiString.class))).willReturn(httpResponse);
+
+        given(healthCheck.name()).willReturn("application", "db");
+        given(healthCheck.status()).willReturn(StatusResponse.of("ready", null), StatusResponse.of("UP", testTime));
+
+        // when
+        statusHandler.handle(routingContext);
+
+        // then
+        final Map<String, StatusResponse> expectedMap = new TreeMap<>();
+        expectedMap.put("application", StatusResponse.of("ready", null));
+        expectedMap.put("db", StatusResponse.of("UP", testTime));
+        verify(httpResponse).setStatusCode(eq(200));
+        verify(httpResponse).end(eq(mapper.writeValueAsString(expectedMap)));
+    }
+
+    @Test
+    public void shouldRespondHttp503ServiceUnavailableWithExpectedBodyIfAnyHealthCheckIsDown()
+            throws JsonProcessingException {
+
         // given
         final ZonedDateTime testTime = ZonedDateTime.now(Clock.systemUTC());
         statusHandler = new StatusHandler(Arrays.asList(healthCheck, healthCheck, healthCheck), jacksonMapper);
 
         given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
         given(httpResponse.putHeader(any(CharSequence.class), any(AsciiString.class))).willReturn(httpResponse);
 
         given(healthCheck.name()).willReturn("application", "db", "other");
@@ -69,6 +97,7 @@ public class StatusHandlerTest extends VertxTest {
         expectedMap.put("application", StatusResponse.of("ready", null));
         expectedMap.put("db", StatusResponse.of("UP", testTime));
         expectedMap.put("other", StatusResponse.of("DOWN", testTime));
+        verify(httpResponse).setStatusCode(eq(503));
         verify(httpResponse).end(eq(mapper.writeValueAsString(expectedMap)));
     }
 
@@ -95,6 +124,7 @@ public class StatusHandlerTest extends VertxTest {
         given(healthCheck.status()).willReturn(StatusResponse.of("healthCheckStatus", null));
 
         given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
 
         // when
         statusHandler.handle(routingContext);
@@ -566,7 +566,7 @@ public class AmpHandlerTest extends VertxTest {
 
         givenHoldAuction(givenBidResponseWithExt(
                 ExtBidResponse.builder()
-                        .debug(ExtResponseDebug.of(null, auctionContext.getBidRequest(), null))
+                        .debug(ExtResponseDebug.of(null, auctionContext.getBidRequest(), null, null))
                         .prebid(ExtBidResponsePrebid.builder().auctiontimestamp(1000L).targeting(emptyMap()).build())
                         .build()));
 
@@ -0,0 +1,70 @@
+package org.prebid.server.health;
+
+import org.junit.Test;
+import org.prebid.server.health.model.Status;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InitializationHealthCheckerTest {
+
+    private final Clock clock = Clock.systemUTC();
+
+    @Test
+    public void nameShouldReturnExpectedResult() {
+        assertThat(new InitializationHealthChecker(Collections.emptySet(), clock).name())
+                .isEqualTo("initialization");
+    }
+
+    @Test
+    public void statusShouldBeUpIfThereAreNoDeferrableInitializers() {
+        // when
+        final InitializationHealthChecker target = new InitializationHealthChecker(Collections.emptySet(), clock);
+
+        // then
+        assertThat(target.status().getStatus()).isEqualTo(Status.UP.name());
+    }
+
+    @Test
+    public void statusShouldBeUpOnlyAfterAllDeferrableInitializersSucceeded() {
+        // given
+        final InitializationHealthChecker target = new InitializationHealthChecker(Set.of("first", "second"), clock);
+
+        // when
+        target.initialized("first", true);
+
+        // then
+        assertThat(target.status().getStatus()).isEqualTo(Status.DOWN.name());
+
+        // when
+        target.initialized("second", true);
+
+        // then
+        assertThat(target.status().getStatus()).isEqualTo(Status.UP.name());
+    }
+
+    @Test
+    public void statusShouldRemainDownIfDeferrableInitializerFailed() {
+        // given
+        final InitializationHealthChecker target = new InitializationHealthChecker(Set.of("initializer"), clock);
+
+        // when
+        target.initialized("initializer", false);
+
+        // then
+        assertThat(target.status().getStatus()).isEqualTo(Status.DOWN.name());
+    }
+
+    @Test
+    public void isDeferrableShouldReturnTrueForDeferrableInitializersOnly() {
+        // when
+        final InitializationHealthChecker target = new InitializationHealthChecker(Set.of("initializer"), clock);
+
+        // then
+        assertThat(target.isDeferrable("initializer")).isTrue();
+        assertThat(target.isDeferrable("other")).isFalse();
+    }
+}
@@ -41,6 +41,8 @@ import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookExecutionOutcome;
 import org.prebid.server.hooks.execution.model.HookId;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.model.ModuleExecutionConfig;
+import org.prebid.server.hooks.execution.model.ModuleExecutionMode;
 import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.hooks.execution.model.StageExecutionOutcome;
 import org.prebid.server.hooks.execution.model.StageExecutionPlan;
@@ -76,19 +78,24 @@ import org.prebid.server.hooks.v1.bidder.ProcessedBidderResponseHook;
 import org.prebid.server.hooks.v1.bidder.RawBidderResponseHook;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointHook;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountHooksConfiguration;
+import org.prebid.server.vertx.EventLoopMonitor;
 
 import java.time.Clock;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import static java.util.Arrays.asList;
@@ -100,12 +107,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 import static org.prebid.server.hooks.v1.PayloadUpdate.identity;
 
@@ -117,6 +126,11 @@ public class HookStageExecutorTest extends VertxTest {
 
     @Mock
     private HookCatalog hookCatalog;
+    @Mock
+    private EventLoopMonitor eventLoopMonitor;
+    @Mock
+    private Metrics metrics;
+    private ModuleExecutors moduleExecutors;
     private TimeoutFactory timeoutFactory;
     private Vertx vertx;
     private Clock clock;
@@ -126,6 +140,10 @@ public class HookStageExecutorTest extends VertxTest {
         vertx = Vertx.vertx();
         clock = Clock.systemUTC();
         timeoutFactory = new TimeoutFactory(Clock.fixed(clock.instant(), ZoneOffset.UTC));
+        moduleExecutors = new ModuleExecutors(emptyMap(), metrics);
+
+        given(eventLoopMonitor.track(any(), any(), any()))
+                .willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
     }
 
     @After
@@ -1580,6 +1598,169 @@ public class HookStageExecutorTest extends VertxTest {
         async.awaitSuccess();
     }
 
+    @Test
+    public void shouldInvokeHooksOfGroupConcurrentlyAgainstSameInputPayloadAndApplyUpdatesInPlanOrder(
+            TestContext context) {
+
+        // given
+        final AtomicBoolean slowHookCompleted = new AtomicBoolean();
+        givenRawAuctionRequestHook(
+                "module-alpha",
+                "hook-a",
+                (payload, invocationContext) -> {
+                    final Promise<InvocationResult<AuctionRequestPayload>> promise = Promise.promise();
+                    vertx.setTimer(50, timerId -> {
+                        slowHookCompleted.set(true);
+                        promise.complete(InvocationResultImpl.succeeded(updatedPayload -> AuctionRequestPayloadImpl.of(
+                                updatedPayload.bidRequest().toBuilder().id("alpha").at(1).build())));
+                    });
+                    return promise.future();
+                });
+
+        final List<BidRequest> fastHookInputs = new ArrayList<>();
+        final List<Boolean> slowHookCompletedOnFastHookCall = new ArrayList<>();
+        givenRawAuctionRequestHook(
+                "module-beta",
+                "hook-a",
+                (payload, invocationContext) -> {
+                    fastHookInputs.add(payload.bidRequest());
+                    slowHookCompletedOnFastHookCall.add(slowHookCompleted.get());
+                    return Future.succeededFuture(InvocationResultImpl.succeeded(updatedPayload ->
+                            AuctionRequestPayloadImpl.of(updatedPayload.bidRequest().toBuilder().id("beta").build())));
+                });
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.raw_auction_request,
+                                StageExecutionPlan.of(singletonList(
+                                        ExecutionGroup.of(
+                                                200L,
+                                                asList(
+                                                        HookId.of("module-alpha", "hook-a"),
+                                                        HookId.of("module-beta", "hook-a"))))))))));
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor.executeRawAuctionRequestStage(
+                AuctionContext.builder()
+                        .bidRequest(BidRequest.builder().build())
+                        .account(Account.empty("accountId"))
+                        .hookExecutionContext(hookExecutionContext)
+                        .debugContext(DebugContext.empty())
+                        .build());
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(result -> {
+            assertThat(fastHookInputs).containsExactly(BidRequest.builder().build());
+            assertThat(slowHookCompletedOnFastHookCall).containsExactly(false);
+            assertThat(result.getPayload().bidRequest()).isEqualTo(BidRequest.builder().id("beta").at(1).build());
+
+            async.complete();
+        }));
+
+        async.awaitSuccess();
+    }
+
+    @Test
+    public void shouldExecuteHooksOfOffloadedModuleOnModuleExecutor(TestContext context) {
+        // given
+        moduleExecutors = new ModuleExecutors(
+                singletonMap("module-alpha", ModuleExecutionConfig.of(ModuleExecutionMode.worker_pool, 1, 10)),
+                metrics);
+
+        final List<String> hookThreads = new ArrayList<>();
+        givenRawAuctionRequestHook(
+                "module-alpha",
+                "hook-a",
+                (payload, invocationContext) -> {
+                    hookThreads.add(Thread.currentThread().getName());
+                    return Future.succeededFuture(InvocationResultImpl.succeeded(updatedPayload ->
+                            AuctionRequestPayloadImpl.of(updatedPayload.bidRequest().toBuilder().id("id").build())));
+                });
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.raw_auction_request,
+                                execPlanOneGroupOneHook("module-alpha", "hook-a"))))));
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor.executeRawAuctionRequestStage(
+                AuctionContext.builder()
+                        .bidRequest(BidRequest.builder().build())
+                        .account(Account.empty("accountId"))
+                        .hookExecutionContext(hookExecutionContext)
+                        .debugContext(DebugContext.empty())
+                        .build());
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(result -> {
+            assertThat(hookThreads).containsExactly("hooks-module-alpha-0");
+            assertThat(result.getPayload().bidRequest()).isEqualTo(BidRequest.builder().id("id").build());
+            verify(metrics).updateModuleWaitTimeMetric(eq("module-alpha"), anyLong());
+            verifyNoInteractions(eventLoopMonitor);
+
+            async.complete();
+        }));
+
+        async.awaitSuccess();
+    }
+
+    @Test
+    public void shouldPassModuleContextToHooksOfOffloadedModule(TestContext context) {
+        // given
+        moduleExecutors = new ModuleExecutors(
+                singletonMap("module-alpha", ModuleExecutionConfig.of(ModuleExecutionMode.worker_pool, 1, 10)),
+                metrics);
+
+        final List<Object> moduleContexts = new ArrayList<>();
+        givenRawAuctionRequestHook(
+                "module-alpha",
+                "hook-a",
+                (payload, invocationContext) -> {
+                    moduleContexts.add(invocationContext.moduleContext());
+                    return Future.succeededFuture(InvocationResultImpl.succeeded(identity(), "updated-context"));
+                });
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.raw_auction_request,
+                                execPlanOneGroupOneHook("module-alpha", "hook-a"))))));
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+        hookExecutionContext.getModuleContexts().put("module-alpha", "context");
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor.executeRawAuctionRequestStage(
+                AuctionContext.builder()
+                        .bidRequest(BidRequest.builder().build())
+                        .account(Account.empty("accountId"))
+                        .hookExecutionContext(hookExecutionContext)
+                        .debugContext(DebugContext.empty())
+                        .build());
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(result -> {
+            assertThat(moduleContexts).containsExactly("context");
+            assertThat(hookExecutionContext.getModuleContexts()).containsEntry("module-alpha", "updated-context");
+
+            async.complete();
+        }));
+
+        async.awaitSuccess();
+    }
+
     @Test
     public void shouldExecuteRawAuctionRequestHooksWhenRequestIsRejected(TestContext context) {
         // given
@@ -2882,6 +3063,8 @@ public class HookStageExecutorTest extends VertxTest {
                 hookCatalog,
                 timeoutFactory,
                 vertx,
+                eventLoopMonitor,
+                moduleExecutors,
                 clock,
                 jacksonMapper);
     }
@@ -0,0 +1,148 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.hooks.execution.model.ModuleExecutionConfig;
+import org.prebid.server.hooks.execution.model.ModuleExecutionMode;
+import org.prebid.server.metric.Metrics;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class ModuleExecutorsTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void executeShouldRunActionRightAwayForEventLoopModule() {
+        // given
+        final ModuleExecutors target = new ModuleExecutors(
+                singletonMap("module", ModuleExecutionConfig.of(ModuleExecutionMode.event_loop, 1, 1)),
+                metrics);
+
+        // when
+        final Future<String> result = target.execute("module", () -> Future.succeededFuture("result"));
+
+        // then
+        assertThat(target.isOffloaded("module")).isFalse();
+        assertThat(result.result()).isEqualTo("result");
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void executeShouldRunActionOnModuleWorkerPool() throws InterruptedException {
+        // given
+        final ModuleExecutors target = new ModuleExecutors(
+                singletonMap("module", ModuleExecutionConfig.of(ModuleExecutionMode.worker_pool, 1, 1)),
+                metrics);
+
+        // when
+        final Future<String> result = target.execute(
+                "module", () -> Future.succeededFuture(Thread.currentThread().getName()));
+
+        // then
+        assertThat(target.isOffloaded("module")).isTrue();
+        assertThat(awaitResult(result)).isEqualTo("hooks-module-0");
+        verify(metrics).createModulePendingTasksGauge(eq("module"), any());
+    }
+
+    @Test
+    public void executeShouldFailWhenTooManyTasksArePending() throws InterruptedException {
+        // given
+        final ModuleExecutors target = new ModuleExecutors(
+                singletonMap("module", ModuleExecutionConfig.of(ModuleExecutionMode.worker_pool, 1, 1)),
+                metrics);
+
+        final CountDownLatch blockingTaskStarted = new CountDownLatch(1);
+        final CountDownLatch releaseBlockingTask = new CountDownLatch(1);
+        target.execute("module", () -> {
+            blockingTaskStarted.countDown();
+            awaitQuietly(releaseBlockingTask);
+            return Future.succeededFuture();
+        });
+        blockingTaskStarted.await(1, TimeUnit.SECONDS);
+
+        // when
+        final Future<Object> pending = target.execute("module", () -> Future.succeededFuture("pending"));
+        final Future<Object> rejected = target.execute("module", () -> Future.succeededFuture("rejected"));
+
+        // then
+        assertThat(rejected.cause()).isInstanceOf(RejectedExecutionException.class);
+
+        releaseBlockingTask.countDown();
+        assertThat(awaitResult(pending)).isEqualTo("pending");
+    }
+
+    @Test
+    public void executeShouldFailIfActionThrowsException() throws InterruptedException {
+        // given
+        final ModuleExecutors target = new ModuleExecutors(
+                singletonMap("module", ModuleExecutionConfig.of(ModuleExecutionMode.virtual_threads, 1, 1)),
+                metrics);
+
+        // when
+        final Future<Object> result = target.execute("module", () -> {
+            throw new IllegalStateException("error");
+        });
+
+        // then
+        final Promise<Throwable> failure = Promise.promise();
+        result.onFailure(failure::complete);
+        assertThat(awaitResult(failure.future())).isInstanceOf(FailedException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void executeShouldFailAfterShutdown() {
+        // given
+        final ModuleExecutors target = new ModuleExecutors(
+                singletonMap("module", ModuleExecutionConfig.of(ModuleExecutionMode.virtual_threads, 1, 1)),
+                metrics);
+
+        // when
+        target.shutdown();
+        final Future<Object> result = target.execute("module", () -> Future.succeededFuture("result"));
+
+        // then
+        assertThat(result.cause()).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void isOffloadedShouldReturnFalseForNotConfiguredModule() {
+        // when and then
+        assertThat(new ModuleExecutors(emptyMap(), metrics).isOffloaded("module")).isFalse();
+    }
+
+    private static <T> T awaitResult(Future<T> future) throws InterruptedException {
+        final CountDownLatch completed = new CountDownLatch(1);
+        future.onComplete(ignored -> completed.countDown());
+        completed.await(1, TimeUnit.SECONDS);
+        return future.result();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,9 +8,14 @@ import io.github.jamsesso.jsonlogic.ast.JsonLogicVariable;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class JsonLogicTest {
 
@@ -41,4 +46,114 @@ public class JsonLogicTest {
         // then
         assertThat(result).isFalse();
     }
+
+    @Test
+    public void compileShouldReturnPredicateGivingSameResultAsInterpreter() throws JsonLogicEvaluationException {
+        // given
+        final Map<String, Object> data = new HashMap<>();
+        data.put("a", 1);
+        data.put("b", "2");
+        data.put("c", List.of(1, 2));
+        data.put("d", null);
+
+        final List<String> expressions = List.of(
+                "{\"==\": [{\"var\": \"a\"}, 1]}",
+                "{\"==\": [{\"var\": \"a\"}, {\"var\": \"b\"}]}",
+                "{\"===\": [{\"var\": \"a\"}, {\"var\": \"b\"}]}",
+                "{\"!=\": [{\"var\": \"a\"}, 2]}",
+                "{\"!==\": [{\"var\": \"a\"}, 1]}",
+                "{\"and\": [{\"var\": \"a\"}, {\"<\": [{\"var\": \"a\"}, 2, 3]}]}",
+                "{\"or\": [{\"var\": \"d\"}, {\">=\": [{\"var\": \"a\"}, 1]}]}",
+                "{\"!\": [{\"var\": \"d\"}]}",
+                "{\"!!\": [{\"var\": [\"unknown\", 0]}]}",
+                "{\"in\": [1, {\"var\": \"c\"}]}",
+                "{\"if\": [{\"var\": \"d\"}, false, {\"var\": \"a\"}, true, false]}",
+                "{\"==\": [{\"+\": [{\"var\": \"a\"}, 1]}, 2]}",
+                "{\"==\": [{\"var\": \"c.1\"}, 2]}",
+                "{\"!\": [{\"missing\": [\"a\", \"d\"]}]}");
+
+        final JsonLogicVariableResolver<Map<String, Object>> resolver =
+                mapResolver(name -> context -> context.get(name));
+
+        for (String expression : expressions) {
+            final JsonLogicNode jsonLogicNode = jsonLogic.parse(expression);
+
+            // when
+            final boolean result = jsonLogic.compile(jsonLogicNode, resolver).test(data);
+
+            // then
+            assertThat(result).as(expression).isEqualTo(jsonLogic.evaluate(jsonLogicNode, data));
+        }
+    }
+
+    @Test
+    public void compileShouldReadVariablesByAccessorsWithoutBuildingData() throws JsonLogicEvaluationException {
+        // given
+        final AtomicInteger dataCalls = new AtomicInteger();
+        final JsonLogicVariableResolver<Map<String, Object>> resolver = new JsonLogicVariableResolver<>() {
+
+            @Override
+            public Function<Map<String, Object>, Object> accessor(String name) {
+                return data -> data.get(name);
+            }
+
+            @Override
+            public Map<String, Object> data(Map<String, Object> context) {
+                dataCalls.incrementAndGet();
+                return context;
+            }
+        };
+
+        final JsonLogicNode jsonLogicNode = jsonLogic.parse(
+                "{\"and\": [{\"==\": [{\"var\": \"a\"}, 1]}, {\"==\": [{\"var\": \"b\"}, 2]}]}");
+
+        // when
+        final boolean result = jsonLogic.compile(jsonLogicNode, resolver).test(Map.of("a", 1, "b", 2));
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(dataCalls).hasValue(0);
+    }
+
+    @Test
+    public void compileShouldFallbackToInterpreterForVariablesWithoutAccessor() throws JsonLogicEvaluationException {
+        // given
+        final JsonLogicNode jsonLogicNode = jsonLogic.parse("{\"==\": [{\"var\": \"a\"}, 1]}");
+
+        // when
+        final boolean result = jsonLogic.compile(jsonLogicNode, mapResolver(name -> null)).test(Map.of("a", 1));
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void compiledPredicateShouldFailOnNonBooleanResult() {
+        // given
+        final JsonLogicNode jsonLogicNode = jsonLogic.parse("{\"var\": \"a\"}");
+        final JsonLogicPredicate<Map<String, Object>> predicate =
+                jsonLogic.compile(jsonLogicNode, mapResolver(name -> data -> data.get(name)));
+
+        // when and then
+        assertThatExceptionOfType(JsonLogicEvaluationException.class)
+                .isThrownBy(() -> predicate.test(Map.of("a", 1)))
+                .withMessage("Wrong type was returned.");
+    }
+
+    private static JsonLogicVariableResolver<Map<String, Object>> mapResolver(
+            Function<String, Function<Map<String, Object>, Object>> accessors) {
+
+        return new JsonLogicVariableResolver<>() {
+
+            @Override
+            public Function<Map<String, Object>, Object> accessor(String name) {
+                return accessors.apply(name);
+            }
+
+            @Override
+            public Map<String, Object> data(Map<String, Object> context) {
+                return context;
+            }
+        };
+    }
 }
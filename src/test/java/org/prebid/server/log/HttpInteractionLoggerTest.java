@@ -1,9 +1,13 @@
 package org.prebid.server.log;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
 import org.junit.Before;
 import org.junit.Rule;
@@ -14,15 +18,27 @@ import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.log.model.HttpInteractionCapture;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.settings.model.Account;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.function.UnaryOperator;
 
 import static java.util.Collections.singletonList;
 import static java.util.function.UnaryOperator.identity;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -41,13 +57,15 @@ public class HttpInteractionLoggerTest extends VertxTest {
     @Mock
     private RoutingContext routingContext;
     @Mock
+    private RequestBody requestBody;
+    @Mock
     private HttpServerRequest serverRequest;
 
     private HttpInteractionLogger target;
 
     @Before
     public void setUp() {
-        target = new HttpInteractionLogger(jacksonMapper);
+        target = new HttpInteractionLogger(jacksonMapper, Clock.fixed(Instant.ofEpochMilli(1000L), ZoneOffset.UTC));
         given(routingContext.getBodyAsString()).willReturn("{}");
         given(routingContext.request()).willReturn(serverRequest);
         given(serverRequest.uri()).willReturn("example.com");
@@ -460,6 +478,107 @@ public class HttpInteractionLoggerTest extends VertxTest {
         verify(logger).info(anyString(), anyString(), anyString());
     }
 
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldNotLogIfInteractionIsNotSampled() {
+        // given
+        final HttpLogSpec givenSpec =
+                HttpLogSpec.of(null, null, null, null, 1, Double.MIN_VALUE, HttpLogSpec.Output.log);
+
+        // when
+        target.setSpec(givenSpec);
+        target.maybeLogOpenrtb2Auction(givenAuctionContext(identity()), routingContext, 200, null);
+
+        // then
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldCaptureInteractionWhenOutputIsCapture() throws IOException {
+        // given
+        final AuctionContext givenAuctionContext = givenAuctionContext(accountBuilder -> accountBuilder.id("123"))
+                .toBuilder()
+                .timeoutContext(TimeoutContext.of(900L, null, 0))
+                .build();
+        given(routingContext.body()).willReturn(requestBody);
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{\"id\": \"requestId\"}"));
+
+        // when
+        target.setSpec(HttpLogSpec.of(null, null, null, null, 1, 1.0, HttpLogSpec.Output.capture));
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, "{\"id\":\"responseId\"}");
+
+        // then
+        verifyNoInteractions(logger);
+        final List<HttpInteractionCapture> captures = target.capturedInteractions();
+        assertThat(captures).hasSize(1);
+        assertThat(mapper.readTree(target.encodeCapture(captures.get(0)))).isEqualTo(mapper.readTree("""
+                {
+                  "timestamp": 1000,
+                  "account": "123",
+                  "type": "auction",
+                  "uri": "example.com",
+                  "request": {"id": "requestId"},
+                  "status_code": 200,
+                  "response": {"id": "responseId"},
+                  "duration_ms": 100
+                }"""));
+    }
+
+    @Test
+    public void capturedInteractionsShouldBeLimitedBySpecLimitAndKeptAfterCaptureIsComplete() {
+        // given
+        final AuctionContext givenAuctionContext = givenAuctionContext(identity());
+
+        // when
+        target.setSpec(HttpLogSpec.of(null, null, null, null, 2, 1.0, HttpLogSpec.Output.capture));
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, "1");
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, "2");
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, "3");
+
+        // then
+        assertThat(target.capturedInteractions())
+                .extracting(HttpInteractionCapture::getResponseBody)
+                .containsExactly("1", "2");
+    }
+
+    @Test
+    public void setSpecShouldDiscardPreviouslyCapturedInteractionsWhenOutputIsCapture() {
+        // given
+        target.setSpec(HttpLogSpec.of(null, null, null, null, 1, 1.0, HttpLogSpec.Output.capture));
+        target.maybeLogOpenrtb2Amp(givenAuctionContext(identity()), routingContext, 200, "1");
+
+        // when
+        target.setSpec(HttpLogSpec.of(null, null, null, null, 1, 1.0, HttpLogSpec.Output.capture));
+
+        // then
+        assertThat(target.capturedInteractions()).isEmpty();
+    }
+
+    @Test
+    public void maybeLogBidderResponseShouldAttachResponseToCapturedBidderRequest() throws IOException {
+        // given
+        final BidderRequest givenBidderRequest = givenBidderRequest(request -> request.id("requestId"));
+        final BidderResponse givenBidderResponse = BidderResponse.of(
+                "bidderName",
+                BidderSeatBid.of(singletonList(BidderBid.of(Bid.builder().id("bidId").build(), BidType.banner, null))),
+                50);
+
+        // when
+        target.setSpec(HttpLogSpec.of(null, null, null, "bidderName", 1, 1.0, HttpLogSpec.Output.capture));
+        target.maybeLogBidderRequest(givenAuctionContext(identity()), givenBidderRequest);
+        target.maybeLogBidderResponse(givenBidderRequest, givenBidderResponse);
+
+        // then
+        verifyNoInteractions(logger);
+        final List<HttpInteractionCapture> captures = target.capturedInteractions();
+        assertThat(captures).hasSize(1);
+        final JsonNode encodedCapture = mapper.readTree(target.encodeCapture(captures.get(0)));
+        assertThat(encodedCapture.get("type").asText()).isEqualTo("bidder");
+        assertThat(encodedCapture.get("bidder").asText()).isEqualTo("bidderName");
+        assertThat(encodedCapture.at("/request/id").asText()).isEqualTo("requestId");
+        assertThat(encodedCapture.at("/response/bids/0/bid/id").asText()).isEqualTo("bidId");
+        assertThat(encodedCapture.get("response_time_ms").asInt()).isEqualTo(50);
+    }
+
     private static AuctionContext givenAuctionContext(UnaryOperator<Account.AccountBuilder> accountBuilderCustomizer) {
         final Account account = accountBuilderCustomizer.apply(Account.builder()).build();
 
@@ -19,6 +19,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.activity.Activity;
+import org.prebid.server.auction.model.AuctionPhase;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
@@ -1221,6 +1222,84 @@ public class MetricsTest {
                 .isZero();
     }
 
+    @Test
+    public void updateAuctionPhaseMetricShouldIncrementMetricsIfVerbosityIsDetailed() {
+        // given
+        given(accountMetricsVerbosityResolver.forAccount(any())).willReturn(AccountMetricsVerbosityLevel.detailed);
+
+        // when
+        metrics.updateAuctionPhaseMetric(Account.empty("accountId"), AuctionPhase.hooks, 5L);
+
+        // then
+        assertThat(metricRegistry.timer("auction.phase.hooks.duration").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.timer("account.accountId.phase.hooks.duration").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAuctionPhaseMetricShouldNotIncrementAccountMetricsIfVerbosityIsNotAtLeastDetailed() {
+        // given
+        given(accountMetricsVerbosityResolver.forAccount(any())).willReturn(AccountMetricsVerbosityLevel.basic);
+
+        // when
+        metrics.updateAuctionPhaseMetric(Account.empty("accountId"), AuctionPhase.cache, 5L);
+
+        // then
+        assertThat(metricRegistry.timer("auction.phase.cache.duration").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.timer("account.accountId.phase.cache.duration").getCount()).isZero();
+    }
+
+    @Test
+    public void updateEventLoopLagMetricShouldUpdateTimer() {
+        // when
+        metrics.updateEventLoopLagMetric(1, 5L);
+
+        // then
+        assertThat(metricRegistry.timer("event_loop.1.lag").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void createEventLoopPendingTasksGaugeShouldCreateGauge() {
+        // when
+        metrics.createEventLoopPendingTasksGauge(1, () -> 3L);
+
+        // then
+        assertThat(metricRegistry.gauge("event_loop.1.pending_tasks", () -> () -> 0L).getValue()).isEqualTo(3L);
+    }
+
+    @Test
+    public void updateEventLoopSlowTaskMetricShouldUpdateTimer() {
+        // when
+        metrics.updateEventLoopSlowTaskMetric("hook", "module.hook", 5L);
+
+        // then
+        assertThat(metricRegistry.timer("event_loop.slow_task.hook.module.hook.duration").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateWarmupMetricsShouldUpdateTimerAndBiddersCounters() {
+        // when
+        metrics.updateWarmupMetrics(100L, 3, 2);
+
+        // then
+        assertThat(metricRegistry.timer("startup.warmup.duration").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("startup.warmup.bidders.ok").getCount()).isEqualTo(3);
+        assertThat(metricRegistry.counter("startup.warmup.bidders.failed").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updateInitializerMetricsShouldUpdateTimerAndResultCounters() {
+        // when
+        metrics.updateInitializerMetrics("Initializer", 100L, true);
+        metrics.updateInitializerMetrics("Initializer", 100L, false);
+        metrics.updateInitializerTimeoutMetric("Initializer");
+
+        // then
+        assertThat(metricRegistry.timer("startup.initializer.Initializer.duration").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("startup.initializer.Initializer.ok").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("startup.initializer.Initializer.failed").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("startup.initializer.Initializer.timeout").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void shouldIncrementRequestsActivityDisallowedCount() {
         // when
@@ -0,0 +1,57 @@
+package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.BitSetIntIterable;
+import com.iabtcf.v2.PublisherRestriction;
+import com.iabtcf.v2.RestrictionType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+public class PublisherRestrictionsTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private TCString tcString;
+
+    @Test
+    public void restrictionForShouldReturnFirstRestrictionUnlessVendorIsNotAllowed() {
+        // given
+        given(tcString.getPublisherRestrictions()).willReturn(asList(
+                restriction(1, RestrictionType.REQUIRE_CONSENT, 1, 2, 3),
+                restriction(1, RestrictionType.REQUIRE_LEGITIMATE_INTEREST, 2, 4),
+                restriction(1, RestrictionType.NOT_ALLOWED, 3),
+                restriction(1, RestrictionType.REQUIRE_CONSENT, 3, 4),
+                restriction(2, RestrictionType.NOT_ALLOWED, 1)));
+
+        // when
+        final PublisherRestrictions target = PublisherRestrictions.of(tcString);
+
+        // then
+        assertThat(target.restrictionFor(1, 1)).isEqualTo(RestrictionType.REQUIRE_CONSENT);
+        assertThat(target.restrictionFor(1, 2)).isEqualTo(RestrictionType.REQUIRE_CONSENT);
+        assertThat(target.restrictionFor(1, 3)).isEqualTo(RestrictionType.NOT_ALLOWED);
+        assertThat(target.restrictionFor(1, 4)).isEqualTo(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
+        assertThat(target.restrictionFor(1, 5)).isEqualTo(RestrictionType.UNDEFINED);
+        assertThat(target.restrictionFor(2, 1)).isEqualTo(RestrictionType.NOT_ALLOWED);
+        assertThat(target.restrictionFor(2, 2)).isEqualTo(RestrictionType.UNDEFINED);
+        assertThat(target.restrictionFor(3, 1)).isEqualTo(RestrictionType.UNDEFINED);
+        assertThat(target.restrictionFor(1, null)).isEqualTo(RestrictionType.UNDEFINED);
+    }
+
+    private static PublisherRestriction restriction(int purposeId, RestrictionType type, int... vendorIds) {
+        final BitSetIntIterable.Builder vendors = BitSetIntIterable.newBuilder();
+        for (int vendorId : vendorIds) {
+            vendors.add(vendorId);
+        }
+        return new PublisherRestriction(purposeId, type, vendors.build());
+    }
+}
@@ -0,0 +1,88 @@
+package org.prebid.server.util.algorithms;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class MpscRingBufferTest {
+
+    @Test
+    public void offerShouldRejectValueWhenBufferIsFull() {
+        // given
+        final MpscRingBuffer<String> target = new MpscRingBuffer<>(3);
+
+        // when and then
+        assertThat(target.offer("1")).isTrue();
+        assertThat(target.offer("2")).isTrue();
+        assertThat(target.offer("3")).isTrue();
+        assertThat(target.offer("4")).isFalse();
+        assertThat(target.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void pollShouldReturnValuesInOfferOrderAndFreeSlots() {
+        // given
+        final MpscRingBuffer<String> target = new MpscRingBuffer<>(2);
+        target.offer("1");
+        target.offer("2");
+
+        // when and then
+        assertThat(target.poll()).isEqualTo("1");
+        assertThat(target.offer("3")).isTrue();
+        assertThat(target.poll()).isEqualTo("2");
+        assertThat(target.poll()).isEqualTo("3");
+        assertThat(target.poll()).isNull();
+        assertThat(target.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void offerShouldNotLoseValuesOfferedConcurrently() throws InterruptedException {
+        // given
+        final MpscRingBuffer<Integer> target = new MpscRingBuffer<>(4000);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final int producer = i;
+            final Thread thread = new Thread(() -> {
+                awaitQuietly(start);
+                for (int j = 0; j < 1000; j++) {
+                    target.offer(producer * 1000 + j);
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+
+        // when
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // then
+        final List<Integer> polled = new ArrayList<>();
+        for (Integer value = target.poll(); value != null; value = target.poll()) {
+            polled.add(value);
+        }
+        assertThat(polled).hasSize(4000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void creationShouldFailOnNotPositiveCapacity() {
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> new MpscRingBuffer<>(0));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
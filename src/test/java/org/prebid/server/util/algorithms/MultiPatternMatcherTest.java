@@ -0,0 +1,84 @@
+package org.prebid.server.util.algorithms;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class MultiPatternMatcherTest {
+
+    @Test
+    public void matcherShouldFindAllPatternsPresentInText() {
+        // given
+        final MultiPatternMatcher target = new MultiPatternMatcher(List.of("he", "she", "his", "hers"));
+
+        // when
+        final Set<Integer> result = findAll(target, "ushers");
+
+        // then
+        assertThat(result).containsExactly(0, 1, 3);
+    }
+
+    @Test
+    public void matcherShouldFindPatternsOverlappingThroughFailureLinks() {
+        // given
+        final MultiPatternMatcher target = new MultiPatternMatcher(List.of("http:", "https:", "tp:"));
+
+        // when
+        final Set<Integer> result = findAll(target, "src=\"htthttps://ad\"");
+
+        // then
+        assertThat(result).containsExactly(1);
+        assertThat(findAll(target, "htthttp:")).containsExactly(0, 2);
+    }
+
+    @Test
+    public void matcherShouldSupportNonAsciiPatterns() {
+        // given
+        final MultiPatternMatcher target = new MultiPatternMatcher(List.of("ünï", "nïc"));
+
+        // when
+        final Set<Integer> result = findAll(target, "üüünïcode");
+
+        // then
+        assertThat(result).containsExactly(0, 1);
+    }
+
+    @Test
+    public void matcherShouldBeCaseSensitive() {
+        // given
+        final MultiPatternMatcher target = new MultiPatternMatcher(List.of("mraid.js"));
+
+        // when and then
+        assertThat(findAll(target, "MRAID.JS")).isEmpty();
+    }
+
+    @Test
+    public void matcherWithoutPatternsShouldFindNothing() {
+        // when and then
+        assertThat(findAll(new MultiPatternMatcher(Collections.emptyList()), "a")).isEmpty();
+    }
+
+    @Test
+    public void creationShouldFailOnEmptyPattern() {
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> new MultiPatternMatcher(List.of("a", "")));
+    }
+
+    private static Set<Integer> findAll(MultiPatternMatcher matcher, String text) {
+        final Set<Integer> found = new TreeSet<>();
+        int state = matcher.initialState();
+        for (int i = 0; i < text.length(); i++) {
+            state = matcher.nextState(state, text.charAt(i));
+            for (int pattern : matcher.matchesAt(state)) {
+                found.add(pattern);
+            }
+        }
+        return found;
+    }
+}
@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchemaException;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -31,6 +32,7 @@ import java.util.Set;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -95,6 +97,47 @@ public class BidderParamValidatorTest extends VertxTest {
                         bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper));
     }
 
+    @Test
+    public void createShouldFailOnUnresolvableSchemaOfActiveBidder() {
+        // given
+        given(bidderCatalog.names()).willReturn(Collections.singleton("test-rubicon"));
+        given(bidderCatalog.isActive("test-rubicon")).willReturn(true);
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BidderParamValidator.create(
+                        bidderCatalog, "org/prebid/server/validation/schema/unresolvable", jacksonMapper))
+                .withMessage("Couldn't parse test-rubicon bidder schema");
+    }
+
+    @Test
+    public void createShouldDeferCompilationOfInactiveBidderSchemaUntilValidation() {
+        // given
+        given(bidderCatalog.names()).willReturn(Collections.singleton("test-rubicon"));
+
+        final BidderParamValidator target = BidderParamValidator.create(
+                bidderCatalog, "org/prebid/server/validation/schema/unresolvable", jacksonMapper);
+
+        // when and then
+        assertThatThrownBy(() -> target.validate("test-rubicon", mapper.createObjectNode().put("accountId", 1)))
+                .isInstanceOf(JsonSchemaException.class);
+    }
+
+    @Test
+    public void validateShouldReturnValidationMessagesForActiveBidder() {
+        // given
+        given(bidderCatalog.isActive(anyString())).willReturn(true);
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper);
+
+        final JsonNode node = mapper.convertValue(ExtImpRubicon.builder().siteId(2).zoneId(3).build(), JsonNode.class);
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate("RUBICON", node);
+
+        // then
+        assertThat(messages).hasSize(1);
+    }
+
     @Test
     public void validateShouldNotReturnValidationMessagesWhenRubiconImpExtIsOkIgnoringCase() {
         // given
@@ -14,6 +14,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.BidderAliases;
+import org.prebid.server.auction.CreativeScanner;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.metric.MetricName;
@@ -56,7 +57,7 @@ public class ResponseBidValidatorTest extends VertxTest {
 
     @Before
     public void setUp() {
-        target = new ResponseBidValidator(enforce, enforce, metrics, 0.01);
+        target = new ResponseBidValidator(enforce, enforce, metrics, new CreativeScanner(), 0.01);
 
         given(bidderAliases.resolveBidder(anyString())).willReturn(BIDDER_NAME);
     }
@@ -353,7 +354,7 @@ public class ResponseBidValidatorTest extends VertxTest {
     @Test
     public void validateShouldReturnSuccessIfBannerSizeValidationNotEnabled() {
         // given
-        target = new ResponseBidValidator(skip, enforce, metrics, 0.01);
+        target = new ResponseBidValidator(skip, enforce, metrics, new CreativeScanner(), 0.01);
 
         // when
         final ValidationResult result = target.validate(
@@ -369,7 +370,7 @@ public class ResponseBidValidatorTest extends VertxTest {
     @Test
     public void validateShouldReturnSuccessWithWarningIfBannerSizeEnforcementIsWarn() {
         // given
-        target = new ResponseBidValidator(warn, enforce, metrics, 0.01);
+        target = new ResponseBidValidator(warn, enforce, metrics, new CreativeScanner(), 0.01);
 
         // when
         final ValidationResult result = target.validate(
@@ -390,7 +391,7 @@ public class ResponseBidValidatorTest extends VertxTest {
     @Test
     public void validateShouldReturnSuccessIfSecureMarkupValidationNotEnabled() {
         // given
-        target = new ResponseBidValidator(enforce, skip, metrics, 0.01);
+        target = new ResponseBidValidator(enforce, skip, metrics, new CreativeScanner(), 0.01);
 
         // when
         final ValidationResult result = target.validate(
@@ -406,7 +407,7 @@ public class ResponseBidValidatorTest extends VertxTest {
     @Test
     public void validateShouldReturnSuccessWithWarningIfSecureMarkupEnforcementIsWarn() {
         // given
-        target = new ResponseBidValidator(enforce, warn, metrics, 0.01);
+        target = new ResponseBidValidator(enforce, warn, metrics, new CreativeScanner(), 0.01);
 
         // when
         final ValidationResult result = target.validate(
@@ -440,7 +441,7 @@ public class ResponseBidValidatorTest extends VertxTest {
     @Test
     public void validateShouldIncrementSizeValidationWarnMetrics() {
         // given
-        target = new ResponseBidValidator(warn, warn, metrics, 0.01);
+        target = new ResponseBidValidator(warn, warn, metrics, new CreativeScanner(), 0.01);
 
         // when
         target.validate(
@@ -469,7 +470,7 @@ public class ResponseBidValidatorTest extends VertxTest {
     @Test
     public void validateShouldIncrementSecureValidationWarnMetrics() {
         // given
-        target = new ResponseBidValidator(warn, warn, metrics, 0.01);
+        target = new ResponseBidValidator(warn, warn, metrics, new CreativeScanner(), 0.01);
 
         // when
         target.validate(
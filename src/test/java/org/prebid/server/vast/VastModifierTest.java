@@ -1,5 +1,6 @@
 package org.prebid.server.vast;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import org.junit.Before;
@@ -12,6 +13,7 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.cache.proto.request.PutObject;
 import org.prebid.server.events.EventsContext;
 import org.prebid.server.events.EventsService;
+import org.prebid.server.json.ObjectMapperProvider;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 
@@ -116,7 +118,21 @@ public class VastModifierTest {
                         </Creatives></Wrapper></Ad></VAST>\
                         """;
 
-        assertThat(result).isEqualTo(new TextNode(modifiedVast));
+        assertThat(result.textValue()).isEqualTo(modifiedVast);
+    }
+
+    @Test
+    public void modifyVastXmlShouldReturnNodeSerializedAsModifiedVast() throws JsonProcessingException {
+        // given
+        final JsonNode result = target.modifyVastXml(true, singleton(BIDDER), putObject(), ACCOUNT_ID,
+                INTEGRATION);
+
+        // when
+        final String serialized = ObjectMapperProvider.mapper().writeValueAsString(result);
+
+        // then
+        assertThat(serialized).isEqualTo(ObjectMapperProvider.mapper().writeValueAsString(result.asText()));
+        assertThat(result.asText()).contains("<Impression><![CDATA[http://external-url/event]]></Impression>");
     }
 
     @Test
@@ -419,6 +435,38 @@ public class VastModifierTest {
         verify(metrics).updateAdapterRequestErrorMetric(BIDDER, MetricName.badserverresponse);
     }
 
+    @Test
+    public void createBidVastXmlShouldRecognizeTagsWithWhitespacesAndAttributes() {
+        // given
+        final String bidAdm = "<VAST><Ad>< InLine id=\"1\">< Impression>i</ impression >"
+                + "<Creatives></Creatives></inline></Ad></VAST>";
+        final EventsContext eventsContext = givenEventsContext(true);
+
+        // when
+        final String result = target
+                .createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext, emptyList());
+
+        // then
+        assertThat(result).isEqualTo("<VAST><Ad>< InLine id=\"1\">< Impression>i</ impression >"
+                + "<Impression><![CDATA[http://external-url/event]]></Impression>"
+                + "<Creatives></Creatives></inline></Ad></VAST>");
+    }
+
+    @Test
+    public void createBidVastXmlShouldNotRecognizeTagSpanningSeveralLines() {
+        // given
+        final String bidAdm = "<VAST><Ad><InLine\nid=\"1\"\n></InLine><Wrapper></Wrapper></Ad></VAST>";
+        final EventsContext eventsContext = givenEventsContext(true);
+
+        // when
+        final String result = target
+                .createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext, emptyList());
+
+        // then
+        assertThat(result).isEqualTo("<VAST><Ad><InLine\nid=\"1\"\n></InLine><Wrapper>"
+                + "<Impression><![CDATA[http://external-url/event]]></Impression></Wrapper></Ad></VAST>");
+    }
+
     @Test
     public void createBidVastXmlShouldNotModifyWhenEventsEnabledAndAdmHaveNoImpression() {
         // when
@@ -0,0 +1,69 @@
+package org.prebid.server.vast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.Test;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class VastXmlNodeTest {
+
+    @Test
+    public void asTextShouldReturnXmlWithInsertion() {
+        // given
+        final VastXmlNode target = VastXmlNode.of("<a></a>", 3, "<b/>");
+
+        // when and then
+        assertThat(target.asText()).isEqualTo("<a><b/></a>");
+        assertThat(target.textValue()).isEqualTo("<a><b/></a>");
+        assertThat(target.length()).isEqualTo(11);
+        assertThat(target.isTextual()).isTrue();
+    }
+
+    @Test
+    public void serializeShouldWriteSameJsonAsTextNodeForLargeXml() throws JsonProcessingException {
+        // given
+        final String xml = "<Wrapper>" + "\"x\"\n".repeat(5000) + "</Wrapper>";
+        final int insertionIndex = xml.length() - 10;
+        final VastXmlNode target = VastXmlNode.of(xml, insertionIndex, "<Impression>\"i\"</Impression>");
+
+        // when
+        final String result = ObjectMapperProvider.mapper().writeValueAsString(target);
+
+        // then
+        final TextNode expected = new TextNode(
+                xml.substring(0, insertionIndex) + "<Impression>\"i\"</Impression>" + xml.substring(insertionIndex));
+        assertThat(result).isEqualTo(ObjectMapperProvider.mapper().writeValueAsString(expected));
+    }
+
+    @Test
+    public void shouldBeEqualToVastXmlNodeWithSameText() {
+        // given
+        final VastXmlNode target = VastXmlNode.of("<a></a>", 0, "<b/>");
+
+        // when and then
+        assertThat(target).isEqualTo(VastXmlNode.of("<b/><a>", 7, "</a>"));
+        assertThat(target).hasSameHashCodeAs(VastXmlNode.of("<b/><a>", 7, "</a>"));
+        assertThat(target).isNotEqualTo(VastXmlNode.of("<a></a>", 0, ""));
+    }
+
+    @Test
+    public void shouldNotBeEqualToTextNodeWithSameText() {
+        // given
+        final VastXmlNode target = VastXmlNode.of("<a></a>", 0, "<b/>");
+        final TextNode textNode = new TextNode("<b/><a></a>");
+
+        // when and then
+        assertThat(target).isNotEqualTo(textNode);
+        assertThat(textNode).isNotEqualTo(target);
+    }
+
+    @Test
+    public void ofShouldFailWhenInsertionIndexIsOutOfXml() {
+        // when and then
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> VastXmlNode.of("<a></a>", 8, "<b/>"));
+    }
+}
@@ -0,0 +1,204 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.EventLoopMonitor.EventLoopStats;
+import org.prebid.server.vertx.EventLoopMonitor.SlowTask;
+import org.prebid.server.vertx.EventLoopMonitor.TaskType;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@RunWith(VertxUnitRunner.class)
+public class EventLoopMonitorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    private Clock clock;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void initializeShouldStartProbingEachEventLoop(TestContext context) {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(vertx, metrics, clock, true, 1L, 50L, 10);
+
+        // when
+        final Promise<Void> promise = Promise.promise();
+        target.initialize(promise);
+
+        // then
+        final Async async = context.async();
+        promise.future().onComplete(context.asyncAssertSuccess(ignored -> {
+            verify(metrics, atLeastOnce()).createEventLoopPendingTasksGauge(eq(0), any());
+            verify(metrics, timeout(1000L).atLeastOnce()).updateEventLoopLagMetric(eq(0), anyLong());
+            assertThat(target.eventLoopsStats()).isNotEmpty();
+            async.complete();
+        }));
+    }
+
+    @Test
+    public void eventLoopsStatsShouldResetMaxLagOnRead() {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(vertx, metrics, clock, true, 1L, 50L, 10);
+        target.initialize(Promise.promise());
+
+        final long blockingMs = 200L;
+        vertx.runOnContext(ignored -> LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(blockingMs)));
+        verify(metrics, timeout(2000L)).updateEventLoopLagMetric(
+                anyInt(), longThat(lag -> lag >= TimeUnit.MILLISECONDS.toNanos(blockingMs / 2)));
+
+        // when
+        final List<EventLoopStats> first = target.eventLoopsStats();
+        final List<EventLoopStats> second = target.eventLoopsStats();
+
+        // then
+        assertThat(first).anyMatch(stats -> stats.getMaxLagMs() >= blockingMs / 2);
+        assertThat(second).allMatch(stats -> stats.getMaxLagMs() < blockingMs / 2);
+    }
+
+    @Test
+    public void initializeShouldNotStartProbingIfDisabled() {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(vertx, metrics, clock, false, 1L, 50L, 10);
+
+        // when
+        final Promise<Void> promise = Promise.promise();
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+        assertThat(target.eventLoopsStats()).isEmpty();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void trackShouldReturnTaskResultAndNotRecordFastTask() {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(vertx, metrics, clock, true, 100L, 1000L, 10);
+
+        // when
+        final String result = target.track(TaskType.bidder, "bidder", () -> "result");
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(target.slowTasks()).isEmpty();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void trackShouldRecordSlowTask() {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(vertx, metrics, clock, true, 100L, 0L, 10);
+
+        // when
+        target.track(TaskType.hook, "module.hook", () -> null);
+
+        // then
+        verify(metrics).updateEventLoopSlowTaskMetric(eq("hook"), eq("module.hook"), anyLong());
+        assertThat(target.slowTasks())
+                .extracting(SlowTask::getType, SlowTask::getName, SlowTask::getThread)
+                .containsExactly(tuple(TaskType.hook, "module.hook", Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void trackShouldKeepOnlyConfiguredNumberOfRecentSlowTasks() {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(vertx, metrics, clock, true, 100L, 0L, 2);
+
+        // when
+        target.track(TaskType.bidder, "bidder1", () -> null);
+        target.track(TaskType.bidder, "bidder2", () -> null);
+        target.track(TaskType.bidder, "bidder3", () -> null);
+
+        // then
+        assertThat(target.slowTasks()).extracting(SlowTask::getName).containsExactly("bidder2", "bidder3");
+    }
+
+    @Test
+    public void trackShouldNotRecordAnythingIfDisabled() {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(vertx, metrics, clock, false, 100L, 0L, 10);
+
+        // when
+        final String result = target.track(TaskType.bidder, "bidder", () -> "result");
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(target.slowTasks()).isEmpty();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void trackEndpointShouldAttributeHandlerToEndpointPath() {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(vertx, metrics, clock, true, 100L, 0L, 10);
+        final Handler<RoutingContext> handler = mock(Handler.class);
+        final RoutingContext routingContext = mock(RoutingContext.class);
+
+        // when
+        target.trackEndpoint("/openrtb2/auction", handler).handle(routingContext);
+
+        // then
+        verify(handler).handle(routingContext);
+        verify(metrics).updateEventLoopSlowTaskMetric(eq("endpoint"), eq("openrtb2_auction"), anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void trackEndpointShouldReturnSameHandlerIfDisabled() {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(vertx, metrics, clock, false, 100L, 0L, 10);
+        final Handler<RoutingContext> handler = mock(Handler.class);
+
+        // when and then
+        assertThat(target.trackEndpoint("/status", handler)).isSameAs(handler);
+    }
+}
@@ -0,0 +1,257 @@
+package org.prebid.server.vertx.verticles.server;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.health.InitializationHealthChecker;
+import org.prebid.server.health.model.Status;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.Initializable;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class DaemonVerticleTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+
+    private final Clock clock = Clock.systemUTC();
+
+    private TestInitializer criticalInitializer;
+    private TestInitializer deferrableInitializer;
+    private InitializationHealthChecker initializationHealthChecker;
+
+    @Before
+    public void setUp() {
+        given(vertx.setTimer(anyLong(), any())).willReturn(1L);
+
+        criticalInitializer = new TestInitializer();
+        deferrableInitializer = new TestInitializer();
+        initializationHealthChecker = new InitializationHealthChecker(Set.of("deferrable"), clock);
+    }
+
+    @Test
+    public void startShouldWaitForCriticalInitializersOnly() {
+        // given
+        final DaemonVerticle target = target(0L, 0L);
+
+        // when
+        final Promise<Void> startPromise = Promise.promise();
+        target.start(startPromise);
+
+        // then
+        assertThat(startPromise.future().isComplete()).isFalse();
+
+        // when
+        criticalInitializer.promise.complete();
+
+        // then
+        assertThat(startPromise.future().succeeded()).isTrue();
+        assertThat(initializationHealthChecker.status().getStatus()).isEqualTo(Status.DOWN.name());
+        verify(metrics).updateInitializerMetrics(eq("critical"), anyLong(), eq(true));
+        verify(vertx, never()).setTimer(anyLong(), any());
+    }
+
+    @Test
+    public void startShouldReportDeferrableInitializerToHealthCheckerAndMetrics() {
+        // given
+        final DaemonVerticle target = target(0L, 0L);
+        target.start(Promise.promise());
+
+        // when
+        deferrableInitializer.promise.complete();
+
+        // then
+        assertThat(initializationHealthChecker.status().getStatus()).isEqualTo(Status.UP.name());
+        verify(metrics).updateInitializerMetrics(eq("deferrable"), anyLong(), eq(true));
+    }
+
+    @Test
+    public void startShouldTrackInstancesOfSameClassSeparately() {
+        // given
+        final TestInitializer otherDeferrableInitializer = new TestInitializer();
+        initializationHealthChecker = new InitializationHealthChecker(Set.of("deferrable", "other"), clock);
+
+        final Map<String, Initializable> initializables = initializables();
+        initializables.put("other", otherDeferrableInitializer);
+
+        final DaemonVerticle target = new DaemonVerticle(
+                initializables, initializationHealthChecker, 0L, 0L, null, metrics, clock);
+        target.init(vertx, null);
+        target.start(Promise.promise());
+
+        // when
+        deferrableInitializer.promise.complete();
+
+        // then
+        assertThat(initializationHealthChecker.status().getStatus()).isEqualTo(Status.DOWN.name());
+        verify(metrics).updateInitializerMetrics(eq("deferrable"), anyLong(), eq(true));
+
+        // when
+        otherDeferrableInitializer.promise.complete();
+
+        // then
+        assertThat(initializationHealthChecker.status().getStatus()).isEqualTo(Status.UP.name());
+        verify(metrics).updateInitializerMetrics(eq("other"), anyLong(), eq(true));
+    }
+
+    @Test
+    public void startShouldFailIfCriticalInitializerFailed() {
+        // given
+        final DaemonVerticle target = target(0L, 0L);
+
+        // when
+        final Promise<Void> startPromise = Promise.promise();
+        target.start(startPromise);
+        criticalInitializer.promise.fail("error");
+
+        // then
+        assertThat(startPromise.future().failed()).isTrue();
+        verify(metrics).updateInitializerMetrics(eq("critical"), anyLong(), eq(false));
+    }
+
+    @Test
+    public void startShouldNotFailIfDeferrableInitializerFailed() {
+        // given
+        final DaemonVerticle target = target(0L, 0L);
+
+        // when
+        final Promise<Void> startPromise = Promise.promise();
+        target.start(startPromise);
+        deferrableInitializer.promise.fail("error");
+        criticalInitializer.promise.complete();
+
+        // then
+        assertThat(startPromise.future().succeeded()).isTrue();
+        assertThat(initializationHealthChecker.status().getStatus()).isEqualTo(Status.DOWN.name());
+        verify(metrics).updateInitializerMetrics(eq("deferrable"), anyLong(), eq(false));
+    }
+
+    @Test
+    public void startShouldFailIfCriticalInitializerExceededDeadline() {
+        // given
+        final DaemonVerticle target = target(100L, 0L);
+
+        // when
+        final Promise<Void> startPromise = Promise.promise();
+        target.start(startPromise);
+        timeoutHandler(100L).handle(1L);
+
+        // then
+        assertThat(startPromise.future().failed()).isTrue();
+        assertThat(startPromise.future().cause()).hasMessage("Initializer critical timed out");
+        verify(metrics).updateInitializerTimeoutMetric("critical");
+
+        // when
+        criticalInitializer.promise.complete();
+
+        // then
+        verify(metrics).updateInitializerMetrics(eq("critical"), anyLong(), eq(true));
+    }
+
+    @Test
+    public void startShouldLetDeferrableInitializerCompleteAfterDeadline() {
+        // given
+        final DaemonVerticle target = target(0L, 200L);
+        final Promise<Void> startPromise = Promise.promise();
+        target.start(startPromise);
+        criticalInitializer.promise.complete();
+
+        // when
+        timeoutHandler(200L).handle(1L);
+        deferrableInitializer.promise.complete();
+
+        // then
+        assertThat(startPromise.future().succeeded()).isTrue();
+        assertThat(initializationHealthChecker.status().getStatus()).isEqualTo(Status.UP.name());
+        verify(metrics).updateInitializerTimeoutMetric("deferrable");
+    }
+
+    @Test
+    public void startShouldCancelDeadlineTimerOnInitialization() {
+        // given
+        final DaemonVerticle target = target(100L, 0L);
+        target.start(Promise.promise());
+
+        // when
+        criticalInitializer.promise.complete();
+
+        // then
+        verify(vertx).cancelTimer(1L);
+    }
+
+    @Test
+    public void startShouldTreatAllInitializersAsCriticalWithoutHealthChecker() {
+        // given
+        final DaemonVerticle target = new DaemonVerticle(
+                initializables(), null, 0L, 0L, null, metrics, clock);
+        target.init(vertx, null);
+
+        // when
+        final Promise<Void> startPromise = Promise.promise();
+        target.start(startPromise);
+        criticalInitializer.promise.complete();
+
+        // then
+        assertThat(startPromise.future().isComplete()).isFalse();
+    }
+
+    private Handler<Long> timeoutHandler(long timeoutMs) {
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(timeoutMs), handlerCaptor.capture());
+        return handlerCaptor.getValue();
+    }
+
+    private DaemonVerticle target(long criticalTimeoutMs, long deferrableTimeoutMs) {
+        final DaemonVerticle target = new DaemonVerticle(
+                initializables(),
+                initializationHealthChecker,
+                criticalTimeoutMs,
+                deferrableTimeoutMs,
+                null,
+                metrics,
+                clock);
+        target.init(vertx, null);
+        return target;
+    }
+
+    private Map<String, Initializable> initializables() {
+        final Map<String, Initializable> initializables = new LinkedHashMap<>();
+        initializables.put("critical", criticalInitializer);
+        initializables.put("deferrable", deferrableInitializer);
+        return initializables;
+    }
+
+    private static class TestInitializer implements Initializable {
+
+        Promise<Void> promise;
+
+        @Override
+        public void initialize(Promise<Void> initializePromise) {
+            promise = initializePromise;
+        }
+    }
+}